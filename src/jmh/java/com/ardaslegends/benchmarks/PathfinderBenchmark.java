@@ -0,0 +1,90 @@
+package com.ardaslegends.benchmarks;
+
+import com.ardaslegends.domain.PathElement;
+import com.ardaslegends.domain.Region;
+import com.ardaslegends.repository.ArmyRepository;
+import com.ardaslegends.repository.MovementRepository;
+import com.ardaslegends.repository.applications.RoleplayApplicationRepository;
+import com.ardaslegends.repository.applications.claimbuildapp.ClaimbuildApplicationRepository;
+import com.ardaslegends.repository.region.RegionRepository;
+import com.ardaslegends.service.Pathfinder;
+import com.ardaslegends.service.metrics.GameMetrics;
+import com.ardaslegends.service.pathfinding.WorldGraphService;
+import com.ardaslegends.service.time.GameClock;
+import com.ardaslegends.service.war.WarService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pathfinder.findShortestWay on a synthetic map of roughly the size of the real one.
+ * The aStar parameter compares the centroid guided search against plain Dijkstra.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathfinderBenchmark {
+
+    @Param({"char", "army"})
+    public String mode;
+
+    @Param({"short", "long"})
+    public String route;
+
+    @Param({"false", "true"})
+    public boolean aStar;
+
+    private SyntheticWorld world;
+    private Pathfinder pathfinder;
+    private Region from;
+    private Region to;
+
+    @Setup
+    public void setUp() {
+        SyntheticWorld.disableLogging();
+        world = new SyntheticWorld(60, 40, 42);
+
+        RegionRepository regionRepository = mock(RegionRepository.class);
+        WarService warService = mock(WarService.class);
+        when(regionRepository.queryAll()).thenReturn(world.getRegions());
+        for (Region region : world.getRegions()) {
+            when(regionRepository.findById(region.getId())).thenReturn(Optional.of(region));
+        }
+        when(warService.getActiveWarsOfFaction(world.getGondor())).thenReturn(Set.of(world.getWar()));
+
+        GameMetrics gameMetrics = new GameMetrics(new SimpleMeterRegistry(), mock(MovementRepository.class), mock(ArmyRepository.class),
+                mock(RoleplayApplicationRepository.class), mock(ClaimbuildApplicationRepository.class), mock(GameClock.class), Clock.systemUTC());
+        pathfinder = new Pathfinder(regionRepository, warService, new WorldGraphService(regionRepository), gameMetrics);
+        pathfinder.setAStarEnabled(aStar);
+
+        from = world.get(world.getWidth() / 2, world.getHeight() / 2);
+        to = "short".equals(route) ?
+                world.get(world.getWidth() / 2 + 4, world.getHeight() / 2 + 2) :
+                world.get(world.getWidth() - 1, world.getHeight() - 1);
+        from.getClaimedBy().clear();
+        to.getClaimedBy().clear();
+
+        // builds the snapshot and the faction permissions outside of the measurement
+        pathfinder.findShortestWay(from, to, world.getPlayer(), isCharacterMove());
+    }
+
+    private boolean isCharacterMove() {
+        return "char".equals(mode);
+    }
+
+    @Benchmark
+    public List<PathElement> findShortestWay() {
+        return pathfinder.findShortestWay(from, to, world.getPlayer(), isCharacterMove());
+    }
+}
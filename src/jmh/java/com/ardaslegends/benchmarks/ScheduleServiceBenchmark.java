@@ -0,0 +1,166 @@
+package com.ardaslegends.benchmarks;
+
+import com.ardaslegends.domain.*;
+import com.ardaslegends.repository.ArmyRepository;
+import com.ardaslegends.repository.MovementRepository;
+import com.ardaslegends.repository.TimeFreezeRepository;
+import com.ardaslegends.repository.applications.RoleplayApplicationRepository;
+import com.ardaslegends.repository.applications.claimbuildapp.ClaimbuildApplicationRepository;
+import com.ardaslegends.repository.rpchar.RpcharRepository;
+import com.ardaslegends.service.ArmyService;
+import com.ardaslegends.service.MovementService;
+import com.ardaslegends.service.PlayerService;
+import com.ardaslegends.service.metrics.GameMetrics;
+import com.ardaslegends.service.time.GameClock;
+import com.ardaslegends.service.time.PartitionedSweepExecutor;
+import com.ardaslegends.service.time.ScheduleService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+/**
+ * One scheduler run of ScheduleService.handleMovements and handleHealings over synthetic entities.
+ * Repositories and the saving services are mocked, so only the in-memory handling of the partitions is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScheduleServiceBenchmark {
+
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Param({"10000"})
+    public int entities;
+
+    private SyntheticWorld world;
+    private ScheduleService scheduleService;
+    private MovementRepository movementRepository;
+    private ArmyRepository armyRepository;
+    private RpcharRepository rpcharRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticWorld.disableLogging();
+        world = new SyntheticWorld(60, 40, 42);
+
+        movementRepository = mock(MovementRepository.class);
+        armyRepository = mock(ArmyRepository.class);
+        rpcharRepository = mock(RpcharRepository.class);
+        MovementService movementService = mock(MovementService.class);
+        ArmyService armyService = mock(ArmyService.class);
+        PlayerService playerService = mock(PlayerService.class);
+        when(movementService.saveMovements(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(armyService.saveArmies(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(playerService.savePlayers(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Clock clock = Clock.fixed(START.plusHours(30).toInstant(), ZoneOffset.UTC);
+        GameClock gameClock = new GameClock(clock, mock(TimeFreezeRepository.class));
+        GameMetrics gameMetrics = new GameMetrics(new SimpleMeterRegistry(), movementRepository, armyRepository,
+                mock(RoleplayApplicationRepository.class), mock(ClaimbuildApplicationRepository.class), gameClock, clock);
+        PartitionedSweepExecutor sweepExecutor = new PartitionedSweepExecutor(Executors.newVirtualThreadPerTaskExecutor(),
+                mock(PlatformTransactionManager.class), gameMetrics);
+        scheduleService = new ScheduleService(movementRepository, armyRepository, rpcharRepository, movementService, armyService,
+                playerService, sweepExecutor, gameClock, event -> {});
+    }
+
+    /**
+     * The scheduler mutates the entities, so every invocation gets fresh ones.
+     */
+    @Setup(Level.Invocation)
+    public void createEntities() {
+        List<Movement> movements = new ArrayList<>(entities);
+        List<Army> armies = new ArrayList<>(entities);
+        List<Player> players = new ArrayList<>(entities / 10);
+
+        ClaimBuild stronghold = ClaimBuild.builder().name("Stronghold").type(ClaimBuildType.STRONGHOLD).build();
+        ClaimBuild town = ClaimBuild.builder().name("Town").type(ClaimBuildType.TOWN).build();
+        UnitType soldier = UnitType.builder().unitName("Soldier").tokenCost(1.0).build();
+        UnitType knight = UnitType.builder().unitName("Knight").tokenCost(2.5).build();
+
+        for (int i = 0; i < entities; i++) {
+            int x = 3 + i % (world.getWidth() - 10);
+            int y = i % world.getHeight();
+            List<PathElement> path = new ArrayList<>();
+            for (int step = 0; step < 6; step++) {
+                Region region = world.get(x + step, y);
+                path.add(new PathElement(step == 0 ? 0 : region.getCost(), region.getCost(), region));
+            }
+
+            Army army = Army.builder().name("Army " + i).currentRegion(path.get(0).getRegion()).units(new ArrayList<>()).build();
+            movements.add(Movement.builder().isCharMovement(false).isCurrentlyActive(true).army(army).path(path)
+                    .startTime(START).endTime(START.plusHours(path.stream().mapToInt(PathElement::getActualCost).sum()))
+                    .reachesNextRegionAt(START.plusHours(path.get(1).getActualCost()))
+                    .lastUpdatedAt(START).build());
+
+            Army healingArmy = Army.builder().name("Healing Army " + i).isHealing(true)
+                    .stationedAt(i % 3 == 0 ? stronghold : town)
+                    .healStart(START).healEnd(START.plusHours(72)).hoursHealed(0).hoursLeftHealing(72)
+                    .healLastUpdatedAt(START).units(new ArrayList<>()).build();
+            healingArmy.getUnits().add(Unit.builder().unitType(soldier).army(healingArmy).count(20).amountAlive(5).isMounted(false).build());
+            healingArmy.getUnits().add(Unit.builder().unitType(knight).army(healingArmy).count(10).amountAlive(2).isMounted(false).build());
+            armies.add(healingArmy);
+
+            if (i % 10 == 0) {
+                RPChar rpChar = RPChar.builder().name("Char " + i).injured(true).isHealing(true)
+                        .healEnds(START.plusHours(i % 2 == 0 ? 12 : 48)).healLastUpdatedAt(START).build();
+                Player player = Player.builder().ign("Player " + i).discordID(String.valueOf(i)).build();
+                player.addActiveRpChar(rpChar);
+                players.add(player);
+            }
+        }
+
+        // Stubbing a stubbed call runs its previous answer, so the stubs of the last invocation are dropped first
+        reset(movementRepository, armyRepository, rpcharRepository);
+        stubPartitions(movements, movementRepository::findIdsOfActiveMovements, movementRepository::findAllById);
+        stubPartitions(armies, armyRepository::findIdsOfHealingArmies, armyRepository::findAllById);
+        stubPartitions(players.stream().map(player -> player.getActiveCharacter().orElseThrow()).toList(),
+                rpcharRepository::findIdsOfHealingRpChars, rpcharRepository::findAllById);
+    }
+
+    @Benchmark
+    public void handleMovements() {
+        scheduleService.handleMovements();
+    }
+
+    @Benchmark
+    public void handleHealings() {
+        scheduleService.handleHealings();
+    }
+
+    /**
+     * Gives every entity an id and serves the partitions the sweep loads by id.
+     */
+    private static <T extends AbstractDomainObject> void stubPartitions(List<T> entities, Supplier<List<Long>> idQuery,
+                                                                       Function<Iterable<Long>, List<T>> findAllById) {
+        Map<Long, T> byId = new HashMap<>();
+        for (int i = 0; i < entities.size(); i++) {
+            byId.put((long) i, entities.get(i));
+        }
+        when(idQuery.get()).thenReturn(byId.keySet().stream().sorted().toList());
+        when(findAllById.apply(any())).thenAnswer(invocation -> {
+            List<T> partition = new ArrayList<>();
+            invocation.<Iterable<Long>>getArgument(0).forEach(id -> partition.add(byId.get(id)));
+            return partition;
+        });
+    }
+}
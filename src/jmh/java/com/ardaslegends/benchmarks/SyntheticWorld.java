@@ -0,0 +1,130 @@
+package com.ardaslegends.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.ardaslegends.domain.*;
+import com.ardaslegends.domain.war.War;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Generates a hex map that roughly looks like the real one: a coast with sea regions in the west,
+ * a mix of region types, some harbours and claims by four factions.
+ * The region map itself is not part of the migrations, so benchmarks cannot load the real one.
+ */
+public final class SyntheticWorld {
+
+    private static final RegionType[] LAND_TYPES = {
+            RegionType.LAND, RegionType.LAND, RegionType.LAND, RegionType.HILL, RegionType.HILL,
+            RegionType.FOREST, RegionType.DESERT, RegionType.SWAMP, RegionType.MOUNTAIN
+    };
+    private static final int SEA_COLUMNS = 3;
+
+    private final int width;
+    private final int height;
+    private final List<Region> regions;
+    private final Faction gondor;
+    private final Faction rohan;
+    private final Faction mordor;
+    private final Faction harad;
+    private final Player player;
+    private final War war;
+
+    public SyntheticWorld(int width, int height, long seed) {
+        this.width = width;
+        this.height = height;
+        Random random = new Random(seed);
+
+        gondor = faction("Gondor");
+        rohan = faction("Rohan");
+        mordor = faction("Mordor");
+        harad = faction("Harad");
+        gondor.getAllies().add(rohan);
+        Faction[] claimingFactions = {gondor, rohan, mordor, harad};
+
+        player = Player.builder().ign("Benchmark").discordID("benchmark").faction(gondor).build();
+        war = new War("Benchmark War", gondor, mordor);
+
+        regions = new ArrayList<>(width * height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                boolean isSea = x < SEA_COLUMNS;
+                String id = isSea ? (y * width + x + 1) + ".S" : String.valueOf(y * width + x + 1);
+                RegionType type = isSea ? RegionType.SEA : LAND_TYPES[random.nextInt(LAND_TYPES.length)];
+
+                Region region = new Region(id, id, type, new HashSet<>(), new HashSet<>(), new HashSet<>());
+                region.setCentroidX(x + (y % 2) * 0.5);
+                region.setCentroidY(y * 0.866);
+
+                if (!isSea && random.nextDouble() < 0.25) {
+                    region.getClaimedBy().add(claimingFactions[random.nextInt(claimingFactions.length)]);
+                }
+                if (x == SEA_COLUMNS && y % 4 == 0) {
+                    ClaimBuild harbour = ClaimBuild.builder().name("Harbour " + id).region(region).type(ClaimBuildType.TOWN)
+                            .ownedBy(gondor).specialBuildings(new ArrayList<>(List.of(SpecialBuilding.HARBOUR))).build();
+                    region.getClaimBuilds().add(harbour);
+                }
+                regions.add(region);
+            }
+        }
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                Region region = get(x, y);
+                int shift = y % 2;
+                connect(region, x - 1, y);
+                connect(region, x + 1, y);
+                connect(region, x - 1 + shift, y - 1);
+                connect(region, x + shift, y - 1);
+                connect(region, x - 1 + shift, y + 1);
+                connect(region, x + shift, y + 1);
+            }
+        }
+    }
+
+    /**
+     * Benchmarks should measure the code, not the console appender.
+     */
+    public static void disableLogging() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.OFF);
+    }
+
+    private void connect(Region region, int x, int y) {
+        if (x >= 0 && x < width && y >= 0 && y < height) {
+            region.addNeighbour(get(x, y));
+        }
+    }
+
+    private static Faction faction(String name) {
+        return new Faction(name, null, new ArrayList<>(), new ArrayList<>(), new HashSet<>(), new ArrayList<>(), new ArrayList<>(), "white", null, "");
+    }
+
+    public Region get(int x, int y) {
+        return regions.get(y * width + x);
+    }
+
+    public List<Region> getRegions() {
+        return regions;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public War getWar() {
+        return war;
+    }
+
+    public Faction getGondor() {
+        return gondor;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
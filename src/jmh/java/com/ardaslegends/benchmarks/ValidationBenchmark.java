@@ -0,0 +1,66 @@
+package com.ardaslegends.benchmarks;
+
+import com.ardaslegends.repository.ArmyRepository;
+import com.ardaslegends.repository.MovementRepository;
+import com.ardaslegends.repository.claimbuild.ClaimbuildRepository;
+import com.ardaslegends.repository.faction.FactionRepository;
+import com.ardaslegends.repository.TimeFreezeRepository;
+import com.ardaslegends.service.ArmyService;
+import com.ardaslegends.service.PlayerService;
+import com.ardaslegends.service.UnitTypeService;
+import com.ardaslegends.service.dto.claimbuild.CreateClaimBuildDto;
+import com.ardaslegends.service.utils.ServiceUtils;
+import com.ardaslegends.service.time.GameClock;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * The reflective null and blank checks every command runs on its dto, and the unit string parser used when
+ * creating armies and stationing units.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private CreateClaimBuildDto dto;
+    private ArmyService armyService;
+    private String unitString;
+
+    @Setup
+    public void setUp() {
+        SyntheticWorld.disableLogging();
+        dto = new CreateClaimBuildDto("Minas Tirith", "92", "Capital", "Gondor", 1, 2, 3,
+                "Farm:Wheat:2-Mine:Iron:1", "House of Healing-Embassy", "Blacksmith", "Trebuchet:2", "Houses:12", "Benchmark");
+        armyService = new ArmyService(mock(ArmyRepository.class), mock(MovementRepository.class), mock(PlayerService.class),
+                mock(FactionRepository.class), mock(UnitTypeService.class), mock(ClaimbuildRepository.class),
+                mock(ApplicationEventPublisher.class), new GameClock(Clock.systemUTC(), mock(TimeFreezeRepository.class)));
+        unitString = "Gondor Soldier:10-Gondor Archer:5-Tower Guard:3-Knight of Dol Amroth:2";
+    }
+
+    @Benchmark
+    public CreateClaimBuildDto checkAllNulls() {
+        ServiceUtils.checkAllNulls(dto);
+        return dto;
+    }
+
+    @Benchmark
+    public CreateClaimBuildDto checkAllBlanks() {
+        ServiceUtils.checkAllBlanks(dto);
+        return dto;
+    }
+
+    @Benchmark
+    public String validateUnitString() {
+        armyService.validateUnitString(unitString);
+        return unitString;
+    }
+}
@@ -0,0 +1,66 @@
+package com.ardaslegends.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A Discord message that has to be sent once the transaction that created it commits, e.g. the announcement of a declared war.
+ * Only the type and the entity it is about are stored, the message itself is built from the current state of the entity when it is sent.
+ * sentAt stays null until Discord confirmed the message, failed attempts are retried at nextAttemptAt.
+ */
+@Getter
+@NoArgsConstructor
+@ToString
+
+@Entity
+@Table(name = "discord_outbox")
+public final class DiscordOutboxMessage extends AbstractDomainObject {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private DiscordOutboxMessageType type;
+
+    @NotNull
+    @Column(name = "reference_id")
+    private Long referenceId; // id of the entity the message is about, e.g. the declared war
+
+    @Column(name = "actor_discord_id")
+    private String actorDiscordId; // discord id of the player that caused the message, if the message mentions them
+
+    @NotNull
+    @Column(name = "created_at")
+    private OffsetDateTime createdAt;
+
+    @NotNull
+    private Integer attempts;
+
+    @NotNull
+    @Column(name = "next_attempt_at")
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private OffsetDateTime sentAt;
+
+    public DiscordOutboxMessage(DiscordOutboxMessageType type, Long referenceId, String actorDiscordId, OffsetDateTime createdAt, OffsetDateTime sendAt) {
+        this.type = type;
+        this.referenceId = referenceId;
+        this.actorDiscordId = actorDiscordId;
+        this.createdAt = createdAt;
+        this.attempts = 0;
+        this.nextAttemptAt = sendAt;
+    }
+
+    public boolean isSent() {
+        return sentAt != null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ardaslegends.domain;
+
+public enum DiscordOutboxMessageType {
+    WAR_DECLARED,
+    WAR_FORCE_ENDED,
+    BATTLE_DECLARED,
+    BATTLE_CONCLUDED,
+    ROLEPLAY_APPLICATION_CREATED,
+    ROLEPLAY_APPLICATION_UPDATED,
+    CLAIMBUILD_APPLICATION_CREATED,
+    CLAIMBUILD_APPLICATION_UPDATED;
+
+    /**
+     * Messages of these types show the current state of their entity, so pending messages of the same entity can be merged into one.
+     */
+    public boolean isStateUpdate() {
+        return this == ROLEPLAY_APPLICATION_UPDATED || this == CLAIMBUILD_APPLICATION_UPDATED;
+    }
+}
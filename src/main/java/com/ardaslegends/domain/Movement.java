@@ -6,8 +6,10 @@ import lombok.*;
 import jakarta.persistence.*;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -37,8 +39,12 @@ public final class Movement extends AbstractDomainObject {
     private Boolean isCharMovement; //Should be true when army = null
 
     @ElementCollection
+    @OrderColumn(name = "path_index")
     private List<PathElement> path;
 
+    @Column(name = "current_path_index")
+    private Integer currentPathIndex; // index of the path element the moving entity is currently in
+
     private OffsetDateTime startTime;
     private OffsetDateTime endTime;
 
@@ -59,6 +65,41 @@ public final class Movement extends AbstractDomainObject {
         this.endTime = endTime;
         this.isCurrentlyActive = isCurrentlyActive;
         this.reachesNextRegionAt = reachesNextRegionAt;
+        this.currentPathIndex = 0;
+    }
+
+    /**
+     * @return An unmodifiable view of the path, the current position in it is tracked by {@link #getCurrentPathIndex()}
+     */
+    public List<PathElement> getPath() {
+        return path == null ? null : Collections.unmodifiableList(path);
+    }
+
+    /**
+     * Movements persisted before the index existed get it resolved from the current region once.
+     * @return The index of the path element the moving entity is currently in
+     */
+    public int getCurrentPathIndex() {
+        if(currentPathIndex == null) {
+            val currentRegion = getCurrentRegion();
+            currentPathIndex = findPathIndexOf(currentRegion);
+            log.trace("Resolved current path index of movement [{}] to [{}] from region [{}]", id, currentPathIndex, currentRegion);
+        }
+        return currentPathIndex;
+    }
+
+    /**
+     * Moves the moving entity into the next region of the path.
+     * @return The region the entity is now in. Null if the entity already is at the destination
+     */
+    public Region advanceToNextRegion() {
+        val nextPathElement = getNextPathElement();
+        if(nextPathElement == null)
+            return null;
+
+        currentPathIndex = getCurrentPathIndex() + 1;
+        setCurrentRegion(nextPathElement.getRegion());
+        return nextPathElement.getRegion();
     }
 
     /**
@@ -117,14 +158,7 @@ public final class Movement extends AbstractDomainObject {
     }
 
     public PathElement getCurrentPathElement() {
-        val currentRegion = getCurrentRegion();
-        return path.stream().filter(pathElement -> pathElement.hasRegion(currentRegion)).findFirst()
-                .orElseThrow(() -> {
-                    log.warn("COULD NOT FIND REGION [{}] IN PATH [{}] OF MOVEMENT [{}] - THIS ERROR SHOULD NEVER BE THROWN",
-                            currentRegion, ServiceUtils.buildPathString(path), this);
-                    return new IllegalStateException("COULD NOT FIND REGION %s IN PATH %s. PLEASE CONTACT A DEV IMMEDIATELY"
-                            .formatted(currentRegion.getId(), ServiceUtils.buildPathString(path)));
-                });
+        return path.get(getCurrentPathIndex());
     }
 
     /**
@@ -132,27 +166,38 @@ public final class Movement extends AbstractDomainObject {
      * @return The next PathElement. Null if there is no next region
      */
     public PathElement getNextPathElement() {
-        val currentPathElement = getCurrentPathElement();
-        val nextRegionIndex = path.indexOf(currentPathElement) + 1;
+        val nextRegionIndex = getCurrentPathIndex() + 1;
         if(nextRegionIndex >= path.size())
             return null;
         return path.get(nextRegionIndex);
     }
 
-    public Duration getDurationUntilNextRegion() {
+    private int findPathIndexOf(Region region) {
+        for(int i = 0; i < path.size(); i++) {
+            if(path.get(i).hasRegion(region))
+                return i;
+        }
+        log.warn("COULD NOT FIND REGION [{}] IN PATH [{}] OF MOVEMENT [{}] - THIS ERROR SHOULD NEVER BE THROWN",
+                region, ServiceUtils.buildPathString(path), this);
+        throw new IllegalStateException("COULD NOT FIND REGION %s IN PATH %s. PLEASE CONTACT A DEV IMMEDIATELY"
+                .formatted(region.getId(), ServiceUtils.buildPathString(path)));
+    }
+
+    // The times of a movement are game time, so durations have to be measured on the game clock
+    public Duration getDurationUntilNextRegion(Clock gameClock) {
         if(reachesNextRegionAt == null)
             return Duration.ZERO;
         else
-            return Duration.between(OffsetDateTime.now(), reachesNextRegionAt);
+            return Duration.between(OffsetDateTime.now(gameClock), reachesNextRegionAt);
     }
 
-    public Duration getDurationUntilComplete() {
-        val now = OffsetDateTime.now();
+    public Duration getDurationUntilComplete(Clock gameClock) {
+        val now = OffsetDateTime.now(gameClock);
         return Duration.between(now, endTime);
     }
 
-    public Duration getDurationAlreadyMoved() {
-        val now = OffsetDateTime.now();
+    public Duration getDurationAlreadyMoved(Clock gameClock) {
+        val now = OffsetDateTime.now(gameClock);
         return Duration.between(startTime, now);
     }
 
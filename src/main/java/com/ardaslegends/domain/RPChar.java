@@ -102,8 +102,10 @@ public class RPChar extends AbstractEntity {
         });
     }
 
-    public void startHealing() {
-        OffsetDateTime now = OffsetDateTime.now();
+    /**
+     * @param now the current game time
+     */
+    public void startHealing(OffsetDateTime now) {
         setIsHealing(true);
         setStartedHeal(now);
         setHealEnds(now.plusDays(2));
@@ -41,12 +41,14 @@ public final class Region extends AbstractDomainObject {
             inverseJoinColumns = { @JoinColumn(name = "neighbour", foreignKey = @ForeignKey(name = "fk_region_neighbours_neighbour")) })
     private Set<Region> neighboringRegions = new HashSet<>(); //list of neighboring regions
 
-    @Column(name = "has_ownership_changed_since_last_claimmap_update")
-    private boolean hasOwnershipChanged;
-
     @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE}, mappedBy = "currentRegion")
     private Set<RPChar> charsInRegion = new HashSet<>(1);
 
+    @Column(name = "centroid_x")
+    private Double centroidX; //x coordinate of the region's center on the map, used to estimate distances while pathfinding
+    @Column(name = "centroid_y")
+    private Double centroidY; //y coordinate of the region's center on the map, used to estimate distances while pathfinding
+
     public Region(String id, String name, RegionType regionType, Set<Faction> claimedBy, Set<ClaimBuild> claimBuilds, Set<Region> neighboringRegions) {
         this.id = id;
         this.name = name;
@@ -54,7 +56,6 @@ public final class Region extends AbstractDomainObject {
         this.claimedBy = claimedBy;
         this.claimBuilds = claimBuilds;
         this.neighboringRegions = neighboringRegions;
-        this.hasOwnershipChanged = false;
     }
 
     /**
@@ -83,9 +84,6 @@ public final class Region extends AbstractDomainObject {
             log.debug("Faction [{}] is not in region [{}]'s claimedBy Set, adding it", faction, this.id);
             this.claimedBy.add(faction);
             faction.getRegions().add(this);
-
-            this.hasOwnershipChanged = true;
-            log.debug("Also setting hasOwnershipChanged to true [ownershipChanged: {}]", this.hasOwnershipChanged);
         }
 
         log.debug("Faction [{}] is in region [{}]'s claimedBy Set");
@@ -101,9 +99,6 @@ public final class Region extends AbstractDomainObject {
             log.debug("Faction [{}] is in region [{}]'s claimedBy Set, removing it", faction, this.id);
             this.claimedBy.remove(faction);
             faction.getRegions().remove(this);
-
-            this.hasOwnershipChanged = true;
-            log.debug("Also setting hasOwnershipChanged to true [ownershipChanged: {}]", this.hasOwnershipChanged);
         }
 
         log.debug("Faction [{}] is not in region [{}]'s claimedBy Set", faction, this.id);
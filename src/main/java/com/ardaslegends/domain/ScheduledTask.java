@@ -0,0 +1,54 @@
+package com.ardaslegends.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A callback that has to run at a certain time, e.g. starting a battle 24 hours after it was declared.
+ * Tasks are persisted so they survive restarts, completedAt is set by the node that ran the task.
+ */
+@Getter
+@NoArgsConstructor
+@ToString
+
+@Entity
+@Table(name = "scheduled_tasks")
+public final class ScheduledTask extends AbstractDomainObject {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private ScheduledTaskType type;
+
+    @NotNull
+    @Column(name = "reference_id")
+    private Long referenceId; // id of the entity the task belongs to, e.g. the battle to start
+
+    @NotNull
+    @Column(name = "due_at")
+    private OffsetDateTime dueAt;
+
+    @NotNull
+    @Column(name = "created_at")
+    private OffsetDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private OffsetDateTime completedAt;
+
+    public ScheduledTask(ScheduledTaskType type, Long referenceId, OffsetDateTime dueAt, OffsetDateTime createdAt) {
+        this.type = type;
+        this.referenceId = referenceId;
+        this.dueAt = dueAt;
+        this.createdAt = createdAt;
+    }
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+}
@@ -0,0 +1,5 @@
+package com.ardaslegends.domain;
+
+public enum ScheduledTaskType {
+    START_BATTLE
+}
@@ -0,0 +1,43 @@
+package com.ardaslegends.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * An interval in which game time stood still, e.g. while a battle was fought.
+ * The freeze that is still going on has no unfrozenAt yet.
+ */
+@Getter
+@NoArgsConstructor
+@ToString
+
+@Entity
+@Table(name = "time_freezes")
+public final class TimeFreeze extends AbstractDomainObject {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "frozen_at")
+    private OffsetDateTime frozenAt;
+
+    @Column(name = "unfrozen_at")
+    private OffsetDateTime unfrozenAt;
+
+    public TimeFreeze(OffsetDateTime frozenAt) {
+        this.frozenAt = frozenAt;
+    }
+
+    public boolean isOngoing() {
+        return unfrozenAt == null;
+    }
+
+    public void unfreeze(OffsetDateTime unfrozenAt) {
+        this.unfrozenAt = unfrozenAt;
+    }
+}
@@ -80,17 +80,10 @@ public abstract class AbstractApplication<T> extends AbstractEntity {
         acceptedBy = HashSet.newHashSet(3);
     }
 
-    protected abstract EmbedBuilder buildApplicationMessage();
-    public Message sendApplicationMessage(TextChannel channel) {
-        val embed = buildApplicationMessage();
-        val message = channel.sendMessage(embed).join();
+    public abstract EmbedBuilder buildApplicationMessage();
+    public void applicationMessageSent(Message message) {
         this.discordApplicationMessageLink = message.getLink();
         this.discordApplicationMessageId = message.getId();
-        return message;
-    }
-    public void updateApplicationMessage(TextChannel channel) {
-        val message = channel.getMessageById(this.discordApplicationMessageId).join();
-        message.edit(buildApplicationMessage());
     }
     protected abstract EmbedBuilder buildAcceptedMessage();
     public Message sendAcceptedMessage(TextChannel channel) {
@@ -0,0 +1,50 @@
+package com.ardaslegends.presentation;
+
+import com.ardaslegends.service.dbusage.DatabaseUsageTracker;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Tracks the database usage of every REST request, named by its method and endpoint pattern so all ids share one metric.
+ * <p>
+ * Streaming requests are tracked until the handler returned, the rest of the stream runs on other threads.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+public class DatabaseUsageInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = DatabaseUsageInterceptor.class.getName() + ".scope";
+
+    private final DatabaseUsageTracker databaseUsageTracker;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern == null ? "UNKNOWN" : pattern);
+        request.setAttribute(SCOPE_ATTRIBUTE, databaseUsageTracker.begin(DatabaseUsageTracker.KIND_ENDPOINT, endpoint));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        closeScope(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        closeScope(request);
+    }
+
+    private void closeScope(HttpServletRequest request) {
+        if(request.getAttribute(SCOPE_ATTRIBUTE) instanceof DatabaseUsageTracker.Scope scope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            scope.close();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.ardaslegends.domain.Army;
 import com.ardaslegends.presentation.AbstractRestController;
 import com.ardaslegends.presentation.api.response.army.ArmyResponse;
 import com.ardaslegends.service.ArmyService;
+import com.ardaslegends.service.time.GameClock;
 import com.ardaslegends.service.dto.army.*;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +31,7 @@ public class ArmyRestController extends AbstractRestController {
     private static final String PATH_DELETE_ARMY = "/delete";
     private static final String PATH_START_HEALING = "/heal-start";
     private static final String PATH_STOP_HEALING = "/heal-stop";
+    private static final String PATH_HEALING_PROJECTION = "/heal-projection";
     private static final String PATH_STATION = "/station";
     private static final String PATH_UNSTATION = "/unstation";
     private static final String PATH_SET_FREE_TOKENS = "/set-free-tokens";
@@ -40,6 +42,7 @@ public class ArmyRestController extends AbstractRestController {
     private static final String PATH_GET_UNPAID =  "/unpaid";
 
     private final ArmyService armyService;
+    private final GameClock gameClock;
 
     @Operation(summary = "Get Armies Paginated", description = "Retrieves a Page with a set of elements, parameters define the size, which Page you want and how its sorted")
     @GetMapping
@@ -47,7 +50,7 @@ public class ArmyRestController extends AbstractRestController {
         log.debug("Incoming getArmiesPaginated: Data [{}]", pageable.toString());
 
         Page<Army> pageDomain = armyService.getArmiesPaginated(pageable);
-        Page<ArmyResponse> pageResponse = pageDomain.map(ArmyResponse::new);
+        Page<ArmyResponse> pageResponse = pageDomain.map(army -> new ArmyResponse(army, gameClock));
 
         return ResponseEntity.ok(pageResponse);
     }
@@ -63,7 +66,7 @@ public class ArmyRestController extends AbstractRestController {
         log.debug("Calling ArmyService.createArmy");
         Army createdArmy = armyService.createArmy(dto);
         log.debug("Converting to ArmyResponse");
-        ArmyResponse response = new ArmyResponse(createdArmy);
+        ArmyResponse response = new ArmyResponse(createdArmy, gameClock);
 
         log.info("Sending successful createArmy Request for [{}]", createdArmy.getName());
         return ResponseEntity.ok(response);
@@ -76,7 +79,7 @@ public class ArmyRestController extends AbstractRestController {
         log.debug("Calling ArmyService.bind()");
         Army boundArmy = armyService.bind(dto);
         log.debug("Converting to ArmyResponse");
-        ArmyResponse response = new ArmyResponse(boundArmy);
+        ArmyResponse response = new ArmyResponse(boundArmy, gameClock);
 
         log.info("Sending successful bindArmy request for [{}]", boundArmy.getName());
         return ResponseEntity.ok(response);
@@ -89,7 +92,7 @@ public class ArmyRestController extends AbstractRestController {
         log.debug("Calling ArmyService.unbind()");
         Army unboundArmy = armyService.unbind(dto);
         log.debug("Converting to ArmyResponse");
-        ArmyResponse response = new ArmyResponse(unboundArmy);
+        ArmyResponse response = new ArmyResponse(unboundArmy, gameClock);
 
         log.info("Sending successful unbindArmy request for [{}]", unboundArmy.getName());
         return ResponseEntity.ok(response);
@@ -102,7 +105,7 @@ public class ArmyRestController extends AbstractRestController {
         log.debug("Calling ArmyService.unbind()");
         Army disbandedArmy = armyService.disbandFromDto(dto, false);
         log.debug("Converting to ArmyResponse");
-        ArmyResponse response = new ArmyResponse(disbandedArmy);
+        ArmyResponse response = new ArmyResponse(disbandedArmy, gameClock);
 
         log.info("Sending successful disbandArmy request for [{}]", disbandedArmy.getName());
         return ResponseEntity.ok(response);
@@ -115,7 +118,7 @@ public class ArmyRestController extends AbstractRestController {
         log.debug("Calling ArmyService.disband()");
         Army deletedArmy = armyService.disbandFromDto(dto, true);
         log.debug("Converting to ArmyResponse");
-        ArmyResponse response = new ArmyResponse(deletedArmy);
+        ArmyResponse response = new ArmyResponse(deletedArmy, gameClock);
 
         log.info("Sending successful deleteArmy request for [{}]", deletedArmy.getName());
         return ResponseEntity.ok(response);
@@ -128,7 +131,7 @@ public class ArmyRestController extends AbstractRestController {
         log.debug("Calling healStart()");
         Army modifiedArmy = armyService.healStart(dto);
         log.debug("Converting to ArmyResponse");
-        ArmyResponse response = new ArmyResponse(modifiedArmy);
+        ArmyResponse response = new ArmyResponse(modifiedArmy, gameClock);
 
         log.info("Sending successful start healing Request for [{}]", modifiedArmy.toString());
         return ResponseEntity.ok(response);
@@ -141,12 +144,23 @@ public class ArmyRestController extends AbstractRestController {
         log.debug("Calling healStop()");
         Army modifiedArmy = armyService.healStop(dto);
         log.debug("Converting to ArmyResponse");
-        ArmyResponse response = new ArmyResponse(modifiedArmy);
+        ArmyResponse response = new ArmyResponse(modifiedArmy, gameClock);
 
         log.info("Sending successful stop healing Request for [{}]", modifiedArmy.toString());
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(PATH_HEALING_PROJECTION)
+    public HttpEntity<HealingProjectionDto> healProjection(@RequestParam(name = "army") String armyName) {
+        log.debug("Incoming healProjection Request for army [{}]", armyName);
+
+        log.trace("Calling armyService.getHealingProjection");
+        HealingProjectionDto projection = armyService.getHealingProjection(armyName);
+
+        log.info("Sending successful healProjection Request for army [{}]", armyName);
+        return ResponseEntity.ok(projection);
+    }
+
     @PatchMapping(PATH_STATION)
     public HttpEntity<ArmyResponse> station(@RequestBody StationDto dto) {
         log.debug("Incoming station request: Data [{}]", dto);
@@ -154,7 +168,7 @@ public class ArmyRestController extends AbstractRestController {
         log.debug("Calling station()");
         Army modifiedArmy = armyService.station(dto);
         log.debug("Converting to ArmyResponse");
-        ArmyResponse response = new ArmyResponse(modifiedArmy);
+        ArmyResponse response = new ArmyResponse(modifiedArmy, gameClock);
 
         log.info("Sending successful station request for [{}]", modifiedArmy.toString());
         return ResponseEntity.ok(response);
@@ -167,7 +181,7 @@ public class ArmyRestController extends AbstractRestController {
         log.debug("Calling unstation()");
         Army modifiedArmy = armyService.unstation(dto);
         log.debug("Converting to ArmyResponse");
-        ArmyResponse response = new ArmyResponse(modifiedArmy);
+        ArmyResponse response = new ArmyResponse(modifiedArmy, gameClock);
 
         log.info("Sending successful unstation request for [{}]", modifiedArmy.toString());
         return ResponseEntity.ok(response);
@@ -180,7 +194,7 @@ public class ArmyRestController extends AbstractRestController {
         log.debug("Calling ArmyService.setFreeArmyTokens()");
         Army deletedArmy = armyService.setFreeArmyTokens(dto);
         log.debug("Converting to ArmyResponse");
-        ArmyResponse response = new ArmyResponse(deletedArmy);
+        ArmyResponse response = new ArmyResponse(deletedArmy, gameClock);
 
         log.info("Sending successful setFreeArmyTokens request for [{}]", deletedArmy.getName());
         return ResponseEntity.ok(response);
@@ -193,7 +207,7 @@ public class ArmyRestController extends AbstractRestController {
         log.debug("Calling ArmyService.pickSiege()");
         Army army = armyService.pickSiege(dto);
         log.debug("Converting to ArmyResponse");
-        ArmyResponse response = new ArmyResponse(army);
+        ArmyResponse response = new ArmyResponse(army, gameClock);
 
         log.info("Sending successful pickSiege request for [{}]", army.getName());
         return ResponseEntity.ok(response);
@@ -228,7 +242,7 @@ public class ArmyRestController extends AbstractRestController {
         log.trace("Calling wrappedServiceExecution armyService.setIsPaid");
         var result = armyService.setIsPaid(dto);
         log.debug("Converting to ArmyResponse");
-        ArmyResponse response = new ArmyResponse(result);
+        ArmyResponse response = new ArmyResponse(result, gameClock);
 
         log.info("Sending setPaid Response, success [{}]", result);
         return ResponseEntity.ok(response);
@@ -241,7 +255,7 @@ public class ArmyRestController extends AbstractRestController {
         log.trace("Calling wrappedServiceExecution, armyService.getUnpaid");
         var result = armyService.getUnpaid();
         log.debug("Converting to ArmyResponse");
-        var response = result.stream().map(ArmyResponse::new).toList();
+        var response = result.stream().map(army -> new ArmyResponse(army, gameClock)).toList();
 
         log.info("Sending getUnpaid Response, data [{}]", response);
         return ResponseEntity.ok(response);
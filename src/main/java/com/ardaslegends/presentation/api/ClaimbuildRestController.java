@@ -7,6 +7,7 @@ import com.ardaslegends.domain.SpecialBuilding;
 import com.ardaslegends.presentation.AbstractRestController;
 import com.ardaslegends.presentation.api.response.claimbuild.ClaimbuildResponse;
 import com.ardaslegends.service.ClaimBuildService;
+import com.ardaslegends.service.time.GameClock;
 import com.ardaslegends.service.dto.claimbuild.CreateClaimBuildDto;
 import com.ardaslegends.service.dto.claimbuilds.DeleteClaimbuildDto;
 import com.ardaslegends.service.dto.claimbuilds.UpdateClaimbuildOwnerDto;
@@ -41,6 +42,7 @@ public class ClaimbuildRestController extends AbstractRestController {
     private static final String DELETE_CLAIMBUILD = "/delete";
 
     private final ClaimBuildService claimBuildService;
+    private final GameClock gameClock;
 
     @GetMapping(GET_TYPES)
     public ResponseEntity<String[]> getTypes() {
@@ -59,7 +61,7 @@ public class ClaimbuildRestController extends AbstractRestController {
         log.debug("Incoming getClaimbuildsPaginated Request, paginated data [{}]", pageable);
 
         Page<ClaimBuild> pageDomain = claimBuildService.getClaimbuildsPaginated(pageable);
-        var pageResponse = pageDomain.map(ClaimbuildResponse::new);
+        var pageResponse = pageDomain.map(claimBuild -> new ClaimbuildResponse(claimBuild, gameClock));
 
         return ResponseEntity.ok(pageResponse);
     }
@@ -72,7 +74,7 @@ public class ClaimbuildRestController extends AbstractRestController {
         List<ClaimBuild> claimBuilds = claimBuildService.getClaimBuildsByNames(names);
 
         log.debug("Building ClaimbuildResponses with claimbuilds [{}]", claimBuilds);
-        ClaimbuildResponse[] response = claimBuilds.stream().map(ClaimbuildResponse::new).toArray(ClaimbuildResponse[]::new);
+        ClaimbuildResponse[] response = claimBuilds.stream().map(claimBuild -> new ClaimbuildResponse(claimBuild, gameClock)).toArray(ClaimbuildResponse[]::new);
 
         return ResponseEntity.ok(response);
     }
@@ -85,7 +87,7 @@ public class ClaimbuildRestController extends AbstractRestController {
         List<ClaimBuild> claimBuilds = claimBuildService.getClaimBuildsByFaction(faction);
 
         log.debug("Building ClaimbuildResponses with claimbuilds [{}]", claimBuilds);
-        ClaimbuildResponse[] response = claimBuilds.stream().map(ClaimbuildResponse::new).toArray(ClaimbuildResponse[]::new);
+        ClaimbuildResponse[] response = claimBuilds.stream().map(claimBuild -> new ClaimbuildResponse(claimBuild, gameClock)).toArray(ClaimbuildResponse[]::new);
 
         return ResponseEntity.ok(response);
     }
@@ -108,7 +110,7 @@ public class ClaimbuildRestController extends AbstractRestController {
         log.debug("Calling claimBuildService.createClaimbuild");
         ClaimBuild claimBuild = claimBuildService.createClaimbuild(dto, true);
 
-        val response = new ClaimbuildResponse(claimBuild);
+        val response = new ClaimbuildResponse(claimBuild, gameClock);
 
         log.info("Sending successful createClaimbuild Request for [{}]", claimBuild.getName());
         return ResponseEntity.ok(response);
@@ -121,7 +123,7 @@ public class ClaimbuildRestController extends AbstractRestController {
         log.debug("Calling claimBuildService.createClaimbuild");
         ClaimBuild claimBuild = claimBuildService.createClaimbuild(dto, false);
 
-        val response = new ClaimbuildResponse(claimBuild);
+        val response = new ClaimbuildResponse(claimBuild, gameClock);
 
         log.info("Sending successful updateClaimbuild Request for [{}]", claimBuild.getName());
         return ResponseEntity.ok(response);
@@ -0,0 +1,42 @@
+package com.ardaslegends.presentation.api;
+
+import com.ardaslegends.presentation.AbstractRestController;
+import com.ardaslegends.presentation.api.response.errors.ErrorReportResponse;
+import com.ardaslegends.service.errors.ErrorReporter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+
+@Slf4j
+@RestController
+@Tag(name = "Error Controller", description = "REST Endpoints concerning the errors recently caught by the backend")
+@RequestMapping(ErrorRestController.BASE_URL)
+public class ErrorRestController extends AbstractRestController {
+    public static final String BASE_URL = "/api/errors";
+
+    private final ErrorReporter errorReporter;
+
+    @Operation(summary = "Get Recent Errors", description = "Retrieves the most recently seen errors with their counts, newest first. Messages and stack traces are only sent to the staff error channel")
+    @GetMapping
+    public ResponseEntity<ErrorReportResponse[]> getRecentErrors(@RequestParam(required = false) Integer limit) {
+        log.debug("Incoming getRecentErrors Request, limit [{}]", limit);
+
+        val errors = errorReporter.getRecentErrors();
+        val response = errors.stream()
+                .limit(limit == null ? errors.size() : Math.max(limit, 0))
+                .map(ErrorReportResponse::new)
+                .toArray(ErrorReportResponse[]::new);
+
+        log.debug("Sending [{}] recent errors", response.length);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ardaslegends.presentation.api;
+
+import com.ardaslegends.presentation.AbstractRestController;
+import com.ardaslegends.service.live.LiveEventHub;
+import com.ardaslegends.service.live.LiveEventTopic;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+
+@Slf4j
+@RestController
+@Tag(name = "Live Event Controller", description = "Server-Sent Events stream of movements, battles, claimbuilds and wars")
+@RequestMapping(LiveEventRestController.BASE_URL)
+public class LiveEventRestController extends AbstractRestController {
+    public static final String BASE_URL = "/api/events";
+
+    private final LiveEventHub liveEventHub;
+
+    @Operation(summary = "Stream Live Events", description = "Streams the events of the comma separated topics (movements, battles, claimbuilds, wars), all topics if none are given. " +
+            "Reconnecting with the Last-Event-ID header sends the missed events, or a reset event if they are not known anymore")
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestParam(required = false) String topics,
+                                   @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        log.debug("Incoming streamEvents Request for topics [{}], last event id [{}]", topics, lastEventId);
+
+        Set<LiveEventTopic> subscribedTopics = topics == null || topics.isBlank()
+                ? EnumSet.allOf(LiveEventTopic.class)
+                : Arrays.stream(topics.split(","))
+                        .map(LiveEventTopic::fromName)
+                        .collect(Collectors.toCollection(() -> EnumSet.noneOf(LiveEventTopic.class)));
+
+        log.info("Streaming live events of topics [{}]", subscribedTopics);
+        return liveEventHub.subscribe(subscribedTopics, lastEventId);
+    }
+}
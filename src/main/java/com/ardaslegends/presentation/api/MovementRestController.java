@@ -4,7 +4,9 @@ import com.ardaslegends.domain.Movement;
 import com.ardaslegends.presentation.AbstractRestController;
 import com.ardaslegends.presentation.api.response.movement.CurrentAndPastMovementResponse;
 import com.ardaslegends.presentation.api.response.movement.MovementResponse;
+import com.ardaslegends.presentation.api.response.movement.ReachableRegionsResponse;
 import com.ardaslegends.service.MovementService;
+import com.ardaslegends.service.time.GameClock;
 import com.ardaslegends.service.dto.army.MoveArmyDto;
 import com.ardaslegends.service.dto.player.DiscordIdDto;
 import com.ardaslegends.service.dto.player.rpchar.MoveRpCharDto;
@@ -24,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 public class MovementRestController extends AbstractRestController {
 
     private final MovementService movementService;
+    private final GameClock gameClock;
 
     public static final String BASE_URL = "/api/movement";
     public static final String PATH_GET_ARMY_MOVEMENTS = "/army";
@@ -36,6 +39,7 @@ public class MovementRestController extends AbstractRestController {
 
     public static final String PATH_CALCULATE_ARMY_MOVEMENT = "/calculate/army";
     public static final String PATH_CALCULATE_CHAR_MOVEMENT = "/calculate/char";
+    public static final String PATH_CALCULATE_REACHABLE_REGIONS = "/calculate/reachable";
 
     @GetMapping(PATH_GET_ARMY_MOVEMENTS)
     public HttpEntity<CurrentAndPastMovementResponse> getArmyMovements(String name) {
@@ -44,7 +48,7 @@ public class MovementRestController extends AbstractRestController {
         val movements = movementService.getArmyMovements(name);
 
         log.debug("Building response");
-        val response = new CurrentAndPastMovementResponse(movements.getFirst().orElse(null), movements.getSecond());
+        val response = new CurrentAndPastMovementResponse(movements.getFirst().orElse(null), movements.getSecond(), gameClock);
 
         log.info("Successfully handled request, getArmyMovements");
         return ResponseEntity.ok(response);
@@ -57,7 +61,7 @@ public class MovementRestController extends AbstractRestController {
         val movements = movementService.getCharMovements(name);
 
         log.debug("Building response");
-        val response = new CurrentAndPastMovementResponse(movements.getFirst().orElse(null), movements.getSecond());
+        val response = new CurrentAndPastMovementResponse(movements.getFirst().orElse(null), movements.getSecond(), gameClock);
 
         log.info("Successfully handled request, getCharMovements");
         return ResponseEntity.ok(response);
@@ -71,7 +75,7 @@ public class MovementRestController extends AbstractRestController {
         log.trace("WrappedServiceExecution of calculateArmyMovement function");
         val movement = movementService.calculateArmyMovement(dto);
         log.debug("Creating MovementResponse");
-        MovementResponse response = new MovementResponse(movement);
+        MovementResponse response = new MovementResponse(movement, gameClock);
 
         log.info("Successfully handled request - calculated army movement!");
         return ResponseEntity.ok(response);
@@ -85,11 +89,24 @@ public class MovementRestController extends AbstractRestController {
         log.trace("WrappedServiceExecution of calculateRpCharMovement function");
         val movement = movementService.calculateRpCharMovement(dto);
         log.debug("Creating MovementResponse");
-        MovementResponse response = new MovementResponse(movement);
+        MovementResponse response = new MovementResponse(movement, gameClock);
 
         log.info("Successfully handled request - calculated char movement!");
         return ResponseEntity.ok(response);
     }
+    @GetMapping(PATH_CALCULATE_REACHABLE_REGIONS)
+    public HttpEntity<ReachableRegionsResponse> calculateReachableRegions(String from, Integer maxHours, @RequestParam(required = false) String faction) {
+        log.debug("Incoming get request for reachable regions [from: {}, maxHours: {}, faction: {}]", from, maxHours, faction);
+
+        log.trace("WrappedServiceExecution of calculateReachableRegions function");
+        val routeTable = movementService.calculateReachableRegions(from, maxHours, faction);
+        log.debug("Creating ReachableRegionsResponse");
+        val response = new ReachableRegionsResponse(routeTable, maxHours, faction);
+
+        log.info("Successfully handled request - calculated [{}] reachable regions!", response.regions().size());
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping(PATH_MOVE_CHAR)
     public HttpEntity<MovementResponse> moveRoleplayCharacter(@RequestBody MoveRpCharDto dto) {
 
@@ -97,7 +114,7 @@ public class MovementRestController extends AbstractRestController {
         log.trace("WrappedServiceExecution of createRpCharMovement function");
         Movement movement = movementService.createRpCharMovement(dto);
         log.debug("Creating MovementResponse");
-        MovementResponse response = new MovementResponse(movement);
+        MovementResponse response = new MovementResponse(movement, gameClock);
 
         log.info("Successfully handled request for creating rpchar movement!");
         return ResponseEntity.ok(response);
@@ -110,7 +127,7 @@ public class MovementRestController extends AbstractRestController {
         log.trace("WrappedServiceExecution of cancelRpCharMovement function");
         Movement movement = movementService.cancelRpCharMovement(dto);
         log.debug("Creating MovementResponse");
-        MovementResponse response = new MovementResponse(movement);
+        MovementResponse response = new MovementResponse(movement, gameClock);
 
         log.info("Successfully handled request for cancelling rpchar movement!");
         return ResponseEntity.ok(response);
@@ -123,7 +140,7 @@ public class MovementRestController extends AbstractRestController {
         log.trace("WrappedServiceExecution of createArmyMovement function");
         Movement movement = movementService.createArmyMovement(dto);
         log.debug("Creating MovementResponse");
-        MovementResponse response = new MovementResponse(movement);
+        MovementResponse response = new MovementResponse(movement, gameClock);
 
         log.info("Successfully handled request for creating army movement!");
         return ResponseEntity.ok(response);
@@ -136,7 +153,7 @@ public class MovementRestController extends AbstractRestController {
         log.trace("WrappedServiceExecution of cancelArmyMovement function");
         Movement movement = movementService.cancelArmyMovement(dto);
         log.debug("Creating MovementResponse");
-        MovementResponse response = new MovementResponse(movement);
+        MovementResponse response = new MovementResponse(movement, gameClock);
 
         log.info("Successfully handled request for cancelling army movement!");
         return ResponseEntity.ok(response);
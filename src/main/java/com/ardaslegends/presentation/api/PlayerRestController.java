@@ -13,6 +13,7 @@ import com.ardaslegends.service.PlayerService;
 import com.ardaslegends.service.dto.player.*;
 import com.ardaslegends.service.dto.player.rpchar.CreateRPCharDto;
 import com.ardaslegends.service.dto.player.rpchar.UpdateRpCharDto;
+import com.ardaslegends.service.time.GameClock;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -56,6 +57,7 @@ public class PlayerRestController extends AbstractRestController {
 
     private final PlayerService playerService;
     private final FactionService factionService;
+    private final GameClock gameClock;
 
 
     @GetMapping
@@ -76,7 +78,7 @@ public class PlayerRestController extends AbstractRestController {
 
         log.debug("Calling PlayerService.getPlayerByIgn, Ign: {}", ign);
         val playerFound = playerService.getPlayerByIgn(ign);
-        val response = new PlayerRpCharResponse(playerFound);
+        val response = new PlayerRpCharResponse(playerFound, gameClock);
 
         log.info("Successfully fetched player ({}) by ign ({})", playerFound, playerFound.getIgn());
         return ResponseEntity.ok(response);
@@ -89,7 +91,7 @@ public class PlayerRestController extends AbstractRestController {
 
         log.debug("Calling PlayerService.getPlayerByDiscordId, DiscordId: {}", discId);
         val playerFound = playerService.getPlayerByDiscordId(discId);
-        val response = new PlayerRpCharResponse(playerFound);
+        val response = new PlayerRpCharResponse(playerFound, gameClock);
 
         log.info("Successfully fetched player ({}) by DiscordId ({})", playerFound, playerFound.getDiscordID());
         return ResponseEntity.ok(response);
@@ -120,7 +122,7 @@ public class PlayerRestController extends AbstractRestController {
 
         log.debug("Calling PlayerService.createRoleplayCharacter. Data [{}]", createRPCharDto);
         RPChar createdRpChar = playerService.createRoleplayCharacter(createRPCharDto);
-        var response = new RpCharResponse(createdRpChar);
+        var response = new RpCharResponse(createdRpChar, gameClock);
 
         log.info("Sending HttpResponse with successfully created Player {}", createdRpChar);
         return ResponseEntity.ok(response);
@@ -187,7 +189,7 @@ public class PlayerRestController extends AbstractRestController {
         log.trace("Executing playerService.updateCharacterName");
         RPChar rpChar = playerService.updateCharacterName(dto);
         log.debug("Successfully updated character name without encountering any errors");
-        var response = new RpCharResponse(rpChar);
+        var response = new RpCharResponse(rpChar, gameClock);
 
         log.info("Sending HttpResponse with successfully updated RPChar [{}]", rpChar);
         return ResponseEntity.ok(response);
@@ -202,7 +204,7 @@ public class PlayerRestController extends AbstractRestController {
         log.trace("Executing playerService.updateCharacterTitle");
         RPChar rpChar = playerService.updateCharacterTitle(dto);
         log.debug("Successfully updated character title without encountering any errors");
-        var response = new RpCharResponse(rpChar);
+        var response = new RpCharResponse(rpChar, gameClock);
 
         log.info("Sending HttpResponse with successfully updated RPChar [{}]", rpChar);
         return ResponseEntity.ok(response);
@@ -217,7 +219,7 @@ public class PlayerRestController extends AbstractRestController {
         log.trace("Executing playerService.updateCharacterGear");
         RPChar rpChar = playerService.updateCharacterGear(dto);
         log.debug("Successfully updated character Gear without encountering any errors");
-        var response = new RpCharResponse(rpChar);
+        var response = new RpCharResponse(rpChar, gameClock);
 
         log.info("Sending HttpResponse with successfully updated RPChar [{}]", rpChar);
         return ResponseEntity.ok(response);
@@ -233,7 +235,7 @@ public class PlayerRestController extends AbstractRestController {
         log.trace("Executing playerService.updateCharacterPvP");
         RPChar rpChar = playerService.updateCharacterPvp(dto);
         log.debug("Successfully updated character PvP without encountering any errors");
-        var response = new RpCharResponse(rpChar);
+        var response = new RpCharResponse(rpChar, gameClock);
 
         log.info("Sending HttpResponse with successfully updated RPChar [{}]", rpChar);
         return ResponseEntity.ok(response);
@@ -263,7 +265,7 @@ public class PlayerRestController extends AbstractRestController {
         log.trace("Executing playerService.deleteRpChar");
         RPChar rpChar = playerService.deleteRpChar(dto);
         log.debug("Successfully deleted rpchar, [{}]", rpChar);
-        var response = new RpCharResponse(rpChar);
+        var response = new RpCharResponse(rpChar, gameClock);
 
         log.info("Sending HttpResponse with successfully deleted RpChar [{}]", rpChar);
         return ResponseEntity.ok(response);
@@ -278,7 +280,7 @@ public class PlayerRestController extends AbstractRestController {
         log.trace("Executing playerService.injureChar");
         RPChar rpChar = playerService.injureChar(dto);
         log.debug("Successfully injured character without encountering any errors");
-        var response = new RpCharResponse(rpChar);
+        var response = new RpCharResponse(rpChar, gameClock);
 
         log.info("Sending HttpResponse with successfully injured RPChar [{}]", rpChar);
         return ResponseEntity.ok(response);
@@ -293,7 +295,7 @@ public class PlayerRestController extends AbstractRestController {
         log.trace("Executing playerService.healStart");
         RPChar rpChar = playerService.healStart(dto);
         log.debug("Successfully started healing of character without encountering any errors");
-        var response = new RpCharResponse(rpChar);
+        var response = new RpCharResponse(rpChar, gameClock);
 
         log.info("Sending HttpResponse with successful start of healing of RPChar [{}]", rpChar);
         return ResponseEntity.ok(response);
@@ -307,7 +309,7 @@ public class PlayerRestController extends AbstractRestController {
 
         log.trace("Executing playerService.healStop");
         RPChar rpChar = playerService.healStop(dto);
-        var response = new RpCharResponse(rpChar);
+        var response = new RpCharResponse(rpChar, gameClock);
         log.debug("Successfully started healing of character without encountering any errors");
 
         log.info("Sending HttpResponse with successful stop of healing of RPChar [{}]", rpChar);
@@ -3,13 +3,16 @@ package com.ardaslegends.presentation.api;
 import com.ardaslegends.domain.Region;
 import com.ardaslegends.domain.RegionType;
 import com.ardaslegends.presentation.AbstractRestController;
+import com.ardaslegends.presentation.api.response.region.ClaimMapChangesResponse;
 import com.ardaslegends.presentation.api.response.region.RegionResponse;
 import com.ardaslegends.presentation.api.response.region.RegionResponseDetailed;
 import com.ardaslegends.service.RegionService;
+import com.ardaslegends.service.claimmap.ClaimMapProjection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,13 +25,15 @@ import java.util.Arrays;
 @RequestMapping(RegionController.BASE_URL)
 public class RegionController extends AbstractRestController {
     public static final String BASE_URL = "/api/region";
-    private static final String RESET_OWNERSHIP = "/reset-ownership";
     private static final String GET_ALL = "/all";
     private static final String GET_ALL_DETAILED = "/all/detailed";
     private static final String GET_REGION_TYPES = "/types";
+    private static final String GET_CLAIMMAP = "/claimmap";
+    private static final String GET_CHANGES = "/changes";
     private static final String GET_REGION_BY_ID = "/{regionId}";
 
     private final RegionService regionService;
+    private final ClaimMapProjection claimMapProjection;
 
     @GetMapping(GET_ALL)
     public ResponseEntity<RegionResponse[]> getAll() {
@@ -63,7 +68,7 @@ public class RegionController extends AbstractRestController {
     public ResponseEntity<RegionResponseDetailed[]> getAllDetailed() {
         log.info("Incoming getAllDetailed Request");
 
-        val regions = regionService.getAll();
+        val regions = regionService.getAllDetailed();
         val regionsResponse = regions.stream()
                 .map(RegionResponseDetailed::new)
                 .toArray(RegionResponseDetailed[]::new);
@@ -82,15 +87,29 @@ public class RegionController extends AbstractRestController {
         return ResponseEntity.ok(regionTypesStringArray);
     }
 
-    @PatchMapping(RESET_OWNERSHIP)
-    public ResponseEntity<Void> resetOwnershipChanged() {
-        log.info("Incoming reset ownership-changed request");
+    @GetMapping(GET_CLAIMMAP)
+    public ResponseEntity<byte[]> getClaimMap() {
+        log.debug("Incoming getClaimMap Request");
+
+        val claimMap = claimMapProjection.getClaimMap();
+
+        // Answered with 304 Not Modified by Spring if the request's If-None-Match contains the entity tag
+        log.debug("Sending claim map version [{}]", claimMap.version());
+        return ResponseEntity.ok()
+                .eTag(claimMap.eTag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(claimMap.json());
+    }
+
+    @GetMapping(GET_CHANGES)
+    public ResponseEntity<ClaimMapChangesResponse> getChanges(@RequestParam long sinceVersion) {
+        log.debug("Incoming getChanges Request since version [{}]", sinceVersion);
 
-        log.debug("Calling wrappedServiceExecution regionService.resetOwnership");
-        regionService.resetHasOwnership();
+        val changes = claimMapProjection.getChangesSince(sinceVersion);
+        val response = new ClaimMapChangesResponse(changes);
 
-        log.debug("Returning status code ok for reset-ownership");
-        return ResponseEntity.ok(null);
+        log.debug("Sending [{}] changed regions up to version [{}], full reload [{}]", response.regions().length, response.version(), response.isFullReload());
+        return ResponseEntity.ok(response);
     }
 
 }
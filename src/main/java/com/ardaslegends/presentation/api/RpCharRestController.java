@@ -6,6 +6,7 @@ import com.ardaslegends.presentation.AbstractRestController;
 import com.ardaslegends.presentation.api.response.claimbuild.ClaimbuildResponse;
 import com.ardaslegends.presentation.api.response.player.rpchar.RpCharOwnerResponse;
 import com.ardaslegends.service.RpCharService;
+import com.ardaslegends.service.time.GameClock;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +33,7 @@ public class RpCharRestController extends AbstractRestController {
     public final static String NAME = "/name";
 
     private final RpCharService rpCharService;
+    private final GameClock gameClock;
 
     @Operation(summary = "Get RpChars Paginated", description = "Returns a Page of RpChars")
     @GetMapping
@@ -43,7 +45,7 @@ public class RpCharRestController extends AbstractRestController {
         log.debug("Received slice of RpChars from service");
 
         log.debug("Building RpChar response");
-        Slice<RpCharOwnerResponse> rpCharOwnerResponses = rpChars.map(RpCharOwnerResponse::new);
+        Slice<RpCharOwnerResponse> rpCharOwnerResponses = rpChars.map(rpChar -> new RpCharOwnerResponse(rpChar, gameClock));
         log.debug("Built response [{}]", rpCharOwnerResponses);
 
         log.info("Successfully handled get all RpChars request - returning data [{}]", rpCharOwnerResponses);
@@ -58,7 +60,7 @@ public class RpCharRestController extends AbstractRestController {
         List<RPChar> rpchars = rpCharService.getRpCharsByNames(names);
 
         log.debug("Building RpCharOwnerResponse with rpchars [{}]", rpchars);
-        RpCharOwnerResponse[] response = rpchars.stream().map(RpCharOwnerResponse::new).toArray(RpCharOwnerResponse[]::new);
+        RpCharOwnerResponse[] response = rpchars.stream().map(rpChar -> new RpCharOwnerResponse(rpChar, gameClock)).toArray(RpCharOwnerResponse[]::new);
 
         return ResponseEntity.ok(response);
     }
@@ -3,6 +3,7 @@ package com.ardaslegends.presentation.api.response.army;
 import com.ardaslegends.domain.Army;
 import com.ardaslegends.domain.Unit;
 import com.ardaslegends.presentation.api.response.unit.UnitResponse;
+import com.ardaslegends.service.time.GameClock;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
@@ -28,7 +29,7 @@ public record ArmyResponse(
         OffsetDateTime createdAt
 
 ) {
-    public ArmyResponse(Army army) {
+    public ArmyResponse(Army army, GameClock gameClock) {
         this(
                 army.getId(),
                 army.getName(),
@@ -41,8 +42,8 @@ public record ArmyResponse(
                 army.getStationedAt() == null ? "null": army.getStationedAt().getName(),
                 army.getFreeTokens(),
                 army.getIsHealing(),
-                army.getHealStart(),
-                army.getHealEnd(),
+                gameClock.toWallTime(army.getHealStart()),
+                gameClock.toWallTime(army.getHealEnd()),
                 army.getHoursHealed(),
                 army.getHoursLeftHealing(),
                 army.getOriginalClaimbuild().getName(),
@@ -7,6 +7,7 @@ import com.ardaslegends.presentation.api.response.army.ArmyResponse;
 import com.ardaslegends.presentation.api.response.claimbuild.coordinate.CoordinateResponse;
 import com.ardaslegends.presentation.api.response.player.PlayerResponse;
 import com.ardaslegends.presentation.api.response.productionsite.claimbuild.ClaimbuildProductionSiteResponse;
+import com.ardaslegends.service.time.GameClock;
 
 public record ClaimbuildResponse(
         Long id,
@@ -33,7 +34,7 @@ public record ClaimbuildResponse(
 
 
 ) {
-    public ClaimbuildResponse(ClaimBuild claimBuild) {
+    public ClaimbuildResponse(ClaimBuild claimBuild, GameClock gameClock) {
         this(
                 claimBuild.getId(),
                 claimBuild.getName(),
@@ -48,8 +49,8 @@ public record ClaimbuildResponse(
                 claimBuild.getBuiltBy().stream().map(PlayerResponse::new).toArray(PlayerResponse[]::new),
                 claimBuild.getSpecialBuildings().stream().map(SpecialBuilding::getName).toArray(String[]::new),
                 claimBuild.getProductionSites().stream().map(ClaimbuildProductionSiteResponse::new).toArray(ClaimbuildProductionSiteResponse[]::new),
-                claimBuild.getStationedArmies().stream().map(ArmyResponse::new).toArray(ArmyResponse[]::new),
-                claimBuild.getCreatedArmies().stream().map(ArmyResponse::new).toArray(ArmyResponse[]::new),
+                claimBuild.getStationedArmies().stream().map(army -> new ArmyResponse(army, gameClock)).toArray(ArmyResponse[]::new),
+                claimBuild.getCreatedArmies().stream().map(army -> new ArmyResponse(army, gameClock)).toArray(ArmyResponse[]::new),
                 claimBuild.getFreeArmiesRemaining(),
                 claimBuild.getCountOfArmies(),
                 claimBuild.getCountOfTradingCompanies(),
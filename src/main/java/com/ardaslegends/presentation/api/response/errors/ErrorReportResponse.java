@@ -0,0 +1,23 @@
+package com.ardaslegends.presentation.api.response.errors;
+
+import com.ardaslegends.service.errors.ErrorReport;
+
+import java.time.OffsetDateTime;
+
+public record ErrorReportResponse(
+        String fingerprint,
+        String type,
+        long count,
+        OffsetDateTime firstOccurredAt,
+        OffsetDateTime lastOccurredAt
+) {
+    public ErrorReportResponse(ErrorReport report) {
+        this(
+                report.fingerprint(),
+                report.type(),
+                report.count(),
+                report.firstOccurredAt(),
+                report.lastOccurredAt()
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.ardaslegends.presentation.api.response.movement;
 
 import com.ardaslegends.domain.Movement;
+import com.ardaslegends.service.time.GameClock;
 import org.springframework.data.util.Pair;
 
 import java.util.List;
@@ -10,10 +11,10 @@ public record CurrentAndPastMovementResponse(
         MovementResponse currentMovement,
         List<MovementResponse> pastMovements
 ) {
-    public CurrentAndPastMovementResponse(Movement currentMovement, List<Movement> pastMovements) {
+    public CurrentAndPastMovementResponse(Movement currentMovement, List<Movement> pastMovements, GameClock gameClock) {
         this(
-                currentMovement == null ? null : new MovementResponse(currentMovement),
-                pastMovements.stream().map(MovementResponse::new).toList()
+                currentMovement == null ? null : new MovementResponse(currentMovement, gameClock),
+                pastMovements.stream().map(movement -> new MovementResponse(movement, gameClock)).toList()
         );
     }
 }
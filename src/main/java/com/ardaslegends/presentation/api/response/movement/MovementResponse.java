@@ -4,6 +4,7 @@ import com.ardaslegends.domain.Movement;
 import com.ardaslegends.presentation.api.response.army.ArmyResponse;
 import com.ardaslegends.presentation.api.response.movement.path.PathResponse;
 import com.ardaslegends.presentation.api.response.player.rpchar.RpCharResponse;
+import com.ardaslegends.service.time.GameClock;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
@@ -28,21 +29,22 @@ public record MovementResponse(
 
 ) {
 
-    public MovementResponse(Movement movement) {
+    // The times of a movement are game time, players get to see the wall time they are reached at
+    public MovementResponse(Movement movement, GameClock gameClock) {
         this(
                 movement.getId(),
-                movement.getRpChar() == null ? null : new RpCharResponse(movement.getRpChar()),
-                movement.getArmy() == null ? null : new ArmyResponse(movement.getArmy()),
+                movement.getRpChar() == null ? null : new RpCharResponse(movement.getRpChar(), gameClock),
+                movement.getArmy() == null ? null : new ArmyResponse(movement.getArmy(), gameClock),
                 movement.getIsCharMovement(),
                 movement.getPath().stream().map(PathResponse::new).toList(),
-                movement.getStartTime(),
-                movement.getEndTime(),
+                gameClock.toWallTime(movement.getStartTime()),
+                gameClock.toWallTime(movement.getEndTime()),
                 movement.getIsCurrentlyActive(),
-                movement.getDurationUntilComplete(),
-                movement.getDurationAlreadyMoved(),
-                movement.getReachesNextRegionAt(),
-                movement.getDurationUntilNextRegion(),
-                movement.getLastUpdatedAt()
+                movement.getDurationUntilComplete(gameClock),
+                movement.getDurationAlreadyMoved(gameClock),
+                gameClock.toWallTime(movement.getReachesNextRegionAt()),
+                movement.getDurationUntilNextRegion(gameClock),
+                gameClock.toWallTime(movement.getLastUpdatedAt())
         );
         log.debug("Created MovementResponse {}", this);
     }
@@ -0,0 +1,30 @@
+package com.ardaslegends.presentation.api.response.movement;
+
+import com.ardaslegends.service.pathfinding.RouteTable;
+
+import java.util.List;
+
+public record ReachableRegionsResponse(
+        String from,
+        Integer maxHours,
+        String faction,
+        Long graphVersion,
+        List<ReachableRegion> regions
+) {
+    public ReachableRegionsResponse(RouteTable routeTable, Integer maxHours, String faction) {
+        this(
+                routeTable.source(),
+                maxHours,
+                faction,
+                routeTable.snapshotVersion(),
+                routeTable.reachableWithin(maxHours).entrySet().stream()
+                        .map(entry -> new ReachableRegion(entry.getKey(), entry.getValue()))
+                        .toList()
+        );
+    }
+
+    public record ReachableRegion(
+            String region,
+            Integer hours
+    ) { }
+}
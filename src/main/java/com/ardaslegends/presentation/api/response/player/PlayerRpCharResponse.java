@@ -2,6 +2,7 @@ package com.ardaslegends.presentation.api.response.player;
 
 import com.ardaslegends.domain.Player;
 import com.ardaslegends.presentation.api.response.player.rpchar.RpCharResponse;
+import com.ardaslegends.service.time.GameClock;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,8 +22,8 @@ public record PlayerRpCharResponse (
     Boolean isStaff
 ) {
 
-    public PlayerRpCharResponse(Player player) {
-        this(player.getDiscordID(), player.getIgn(), player.getFaction().getName(), (player.getActiveCharacter().isEmpty() ? null : new RpCharResponse(player.getActiveCharacter().get())), player.getIsStaff());
+    public PlayerRpCharResponse(Player player, GameClock gameClock) {
+        this(player.getDiscordID(), player.getIgn(), player.getFaction().getName(), (player.getActiveCharacter().isEmpty() ? null : new RpCharResponse(player.getActiveCharacter().get(), gameClock)), player.getIsStaff());
         log.debug("Created PlayerResponse: '{}'", this);
     }
 }
\ No newline at end of file
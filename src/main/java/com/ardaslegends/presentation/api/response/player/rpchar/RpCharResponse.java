@@ -1,6 +1,7 @@
 package com.ardaslegends.presentation.api.response.player.rpchar;
 
 import com.ardaslegends.domain.RPChar;
+import com.ardaslegends.service.time.GameClock;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,10 +32,11 @@ public record RpCharResponse(
         OffsetDateTime healEnds
 ) {
 
-    public RpCharResponse(RPChar rpChar) {
+    public RpCharResponse(RPChar rpChar, GameClock gameClock) {
         this(rpChar.getName(), rpChar.getTitle(), rpChar.getGear(), rpChar.getPvp(), rpChar.getCurrentRegion().getId(),
                 rpChar.getBoundTo() == null ? null : rpChar.getBoundTo().getName(),
-                rpChar.getInjured(), rpChar.getIsHealing(), rpChar.getStartedHeal(), rpChar.getHealEnds());
+                rpChar.getInjured(), rpChar.getIsHealing(),
+                gameClock.toWallTime(rpChar.getStartedHeal()), gameClock.toWallTime(rpChar.getHealEnds()));
         log.debug("Created RpCharResponse");
     }
 }
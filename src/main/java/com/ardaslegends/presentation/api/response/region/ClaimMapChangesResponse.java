@@ -0,0 +1,18 @@
+package com.ardaslegends.presentation.api.response.region;
+
+import com.ardaslegends.service.claimmap.ClaimMapChanges;
+import com.ardaslegends.service.claimmap.ClaimMapRegion;
+
+public record ClaimMapChangesResponse(
+        long version,
+        boolean isFullReload,
+        ClaimMapRegion[] regions
+) {
+    public ClaimMapChangesResponse(ClaimMapChanges changes) {
+        this(
+                changes.version(),
+                changes.isFullReload(),
+                changes.regions().toArray(ClaimMapRegion[]::new)
+        );
+    }
+}
@@ -0,0 +1,205 @@
+package com.ardaslegends.presentation.discord.commands;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the slash commands off the Javacord listener thread, on virtual threads.
+ * <p>
+ * The commands of one user in one server run one after another in their own lane, so a user cannot race their own commands,
+ * while the commands of different users run concurrently, at most {@link #MAX_RUNNING_COMMANDS} at a time so slow commands
+ * do not exhaust the database connections.
+ * Commands are rejected instead of queued without limit once a user has {@link #MAX_QUEUED_PER_USER} commands waiting
+ * or {@link #MAX_QUEUED_COMMANDS} commands are waiting in total.
+ */
+@Slf4j
+@Component
+public class CommandDispatcher {
+
+    public static final int MAX_RUNNING_COMMANDS = 16;
+    public static final int MAX_QUEUED_COMMANDS = 256;
+    public static final int MAX_QUEUED_PER_USER = 3;
+
+    private final ExecutorService virtualExecutorService;
+    private final int maxQueuedCommands;
+    private final int maxQueuedPerUser;
+    private final Semaphore runningPermits;
+
+    // Lanes are only modified inside ConcurrentHashMap.compute, which locks the lane's key
+    private final Map<LaneKey, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder totalExecutionNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public CommandDispatcher(ExecutorService virtualExecutorService) {
+        this(virtualExecutorService, MAX_RUNNING_COMMANDS, MAX_QUEUED_COMMANDS, MAX_QUEUED_PER_USER);
+    }
+
+    CommandDispatcher(ExecutorService virtualExecutorService, int maxRunningCommands, int maxQueuedCommands, int maxQueuedPerUser) {
+        this.virtualExecutorService = virtualExecutorService;
+        this.maxQueuedCommands = maxQueuedCommands;
+        this.maxQueuedPerUser = maxQueuedPerUser;
+        this.runningPermits = new Semaphore(maxRunningCommands, true);
+    }
+
+    /**
+     * Queues the command in the lane of the user, it runs once the commands the user sent before are done.
+     * @param serverId the server the command was sent in, null for direct messages
+     * @return if the command got queued, otherwise why it got rejected
+     */
+    public Admission dispatch(Long serverId, long userId, String commandName, Runnable command) {
+        LaneKey key = new LaneKey(serverId, userId);
+        log.trace("Dispatching command '/{}' of user [{}] in server [{}]", commandName, userId, serverId);
+
+        if(queued.incrementAndGet() > maxQueuedCommands) {
+            queued.decrementAndGet();
+            rejected.increment();
+            log.warn("Rejecting command '/{}' of user [{}] - [{}] commands are already queued", commandName, userId, maxQueuedCommands);
+            return Admission.BOT_BUSY;
+        }
+
+        QueuedCommand queuedCommand = new QueuedCommand(commandName, command, System.nanoTime());
+        Admission[] admission = new Admission[1];
+        boolean[] startsLane = new boolean[1];
+        lanes.compute(key, (k, lane) -> {
+            if(lane == null)
+                lane = new Lane();
+            if(lane.pending.size() >= maxQueuedPerUser) {
+                admission[0] = Admission.USER_BUSY;
+                return lane;
+            }
+            lane.pending.add(queuedCommand);
+            admission[0] = Admission.ACCEPTED;
+            startsLane[0] = !lane.isDraining;
+            lane.isDraining = true;
+            return lane;
+        });
+
+        if(admission[0] != Admission.ACCEPTED) {
+            queued.decrementAndGet();
+            rejected.increment();
+            log.warn("Rejecting command '/{}' of user [{}] - the user already has [{}] commands queued", commandName, userId, maxQueuedPerUser);
+            return admission[0];
+        }
+
+        if(startsLane[0]) {
+            log.trace("Starting command lane of user [{}] in server [{}]", userId, serverId);
+            virtualExecutorService.submit(() -> drain(key));
+        }
+        return Admission.ACCEPTED;
+    }
+
+    public Stats getStats() {
+        long completedCommands = completed.sum();
+        long failedCommands = failed.sum();
+        long finished = completedCommands + failedCommands;
+        return new Stats(queued.get(), running.get(), completedCommands, failedCommands, rejected.sum(),
+                finished == 0 ? Duration.ZERO : Duration.ofNanos(totalWaitNanos.sum() / finished),
+                finished == 0 ? Duration.ZERO : Duration.ofNanos(totalExecutionNanos.sum() / finished),
+                Duration.ofNanos(maxLatencyNanos.get()));
+    }
+
+    @Scheduled(cron = "0 */15 * ? * *")
+    public void logStats() {
+        Stats stats = getStats();
+        if(stats.completed() + stats.failed() + stats.rejected() == 0)
+            return;
+        log.info("Discord commands - queued: [{}], running: [{}], completed: [{}], failed: [{}], rejected: [{}], avg wait: [{}ms], avg execution: [{}ms], max latency: [{}ms]",
+                stats.queued(), stats.running(), stats.completed(), stats.failed(), stats.rejected(),
+                stats.averageWait().toMillis(), stats.averageExecution().toMillis(), stats.maxLatency().toMillis());
+    }
+
+    /**
+     * Runs the commands of a lane one after another until it is empty, then removes the lane.
+     */
+    private void drain(LaneKey key) {
+        while(true) {
+            QueuedCommand[] next = new QueuedCommand[1];
+            lanes.computeIfPresent(key, (k, lane) -> {
+                next[0] = lane.pending.poll();
+                return next[0] == null ? null : lane;
+            });
+            if(next[0] == null) {
+                log.trace("Command lane of user [{}] in server [{}] is empty", key.userId(), key.serverId());
+                return;
+            }
+            run(next[0]);
+        }
+    }
+
+    private void run(QueuedCommand command) {
+        try {
+            runningPermits.acquire();
+        } catch (InterruptedException e) {
+            log.warn("Interrupted while waiting to run command '/{}'", command.name());
+            queued.decrementAndGet();
+            failed.increment();
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        queued.decrementAndGet();
+        running.incrementAndGet();
+        try {
+            command.command().run();
+            completed.increment();
+        } catch (Exception e) {
+            log.error("Command '/{}' failed", command.name(), e);
+            failed.increment();
+        } finally {
+            long endNanos = System.nanoTime();
+            running.decrementAndGet();
+            runningPermits.release();
+
+            totalWaitNanos.add(startNanos - command.queuedAtNanos());
+            totalExecutionNanos.add(endNanos - startNanos);
+            maxLatencyNanos.accumulateAndGet(endNanos - command.queuedAtNanos(), Math::max);
+            log.debug("Command '/{}' waited [{}ms] and ran [{}ms]", command.name(),
+                    Duration.ofNanos(startNanos - command.queuedAtNanos()).toMillis(), Duration.ofNanos(endNanos - startNanos).toMillis());
+        }
+    }
+
+    public enum Admission {
+        ACCEPTED,
+        USER_BUSY,
+        BOT_BUSY
+    }
+
+    /**
+     * @param queued commands waiting to run, including the ones waiting for a free slot
+     * @param averageWait average time from dispatching to running a command
+     * @param maxLatency longest time from dispatching a command to it being done
+     */
+    public record Stats(int queued, int running, long completed, long failed, long rejected,
+                        Duration averageWait, Duration averageExecution, Duration maxLatency) {
+    }
+
+    private record LaneKey(Long serverId, long userId) {
+    }
+
+    private record QueuedCommand(String name, Runnable command, long queuedAtNanos) {
+    }
+
+    private static final class Lane {
+        private final Queue<QueuedCommand> pending = new ArrayDeque<>();
+        private boolean isDraining;
+    }
+}
@@ -0,0 +1,60 @@
+package com.ardaslegends.presentation.discord.commands;
+
+import org.javacord.api.interaction.SlashCommandInteractionOption;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The options of an interaction, put into the slots of the options its {@link CommandRouter.Route} defines.
+ * Looking up an option by name is a single map lookup on the table compiled at startup, instead of scanning the options.
+ * As a list it still contains the options in the order Discord sent them, for the executors iterating over them.
+ */
+public final class CommandOptions extends AbstractList<SlashCommandInteractionOption> implements RandomAccess {
+
+    private final CommandRouter.Route route;
+    private final List<SlashCommandInteractionOption> options;
+    private final SlashCommandInteractionOption[] slots;
+
+    CommandOptions(CommandRouter.Route route, List<SlashCommandInteractionOption> options) {
+        this.route = route;
+        this.options = options;
+        this.slots = new SlashCommandInteractionOption[route.optionNames().length];
+        for(int i = 0; i < options.size(); i++) {
+            SlashCommandInteractionOption option = options.get(i);
+            Integer index = route.optionIndices().get(option.getName());
+            if(index != null)
+                slots[index] = option;
+        }
+    }
+
+    /**
+     * @return true if the command defines an option with this name, whether the interaction has it or not
+     */
+    public boolean isDefined(String name) {
+        return route.optionIndices().containsKey(name);
+    }
+
+    /**
+     * @return the option with this name, null if the interaction does not have it
+     */
+    public SlashCommandInteractionOption find(String name) {
+        Integer index = route.optionIndices().get(name);
+        return index == null ? null : slots[index];
+    }
+
+    boolean isPresent(int index) {
+        return slots[index] != null;
+    }
+
+    @Override
+    public SlashCommandInteractionOption get(int index) {
+        return options.get(index);
+    }
+
+    @Override
+    public int size() {
+        return options.size();
+    }
+}
@@ -0,0 +1,120 @@
+package com.ardaslegends.presentation.discord.commands;
+
+import com.ardaslegends.presentation.discord.exception.BotException;
+import lombok.extern.slf4j.Slf4j;
+import org.javacord.api.interaction.SlashCommand;
+import org.javacord.api.interaction.SlashCommandInteraction;
+import org.javacord.api.interaction.SlashCommandInteractionOption;
+import org.javacord.api.interaction.SlashCommandOption;
+
+import java.util.*;
+
+/**
+ * Routes slash command interactions to their {@link ALCommandExecutor}, compiled once from the commands registered at Discord.
+ * <p>
+ * The subcommands of every command form a tree, an interaction walks it by the names of its subcommand options instead of
+ * building the full command name. Every leaf knows the options of its command, so the options of an interaction are put
+ * into {@link CommandOptions} slots by index and the required ones are checked once, before the executor runs.
+ */
+@Slf4j
+public final class CommandRouter {
+
+    private final Map<String, Node> commands;
+
+    private CommandRouter(Map<String, Node> commands) {
+        this.commands = commands;
+    }
+
+    /**
+     * @param slashCommands the commands as registered at Discord
+     * @param executions the executors by full command name, e.g. "heal army"
+     */
+    public static CommandRouter compile(Collection<SlashCommand> slashCommands, Map<String, ALCommandExecutor> executions) {
+        log.debug("Compiling routes of [{}] slash commands", slashCommands.size());
+        Map<String, Node> commands = new HashMap<>();
+        Set<String> routedNames = new HashSet<>();
+        for(SlashCommand slashCommand : slashCommands) {
+            commands.put(slashCommand.getName(), compile(slashCommand.getName(), slashCommand.getOptions(), executions, routedNames));
+        }
+
+        executions.keySet().stream()
+                .filter(name -> !routedNames.contains(name))
+                .forEach(name -> log.warn("Executor of command '/{}' has no registered slash command", name));
+        log.info("Compiled [{}] command routes", routedNames.size());
+        return new CommandRouter(Map.copyOf(commands));
+    }
+
+    private static Node compile(String fullName, List<SlashCommandOption> options, Map<String, ALCommandExecutor> executions, Set<String> routedNames) {
+        boolean hasSubcommands = !options.isEmpty() && options.get(0).isSubcommandOrGroup();
+        if(hasSubcommands) {
+            Map<String, Node> children = new HashMap<>();
+            for(SlashCommandOption option : options) {
+                children.put(option.getName(), compile(fullName + " " + option.getName(), option.getOptions(), executions, routedNames));
+            }
+            return new Node(Map.copyOf(children), null);
+        }
+
+        ALCommandExecutor executor = executions.get(fullName);
+        if(executor == null) {
+            log.warn("Slash command '/{}' has no executor", fullName);
+            return new Node(Map.of(), null);
+        }
+
+        Map<String, Integer> optionIndices = new HashMap<>();
+        List<Integer> requiredIndices = new ArrayList<>();
+        for(int i = 0; i < options.size(); i++) {
+            optionIndices.put(options.get(i).getName(), i);
+            if(options.get(i).isRequired())
+                requiredIndices.add(i);
+        }
+        log.trace("Compiled route of '/{}' with options {}", fullName, optionIndices.keySet());
+        routedNames.add(fullName);
+        return new Node(Map.of(), new Route(fullName, executor, Map.copyOf(optionIndices),
+                options.stream().map(SlashCommandOption::getName).toArray(String[]::new),
+                requiredIndices.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * @return the route of the interaction and its options, null if no executor handles the command
+     * @throws BotException if a required option is missing
+     */
+    public RoutedCommand route(SlashCommandInteraction interaction) {
+        Node node = commands.get(interaction.getCommandName());
+        List<SlashCommandInteractionOption> options = interaction.getOptions();
+        while(node != null && node.route() == null && !options.isEmpty() && options.get(0).isSubcommandOrGroup()) {
+            SlashCommandInteractionOption subcommand = options.get(0);
+            node = node.subcommands().get(subcommand.getName());
+            options = subcommand.getOptions();
+        }
+
+        if(node == null || node.route() == null) {
+            log.warn("No route found for command '/{}'", interaction.getFullCommandName());
+            return null;
+        }
+
+        Route route = node.route();
+        CommandOptions commandOptions = new CommandOptions(route, options);
+        for(int index : route.requiredIndices()) {
+            if(!commandOptions.isPresent(index)) {
+                log.warn("Command '/{}' is missing its required option [{}]", route.fullName(), route.optionNames()[index]);
+                throw new BotException("Missing option", new IllegalArgumentException("The option '%s' is required!".formatted(route.optionNames()[index])));
+            }
+        }
+        return new RoutedCommand(route, commandOptions);
+    }
+
+    public record RoutedCommand(Route route, CommandOptions options) {
+    }
+
+    /**
+     * @param optionIndices the index of every option of the command by its name
+     * @param optionNames the names of the options, in the order they are defined in
+     * @param requiredIndices the indices of the required options
+     */
+    public record Route(String fullName, ALCommandExecutor executor, Map<String, Integer> optionIndices,
+                        String[] optionNames, int[] requiredIndices) {
+    }
+
+    private record Node(Map<String, Node> subcommands, Route route) {
+    }
+}
@@ -21,15 +21,22 @@ import com.ardaslegends.presentation.discord.commands.update.UpdateCommand;
 import com.ardaslegends.presentation.discord.config.BotProperties;
 import com.ardaslegends.presentation.discord.exception.BotException;
 import com.ardaslegends.presentation.discord.utils.DiscordUtils;
+import com.ardaslegends.service.dbusage.DatabaseUsageTracker;
+import com.ardaslegends.service.metrics.GameMetrics;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.javacord.api.DiscordApi;
 import org.javacord.api.entity.channel.TextChannel;
 import org.javacord.api.entity.message.embed.EmbedBuilder;
+import org.javacord.api.entity.server.Server;
+import org.javacord.api.interaction.SlashCommand;
 import org.javacord.api.interaction.SlashCommandBuilder;
 import org.javacord.api.interaction.SlashCommandInteraction;
 import org.javacord.api.interaction.SlashCommandInteractionOption;
+import org.javacord.api.interaction.callback.InteractionOriginalResponseUpdater;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -48,14 +55,21 @@ public class Commands implements DiscordUtils {
     private final StockpileCommand stockpile;
     private final DeclareCommand declare;
     private final Map<String, ALCommandExecutor> executions;
+    private final CommandDispatcher dispatcher;
+    private final CommandRouter router;
+    private final DatabaseUsageTracker databaseUsageTracker;
+    private final GameMetrics gameMetrics;
 
     private final BotProperties properties;
-    public Commands(DiscordApi api, BindCommand bind, RegisterCommand register, CreateCommand create, DeleteCommand delete, BotProperties properties,
+    public Commands(DiscordApi api, CommandDispatcher dispatcher, DatabaseUsageTracker databaseUsageTracker, GameMetrics gameMetrics, BindCommand bind, RegisterCommand register, CreateCommand create, DeleteCommand delete, BotProperties properties,
                     UpdateCommand update, MoveCommand move, CancelCommand cancel, InjureCommand injure, HealCommand heal, UnbindCommand unbind,
                     DisbandCommand disband, InfoCommand info, StationCommand station, UnstationCommand unstation, StockpileCommand stockpile,
                     PickSiegeCommand pickSiege, RemoveCommand remove, DeclareCommand declare
     ) {
         this.api = api;
+        this.dispatcher = dispatcher;
+        this.databaseUsageTracker = databaseUsageTracker;
+        this.gameMetrics = gameMetrics;
         this.bind = bind;
         this.register = register;
         this.create = create;
@@ -88,76 +102,116 @@ public class Commands implements DiscordUtils {
         commands.add(remove.init(executions));
         commands.add(declare.init(executions));
 
-        api.bulkOverwriteGlobalApplicationCommands(commands).join();
+        val registeredCommands = api.bulkOverwriteGlobalApplicationCommands(commands).join();
         log.info("Updated [{}] global commands", commands.size());
 
+        // Routes are compiled from the commands as Discord registered them, which is what the interactions refer to
+        router = CommandRouter.compile(registeredCommands.stream()
+                .filter(SlashCommand.class::isInstance)
+                .map(SlashCommand.class::cast)
+                .toList(), executions);
+
         log.debug("Fetching roleplay-commands channel with ID in Property file");
         TextChannel rpCommandsChannel = api.getTextChannelById(properties.getRpCommandsChannel()).orElseThrow();
 
         // Sets up listeners on channels that delete all messages that do not come from the bot or are not slashcommands
         setupListeners(Set.of(rpCommandsChannel));
 
+        // Commands run on the dispatcher, a slow command must not block the listener thread and every command after it
         api.addSlashCommandCreateListener(event -> {
-
             SlashCommandInteraction interaction = event.getSlashCommandInteraction();
-            try {
-
-                var responseUpdater = interaction.respondLater().join();
+            String commandName = interaction.getCommandName();
+
+            // Acknowledges the interaction right away, Discord only waits 3 seconds for that
+            var responseUpdaterFuture = interaction.respondLater();
+
+            Long serverId = interaction.getServer().map(Server::getId).orElse(null);
+            val admission = dispatcher.dispatch(serverId, interaction.getUser().getId(), commandName,
+                    () -> handleCommand(interaction, responseUpdaterFuture.join(), rpCommandsChannel));
+
+            if(admission != CommandDispatcher.Admission.ACCEPTED) {
+                log.debug("Command '/{}' got rejected: [{}]", commandName, admission);
+                gameMetrics.recordCommandRejected(commandName, admission.name().toLowerCase());
+                EmbedBuilder embed = admission == CommandDispatcher.Admission.USER_BUSY
+                        ? createErrorEmbed("Please wait", "Your previous commands are still being handled, please wait for them to finish!")
+                        : createErrorEmbed("The bot is busy", "Too many commands are being handled right now, please try again in a moment!");
+                responseUpdaterFuture.thenAccept(responseUpdater -> responseUpdater.addEmbed(embed).update())
+                        .exceptionally(throwable -> {
+                            log.warn("Could not tell the user that command '/{}' got rejected", commandName, throwable);
+                            return null;
+                        });
+            }
+        });
+    }
 
-                EmbedBuilder embed;
-                ALMessageResponse response = null;
-                try {
-                    String fullname = getFullCommandName(interaction);
-                    log.trace("Full CommandName: [{}]", fullname);
-                    List<SlashCommandInteractionOption> options = getOptions(interaction);
+    private void handleCommand(SlashCommandInteraction interaction, InteractionOriginalResponseUpdater responseUpdater, TextChannel rpCommandsChannel) {
+        try {
+            EmbedBuilder embed;
+            ALMessageResponse response = null;
+            long startedAt = System.nanoTime();
+            String commandName = "unknown";
+            GameMetrics.CommandOutcome outcome = GameMetrics.CommandOutcome.SUCCESS;
+            Exception failure = null;
+            try {
+                val routedCommand = router.route(interaction);
+                if(routedCommand == null) {
+                    throw new BotException("Unknown command", new IllegalArgumentException("The command '/%s' does not exist!".formatted(interaction.getFullCommandName())));
+                }
+                String fullname = routedCommand.route().fullName();
+                commandName = fullname;
+                List<SlashCommandInteractionOption> options = routedCommand.options();
 
+                if(log.isTraceEnabled()) {
                     log.trace("List of available options: {}", options.stream()
                             .map(interactionOption -> interactionOption.getName())
                             .collect(Collectors.joining(", ")));
+                }
 
-                    log.info("Incoming '/{}' command", fullname);
-                    log.trace("Calling command execution function");
-                    response = executions.get(fullname).execute(interaction, options, properties);
-
-                    if(response == null) {
-                        responseUpdater.delete();
-                        return;
-                    }
-
-                    if (response.hasMessage()) {
-                        responseUpdater.delete();
-
-                        response.message()
-                                // TODO Change to war channel
-                                .send(rpCommandsChannel);
-                    }
-                    else {
-                        responseUpdater.addEmbed(response.embed()).update().join();
-                    }
-
-                    log.info("Finished handling '/{}' command", fullname);
-                } catch (BotException exception) {
-                    log.warn("Encountered ServiceException while executing, msg: {}", exception.getMessage());
-                    embed = createErrorEmbed(exception.getTitle(), exception.getMessage());
-                    responseUpdater.addEmbed(embed).update().join();
-                } catch (Exception exception) {
-                    log.error("ENCOUNTERED UNEXPECTED ERROR OF TYPE {} - MSG: {}", exception.getClass(), exception.getMessage());
-                    exception.printStackTrace();
-                    String message = exception.getMessage() + "\nPlease contact the devs!";
-                    embed = createErrorEmbed("An unexpected error occured", message);
-                    responseUpdater.addEmbed(embed).update().join();
+                log.info("Incoming '/{}' command", fullname);
+                log.trace("Calling command execution function");
+                try (val scope = databaseUsageTracker.begin(DatabaseUsageTracker.KIND_COMMAND, fullname)) {
+                    response = routedCommand.route().executor().execute(interaction, options, properties);
                 }
 
+                if(response == null) {
+                    responseUpdater.delete();
+                    return;
+                }
 
+                if (response.hasMessage()) {
+                    responseUpdater.delete();
 
-                log.debug("Updating response to new embed");
-                // The join() is important so that the exceptions go into the catch blocks
-            } catch (Exception e) {
-                // TODO: Create Error Report of Stacktrace and stuff, until then we're throwing this again
-                // TODO: This does not
-                e.printStackTrace();
+                    response.message()
+                            // TODO Change to war channel
+                            .send(rpCommandsChannel);
+                }
+                else {
+                    log.debug("Updating response to new embed");
+                    // The join() is important so that the exceptions go into the catch blocks
+                    responseUpdater.addEmbed(response.embed()).update().join();
+                }
+
+                log.info("Finished handling '/{}' command", fullname);
+            } catch (BotException exception) {
+                outcome = GameMetrics.CommandOutcome.FAILED;
+                failure = exception;
+                log.warn("Encountered ServiceException while executing, msg: {}", exception.getMessage());
+                embed = createErrorEmbed(exception.getTitle(), exception.getMessage());
+                responseUpdater.addEmbed(embed).update().join();
+            } catch (Exception exception) {
+                outcome = GameMetrics.CommandOutcome.ERROR;
+                failure = exception;
+                log.error("Encountered unexpected error while executing '/{}'", commandName, exception);
+                String message = exception.getMessage() + "\nPlease contact the devs!";
+                embed = createErrorEmbed("An unexpected error occured", message);
+                responseUpdater.addEmbed(embed).update().join();
+            } finally {
+                gameMetrics.recordCommand(commandName, Duration.ofNanos(System.nanoTime() - startedAt), outcome, failure);
             }
-        });
+        } catch (Exception e) {
+            // Reached when even the error response could not be sent
+            log.error("Failed to respond to command '/{}'", interaction.getFullCommandName(), e);
+        }
     }
 
 
@@ -25,7 +25,6 @@ public class UpdateCommand implements ALCommand {
     private final PlayerService playerService;
     private final ClaimBuildService claimBuildService;
     private final ArmyService armyService;
-    private final RegionService regionService;
     private final FactionService factionService;
 
     @Override
@@ -387,11 +386,6 @@ public class UpdateCommand implements ALCommand {
                                         ))
                                         .build()
                         ))
-                        .build(),
-                new SlashCommandOptionBuilder()
-                        .setType(SlashCommandOptionType.SUB_COMMAND)
-                        .setName("claimmap")
-                        .setDescription("Staff Commmand - Resets the hasOwnershipChanged to false for all regions")
                         .build()
         ));
 
@@ -412,8 +406,6 @@ public class UpdateCommand implements ALCommand {
 
         commands.put("update faction leader", new UpdateFactionLeaderCommand(factionService));
         commands.put("update faction role", new UpdateFactionRoleCommand(factionService));
-
-        commands.put("update claimmap", new UpdateClaimmapCommand(regionService));
         log.info("Finished initializing /update command");
         return command;
     }
@@ -1,6 +1,7 @@
 package com.ardaslegends.presentation.discord.utils;
 
 import com.ardaslegends.domain.*;
+import com.ardaslegends.presentation.discord.commands.CommandOptions;
 import com.ardaslegends.presentation.discord.exception.BotException;
 import com.ardaslegends.presentation.exceptions.InternalServerException;
 import com.ardaslegends.service.exceptions.ServiceException;
@@ -72,9 +73,7 @@ public interface DiscordUtils {
         Objects.requireNonNull(name, "GetOption: Name must not be null");
         Objects.requireNonNull(options, "GetOption: Option List must not be null");
 
-        var foundOption = options.stream()
-                .filter(interactionOption -> interactionOption.getName().equals(name))
-                .findFirst();
+        var foundOption = getOptionalOption(name, options);
 
         if (foundOption.isEmpty()) {
             log.warn("GetOption: No option with name [{}] found", name);
@@ -88,6 +87,13 @@ public interface DiscordUtils {
         Objects.requireNonNull(name, "GetOptionalOption: Name must not be null");
         Objects.requireNonNull(options, "GetOptionalOption: Option List must not be null");
 
+        // Routed commands look their options up in the table compiled at startup
+        if (options instanceof CommandOptions commandOptions) {
+            if (!commandOptions.isDefined(name))
+                log.warn("GetOptionalOption: Command does not define an option with name [{}]", name);
+            return Optional.ofNullable(commandOptions.find(name));
+        }
+
         var foundOption = options.stream()
                 .filter(interactionOption -> interactionOption.getName().equals(name))
                 .findFirst();
@@ -2,7 +2,11 @@ package com.ardaslegends.repository;
 
 import com.ardaslegends.domain.Army;
 import com.ardaslegends.domain.ArmyType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +19,17 @@ public interface ArmyRepository extends JpaRepository<Army, Long> {
     public List<Army> findAllByArmyType(ArmyType armyType);
     public List<Army> findArmyByIsHealingTrue();
 
+    @Query("select a.id from Army a where a.isHealing = true order by a.id")
+    public List<Long> findIdsOfHealingArmies();
+
+    public long countByIsHealingTrue();
+
+    /**
+     * Joins the to-one associations the ArmyResponse reads, the units and sieges are loaded in batches per page.
+     * The bound character is the inverse side of a one-to-one and would otherwise be selected once per army.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"faction", "currentRegion", "boundTo", "stationedAt", "originalClaimbuild"})
+    Page<Army> findAll(Pageable pageable);
+
 }
@@ -0,0 +1,38 @@
+package com.ardaslegends.repository;
+
+import com.ardaslegends.domain.DiscordOutboxMessage;
+import com.ardaslegends.domain.DiscordOutboxMessageType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DiscordOutboxRepository extends JpaRepository<DiscordOutboxMessage, Long> {
+
+    public List<DiscordOutboxMessage> findTop100BySentAtIsNullAndNextAttemptAtLessThanEqualOrderById(OffsetDateTime now);
+
+    public Optional<DiscordOutboxMessage> findFirstBySentAtIsNullOrderByNextAttemptAt();
+
+    public List<DiscordOutboxMessage> findBySentAtIsNullAndAttemptsGreaterThanAndNextAttemptAtGreaterThan(Integer attempts, OffsetDateTime now);
+
+    /**
+     * Moves the pending messages of the entity that were created after createdAfter to nextAttemptAt
+     */
+    @Modifying
+    @Query("update DiscordOutboxMessage m set m.nextAttemptAt = ?3 where m.type = ?1 and m.referenceId = ?2 and m.sentAt is null and m.attempts = 0 and m.createdAt > ?4")
+    public int postponePending(DiscordOutboxMessageType type, Long referenceId, OffsetDateTime nextAttemptAt, OffsetDateTime createdAfter);
+
+    @Modifying
+    @Query("update DiscordOutboxMessage m set m.sentAt = ?2 where m.id in ?1 and m.sentAt is null")
+    public int markSent(Collection<Long> ids, OffsetDateTime sentAt);
+
+    @Modifying
+    @Query("update DiscordOutboxMessage m set m.attempts = m.attempts + 1, m.nextAttemptAt = ?2, m.lastError = ?3 where m.id in ?1 and m.sentAt is null")
+    public int markFailed(Collection<Long> ids, OffsetDateTime nextAttemptAt, String lastError);
+}
@@ -5,6 +5,7 @@ import com.ardaslegends.domain.Movement;
 import com.ardaslegends.domain.Player;
 import com.ardaslegends.domain.RPChar;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,4 +20,9 @@ public interface MovementRepository extends JpaRepository<Movement, Long> {
     public Optional<Movement> findMovementByArmyAndIsCurrentlyActiveTrue(Army army);
     public Optional<Movement> findMovementByRpCharAndIsCurrentlyActiveTrue(RPChar rpChar);
     public List<Movement> findMovementsByIsCurrentlyActive(Boolean isActive);
+
+    @Query("select m.id from Movement m where m.isCurrentlyActive = true order by m.id")
+    public List<Long> findIdsOfActiveMovements();
+
+    public long countByIsCurrentlyActiveTrue();
 }
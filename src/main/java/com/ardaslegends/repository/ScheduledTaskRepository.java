@@ -0,0 +1,24 @@
+package com.ardaslegends.repository;
+
+import com.ardaslegends.domain.ScheduledTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface ScheduledTaskRepository extends JpaRepository<ScheduledTask, Long> {
+
+    public List<ScheduledTask> findByCompletedAtIsNullAndDueAtBeforeOrderByDueAt(OffsetDateTime dueBefore);
+
+    /**
+     * Marks the task as completed if no one else did so yet, this is how a node claims a task.
+     * @return 1 if the task got claimed, 0 if it was already completed
+     */
+    @Modifying
+    @Query("update ScheduledTask t set t.completedAt = ?2 where t.id = ?1 and t.completedAt is null")
+    public int markCompleted(Long id, OffsetDateTime completedAt);
+}
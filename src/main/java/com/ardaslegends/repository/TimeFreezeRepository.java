@@ -0,0 +1,16 @@
+package com.ardaslegends.repository;
+
+import com.ardaslegends.domain.TimeFreeze;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TimeFreezeRepository extends JpaRepository<TimeFreeze, Long> {
+
+    public List<TimeFreeze> findAllByOrderByFrozenAt();
+
+    public Optional<TimeFreeze> findFirstByUnfrozenAtIsNullOrderByFrozenAtDesc();
+}
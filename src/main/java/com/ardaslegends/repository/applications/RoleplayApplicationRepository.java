@@ -18,4 +18,6 @@ public interface RoleplayApplicationRepository extends JpaRepository<RoleplayApp
 
     @Query("select r from RoleplayApplication r where r.state = ?1")
     public Set<RoleplayApplication> findByState(ApplicationState state);
+
+    long countByState(ApplicationState state);
 }
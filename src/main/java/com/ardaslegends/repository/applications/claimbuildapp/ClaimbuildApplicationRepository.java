@@ -17,4 +17,6 @@ public interface ClaimbuildApplicationRepository extends JpaRepository<Claimbuil
 
     Slice<ClaimbuildApplication> findByState(ApplicationState state, Pageable pageable);
 
+    long countByState(ApplicationState state);
+
 }
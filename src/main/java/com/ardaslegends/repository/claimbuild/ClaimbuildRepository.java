@@ -1,6 +1,9 @@
 package com.ardaslegends.repository.claimbuild;
 
 import com.ardaslegends.domain.ClaimBuild;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +13,11 @@ import java.util.Optional;
 public interface ClaimbuildRepository extends JpaRepository<ClaimBuild, Long>, ClaimbuildRepositoryCustom {
 
     Optional<ClaimBuild> findClaimBuildByName(String name);
+
+    /**
+     * Joins the region and owner the ClaimbuildResponse reads, the collections are loaded in batches per page.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"region", "ownedBy"})
+    Page<ClaimBuild> findAll(Pageable pageable);
 }
@@ -1,6 +1,9 @@
 package com.ardaslegends.repository.faction;
 
 import com.ardaslegends.domain.Faction;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +13,11 @@ import java.util.Optional;
 public interface FactionRepository extends JpaRepository<Faction, Long>, FactionRepositoryCustom {
     Optional<Faction> findFactionByName(String name);
     Optional<Faction> findFactionByFactionRoleId(Long factionRoleId);
+
+    /**
+     * Joins the leader and home region the PaginatedFactionResponse reads, the counted collections are loaded in batches per page.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"leader", "homeRegion"})
+    Page<Faction> findAll(Pageable pageable);
 }
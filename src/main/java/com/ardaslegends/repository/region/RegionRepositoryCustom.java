@@ -9,6 +9,10 @@ import java.util.Set;
 public interface RegionRepositoryCustom {
 
     List<Region> queryAll();
+    /**
+     * Like {@link #queryAll()}, but also loads the collections the detailed region responses read
+     */
+    List<Region> queryAllDetailed();
     Region queryById(String id);
     Optional<Region> queryByIdOptional(String id);
 
@@ -34,6 +34,23 @@ public class RegionRepositoryImpl extends QuerydslRepositorySupport implements R
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Region> queryAllDetailed() {
+        log.debug("Querying all Regions with their claims, claimbuilds, neighbours and characters");
+        QRegion qRegion = QRegion.region;
+
+        val regions = queryAll();
+        // One query per collection fills it for every region in the persistence context,
+        // fetch joining all of them in one query would multiply their rows
+        from(qRegion).leftJoin(qRegion.claimedBy).fetchJoin().fetch();
+        from(qRegion).leftJoin(qRegion.claimBuilds).fetchJoin().fetch();
+        from(qRegion).leftJoin(qRegion.neighboringRegions).fetchJoin().fetch();
+        from(qRegion).leftJoin(qRegion.charsInRegion).fetchJoin().fetch();
+
+        log.debug("Queried [{}] regions with their collections", regions.size());
+        return regions;
+    }
+
     @Override
     public Region queryById(String id) {
         val fetchedRegion = queryByIdOptional(id);
@@ -2,11 +2,16 @@ package com.ardaslegends.repository.rpchar;
 
 import com.ardaslegends.domain.RPChar;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RpcharRepository extends JpaRepository<RPChar, Long>, RpcharRepositoryCustom {
     Optional<RPChar> findRpcharByName(String name);
+
+    @Query("select r.id from RPChar r where r.isHealing = true and r.active = true order by r.id")
+    List<Long> findIdsOfHealingRpChars();
 }
@@ -1,14 +1,10 @@
 package com.ardaslegends.service;
 
 import com.ardaslegends.domain.AbstractDomainObject;
-import com.ardaslegends.presentation.discord.config.BotProperties;
-import com.ardaslegends.presentation.discord.utils.ALColor;
+import com.ardaslegends.service.errors.ErrorReporter;
 import com.ardaslegends.service.exceptions.ServiceException;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import lombok.val;
-import org.javacord.api.entity.channel.TextChannel;
-import org.javacord.api.entity.message.embed.EmbedBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -24,7 +20,7 @@ import java.util.function.Supplier;
 
 @Slf4j
 public abstract class AbstractService<T extends AbstractDomainObject, R extends JpaRepository<T, ?>>{
-    private TextChannel errorChannel;
+    private ErrorReporter errorReporter;
 
     @Getter
     private ExecutorService executorService;
@@ -45,7 +41,7 @@ public abstract class AbstractService<T extends AbstractDomainObject, R extends
             return func.apply(identifier);
         } catch (Exception pEx) {
             log.warn("Encountered Database Error while searching for entity, parameter [{}]", identifier);
-            recordMessageInErrorChannel(pEx);
+            reportError(pEx);
             throw ServiceException.secureFindFailed(identifier, pEx);
         }
     }
@@ -59,7 +55,7 @@ public abstract class AbstractService<T extends AbstractDomainObject, R extends
             return func.get();
         } catch (Exception pEx) {
             log.warn("Encountered Database Error while searching for entity, parameter [{}]", func);
-            recordMessageInErrorChannel(pEx);
+            reportError(pEx);
             throw ServiceException.secureFindFailed(func, pEx);
         }
     }
@@ -73,7 +69,7 @@ public abstract class AbstractService<T extends AbstractDomainObject, R extends
             return func.apply(identifier, other);
         } catch (Exception pEx) {
             log.warn("Encountered Database Error while searching for entity, parameter [{}]", identifier);
-            recordMessageInErrorChannel(pEx);
+            reportError(pEx);
             throw ServiceException.secureFindFailed(identifier, pEx);
         }
     }
@@ -83,7 +79,7 @@ public abstract class AbstractService<T extends AbstractDomainObject, R extends
             return repository.save(entity);
        } catch (Exception pEx) {
             log.warn("Encountered Database Error while saving entity [{}]", entity);
-            recordMessageInErrorChannel(pEx);
+            reportError(pEx);
             throw ServiceException.cannotSaveEntity(entity, pEx);
        }
     }
@@ -93,7 +89,7 @@ public abstract class AbstractService<T extends AbstractDomainObject, R extends
             return repository.saveAll(entities);
         } catch (Exception pEx) {
             log.warn("Encountered Database Error while saving entity [{}]", entities);
-            recordMessageInErrorChannel(pEx);
+            reportError(pEx);
             throw ServiceException.cannotSaveEntity(entities, pEx);
         }
     }
@@ -103,7 +99,7 @@ public abstract class AbstractService<T extends AbstractDomainObject, R extends
             repository.delete(entity);
         } catch (Exception pEx) {
             log.warn("Encountered Database Error while deleting entity[{}]", entity);
-            recordMessageInErrorChannel(pEx);
+            reportError(pEx);
             throw ServiceException.cannotSaveEntity(entity, pEx);
         }
     }
@@ -114,24 +110,18 @@ public abstract class AbstractService<T extends AbstractDomainObject, R extends
             return completableFuture.join();
         } catch (Exception ex) {
             log.warn("Unexpected exception in join [{}]", ex.getMessage());
-            recordMessageInErrorChannel(ex);
+            reportError(ex);
             throw ServiceException.joinException(ex);
         }
     }
 
-    protected void recordMessageInErrorChannel(Throwable throwable) {
-        val embed = new EmbedBuilder()
-                .setTitle(throwable.getClass().getSimpleName())
-                .setDescription(throwable.getMessage())
-                .setTimestampToNow()
-                .setColor(ALColor.RED);
-
-        errorChannel.sendMessage(embed);
+    protected void reportError(Throwable throwable) {
+        errorReporter.report(throwable);
     }
 
     @Autowired
-    public final void setErrorChannel(BotProperties properties) {
-        this.errorChannel = properties.getErrorChannel();
+    public final void setErrorReporter(ErrorReporter errorReporter) {
+        this.errorReporter = errorReporter;
     }
 
     @Autowired
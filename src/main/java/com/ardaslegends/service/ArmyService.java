@@ -11,10 +11,14 @@ import com.ardaslegends.service.exceptions.logic.faction.FactionServiceException
 import com.ardaslegends.service.exceptions.logic.player.PlayerServiceException;
 import com.ardaslegends.service.exceptions.logic.army.ArmyServiceException;
 import com.ardaslegends.service.exceptions.logic.claimbuild.ClaimBuildServiceException;
+import com.ardaslegends.service.healing.ArmyHealingCalculator;
+import com.ardaslegends.service.time.GameClock;
+import com.ardaslegends.service.time.HealingChangedEvent;
 import com.ardaslegends.service.utils.ServiceUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -24,6 +28,8 @@ import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static java.time.temporal.ChronoUnit.HOURS;
+
 @RequiredArgsConstructor
 @Slf4j
 @Service
@@ -35,6 +41,8 @@ public class ArmyService extends AbstractService<Army, ArmyRepository> {
     private final FactionRepository factionRepository;
     private final UnitTypeService unitTypeService;
     private final ClaimbuildRepository claimBuildRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GameClock gameClock;
 
     public Page<Army> getArmiesPaginated(Pageable pageable) {
         log.info("Getting page of armies with data [size:{},page:{}]", pageable.getPageSize(), pageable.getPageNumber());
@@ -200,7 +208,8 @@ public class ArmyService extends AbstractService<Army, ArmyRepository> {
         int hoursHeal = army.getAmountOfHealHours();
         log.debug("Army needs to heal for [{}] hours", hoursHeal);
 
-        OffsetDateTime now = OffsetDateTime.now();
+        // Healing runs on game time, so it stands still while time is frozen
+        OffsetDateTime now = OffsetDateTime.now(gameClock);
 
         army.setIsHealing(true);
         army.setHealStart(now);
@@ -208,6 +217,7 @@ public class ArmyService extends AbstractService<Army, ArmyRepository> {
         army.setHoursHealed(0);
         army.setHoursLeftHealing(hoursHeal);
         army = secureSave(army, armyRepository);
+        eventPublisher.publishEvent(HealingChangedEvent.of(army));
 
         log.info("Army [{}] is now healing", army.toString());
         return army;
@@ -240,6 +250,7 @@ public class ArmyService extends AbstractService<Army, ArmyRepository> {
 
         army.resetHealingStats();
         army = secureSave(army, armyRepository);
+        eventPublisher.publishEvent(HealingChangedEvent.of(army));
 
         log.info("Army [{}] now stopped healing", army.toString());
         return army;
@@ -779,6 +790,46 @@ public class ArmyService extends AbstractService<Army, ArmyRepository> {
         log.info("Successfully returning list of 10 oldest armies or companies [{}]", armies);
         return armies;
     }
+    /**
+     * Projects when a healing army will have all its units alive, based on the replenish cycles it still needs.
+     * Healing always completes at healEnd at the latest.
+     */
+    public HealingProjectionDto getHealingProjection(String armyName) {
+        log.debug("Projecting healing completion of army [{}]", armyName);
+        Army army = getArmyByName(armyName);
+
+        log.debug("Checking if army is healing");
+        if(!army.getIsHealing()) {
+            log.warn("Army [{}] is not healing, cannot project its healing", army.getName());
+            throw ArmyServiceException.armyIsNotHealing(army.getArmyType(), army.getName());
+        }
+
+        OffsetDateTime now = OffsetDateTime.now(gameClock);
+        OffsetDateTime healEnd = army.getHealEnd();
+        int hoursPerCycle = ArmyHealingCalculator.hoursPerCycle(army.getStationedAt().getType());
+
+        // Same hour counting as the scheduler, which only updates hoursHealed when a replenish cycle completes
+        int hoursLeft = now.isAfter(healEnd) ? 0 : (int) HOURS.between(now, healEnd) + 1;
+        int hoursHealed = army.getHoursHealed() + army.getHoursLeftHealing() - hoursLeft;
+        int cyclesApplied = army.getHoursHealed() / hoursPerCycle;
+        log.trace("Army has healed [{}] hours, [{}] replenish cycles were applied", hoursHealed, cyclesApplied);
+
+        int cyclesUntilHealed = ArmyHealingCalculator.cyclesUntilHealed(army.getUnits());
+        log.debug("Army needs [{}] more replenish cycles", cyclesUntilHealed);
+
+        OffsetDateTime projectedCompletion = healEnd;
+        if(cyclesUntilHealed >= 0) {
+            long hoursUntilHealed = Math.max(0, (long) (cyclesApplied + cyclesUntilHealed) * hoursPerCycle - hoursHealed);
+            OffsetDateTime completion = now.plusHours(hoursUntilHealed);
+            if(completion.isBefore(healEnd))
+                projectedCompletion = completion;
+        }
+
+        log.info("Army [{}] is projected to be fully healed at game time [{}]", army.getName(), projectedCompletion);
+        return new HealingProjectionDto(army.getName(), hoursPerCycle, cyclesUntilHealed,
+                gameClock.toWallTime(projectedCompletion), gameClock.toWallTime(healEnd));
+    }
+
     public Army getArmyByName(String armyName) {
         log.debug("Getting army by name [{}]", armyName);
         log.trace("Checking for null");
@@ -9,10 +9,13 @@ import com.ardaslegends.service.dto.claimbuilds.DeleteClaimbuildDto;
 import com.ardaslegends.service.dto.claimbuilds.UpdateClaimbuildOwnerDto;
 import com.ardaslegends.service.exceptions.ServiceException;
 import com.ardaslegends.service.exceptions.logic.claimbuild.ClaimBuildServiceException;
+import com.ardaslegends.service.live.ClaimbuildOwnerChangedLiveEvent;
+import com.ardaslegends.service.pathfinding.RegionChangedEvent;
 import com.ardaslegends.service.utils.ServiceUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -35,6 +38,8 @@ public class ClaimBuildService extends AbstractService<ClaimBuild, ClaimbuildRep
     private final FactionService factionService;
     private final PlayerService playerService;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     public Page<ClaimBuild> getClaimbuildsPaginated(Pageable pageable) {
         return secureFind(pageable, claimbuildRepository::findAll);
     }
@@ -60,10 +65,13 @@ public class ClaimBuildService extends AbstractService<ClaimBuild, ClaimbuildRep
         log.debug("Trying to set owner of claimbuild [{}] to faction [{}]", claimBuild, newOwner);
 
         log.trace("Setting ownedBy");
+        Faction previousOwner = claimBuild.getOwnedBy();
         claimBuild.setOwnedBy(newOwner);
 
         log.debug("Persisting claimbuild [{}], with owning faction [{}]", claimBuild.getName(), claimBuild.getOwnedBy());
         claimBuild = secureSave(claimBuild, claimbuildRepository);
+        eventPublisher.publishEvent(RegionChangedEvent.of(claimBuild.getRegion()));
+        eventPublisher.publishEvent(ClaimbuildOwnerChangedLiveEvent.of(claimBuild, previousOwner));
 
         log.info("Successfully set ownership of claimbuild [{}] to faction [{}]", claimBuild.getName(), claimBuild.getOwnedBy());
         return claimBuild;
@@ -143,6 +151,7 @@ public class ClaimBuildService extends AbstractService<ClaimBuild, ClaimbuildRep
         log.debug("Creating the claimbuild instance so we can instantiate production sites and special buildings");
         //production sites will be set later on because they need the claimbuild instance when getting created
         ClaimBuild claimBuild = null;
+        Region previousRegion = null;
         if(isNewlyCreated) {
 
             if(!region.isClaimable(faction)) {
@@ -160,6 +169,7 @@ public class ClaimBuildService extends AbstractService<ClaimBuild, ClaimbuildRep
         }
         else {
             claimBuild = existingClaimbuild.get();
+            previousRegion = claimBuild.getRegion();
             claimBuild.setRegion(region);
             claimBuild.setType(type);
             claimBuild.setOwnedBy(faction);
@@ -187,6 +197,13 @@ public class ClaimBuildService extends AbstractService<ClaimBuild, ClaimbuildRep
         log.debug("Persisting the {} Claimbuild", logStr);
         claimBuild = secureSave(claimBuild, claimbuildRepository);
 
+        log.trace("Publishing region change of region [{}]", region.getId());
+        eventPublisher.publishEvent(RegionChangedEvent.of(region, claimBuild));
+        if(previousRegion != null && !previousRegion.getId().equals(region.getId())) {
+            log.trace("Claimbuild moved from region [{}], publishing its change as well", previousRegion.getId());
+            eventPublisher.publishEvent(RegionChangedEvent.of(previousRegion));
+        }
+
         logStr = isNewlyCreated ? "created new" : "updated";
         log.info("Successfully {} [{}] claimbuild [{}] for faction [{}] in region [{}]",logStr, type, claimBuild.getName(), faction, region.getId());
         return claimBuild;
@@ -211,6 +228,7 @@ public class ClaimBuildService extends AbstractService<ClaimBuild, ClaimbuildRep
         factionService.save(ownedby);
 
         secureDelete(claimBuild, claimbuildRepository);
+        eventPublisher.publishEvent(RegionChangedEvent.of(region));
         var stationedArmies = claimBuild.getStationedArmies().size();
         var createdArmies = claimBuild.getCreatedArmies().size();
         log.trace("Stationed Armies [{}]", stationedArmies);
@@ -12,11 +12,15 @@ import com.ardaslegends.service.exceptions.logic.player.PlayerServiceException;
 import com.ardaslegends.service.exceptions.ServiceException;
 import com.ardaslegends.service.exceptions.logic.army.ArmyServiceException;
 import com.ardaslegends.service.exceptions.logic.movement.MovementServiceException;
+import com.ardaslegends.service.pathfinding.RouteTable;
+import com.ardaslegends.service.time.GameClock;
+import com.ardaslegends.service.time.MovementChangedEvent;
 import com.ardaslegends.service.utils.ServiceUtils;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -41,6 +46,9 @@ public class MovementService extends AbstractService<Movement, MovementRepositor
     private final PlayerService playerService;
     private final Pathfinder pathfinder;
     private final RpCharService rpCharService;
+    private final FactionService factionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GameClock gameClock;
 
     // TODO: Check if time is frozen -> if yes, cancel request
     // TODO: Check if army is in a battle -> if yes, cancel request
@@ -53,6 +61,7 @@ public class MovementService extends AbstractService<Movement, MovementRepositor
 
         log.debug("Saving Movement to database");
         secureSave(movement, movementRepository);
+        eventPublisher.publishEvent(MovementChangedEvent.of(movement));
 
         log.info("Successfully saved movement [{}]", movement);
         return movement;
@@ -113,7 +122,8 @@ public class MovementService extends AbstractService<Movement, MovementRepositor
         log.debug("Removing movement cost from faction stockpile");
         army.getFaction().subtractFoodFromStockpile(ServiceUtils.getFoodCost(path));
 
-        var currentTime = OffsetDateTime.now();
+        // Movements run on game time, so they stand still while time is frozen
+        var currentTime = OffsetDateTime.now(gameClock);
         log.debug("Creating movement object");
         int hoursUntilDone = ServiceUtils.getTotalPathCost(path);  //Gets a sum of all the
         val reachesNextRegionAt = currentTime.plusHours(path.get(1).getActualCost());
@@ -122,6 +132,41 @@ public class MovementService extends AbstractService<Movement, MovementRepositor
         return movement;
     }
 
+    /**
+     * Calculates every region that can be reached from the region within the given hours.
+     * @param factionName if present the reach of an army of this faction is calculated, otherwise the reach of a character
+     */
+    public RouteTable calculateReachableRegions(String fromRegionId, Integer maxHours, String factionName) {
+        log.debug("Calculating regions reachable from [{}] within [{}] hours for faction [{}]", fromRegionId, maxHours, factionName);
+
+        Objects.requireNonNull(fromRegionId, "From region must not be null");
+        Objects.requireNonNull(maxHours, "Max hours must not be null");
+        ServiceUtils.checkBlankString(fromRegionId, "from");
+
+        if(maxHours < 0) {
+            log.warn("Cannot calculate reachable regions for negative max hours [{}]", maxHours);
+            throw MovementServiceException.negativeMaxHours(maxHours);
+        }
+
+        log.trace("Fetching region entity");
+        Region fromRegion = secureFind(fromRegionId, regionRepository::findById)
+                .orElseThrow(() -> {
+                    log.warn("Region [{}] does not exist in the database", fromRegionId);
+                    return ServiceException.regionDoesNotExist(fromRegionId);
+                });
+
+        boolean isCharacterMove = factionName == null || factionName.isBlank();
+        Faction faction = null;
+        if(!isCharacterMove) {
+            log.trace("Fetching faction [{}]", factionName);
+            faction = factionService.getFactionByName(factionName);
+        }
+
+        val routeTable = pathfinder.getRouteTable(fromRegion, faction, isCharacterMove);
+        log.info("Calculated route table from region [{}] for [{}]", fromRegionId, isCharacterMove ? "characters" : faction);
+        return routeTable;
+    }
+
     @Transactional(readOnly = false)
     public Movement cancelArmyMovement(MoveArmyDto dto) {
         log.debug("Trying to cancel movement of army [{}] (executed by player [{}])", dto.armyName(), dto.executorDiscordId());
@@ -151,6 +196,7 @@ public class MovementService extends AbstractService<Movement, MovementRepositor
 
         log.debug("Persisting the movement");
         movementRepository.save(movement);
+        eventPublisher.publishEvent(MovementChangedEvent.of(movement));
 
         log.info("Cancelled movement of army [{}] - Start: [{}] ([{}]) - End: [{}] ([{}])", army, movement.getStartRegionId(), movement.getStartTime(), movement.getDestinationRegionId(), movement.getEndTime());
         return movement;
@@ -164,6 +210,7 @@ public class MovementService extends AbstractService<Movement, MovementRepositor
 
         log.trace("Saving the new movement");
         movement = secureSave(movement, movementRepository);
+        eventPublisher.publishEvent(MovementChangedEvent.of(movement));
 
         log.info("Successfully created new Movement for the RPChar '{}'", movement.getRpChar().getName());
         return movement;
@@ -233,8 +280,8 @@ public class MovementService extends AbstractService<Movement, MovementRepositor
         log.debug("Calling the pathfinder to find the fastest way from '{}' -> '{}'", fromRegion.getId(), toRegion.getId());
         List<PathElement> path = pathfinder.findShortestWay(fromRegion, toRegion, player, true);
 
-        log.trace("Getting the current time");
-        OffsetDateTime currentTime = OffsetDateTime.now();
+        log.trace("Getting the current game time");
+        OffsetDateTime currentTime = OffsetDateTime.now(gameClock);
 
         log.trace("Building the movement object");
         int hoursUntilDone = ServiceUtils.getTotalPathCost(path);
@@ -274,6 +321,7 @@ public class MovementService extends AbstractService<Movement, MovementRepositor
 
         log.debug("Persisting movement");
         movement = secureSave(movement, movementRepository);
+        eventPublisher.publishEvent(MovementChangedEvent.of(movement));
 
         return movement;
     }
@@ -1,18 +1,31 @@
 package com.ardaslegends.service;
 
 import com.ardaslegends.domain.*;
-import com.ardaslegends.domain.war.War;
+import com.ardaslegends.domain.war.WarParticipant;
 import com.ardaslegends.repository.region.RegionRepository;
 import com.ardaslegends.service.exceptions.logic.movement.PathfinderServiceException;
 import com.ardaslegends.service.exceptions.ServiceException;
+import com.ardaslegends.service.metrics.GameMetrics;
+import com.ardaslegends.service.pathfinding.MovementRules;
+import com.ardaslegends.service.pathfinding.PassableRegions;
+import com.ardaslegends.service.pathfinding.RegionGraph;
+import com.ardaslegends.service.pathfinding.RouteSearch;
+import com.ardaslegends.service.pathfinding.RouteTable;
+import com.ardaslegends.service.pathfinding.WorldGraphService;
+import com.ardaslegends.service.pathfinding.WorldGraphSnapshot;
 import com.ardaslegends.service.utils.ServiceUtils;
 import com.ardaslegends.service.war.WarService;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -23,8 +36,20 @@ import java.util.stream.Collectors;
 public class Pathfinder {
     private final RegionRepository regionRepository;
     private final WarService warService;
+    private final WorldGraphService worldGraphService;
+    private final GameMetrics gameMetrics;
 
     public static final int UNREACHABLE_COST = 999999;
+    private static final int MAX_CACHED_ROUTE_TABLES = 512;
+
+    private final Map<RouteTableKey, RouteTable> routeTables = new ConcurrentHashMap<>();
+
+    /**
+     * Guides single target searches with the centroids of the regions (A*), only takes effect when every region has a centroid
+     */
+    private final AtomicBoolean aStarEnabled = new AtomicBoolean(false);
+    /** The last compiled graph that was warned about being unable to guide A*, so every graph is only warned about once */
+    private final AtomicReference<RegionGraph> warnedAStarUnavailableFor = new AtomicReference<>();
 
     /**
      * Find the shortest path
@@ -39,115 +64,144 @@ public class Pathfinder {
             throw PathfinderServiceException.alreadyInRegion();
         }
 
-        var wars = warService.getActiveWarsOfFaction(player.getFaction());
-
-        log.debug("Initializing data for Pathfinding...");
-        //smallest weights between startRegion and all the other nodes
-        Map<Region, Integer> smallestWeights = new HashMap<>();
-        //for convenience, mark distance from startRegion to itself as 0
-        smallestWeights.put(startRegion, 0);
-
-        //implicit graph of all nodes and previous node in ideal paths
-        Map<Region, Region> previousRegions = new HashMap<>();
-
-        //use queue for breadth first search
-        //for convenience, we'll use an array, but linked list would be preferred
-        ArrayList<Region> regionsToVisit = new ArrayList<>();
-
-        //record visited nodes with a set. The string is the toString of a HexID
-        Set<String> visitedRegions = new HashSet<>();
-        visitedRegions.add(startRegion.getId());
-
-        Region currentRegion = startRegion;
-        log.debug("Starting the loop...");
-        while (currentRegion != endRegion) {
-            //get the shortest path so far from start to currentNode
-            final int dist = smallestWeights.get(currentRegion);
-
-            log.debug("Checking region {}", currentRegion.getId());
+        WorldGraphSnapshot snapshot = worldGraphService.getSnapshot();
+        RegionGraph graph = snapshot.graph();
+        int start = graph.indexOf(startRegion.getId());
+        int end = graph.indexOf(endRegion.getId());
+        if (start < 0 || end < 0) {
+            log.debug("Start or end region is not part of the world graph snapshot - rebuilding it");
+            snapshot = worldGraphService.rebuild();
+            graph = snapshot.graph();
+            start = graph.indexOf(startRegion.getId());
+            end = graph.indexOf(endRegion.getId());
+            if (start < 0 || end < 0) {
+                log.warn("Region [{}] or [{}] does not exist in the region graph", startRegion, endRegion);
+                throw ServiceException.pathfinderNoRegions(startRegion, endRegion);
+            }
+        }
 
-            //iterate over current child's nodes and process
-            Set<Region> neighbourRegions = currentRegion.getNeighboringRegions();
-            log.trace("Iterating over Region {}'s neighbours", currentRegion.getId());
-            for (Region neighbourRegion : neighbourRegions) {
+        log.debug("Initializing data for Pathfinding on world graph snapshot version [{}]...", snapshot.version());
+        RegionLookup regions = new RegionLookup(graph, startRegion, endRegion);
+        MovementRules rules = isCharacterMove ?
+                MovementRules.characterRules(snapshot::hasHarbour) :
+                MovementRules.armyRules(snapshot::hasHarbour, getPassableRegions(player.getFaction(), snapshot));
+
+        log.debug("Starting the search...");
+        long searchStartedAt = System.nanoTime();
+        boolean useAStar = aStarEnabled.get();
+        if (useAStar && !graph.canEstimateCosts())
+            warnAStarUnavailable(graph);
+        RouteSearch.Result result = RouteSearch.search(graph, start, end, rules, useAStar);
+        log.debug("Search expanded [{}] of [{}] regions", result.expandedRegions(), graph.size());
+
+        if (!result.isDiscovered(end)) {
+            log.warn("No Region to visit!");
+            gameMetrics.recordPathSearch(isCharacterMove, Duration.ofNanos(System.nanoTime() - searchStartedAt), result.expandedRegions(), null);
+            throw ServiceException.pathfinderNoRegions(startRegion, endRegion);
+        }
+        if (!result.isReachable(end)) {
+            gameMetrics.recordPathSearch(isCharacterMove, Duration.ofNanos(System.nanoTime() - searchStartedAt), result.expandedRegions(), null);
+            log.warn("Could not find a valid path from region [{}] to region [{}]", startRegion, endRegion);
+            throw PathfinderServiceException.noPathFound(startRegion.getId(), endRegion.getId());
+        }
 
-                log.trace("Checking if neighbor has been visited yet...");
-                if (!visitedRegions.contains(neighbourRegion.getId()) && !regionsToVisit.contains(neighbourRegion)) {
-                    log.debug("Region {} hasn't been visited yet - adding to queue", neighbourRegion.getId());
-                    regionsToVisit.add(neighbourRegion);
-                }
+        var path = buildShortestPath(result.pathTo(end), isCharacterMove, regions);
+        gameMetrics.recordPathSearch(isCharacterMove, Duration.ofNanos(System.nanoTime() - searchStartedAt), result.expandedRegions(), path.size());
+        log.trace("Final path is now: {}", ServiceUtils.buildPathString(path));
 
-                log.debug("Calculating the cost for Region {}", neighbourRegion.getId());
+        int summedCost = ServiceUtils.getTotalPathCost(path);
+        log.debug("Final cost is {}", summedCost);
 
-                int currentRegionCost = 0;
+        log.info("Finished finding shortest path from {} to {}", startRegion.getId(), endRegion.getId());
+        log.info("Cost: {}h - Path: {}", summedCost, path.stream().map(PathElement::getRegion).map(Region::getId).collect(Collectors.joining(" -> ")));
 
-                currentRegionCost += calculateCostDependingOnRegionType(currentRegion, dist, neighbourRegion, currentRegionCost);
+        return path;
+    }
 
-                if(!isCharacterMove)
-                    currentRegionCost = applyArmyMovementRules(player, neighbourRegion, currentRegionCost, wars);
+    @Value("${ardaslegends.pathfinding.a-star:false}")
+    public void setAStarEnabled(boolean aStarEnabled) {
+        log.info("A* pathfinding requested: {} (only runs while every region has a centroid)", aStarEnabled);
+        this.aStarEnabled.set(aStarEnabled);
+    }
 
+    private void warnAStarUnavailable(RegionGraph graph) {
+        if (warnedAStarUnavailableFor.getAndSet(graph) != graph)
+            log.warn("A* pathfinding is enabled but not every region has a centroid - searching with Dijkstra instead");
+    }
 
-                log.debug("Calculated Cost for this Region -> {}", currentRegionCost);
+    /**
+     * Calculates the travel hours from the region to every other region in a single search.
+     * Route tables are cached per world graph snapshot version and, for army moves, per permission set of the faction.
+     * @param faction the faction whose armies move, ignored for character moves
+     */
+    public RouteTable getRouteTable(Region fromRegion, Faction faction, boolean isCharacterMove) {
+        log.debug("Getting route table from region [{}] for faction [{}] isRpChar: {}", fromRegion.getId(), faction, isCharacterMove);
+        Objects.requireNonNull(fromRegion, "From region must not be null");
+        if (!isCharacterMove)
+            Objects.requireNonNull(faction, "Faction must not be null for army moves");
+
+        WorldGraphSnapshot snapshot = worldGraphService.getSnapshot();
+        int source = snapshot.graph().indexOf(fromRegion.getId());
+        if (source < 0) {
+            log.debug("Region [{}] is not part of the world graph snapshot - rebuilding it", fromRegion.getId());
+            snapshot = worldGraphService.rebuild();
+            source = snapshot.graph().indexOf(fromRegion.getId());
+            if (source < 0) {
+                log.warn("Region [{}] does not exist in the region graph", fromRegion);
+                throw ServiceException.regionDoesNotExist(fromRegion.getId());
+            }
+        }
 
-                log.debug("Checking if there is a shorter path already");
-                if (previousRegions.containsKey(neighbourRegion)) {
-                    log.trace("Found another path - checking which is shorter...");
-                    final int lowestPreviousCost = smallestWeights.get(neighbourRegion);
+        PassableRegions passableRegions = isCharacterMove ? null : getPassableRegions(faction, snapshot);
+        var key = new RouteTableKey(fromRegion.getId(), snapshot.version(), passableRegions);
 
-                    if (currentRegionCost < lowestPreviousCost) {
-                        log.debug("Current path is shorter, setting as new shortest Path (old: {} - new: {})", lowestPreviousCost, currentRegionCost);
-                        previousRegions.put(neighbourRegion, currentRegion);
-                        smallestWeights.put(neighbourRegion, currentRegionCost);
-                    }
-                } else {
-                    log.debug("No path found - setting as new shortest Path (cost: {})", currentRegionCost);
-                    previousRegions.put(neighbourRegion, currentRegion);
-                    smallestWeights.put(neighbourRegion, currentRegionCost);
-                }
-            }
+        RouteTable cached = routeTables.get(key);
+        if (cached != null) {
+            log.trace("Using cached route table from region [{}]", fromRegion.getId());
+            return cached;
+        }
 
-            log.trace("Setting current node as visited");
-            visitedRegions.add(currentRegion.getId());
-
-            //exit if done
-            //pull the next node to visit, if any
-            log.trace("Getting the next node to visit and removing current one from queue");
-            regionsToVisit.remove(currentRegion);
-            currentRegion = regionsToVisit.contains(endRegion) ?
-                    endRegion :
-                    regionsToVisit.stream()
-                            .min(Comparator.comparingInt(smallestWeights::get))
-                            .orElseThrow(() -> {
-                                log.warn("No Region to visit!");
-                                throw ServiceException.pathfinderNoRegions(startRegion, endRegion);
-                            });
+        long version = snapshot.version();
+        routeTables.keySet().removeIf(existing -> existing.snapshotVersion() < version);
+        if (routeTables.size() >= MAX_CACHED_ROUTE_TABLES) {
+            log.debug("Route table cache is full, clearing it");
+            routeTables.clear();
         }
 
-        var path = buildShortestPath(startRegion, endRegion, isCharacterMove, smallestWeights, previousRegions);
-        log.trace("Final path is now: {}", ServiceUtils.buildPathString(path));
+        MovementRules rules = isCharacterMove ?
+                MovementRules.characterRules(snapshot::hasHarbour) :
+                MovementRules.armyRules(snapshot::hasHarbour, passableRegions);
+        RouteTable routeTable = RouteTable.compute(snapshot, source, rules, isCharacterMove);
+        routeTables.put(key, routeTable);
 
-        int summedCost = ServiceUtils.getTotalPathCost(path);
-        log.debug("Final cost is {}", summedCost);
+        log.info("Calculated route table from region [{}] (snapshot version [{}])", fromRegion.getId(), version);
+        return routeTable;
+    }
 
-        log.info("Finished finding shortest path from {} to {}", startRegion.getId(), endRegion.getId());
-        log.info("Cost: {}h - Path: {}", summedCost, path.stream().map(PathElement::getRegion).map(Region::getId).collect(Collectors.joining(" -> ")));
+    private PassableRegions getPassableRegions(Faction faction, WorldGraphSnapshot snapshot) {
+        log.trace("Collecting allies and enemies of faction [{}]", faction.getName());
+        Set<String> allies = faction.getAllies().stream()
+                .map(Faction::getName)
+                .collect(Collectors.toSet());
+        Set<String> enemies = warService.getActiveWarsOfFaction(faction).stream()
+                .map(war -> war.getEnemies(faction))
+                .flatMap(Collection::stream)
+                .map(WarParticipant::getWarParticipant)
+                .map(Faction::getName)
+                .collect(Collectors.toSet());
 
-        return path;
+        return worldGraphService.getPassableRegions(snapshot, faction.getName(), allies, enemies);
     }
 
-    private ArrayList<PathElement> buildShortestPath(Region startRegion, Region endRegion, boolean isCharacterMove, Map<Region, Integer> smallestWeights, Map<Region, Region> previousRegions) {
-        Region currentRegion;
-        ArrayList<PathElement> path = new ArrayList<>();
+    private ArrayList<PathElement> buildShortestPath(int[] regionPath, boolean isCharacterMove, RegionLookup regions) {
+        ArrayList<PathElement> path = new ArrayList<>(regionPath.length);
 
         log.trace("Building the Path");
-        currentRegion = endRegion;
-        while (!Objects.equals(currentRegion.getId(), startRegion.getId())) {
-            log.trace("Getting the cost of the path");
-            if (smallestWeights.get(currentRegion) >= UNREACHABLE_COST) {
-                log.warn("Could not find a valid path from region [{}] to region [{}]", startRegion, endRegion);
-                throw PathfinderServiceException.noPathFound(startRegion.getId(), endRegion.getId());
-            }
+        Region startRegion = regions.get(regionPath[0]);
+        path.add(new PathElement(0, startRegion.getCost(), startRegion));
 
+        for (int i = 1; i < regionPath.length; i++) {
+            Region currentRegion = regions.get(regionPath[i]);
             int baseCost = currentRegion.getCost();
             int actualCost = baseCost;
 
@@ -156,75 +210,39 @@ public class Pathfinder {
                 actualCost = (int) (baseCost / 2.0);
             }
 
-            PathElement pathElement = new PathElement(actualCost, baseCost, currentRegion);
-            currentRegion = previousRegions.get(currentRegion);
-            path.add(pathElement);
+            path.add(new PathElement(actualCost, baseCost, currentRegion));
         }
-        PathElement pathElement = new PathElement(0, startRegion.getCost(), startRegion);
-        path.add(pathElement);
-
-        log.trace("Reversing the path so it starts with the start region");
-        Collections.reverse(path);
 
         return path;
     }
 
-    private int calculateCostDependingOnRegionType(Region currentNode, int dist, Region neighbourRegion, int currentRegionCost) {
-        log.debug("Checking if dis-/embarking...");
-
-        currentRegionCost += dist + neighbourRegion.getCost();
-
-        // Check if we are embarking or disembarking
-        if (currentNode.getRegionType() != RegionType.SEA && neighbourRegion.getRegionType() == RegionType.SEA) { //Checks if the current Region is land and has a Sea Region as neighbor
-            log.trace("Current region is Land and neighbors a Sea region - continue check for harbour");
-
-            log.trace("Checking Region's claimbuilds for harbour");
-            boolean hasHarbor = currentNode.getClaimBuilds().stream()
-                    .anyMatch(claimBuild -> claimBuild.getSpecialBuildings().contains(SpecialBuilding.HARBOUR));
+    /**
+     * Resolves graph indices to the Region entities of the current session, only needed to build the final path.
+     */
+    private final class RegionLookup {
+        private final RegionGraph graph;
+        private final Region[] regions;
+
+        private RegionLookup(RegionGraph graph, Region startRegion, Region endRegion) {
+            this.graph = graph;
+            this.regions = new Region[graph.size()];
+            regions[graph.indexOf(startRegion.getId())] = startRegion;
+            regions[graph.indexOf(endRegion.getId())] = endRegion;
+        }
 
-            if(hasHarbor) {
-                log.debug("Found Harbour in current Region ({}) - can embark", neighbourRegion.getId());
-                currentRegionCost += 1;
-            }
-            else {
-                log.debug("No Harbour found in current Region ({}) - cannot embark", neighbourRegion.getId());
-                currentRegionCost = UNREACHABLE_COST;
+        private Region get(int index) {
+            Region region = regions[index];
+            if (region == null) {
+                region = regionRepository.findById(graph.id(index))
+                        .orElseThrow(() -> new IllegalStateException("Region %s of the region graph does not exist anymore".formatted(graph.id(index))));
+                regions[index] = region;
             }
-
-        }
-        else if (currentNode.getRegionType() == RegionType.SEA && neighbourRegion.getRegionType() != RegionType.SEA) { //Checks if current region is Sea and neighbor is land
-            log.debug("Current region is Sea region and neighbors land region - can disembark");
-            currentRegionCost += 1;
+            return region;
         }
-
-        return currentRegionCost;
     }
 
-    private int applyArmyMovementRules(Player player, Region neighbourRegion, int currentRegionCost, Set<War> wars) {
-        log.debug("Checking if army can move through Region {}", neighbourRegion.getId());
-
-        boolean isClaimedByPlayersFaction = neighbourRegion.getClaimedBy().contains(player.getFaction());
-        log.trace("Region {} is claimed by Faction: {}", neighbourRegion.getId(), isClaimedByPlayersFaction);
-
-        boolean isClaimedByAlly = player.getFaction().getAllies().stream()
-                .anyMatch(faction -> neighbourRegion.getClaimedBy().contains(faction));
-        log.trace("Region {} is claimed by ally: {}", neighbourRegion.getId(), isClaimedByAlly);
-
-        boolean isUnclaimed = neighbourRegion.getClaimedBy().isEmpty();
-        log.trace("Region {} is unclaimed: {}", neighbourRegion.getId(), isUnclaimed);
-
-        boolean isAtWarWithFactionInRegion = wars.stream()
-                .map(war -> war.getEnemies(player.getFaction()))
-                .flatMap(Collection::stream)
-                .distinct()
-                .map(participant -> participant.getWarParticipant())
-                .anyMatch(enemyFaction -> neighbourRegion.getClaimedBy().contains(enemyFaction));
-        log.trace("Region {} isAtWarWithFactionInRegion: {}", neighbourRegion.getId(), isAtWarWithFactionInRegion);
-
-        if (!isClaimedByAlly && !isClaimedByPlayersFaction && !isUnclaimed && !isAtWarWithFactionInRegion) {
-            log.debug("Army cannot move through Region {} - it is not unclaimed or claimed by the player's faction or its allies or at war with another faction in the region!", neighbourRegion.getId());
-            currentRegionCost = UNREACHABLE_COST;
-        }
-        return currentRegionCost;
-    }
-}
\ No newline at end of file
+    /**
+     * PassableRegions are compared by identity, a recomputed permission set is a new key
+     */
+    private record RouteTableKey(String source, long snapshotVersion, PassableRegions passableRegions) { }
+}
@@ -9,17 +9,20 @@ import com.ardaslegends.service.dto.player.rpchar.UpdateRpCharDto;
 import com.ardaslegends.service.exceptions.logic.player.PlayerServiceException;
 import com.ardaslegends.service.exceptions.ServiceException;
 import com.ardaslegends.service.external.MojangApiService;
+import com.ardaslegends.service.time.GameClock;
+import com.ardaslegends.service.time.HealingChangedEvent;
 import com.ardaslegends.service.utils.ServiceUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.javacord.api.DiscordApi;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.lang.reflect.Field;
+import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -39,10 +42,11 @@ public class PlayerService extends AbstractService<Player, PlayerRepository> {
     private final FactionService factionService;
     private final MojangApiService mojangApiService;
 
-    private final DiscordApi api;
-
     private final BotProperties properties;
 
+    private final ApplicationEventPublisher eventPublisher;
+    private final GameClock gameClock;
+
     public Page<Player> getPlayersPaginated(Pageable pageable) {
         var page = secureFind(pageable, playerRepository::findAll);
         return page;
@@ -578,11 +582,13 @@ public class PlayerService extends AbstractService<Player, PlayerRepository> {
         log.trace("Region [{}] has claimbuild with House of Healing: [{}]", rpchar.getCurrentRegion(), cbWithHoH.getName());
 
         log.debug("Setting isHealing");
-        rpchar.startHealing();
+        rpchar.startHealing(OffsetDateTime.now(gameClock));
 
         log.debug("Persisting player");
         val updatedPlayer = secureSave(player, playerRepository);
 
+        eventPublisher.publishEvent(HealingChangedEvent.of(rpchar));
+
         log.info("Successfully started healing character [{}] of player [{}]!", rpchar, updatedPlayer);
         return rpchar;
     }
@@ -617,6 +623,8 @@ public class PlayerService extends AbstractService<Player, PlayerRepository> {
         log.debug("Persisting player");
         val updatedPlayer = secureSave(player, playerRepository);
 
+        eventPublisher.publishEvent(HealingChangedEvent.of(rpchar));
+
         log.info("Successfully stopped healing character [{}] of player [{}]", rpchar, updatedPlayer);
         return rpchar;
     }
@@ -625,15 +633,4 @@ public class PlayerService extends AbstractService<Player, PlayerRepository> {
         log.debug("Saving players [{}]", players);
         return secureSaveAll(players, playerRepository);
     }
-
-    public boolean checkIsStaff(String discordId) {
-        Objects.requireNonNull(discordId);
-
-        val user = api.getUserById(discordId).join();
-        val staffRoles = properties.getDiscordStaffRoles();
-
-        return user.getRoles(properties.getDiscordServer())
-                .stream()
-                .anyMatch(staffRoles::contains);
-    }
 }
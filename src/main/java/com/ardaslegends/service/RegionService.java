@@ -21,26 +21,6 @@ public class RegionService extends AbstractService<Region, RegionRepository> {
 
     private final RegionRepository regionRepository;
 
-    @Transactional(readOnly = false)
-    public List<Region> resetHasOwnership() {
-        log.debug("Resetting all regions with hasOwnership set to true");
-
-        log.trace("Fetching all regions with ownership true");
-        var regions = regionRepository.findAllByHasOwnershipChangedTrue();
-
-        log.trace("Changing every region to true with stream [size:{}]", regions.size());
-        regions.stream().forEach(region -> {
-            log.trace("Region [{}: ownership: {}] gets set to false", region.getId(), region.isHasOwnershipChanged());
-            region.setHasOwnershipChanged(false);
-        });
-
-        log.debug("Persisting changed regions");
-        regions = secureSaveAll(regions, regionRepository);
-
-        log.info("Finished setting all to false!");
-        return regions;
-    }
-
     public Region getRegion(String regionId) {
         log.debug("Getting single region with id {}", regionId);
 
@@ -64,4 +44,9 @@ public class RegionService extends AbstractService<Region, RegionRepository> {
     public List<Region> getAll() {
         return regionRepository.queryAll();
     }
+
+    @Transactional(readOnly = true)
+    public List<Region> getAllDetailed() {
+        return regionRepository.queryAllDetailed();
+    }
 }
@@ -1,5 +1,6 @@
 package com.ardaslegends.service.applications;
 
+import com.ardaslegends.domain.DiscordOutboxMessageType;
 import com.ardaslegends.domain.applications.ApplicationState;
 import com.ardaslegends.domain.applications.ClaimbuildApplication;
 import com.ardaslegends.domain.applications.EmbeddedProductionSite;
@@ -11,6 +12,7 @@ import com.ardaslegends.repository.player.PlayerRepository;
 import com.ardaslegends.repository.applications.claimbuildapp.ClaimbuildApplicationRepository;
 import com.ardaslegends.repository.region.RegionRepository;
 import com.ardaslegends.service.AbstractService;
+import com.ardaslegends.service.discord.outbox.DiscordOutboxService;
 import com.ardaslegends.service.dto.applications.CreateClaimbuildApplicationDto;
 import com.ardaslegends.service.dto.applications.ApplicationVoteDto;
 import com.ardaslegends.service.exceptions.logic.applications.ClaimbuildApplicationException;
@@ -49,6 +51,7 @@ public class ClaimbuildApplicationService extends AbstractService<ClaimbuildAppl
     private final RegionRepository regionRepository;
     private final ProductionSiteRepository productionSiteRepository;
     private final BotProperties botProperties;
+    private final DiscordOutboxService discordOutboxService;
     private final Clock clock;
 
 
@@ -140,13 +143,8 @@ public class ClaimbuildApplicationService extends AbstractService<ClaimbuildAppl
                 dto.houses(),
                 foundPlayers);
 
-        val applicationMessage = application.sendApplicationMessage(botProperties.getClaimbuildAppsChannel());
-
-        try {
-            application = secureSave(application, cbAppRepository);
-        } catch (Exception e) {
-            applicationMessage.delete("Failed to save application into Database therefore deleting application message in discord").join();
-        }
+        application = secureSave(application, cbAppRepository);
+        discordOutboxService.enqueue(DiscordOutboxMessageType.CLAIMBUILD_APPLICATION_CREATED, application.getId());
 
         return application;
     }
@@ -167,7 +165,7 @@ public class ClaimbuildApplicationService extends AbstractService<ClaimbuildAppl
         log.info("Added vote to claimbuild application [{}]", application);
 
         // Updates the embed so players can see the current votes
-        application.updateApplicationMessage(botProperties.getClaimbuildAppsChannel());
+        discordOutboxService.enqueue(DiscordOutboxMessageType.CLAIMBUILD_APPLICATION_UPDATED, application.getId());
 
         return application;
     }
@@ -186,7 +184,7 @@ public class ClaimbuildApplicationService extends AbstractService<ClaimbuildAppl
         log.info("Added decline vote to claimbuild application [{}]", application);
 
         // Updates the embed so players can see the current votes
-        application.updateApplicationMessage(botProperties.getClaimbuildAppsChannel());
+        discordOutboxService.enqueue(DiscordOutboxMessageType.CLAIMBUILD_APPLICATION_UPDATED, application.getId());
 
         return application;
     }
@@ -207,7 +205,7 @@ public class ClaimbuildApplicationService extends AbstractService<ClaimbuildAppl
         log.info("Removed vote from claimbuild application [{}]", application);
 
         // Updates the embed so players can see the current votes
-        application.updateApplicationMessage(botProperties.getClaimbuildAppsChannel());
+        discordOutboxService.enqueue(DiscordOutboxMessageType.CLAIMBUILD_APPLICATION_UPDATED, application.getId());
 
         return application;
     }
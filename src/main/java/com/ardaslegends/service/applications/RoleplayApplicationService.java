@@ -1,5 +1,6 @@
 package com.ardaslegends.service.applications;
 
+import com.ardaslegends.domain.DiscordOutboxMessageType;
 import com.ardaslegends.domain.Player;
 import com.ardaslegends.domain.applications.ApplicationState;
 import com.ardaslegends.domain.applications.RoleplayApplication;
@@ -8,6 +9,7 @@ import com.ardaslegends.repository.faction.FactionRepository;
 import com.ardaslegends.repository.player.PlayerRepository;
 import com.ardaslegends.repository.applications.RoleplayApplicationRepository;
 import com.ardaslegends.service.AbstractService;
+import com.ardaslegends.service.discord.outbox.DiscordOutboxService;
 import com.ardaslegends.service.dto.applications.CreateRpApplicatonDto;
 import com.ardaslegends.service.dto.applications.ApplicationVoteDto;
 import com.ardaslegends.service.exceptions.logic.faction.FactionServiceException;
@@ -45,6 +47,7 @@ public class RoleplayApplicationService extends AbstractService<RoleplayApplicat
     private final PlayerRepository playerRepository;
     private final BotProperties botProperties;
     private final UrlValidator urlValidator;
+    private final DiscordOutboxService discordOutboxService;
     private final Clock clock;
 
     public Slice<RoleplayApplication> findAll(Pageable pageable) {
@@ -98,15 +101,8 @@ public class RoleplayApplicationService extends AbstractService<RoleplayApplicat
        val player = optionalPlayer.get();
 
        var application = new RoleplayApplication(player, faction, dto.characterName(), dto.characterTitle(), dto.characterReason(), dto.gear(), dto.pvpPreference(), dto.linkToLore());
-       val applicationMessage = application.sendApplicationMessage(botProperties.getRpAppsChannel());
-
-       try {
-           application = secureSave(application, rpRepository);
-       }
-       catch (Exception e) {
-           applicationMessage.delete("Failed to save application into Database therefore deleting application message in discord").join();
-           throw e;
-       }
+       application = secureSave(application, rpRepository);
+       discordOutboxService.enqueue(DiscordOutboxMessageType.ROLEPLAY_APPLICATION_CREATED, application.getId());
 
        log.info("Successfully created rpApplication [{}]", application);
        return application;
@@ -126,7 +122,7 @@ public class RoleplayApplicationService extends AbstractService<RoleplayApplicat
         log.info("Added accept vote to roleplay application [{}]", application);
 
         // Updates the embed so players can see the current votes
-        application.updateApplicationMessage(botProperties.getRpAppsChannel());
+        discordOutboxService.enqueue(DiscordOutboxMessageType.ROLEPLAY_APPLICATION_UPDATED, application.getId());
 
         return application;
     }
@@ -145,7 +141,7 @@ public class RoleplayApplicationService extends AbstractService<RoleplayApplicat
         log.info("Added decline vote to roleplay application [{}]", application);
 
         // Updates the embed so players can see the current votes
-        application.updateApplicationMessage(botProperties.getRpAppsChannel());
+        discordOutboxService.enqueue(DiscordOutboxMessageType.ROLEPLAY_APPLICATION_UPDATED, application.getId());
 
         return application;
     }
@@ -164,7 +160,7 @@ public class RoleplayApplicationService extends AbstractService<RoleplayApplicat
         log.info("Removed vote from roleplay application [{}]", application);
 
         // Updates the embed so players can see the current votes
-        application.updateApplicationMessage(botProperties.getRpAppsChannel());
+        discordOutboxService.enqueue(DiscordOutboxMessageType.ROLEPLAY_APPLICATION_UPDATED, application.getId());
 
         return application;
     }
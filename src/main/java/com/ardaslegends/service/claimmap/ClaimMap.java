@@ -0,0 +1,19 @@
+package com.ardaslegends.service.claimmap;
+
+import java.util.Map;
+
+/**
+ * Immutable, versioned claim map, serialised once when it is built.
+ *
+ * @param regions the regions by id, in the order of the map
+ * @param json the regions serialised as json array, must not be modified
+ */
+public record ClaimMap(long version, Map<String, ClaimMapRegion> regions, byte[] json) {
+
+    /**
+     * @return a strong entity tag, two claim maps with the same version always have the same json
+     */
+    public String eTag() {
+        return "\"" + version + "\"";
+    }
+}
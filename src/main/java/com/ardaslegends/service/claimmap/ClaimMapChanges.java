@@ -0,0 +1,13 @@
+package com.ardaslegends.service.claimmap;
+
+import java.util.List;
+
+/**
+ * The regions whose claims changed since a version of the claim map.
+ *
+ * @param version the version the changes lead to, the next request asks for the changes since this version
+ * @param isFullReload true if the changes since the requested version are not known anymore,
+ *                     then all regions are contained and the consumer has to replace its claim map
+ */
+public record ClaimMapChanges(long version, boolean isFullReload, List<ClaimMapRegion> regions) {
+}
@@ -0,0 +1,145 @@
+package com.ardaslegends.service.claimmap;
+
+import com.ardaslegends.repository.region.RegionRepository;
+import com.ardaslegends.service.pathfinding.RegionChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link ClaimMap}, which the website polls.
+ * <p>
+ * The claim map is built once from the database and afterwards patched with every {@link RegionChangedEvent} that
+ * changed the claims or claimbuilds of a region, after the transaction that published it committed. Every patch
+ * serialises the claim map again, requests are answered with the same bytes until the next change.
+ * <p>
+ * The last {@link #MAX_RETAINED_CHANGES} changed regions are kept by version, so consumers can fetch only the regions
+ * changed since the version they know. Versions start at the current time in millis when the claim map is built,
+ * so a version from before a restart is always older than the changes that are known and leads to a full reload.
+ */
+@RequiredArgsConstructor
+@Slf4j
+
+@Service
+public class ClaimMapProjection {
+
+    static final int MAX_RETAINED_CHANGES = 1000;
+
+    private final RegionRepository regionRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    private final AtomicReference<ClaimMap> claimMap = new AtomicReference<>();
+    // Guarded by this, the region id changed by every version after the base version
+    private final NavigableMap<Long, String> changes = new TreeMap<>();
+    private long baseVersion;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        log.debug("Initializing claim map on startup");
+        rebuild();
+    }
+
+    /**
+     * @return the current claim map, builds it if it has not been built yet
+     */
+    public ClaimMap getClaimMap() {
+        ClaimMap current = claimMap.get();
+        if (current == null) {
+            current = rebuild();
+        }
+        return current;
+    }
+
+    /**
+     * Builds a fresh claim map from the database, consumers of the changes have to reload the whole claim map afterwards.
+     */
+    public synchronized ClaimMap rebuild() {
+        log.debug("Rebuilding claim map from the database");
+        Map<String, ClaimMapRegion> regions = new LinkedHashMap<>();
+        regionRepository.queryAll().forEach(region -> regions.put(region.getId(), ClaimMapRegion.of(region)));
+
+        ClaimMap previous = claimMap.get();
+        long version = Math.max(clock.millis(), previous == null ? 0 : previous.version() + 1);
+
+        ClaimMap rebuilt = new ClaimMap(version, Collections.unmodifiableMap(regions), serialise(regions));
+        changes.clear();
+        baseVersion = version;
+        claimMap.set(rebuilt);
+
+        log.info("Built claim map version [{}] with [{}] regions", version, regions.size());
+        return rebuilt;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRegionChanged(RegionChangedEvent event) {
+        ClaimMap current = claimMap.get();
+        if (current == null) {
+            log.trace("Claim map is not built yet, ignoring change of region [{}]", event.regionId());
+            return;
+        }
+
+        ClaimMapRegion region = current.regions().get(event.regionId());
+        if (region == null) {
+            log.warn("Region [{}] is not part of claim map version [{}], ignoring change", event.regionId(), current.version());
+            return;
+        }
+
+        ClaimMapRegion changedRegion = region.apply(event);
+        if (changedRegion.equals(region)) {
+            log.trace("Claims of region [{}] did not change, keeping claim map version [{}]", event.regionId(), current.version());
+            return;
+        }
+
+        Map<String, ClaimMapRegion> regions = new LinkedHashMap<>(current.regions());
+        regions.put(changedRegion.id(), changedRegion);
+        long version = current.version() + 1;
+        claimMap.set(new ClaimMap(version, Collections.unmodifiableMap(regions), serialise(regions)));
+
+        changes.put(version, changedRegion.id());
+        while (changes.size() > MAX_RETAINED_CHANGES) {
+            baseVersion = changes.pollFirstEntry().getKey();
+        }
+        log.debug("Patched region [{}] in claim map [version: {} -> {}, claimedBy: {}]",
+                event.regionId(), current.version(), version, changedRegion.claimedBy());
+    }
+
+    /**
+     * @return the regions changed after the given version, all regions if these changes are not known (anymore)
+     */
+    public synchronized ClaimMapChanges getChangesSince(long sinceVersion) {
+        val current = getClaimMap();
+        if (sinceVersion < baseVersion || sinceVersion > current.version()) {
+            log.debug("Changes since version [{}] are not known, claim map is at [{}] with changes since [{}]",
+                    sinceVersion, current.version(), baseVersion);
+            return new ClaimMapChanges(current.version(), true, List.copyOf(current.regions().values()));
+        }
+
+        val changedRegions = new LinkedHashSet<>(changes.tailMap(sinceVersion, false).values()).stream()
+                .map(current.regions()::get)
+                .toList();
+        log.debug("Found [{}] regions changed between version [{}] and [{}]", changedRegions.size(), sinceVersion, current.version());
+        return new ClaimMapChanges(current.version(), false, changedRegions);
+    }
+
+    private byte[] serialise(Map<String, ClaimMapRegion> regions) {
+        try {
+            return objectMapper.writeValueAsBytes(regions.values());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ardaslegends.service.claimmap;
+
+import com.ardaslegends.domain.ClaimBuild;
+import com.ardaslegends.domain.Faction;
+import com.ardaslegends.domain.Region;
+import com.ardaslegends.service.pathfinding.RegionChangedEvent;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A region as shown on the claim map. The names are sorted, so the same state always serialises to the same bytes.
+ */
+public record ClaimMapRegion(
+        String id,
+        String name,
+        String regionType,
+        List<String> claimedBy,
+        List<String> claimbuilds,
+        List<String> neighbours
+) {
+
+    public static ClaimMapRegion of(Region region) {
+        Objects.requireNonNull(region, "Region must not be null");
+        return new ClaimMapRegion(
+                region.getId(),
+                region.getName(),
+                region.getRegionType().getName(),
+                sorted(region.getClaimedBy().stream().map(Faction::getName).toList()),
+                sorted(region.getClaimBuilds().stream().map(ClaimBuild::getName).toList()),
+                sorted(region.getNeighboringRegions().stream().map(Region::getId).toList())
+        );
+    }
+
+    public ClaimMapRegion apply(RegionChangedEvent event) {
+        return new ClaimMapRegion(id, name, regionType, sorted(event.claimedBy()), sorted(event.claimbuilds()), neighbours);
+    }
+
+    private static List<String> sorted(Collection<String> names) {
+        return names.stream().sorted().toList();
+    }
+}
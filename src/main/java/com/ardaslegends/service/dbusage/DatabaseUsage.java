@@ -0,0 +1,126 @@
+package com.ardaslegends.service.dbusage;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * The database work done by one REST request or Discord command, collected by the Hibernate listeners of the thread
+ * that handles it.
+ * <p>
+ * A usage is only touched by the thread it is bound to, so its counters are not synchronized.
+ * Statements are grouped by their fingerprint, the SQL without literals and with every IN list collapsed,
+ * so the batches of the same lazy load count as one statement shape.
+ */
+public final class DatabaseUsage {
+
+    static final int MAX_FINGERPRINTS = 50;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final ThreadLocal<DatabaseUsage> CURRENT = new ThreadLocal<>();
+
+    private final String kind;
+    private final String name;
+    private final DatabaseUsage previous;
+
+    private int statements;
+    private int entitiesLoaded;
+    private int lazyLoads;
+    private long databaseNanos;
+    private final Map<String, Integer> statementsByFingerprint = new HashMap<>();
+
+    private DatabaseUsage(String kind, String name, DatabaseUsage previous) {
+        this.kind = kind;
+        this.name = name;
+        this.previous = previous;
+    }
+
+    /**
+     * Binds a new usage to the current thread, a usage that is already bound is suspended until the new one is unbound.
+     */
+    static DatabaseUsage bind(String kind, String name) {
+        DatabaseUsage usage = new DatabaseUsage(kind, name, CURRENT.get());
+        CURRENT.set(usage);
+        return usage;
+    }
+
+    void unbind() {
+        if(CURRENT.get() != this)
+            throw new IllegalStateException("Database usage of %s [%s] is not bound to the current thread".formatted(kind, name));
+
+        if(previous == null)
+            CURRENT.remove();
+        else
+            CURRENT.set(previous);
+    }
+
+    /**
+     * @return the usage bound to the current thread, null if the thread is not handling a request or command
+     */
+    static DatabaseUsage current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql) {
+        statements++;
+        String fingerprint = fingerprint(sql);
+        if(statementsByFingerprint.size() < MAX_FINGERPRINTS || statementsByFingerprint.containsKey(fingerprint))
+            statementsByFingerprint.merge(fingerprint, 1, Integer::sum);
+    }
+
+    void recordEntityLoaded() {
+        entitiesLoaded++;
+    }
+
+    void recordLazyLoad() {
+        lazyLoads++;
+    }
+
+    void recordDatabaseTime(long nanos) {
+        databaseNanos += nanos;
+    }
+
+    static String fingerprint(String sql) {
+        String fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = IN_LIST.matcher(fingerprint).replaceAll("(?...)");
+        return WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public int getLazyLoads() {
+        return lazyLoads;
+    }
+
+    public Duration getDatabaseTime() {
+        return Duration.ofNanos(databaseNanos);
+    }
+
+    /**
+     * @return the fingerprints of the statements with how often they were executed, most executed first
+     */
+    public List<Map.Entry<String, Integer>> getStatementsByFingerprint() {
+        return statementsByFingerprint.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
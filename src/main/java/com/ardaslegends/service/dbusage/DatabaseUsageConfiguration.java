@@ -0,0 +1,49 @@
+package com.ardaslegends.service.dbusage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Registers the listeners that collect the {@link DatabaseUsage} with Hibernate.
+ */
+@Slf4j
+@Configuration
+public class DatabaseUsageConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer databaseUsageHibernateCustomizer() {
+        DatabaseUsageHibernateListener listener = new DatabaseUsageHibernateListener();
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, listener);
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, DatabaseUsageSessionListener.class.getName());
+            properties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(new Integrator() {
+                @Override
+                public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+                    EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+                    registry.appendListeners(EventType.POST_LOAD, listener);
+                    registry.appendListeners(EventType.INIT_COLLECTION, listener);
+                    registry.appendListeners(EventType.LOAD, listener);
+                    log.info("Registered database usage listeners");
+                }
+
+                @Override
+                public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+                }
+            }));
+        };
+    }
+}
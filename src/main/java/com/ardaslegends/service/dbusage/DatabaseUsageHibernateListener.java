@@ -0,0 +1,42 @@
+package com.ardaslegends.service.dbusage;
+
+import org.hibernate.HibernateException;
+import org.hibernate.event.spi.*;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the statements, loaded entities and lazy loads of Hibernate into the {@link DatabaseUsage} of the current thread.
+ * <p>
+ * Runs after Hibernate's own listeners, a lazy load is the initialization of a collection or of an entity proxy.
+ */
+class DatabaseUsageHibernateListener implements StatementInspector, PostLoadEventListener, InitializeCollectionEventListener, LoadEventListener {
+
+    @Override
+    public String inspect(String sql) {
+        DatabaseUsage usage = DatabaseUsage.current();
+        if(usage != null)
+            usage.recordStatement(sql);
+        return sql;
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        DatabaseUsage usage = DatabaseUsage.current();
+        if(usage != null)
+            usage.recordEntityLoaded();
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) throws HibernateException {
+        DatabaseUsage usage = DatabaseUsage.current();
+        if(usage != null)
+            usage.recordLazyLoad();
+    }
+
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) throws HibernateException {
+        DatabaseUsage usage = DatabaseUsage.current();
+        if(usage != null && loadType == IMMEDIATE_LOAD)
+            usage.recordLazyLoad();
+    }
+}
@@ -0,0 +1,37 @@
+package com.ardaslegends.service.dbusage;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Measures how long the JDBC statements of a session take, Hibernate creates one listener per session.
+ */
+public class DatabaseUsageSessionListener implements SessionEventListener {
+
+    private long executionStartedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        recordExecution();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        recordExecution();
+    }
+
+    private void recordExecution() {
+        DatabaseUsage usage = DatabaseUsage.current();
+        if(usage != null)
+            usage.recordDatabaseTime(System.nanoTime() - executionStartedAt);
+    }
+}
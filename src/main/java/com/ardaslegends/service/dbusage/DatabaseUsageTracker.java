@@ -0,0 +1,109 @@
+package com.ardaslegends.service.dbusage;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Ties the database work Hibernate does to the REST endpoint or Discord command the current thread is handling.
+ * <p>
+ * Every request and command runs inside a {@link Scope}, when it is closed the statement count, loaded entities,
+ * lazy loads and database time are recorded as metrics tagged with its kind and name.
+ * If ardaslegends.db-usage.slow-threshold is set, scopes that take longer are logged with their statement fingerprints.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class DatabaseUsageTracker {
+
+    public static final String KIND_COMMAND = "command";
+    public static final String KIND_ENDPOINT = "endpoint";
+    static final int SLOW_LOG_FINGERPRINTS = 10;
+
+    private final MeterRegistry meterRegistry;
+    private Duration slowThreshold;
+
+    @Value("${ardaslegends.db-usage.slow-threshold:#{null}}")
+    public void setSlowThreshold(Duration slowThreshold) {
+        log.info("Slow database usage threshold: {}", slowThreshold == null ? "disabled" : slowThreshold);
+        this.slowThreshold = slowThreshold;
+    }
+
+    /**
+     * Starts collecting the database work of the current thread, the scope has to be closed on the same thread.
+     */
+    public Scope begin(String kind, String name) {
+        Objects.requireNonNull(kind, "Kind must not be null");
+        Objects.requireNonNull(name, "Name must not be null");
+        log.trace("Tracking database usage of {} [{}]", kind, name);
+        return new Scope(DatabaseUsage.bind(kind, name), System.nanoTime());
+    }
+
+    void record(DatabaseUsage usage, Duration elapsed) {
+        Tags tags = Tags.of("kind", usage.getKind(), "name", usage.getName());
+        DistributionSummary.builder("arda.db.statements")
+                .description("JDBC statements prepared per request or command")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(usage.getStatements());
+        DistributionSummary.builder("arda.db.entities.loaded")
+                .description("Entities loaded from result sets per request or command")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(usage.getEntitiesLoaded());
+        DistributionSummary.builder("arda.db.lazy.loads")
+                .description("Lazy collections and proxies initialized per request or command")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(usage.getLazyLoads());
+        Timer.builder("arda.db.time")
+                .description("Time spent executing JDBC statements per request or command")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(usage.getDatabaseTime());
+
+        if(slowThreshold != null && elapsed.compareTo(slowThreshold) >= 0) {
+            log.warn("Slow {} [{}] took {}ms, {}ms in the database [statements: {}, entities: {}, lazy loads: {}], top statements:\n{}",
+                    usage.getKind(), usage.getName(), elapsed.toMillis(), usage.getDatabaseTime().toMillis(),
+                    usage.getStatements(), usage.getEntitiesLoaded(), usage.getLazyLoads(),
+                    usage.getStatementsByFingerprint().stream()
+                            .limit(SLOW_LOG_FINGERPRINTS)
+                            .map(entry -> "%5dx %s".formatted(entry.getValue(), entry.getKey()))
+                            .collect(Collectors.joining("\n")));
+        }
+        else {
+            log.trace("Database usage of {} [{}]: [statements: {}, entities: {}, lazy loads: {}, time: {}ms]",
+                    usage.getKind(), usage.getName(), usage.getStatements(), usage.getEntitiesLoaded(),
+                    usage.getLazyLoads(), usage.getDatabaseTime().toMillis());
+        }
+    }
+
+    public final class Scope implements AutoCloseable {
+        private final DatabaseUsage usage;
+        private final long startedAt;
+
+        private Scope(DatabaseUsage usage, long startedAt) {
+            this.usage = usage;
+            this.startedAt = startedAt;
+        }
+
+        public DatabaseUsage getUsage() {
+            return usage;
+        }
+
+        @Override
+        public void close() {
+            usage.unbind();
+            record(usage, Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+    }
+}
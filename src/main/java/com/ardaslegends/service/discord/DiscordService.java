@@ -12,10 +12,12 @@ import lombok.val;
 import org.javacord.api.DiscordApi;
 import org.javacord.api.entity.channel.TextChannel;
 import org.javacord.api.entity.message.Message;
+import org.javacord.api.entity.message.embed.EmbedBuilder;
 import org.javacord.api.entity.permission.Role;
 import org.javacord.api.entity.user.User;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -61,11 +63,6 @@ public class DiscordService {
         return discordApi.getUserById(discordId).join();
     }
 
-    public Message sendMessageToRpChannel(ALMessage message) {
-        log.debug("Trying to send message [{}] to Roleplay Channel", message);
-        return sendMessage(message, botProperties.getGeneralRpCommandsChannel());
-    }
-
     public Message sendMessageToClaimbuildAppChannel(ALMessage message) {
         log.debug("Trying to send message [{}] to Claimbuild Application Channel", message);
         return sendMessage(message, botProperties.getClaimbuildAppsChannel());
@@ -76,7 +73,7 @@ public class DiscordService {
         return sendMessage(message, botProperties.getRpAppsChannel());
     }
 
-    private Message sendMessage(ALMessage message, TextChannel channel) {
+    public Message sendMessage(ALMessage message, TextChannel channel) {
         log.debug("Trying to send message [{}] to channel [{}]", message, channel.getIdAsString());
 
         Objects.requireNonNull(message, "Message was null!");
@@ -94,4 +91,14 @@ public class DiscordService {
 
         return returnMessage;
     }
+
+    /**
+     * Replaces the embeds of the message without fetching it first
+     */
+    public Message editMessage(TextChannel channel, long messageId, List<EmbedBuilder> embeds) {
+        log.debug("Trying to edit message [{}] in channel [{}]", messageId, channel.getIdAsString());
+        Objects.requireNonNull(embeds, "Embeds were null!");
+
+        return Message.edit(discordApi, channel.getId(), messageId, embeds).join();
+    }
 }
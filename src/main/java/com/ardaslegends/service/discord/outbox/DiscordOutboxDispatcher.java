@@ -0,0 +1,277 @@
+package com.ardaslegends.service.discord.outbox;
+
+import com.ardaslegends.domain.DiscordOutboxMessage;
+import com.ardaslegends.service.discord.DiscordService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.message.Message;
+import org.javacord.api.exception.RatelimitException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sends the pending messages of the Discord outbox, outside any database transaction.
+ * <p>
+ * A single worker thread wakes up whenever an outbox message got committed or becomes due, and polls the table every
+ * {@link #POLL_INTERVAL} so messages that failed or were pending during a restart are sent as well. Every message is marked as sent only after
+ * Discord confirmed it, which makes delivery at-least-once.
+ * The messages of one channel are sent in order, at most {@link #CHANNEL_MESSAGES_PER_WINDOW} per {@link #CHANNEL_WINDOW}
+ * like Discord's per channel bucket allows, while different channels are sent concurrently.
+ * A message that failed holds back the later messages of its channel until it got sent on a retry.
+ * Pending updates of the same entity are merged into a single edit, which replaces the embeds by message id without fetching the message.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class DiscordOutboxDispatcher {
+
+    static final int CHANNEL_MESSAGES_PER_WINDOW = 5;
+    static final Duration CHANNEL_WINDOW = Duration.ofSeconds(5);
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(30);
+    private static final Duration MIN_RETRY_DELAY = Duration.ofSeconds(10);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(30);
+
+    private final DiscordOutboxService outboxService;
+    private final DiscordOutboxRenderer renderer;
+    private final DiscordService discordService;
+    private final ExecutorService virtualExecutorService;
+    private final Clock clock;
+
+    private final Semaphore wakeUps = new Semaphore(0);
+    // The earliest time a committed message that is not sent yet becomes due, null if there is none
+    private final AtomicReference<OffsetDateTime> nextSendAt = new AtomicReference<>();
+    private final Map<Long, ChannelRateLimit> rateLimits = new ConcurrentHashMap<>();
+    private volatile Future<?> worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker = virtualExecutorService.submit(this::run);
+        wakeUp();
+        log.info("Started discord outbox dispatcher");
+    }
+
+    @PreDestroy
+    public void stop() {
+        if(worker != null) {
+            log.info("Stopping discord outbox dispatcher");
+            worker.cancel(true);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onMessageEnqueued(DiscordOutboxEnqueuedEvent event) {
+        log.trace("Discord message [{}] got committed, sending at [{}]", event.messageId(), event.sendAt());
+        remindAt(event.sendAt());
+        // Wakes the worker even for messages that are not due yet, so it waits for the right time
+        wakeUp();
+    }
+
+    private void remindAt(OffsetDateTime sendAt) {
+        nextSendAt.accumulateAndGet(sendAt, (current, next) -> current == null || next.isBefore(current) ? next : current);
+    }
+
+    private void wakeUp() {
+        // One pending wake up is enough, the worker sends everything that is pending when it wakes up
+        if(wakeUps.availablePermits() == 0)
+            wakeUps.release();
+    }
+
+    private void run() {
+        log.debug("Discord outbox dispatcher running on thread [{}]", Thread.currentThread());
+        try {
+            while(!Thread.currentThread().isInterrupted()) {
+                boolean isWokenUp = wakeUps.tryAcquire(untilNextSend().toMillis(), TimeUnit.MILLISECONDS);
+                wakeUps.drainPermits();
+
+                OffsetDateTime now = OffsetDateTime.now(clock);
+                OffsetDateTime sendAt = nextSendAt.get();
+                if(isWokenUp && sendAt != null && sendAt.isAfter(now)) {
+                    log.trace("Woken up for a discord message that is due at [{}]", sendAt);
+                    continue;
+                }
+
+                nextSendAt.updateAndGet(next -> next != null && !next.isAfter(now) ? null : next);
+                try {
+                    dispatchPending();
+                    outboxService.getNextSendAt().ifPresent(this::remindAt);
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    log.error("Failed to dispatch pending discord messages", e);
+                }
+            }
+        } catch (InterruptedException e) {
+            log.debug("Discord outbox dispatcher thread [{}] got interrupted", Thread.currentThread());
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Duration untilNextSend() {
+        OffsetDateTime sendAt = nextSendAt.get();
+        if(sendAt == null)
+            return POLL_INTERVAL;
+        Duration untilSend = Duration.between(OffsetDateTime.now(clock), sendAt);
+        if(untilSend.isNegative())
+            return Duration.ZERO;
+        return untilSend.compareTo(POLL_INTERVAL) > 0 ? POLL_INTERVAL : untilSend;
+    }
+
+    /**
+     * Sends all pending messages that are due, channel by channel.
+     * @return the number of outbox messages that got sent
+     */
+    int dispatchPending() throws InterruptedException {
+        int sent = 0;
+        List<DiscordOutboxMessage> pending;
+        do {
+            pending = outboxService.getPendingMessages();
+            if(pending.isEmpty())
+                break;
+            log.debug("Dispatching [{}] pending discord messages", pending.size());
+
+            Map<Long, Long> heldBackAfter = heldBackAfterByChannel();
+            Map<TextChannel, List<List<DiscordOutboxMessage>>> byChannel = new LinkedHashMap<>();
+            for(List<DiscordOutboxMessage> group : coalesce(pending)) {
+                TextChannel channel = renderer.channelOf(group.get(0).getType());
+                Long failedId = heldBackAfter.get(channel.getId());
+                if(failedId != null && group.get(0).getId() > failedId) {
+                    log.trace("Holding back discord message [{}] until the earlier failed message [{}] of its channel got sent", group.get(0).getId(), failedId);
+                    continue;
+                }
+                byChannel.computeIfAbsent(channel, c -> new ArrayList<>()).add(group);
+            }
+
+            List<Future<Integer>> channelSends = new ArrayList<>(byChannel.size());
+            byChannel.forEach((channel, groups) -> channelSends.add(virtualExecutorService.submit(() -> dispatchToChannel(channel, groups))));
+            int sentInBatch = 0;
+            for(Future<Integer> channelSend : channelSends) {
+                try {
+                    sentInBatch += channelSend.get();
+                } catch (ExecutionException e) {
+                    log.error("Failed to dispatch discord messages to a channel", e.getCause());
+                }
+            }
+            sent += sentInBatch;
+            // Messages that failed in this batch are not due again yet, without any progress the rest waits for the next wake up
+            if(sentInBatch == 0)
+                break;
+        } while(pending.size() >= DiscordOutboxService.BATCH_SIZE);
+
+        log.debug("Dispatched [{}] discord messages", sent);
+        return sent;
+    }
+
+    /**
+     * @return the id of the first failed message that waits for its retry, by the id of its channel
+     */
+    private Map<Long, Long> heldBackAfterByChannel() {
+        Map<Long, Long> heldBackAfter = new HashMap<>();
+        for(DiscordOutboxMessage failed : outboxService.getMessagesWaitingForRetry()) {
+            heldBackAfter.merge(renderer.channelOf(failed.getType()).getId(), failed.getId(), Math::min);
+        }
+        return heldBackAfter;
+    }
+
+    /**
+     * Merges pending state updates of the same entity into the group of the first one, all other messages stay on their own.
+     * The order of the messages is kept.
+     */
+    static List<List<DiscordOutboxMessage>> coalesce(List<DiscordOutboxMessage> messages) {
+        Map<Object, List<DiscordOutboxMessage>> groups = new LinkedHashMap<>();
+        for(DiscordOutboxMessage message : messages) {
+            Object key = message.getType().isStateUpdate() ? List.of(message.getType(), message.getReferenceId()) : message.getId();
+            groups.computeIfAbsent(key, k -> new ArrayList<>(1)).add(message);
+        }
+        return List.copyOf(groups.values());
+    }
+
+    private int dispatchToChannel(TextChannel channel, List<List<DiscordOutboxMessage>> groups) throws InterruptedException {
+        val rateLimit = rateLimits.computeIfAbsent(channel.getId(), id -> new ChannelRateLimit());
+        int sent = 0;
+        for(List<DiscordOutboxMessage> group : groups) {
+            val first = group.get(0);
+            val ids = group.stream().map(DiscordOutboxMessage::getId).toList();
+            Message message = null;
+            try {
+                val rendered = renderer.render(first);
+                if(rendered.isPresent()) {
+                    rateLimit.acquire();
+                    message = rendered.get().isEdit()
+                            ? discordService.editMessage(channel, rendered.get().editedMessageId(), rendered.get().message().embeds())
+                            : discordService.sendMessage(rendered.get().message(), channel);
+                }
+                else {
+                    log.debug("Nothing to send for discord message [{}]", first);
+                }
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                Duration retryDelay = retryDelay(first.getAttempts());
+                log.warn("Failed to send discord message [{}] for [{}] on attempt [{}], retrying in [{}]: {}",
+                        first.getType(), first.getReferenceId(), first.getAttempts() + 1, retryDelay, cause.toString());
+                outboxService.markFailed(ids, OffsetDateTime.now(clock).plus(retryDelay), cause.toString());
+                if(cause instanceof RatelimitException)
+                    rateLimit.pause();
+                // Keep the order of the channel, the rest is held back until the failed message got sent
+                break;
+            }
+
+            // Discord has the message now, failing to record that must not send it again
+            try {
+                if(message != null)
+                    renderer.recordSentMessage(first, message);
+                outboxService.markSent(ids);
+                sent += group.size();
+            } catch (Exception e) {
+                log.error("Failed to mark discord messages [{}] as sent, they might be sent again", ids, e);
+            }
+        }
+        return sent;
+    }
+
+    static Duration retryDelay(int failedAttempts) {
+        Duration delay = MIN_RETRY_DELAY.multipliedBy(1L << Math.min(failedAttempts, 10));
+        return delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay;
+    }
+
+    /**
+     * Sliding window of the messages sent to one channel, only used by the thread that sends to the channel.
+     */
+    private static final class ChannelRateLimit {
+        private final Deque<Long> sentAtNanos = new ArrayDeque<>(CHANNEL_MESSAGES_PER_WINDOW);
+
+        void acquire() throws InterruptedException {
+            long now = System.nanoTime();
+            while(!sentAtNanos.isEmpty() && now - sentAtNanos.peekFirst() >= CHANNEL_WINDOW.toNanos())
+                sentAtNanos.pollFirst();
+
+            if(sentAtNanos.size() >= CHANNEL_MESSAGES_PER_WINDOW) {
+                long waitNanos = CHANNEL_WINDOW.toNanos() - (now - sentAtNanos.pollFirst());
+                log.debug("Channel rate limit reached, waiting [{}ms]", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+            sentAtNanos.addLast(System.nanoTime());
+        }
+
+        void pause() {
+            // Counts as a full window, the next message waits until it passed
+            long now = System.nanoTime();
+            sentAtNanos.clear();
+            for(int i = 0; i < CHANNEL_MESSAGES_PER_WINDOW; i++)
+                sentAtNanos.addLast(now);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.ardaslegends.service.discord.outbox;
+
+import com.ardaslegends.domain.DiscordOutboxMessageType;
+
+import java.time.OffsetDateTime;
+
+public record DiscordOutboxEnqueuedEvent(Long messageId, DiscordOutboxMessageType type, OffsetDateTime sendAt) {
+}
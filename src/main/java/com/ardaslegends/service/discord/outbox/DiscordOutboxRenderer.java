@@ -0,0 +1,125 @@
+package com.ardaslegends.service.discord.outbox;
+
+import com.ardaslegends.domain.DiscordOutboxMessage;
+import com.ardaslegends.domain.DiscordOutboxMessageType;
+import com.ardaslegends.domain.applications.AbstractApplication;
+import com.ardaslegends.presentation.discord.config.BotProperties;
+import com.ardaslegends.repository.applications.RoleplayApplicationRepository;
+import com.ardaslegends.repository.applications.claimbuildapp.ClaimbuildApplicationRepository;
+import com.ardaslegends.repository.player.PlayerRepository;
+import com.ardaslegends.repository.war.WarRepository;
+import com.ardaslegends.repository.war.battle.BattleRepository;
+import com.ardaslegends.service.discord.DiscordService;
+import com.ardaslegends.service.discord.messages.ALMessage;
+import com.ardaslegends.service.discord.messages.war.BattleMessages;
+import com.ardaslegends.service.discord.messages.war.WarMessages;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.message.Message;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds the Discord message of an {@link DiscordOutboxMessage} from the current state of the entity it is about.
+ * Rendering happens in its own short read-only transaction, the message is sent after the transaction is closed.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Component
+@Transactional(readOnly = true)
+public class DiscordOutboxRenderer {
+
+    private final WarRepository warRepository;
+    private final BattleRepository battleRepository;
+    private final PlayerRepository playerRepository;
+    private final RoleplayApplicationRepository rpApplicationRepository;
+    private final ClaimbuildApplicationRepository cbApplicationRepository;
+    private final DiscordService discordService;
+    private final BotProperties botProperties;
+
+    public TextChannel channelOf(DiscordOutboxMessageType type) {
+        return switch (type) {
+            case WAR_DECLARED, WAR_FORCE_ENDED, BATTLE_DECLARED, BATTLE_CONCLUDED -> botProperties.getGeneralRpCommandsChannel();
+            case ROLEPLAY_APPLICATION_CREATED, ROLEPLAY_APPLICATION_UPDATED -> botProperties.getRpAppsChannel();
+            case CLAIMBUILD_APPLICATION_CREATED, CLAIMBUILD_APPLICATION_UPDATED -> botProperties.getClaimbuildAppsChannel();
+        };
+    }
+
+    /**
+     * @return the message to send, empty if there is nothing to send anymore, e.g. because the entity got deleted in the meantime
+     */
+    public Optional<RenderedMessage> render(DiscordOutboxMessage message) {
+        log.debug("Rendering discord message [{}]", message);
+        val channel = channelOf(message.getType());
+        val referenceId = message.getReferenceId();
+
+        return switch (message.getType()) {
+            case WAR_DECLARED -> warRepository.findById(referenceId)
+                    .map(war -> RenderedMessage.send(channel, WarMessages.declareWar(war, discordService)));
+            case WAR_FORCE_ENDED -> warRepository.findById(referenceId)
+                    .flatMap(war -> playerRepository.findByDiscordID(message.getActorDiscordId())
+                            .map(player -> RenderedMessage.send(channel, WarMessages.forceEndWar(war, player, discordService))));
+            case BATTLE_DECLARED -> battleRepository.findById(referenceId)
+                    .map(battle -> RenderedMessage.send(channel, BattleMessages.declareBattle(battle, discordService)));
+            case BATTLE_CONCLUDED -> battleRepository.findById(referenceId)
+                    .map(battle -> RenderedMessage.send(channel, BattleMessages.concludeBattle(battle, discordService)));
+            case ROLEPLAY_APPLICATION_CREATED -> rpApplicationRepository.findById(referenceId)
+                    .map(application -> renderApplicationCreated(channel, application));
+            case CLAIMBUILD_APPLICATION_CREATED -> cbApplicationRepository.findById(referenceId)
+                    .map(application -> renderApplicationCreated(channel, application));
+            case ROLEPLAY_APPLICATION_UPDATED -> rpApplicationRepository.findById(referenceId)
+                    .flatMap(application -> renderApplicationUpdated(channel, application));
+            case CLAIMBUILD_APPLICATION_UPDATED -> cbApplicationRepository.findById(referenceId)
+                    .flatMap(application -> renderApplicationUpdated(channel, application));
+        };
+    }
+
+    /**
+     * Stores the link of a sent application message, later updates of the application edit this message.
+     */
+    @Transactional(readOnly = false)
+    public void recordSentMessage(DiscordOutboxMessage outboxMessage, Message sentMessage) {
+        Optional<? extends AbstractApplication<?>> application = switch (outboxMessage.getType()) {
+            case ROLEPLAY_APPLICATION_CREATED -> rpApplicationRepository.findById(outboxMessage.getReferenceId());
+            case CLAIMBUILD_APPLICATION_CREATED -> cbApplicationRepository.findById(outboxMessage.getReferenceId());
+            default -> Optional.empty();
+        };
+
+        application.ifPresent(app -> {
+            log.debug("Recording application message [{}] of application [{}]", sentMessage.getId(), app.getId());
+            app.applicationMessageSent(sentMessage);
+        });
+    }
+
+    private RenderedMessage renderApplicationCreated(TextChannel channel, AbstractApplication<?> application) {
+        return RenderedMessage.send(channel, new ALMessage(null, List.of(application.buildApplicationMessage())));
+    }
+
+    private Optional<RenderedMessage> renderApplicationUpdated(TextChannel channel, AbstractApplication<?> application) {
+        if(application.getDiscordApplicationMessageId() == null) {
+            // The application message is not sent yet, it will show the current state once it is
+            log.debug("Application [{}] has no message to update yet", application.getId());
+            return Optional.empty();
+        }
+        return Optional.of(new RenderedMessage(channel, new ALMessage(null, List.of(application.buildApplicationMessage())), application.getDiscordApplicationMessageId()));
+    }
+
+    /**
+     * @param editedMessageId the message whose embeds get replaced, null if a new message is sent
+     */
+    public record RenderedMessage(TextChannel channel, ALMessage message, Long editedMessageId) {
+
+        static RenderedMessage send(TextChannel channel, ALMessage message) {
+            return new RenderedMessage(channel, message, null);
+        }
+
+        public boolean isEdit() {
+            return editedMessageId != null;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.ardaslegends.service.discord.outbox;
+
+import com.ardaslegends.domain.DiscordOutboxMessage;
+import com.ardaslegends.domain.DiscordOutboxMessageType;
+import com.ardaslegends.repository.DiscordOutboxRepository;
+import com.ardaslegends.service.AbstractService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Records Discord messages in the transaction of the change they announce.
+ * If the transaction rolls back the message is never sent, once it commits the {@link DiscordOutboxDispatcher} sends it.
+ * <p>
+ * State updates, e.g. the votes on an application, are debounced: they are sent once no further update of the same entity
+ * came in for {@link #STATE_UPDATE_DEBOUNCE}, but at most {@link #MAX_STATE_UPDATE_DELAY} after the first one.
+ * Since the message is built when it is sent, the single edit shows the latest state.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class DiscordOutboxService extends AbstractService<DiscordOutboxMessage, DiscordOutboxRepository> {
+
+    // The number of messages getPendingMessages returns at most
+    public static final int BATCH_SIZE = 100;
+    private static final int MAX_ERROR_LENGTH = 1000;
+    public static final Duration STATE_UPDATE_DEBOUNCE = Duration.ofSeconds(5);
+    public static final Duration MAX_STATE_UPDATE_DELAY = Duration.ofSeconds(30);
+
+    private final DiscordOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    @Transactional(readOnly = false, propagation = Propagation.MANDATORY)
+    public void enqueue(DiscordOutboxMessageType type, Long referenceId) {
+        enqueue(type, referenceId, null);
+    }
+
+    /**
+     * Must be called inside the transaction of the change the message is about.
+     */
+    @Transactional(readOnly = false, propagation = Propagation.MANDATORY)
+    public void enqueue(DiscordOutboxMessageType type, Long referenceId, String actorDiscordId) {
+        log.debug("Enqueueing discord message [{}] for [{}]", type, referenceId);
+        Objects.requireNonNull(type, "Type of discord message must not be null");
+        Objects.requireNonNull(referenceId, "ReferenceId of discord message must not be null");
+
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        OffsetDateTime sendAt = now;
+        if(type.isStateUpdate()) {
+            sendAt = now.plus(STATE_UPDATE_DEBOUNCE);
+            // Updates that are pending for too long already are not postponed again, so a steady stream of updates still gets sent
+            int postponed = outboxRepository.postponePending(type, referenceId, sendAt, now.minus(MAX_STATE_UPDATE_DELAY).plus(STATE_UPDATE_DEBOUNCE));
+            log.debug("Postponed [{}] pending discord messages [{}] for [{}] to [{}]", postponed, type, referenceId, sendAt);
+        }
+
+        DiscordOutboxMessage message = secureSave(new DiscordOutboxMessage(type, referenceId, actorDiscordId, now, sendAt), outboxRepository);
+        eventPublisher.publishEvent(new DiscordOutboxEnqueuedEvent(message.getId(), type, sendAt));
+        log.debug("Enqueued discord message [{}] to be sent at [{}]", message.getId(), sendAt);
+    }
+
+    public List<DiscordOutboxMessage> getPendingMessages() {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        log.trace("Getting pending discord messages due at [{}]", now);
+        return secureFind(now, outboxRepository::findTop100BySentAtIsNullAndNextAttemptAtLessThanEqualOrderById);
+    }
+
+    /**
+     * @return the messages that failed and are not due for their next attempt yet
+     */
+    public List<DiscordOutboxMessage> getMessagesWaitingForRetry() {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        log.trace("Getting failed discord messages waiting for a retry at [{}]", now);
+        return secureFind(0, now, outboxRepository::findBySentAtIsNullAndAttemptsGreaterThanAndNextAttemptAtGreaterThan);
+    }
+
+    /**
+     * @return when the next pending message becomes due, empty if no message is pending
+     */
+    public Optional<OffsetDateTime> getNextSendAt() {
+        return secureFind(outboxRepository::findFirstBySentAtIsNullOrderByNextAttemptAt)
+                .map(DiscordOutboxMessage::getNextAttemptAt);
+    }
+
+    @Transactional(readOnly = false)
+    public void markSent(Collection<Long> messageIds) {
+        log.debug("Marking discord messages [{}] as sent", messageIds);
+        outboxRepository.markSent(messageIds, OffsetDateTime.now(clock));
+    }
+
+    @Transactional(readOnly = false)
+    public void markFailed(Collection<Long> messageIds, OffsetDateTime nextAttemptAt, String error) {
+        log.debug("Marking discord messages [{}] as failed, next attempt at [{}]", messageIds, nextAttemptAt);
+        String lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        outboxRepository.markFailed(messageIds, nextAttemptAt, lastError);
+    }
+}
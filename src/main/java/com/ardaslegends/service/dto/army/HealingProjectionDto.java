@@ -0,0 +1,11 @@
+package com.ardaslegends.service.dto.army;
+
+import java.time.OffsetDateTime;
+
+/**
+ * @param cyclesUntilHealed the replenish cycles still needed to heal every unit, -1 if the army only heals completely at healEnd
+ * @param projectedCompletion when the army is expected to be fully healed, never after healEnd. Like healEnd it is wall time
+ */
+public record HealingProjectionDto(String armyName, Integer hoursPerCycle, Integer cyclesUntilHealed,
+                                   OffsetDateTime projectedCompletion, OffsetDateTime healEnd) {
+}
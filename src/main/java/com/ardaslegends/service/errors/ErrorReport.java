@@ -0,0 +1,18 @@
+package com.ardaslegends.service.errors;
+
+import java.time.OffsetDateTime;
+
+/**
+ * All occurrences of one error since it was first seen.
+ *
+ * @param fingerprint identifies all errors of the same type thrown from the same place
+ * @param count how often the error occurred
+ */
+public record ErrorReport(
+        String fingerprint,
+        String type,
+        long count,
+        OffsetDateTime firstOccurredAt,
+        OffsetDateTime lastOccurredAt
+) {
+}
@@ -0,0 +1,171 @@
+package com.ardaslegends.service.errors;
+
+import com.ardaslegends.presentation.discord.config.BotProperties;
+import com.ardaslegends.presentation.discord.utils.ALColor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.javacord.api.entity.message.embed.EmbedBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the errors caught by the services and reports them to the error channel as a periodic digest.
+ * <p>
+ * Errors are fingerprinted by their type and the top frames of their stack trace, so the same failure thrown a thousand
+ * times during a database hiccup ends up as one embed with its count. Reporting never talks to Discord, the digest of
+ * the last window is sent asynchronously every minute.
+ * The {@link #RECENT_ERRORS_CAPACITY} most recently seen fingerprints are kept with their total count. They hold no messages
+ * or stack frames, those can contain identifiers and SQL and only go to the error channel.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class ErrorReporter {
+
+    static final int TOP_FRAMES = 5;
+    static final int RECENT_ERRORS_CAPACITY = 200;
+    // Keeps the digest below Discord's limit of 10 embeds and 6000 characters per message
+    static final int MAX_EMBEDS_PER_DIGEST = 5;
+    private static final int MAX_MESSAGE_LENGTH = 300;
+    private static final int MAX_FRAMES_LENGTH = 500;
+
+    private final BotProperties botProperties;
+    private final Clock clock;
+
+    private final Map<String, ErrorAggregate> window = new ConcurrentHashMap<>();
+    // Ordered from the least to the most recently seen fingerprint
+    private final LinkedHashMap<String, ErrorReport> recentErrors = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ErrorReport> eldest) {
+            return size() > RECENT_ERRORS_CAPACITY;
+        }
+    };
+
+    public void report(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        val now = OffsetDateTime.now(clock);
+        val topFrames = Arrays.stream(throwable.getStackTrace())
+                .limit(TOP_FRAMES)
+                .map(StackTraceElement::toString)
+                .toList();
+        val type = throwable.getClass().getName();
+        val key = type + topFrames;
+
+        // compute is atomic per fingerprint, the digest removes the aggregate the same way so no occurrence gets lost
+        window.compute(key, (k, aggregate) -> {
+            if(aggregate == null) {
+                val fingerprint = "%08x".formatted(key.hashCode());
+                aggregate = new ErrorAggregate(fingerprint, type, throwable.getMessage(), topFrames, now);
+                log.debug("Recording new error [{}] with fingerprint [{}]", type, fingerprint);
+            }
+            aggregate.count++;
+            aggregate.lastSeen = now;
+            addRecentError(aggregate.fingerprint, type, now);
+            return aggregate;
+        });
+    }
+
+    /**
+     * @return the most recently seen errors, newest first
+     */
+    public List<ErrorReport> getRecentErrors() {
+        synchronized (recentErrors) {
+            val errors = new ArrayList<>(recentErrors.values());
+            Collections.reverse(errors);
+            return errors;
+        }
+    }
+
+    private void addRecentError(String fingerprint, String type, OffsetDateTime now) {
+        synchronized (recentErrors) {
+            // Removing first moves the fingerprint to the end of the insertion order
+            val previous = recentErrors.remove(fingerprint);
+            recentErrors.put(fingerprint, previous == null
+                    ? new ErrorReport(fingerprint, type, 1, now, now)
+                    : new ErrorReport(fingerprint, type, previous.count() + 1, previous.firstOccurredAt(), now));
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void sendDigest() {
+        val aggregates = drainWindow();
+        if(aggregates.isEmpty())
+            return;
+
+        log.debug("Sending error digest of [{}] fingerprints", aggregates.size());
+        val embeds = buildDigest(aggregates);
+        // Sending is asynchronous, a failing error channel is only logged so it cannot report itself in a loop
+        botProperties.getErrorChannel().sendMessage(embeds)
+                .exceptionally(e -> {
+                    log.warn("Failed to send error digest: {}", e.toString());
+                    return null;
+                });
+    }
+
+    List<ErrorAggregate> drainWindow() {
+        List<ErrorAggregate> aggregates = new ArrayList<>(window.size());
+        for(String key : List.copyOf(window.keySet())) {
+            val aggregate = window.remove(key);
+            if(aggregate != null)
+                aggregates.add(aggregate);
+        }
+        aggregates.sort(Comparator.comparingInt((ErrorAggregate aggregate) -> aggregate.count).reversed());
+        return aggregates;
+    }
+
+    static List<EmbedBuilder> buildDigest(List<ErrorAggregate> aggregates) {
+        List<EmbedBuilder> embeds = new ArrayList<>(MAX_EMBEDS_PER_DIGEST + 1);
+        aggregates.stream().limit(MAX_EMBEDS_PER_DIGEST).forEach(aggregate -> embeds.add(new EmbedBuilder()
+                .setTitle("%s (%dx)".formatted(simpleName(aggregate.type), aggregate.count))
+                .setDescription(truncate(Objects.toString(aggregate.message, "No message"), MAX_MESSAGE_LENGTH))
+                .addField("Top frames", "```" + truncate(String.join("\n", aggregate.topFrames), MAX_FRAMES_LENGTH) + "```")
+                .setFooter("Fingerprint " + aggregate.fingerprint + ", first seen " + aggregate.firstSeen)
+                .setTimestamp(aggregate.lastSeen.toInstant())
+                .setColor(ALColor.RED)));
+
+        if(aggregates.size() > MAX_EMBEDS_PER_DIGEST) {
+            val others = aggregates.subList(MAX_EMBEDS_PER_DIGEST, aggregates.size());
+            embeds.add(new EmbedBuilder()
+                    .setTitle("And %d more errors".formatted(others.size()))
+                    .setDescription("%d occurrences in total".formatted(others.stream().mapToInt(aggregate -> aggregate.count).sum()))
+                    .setColor(ALColor.RED));
+        }
+        return embeds;
+    }
+
+    private static String simpleName(String type) {
+        return type.substring(type.lastIndexOf('.') + 1);
+    }
+
+    private static String truncate(String text, int maxLength) {
+        return text.length() <= maxLength ? text : text.substring(0, maxLength - 3) + "...";
+    }
+
+    /**
+     * All occurrences of one fingerprint within the current window, only modified inside {@link Map#compute}.
+     */
+    static final class ErrorAggregate {
+        final String fingerprint;
+        final String type;
+        final String message;
+        final List<String> topFrames;
+        final OffsetDateTime firstSeen;
+        int count;
+        OffsetDateTime lastSeen;
+
+        private ErrorAggregate(String fingerprint, String type, String message, List<String> topFrames, OffsetDateTime firstSeen) {
+            this.fingerprint = fingerprint;
+            this.type = type;
+            this.message = message;
+            this.topFrames = topFrames;
+            this.firstSeen = firstSeen;
+            this.lastSeen = firstSeen;
+        }
+    }
+}
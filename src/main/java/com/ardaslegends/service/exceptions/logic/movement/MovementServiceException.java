@@ -14,6 +14,9 @@ public class MovementServiceException extends LogicException {
     //Create rp char move
     private static final String CANNOT_MOVE_CHAR_IS_HEALING = "The character '%s' is currently healing and therefore cannot move!";
 
+    //Calculate reachable regions
+    private static final String NEGATIVE_MAX_HOURS = "Max hours must not be negative but was '%d'!";
+
     public static MovementServiceException noActiveMovementArmy(String armyName) { return new MovementServiceException(NO_ACTIVE_MOVEMENT_FOUND_ARMY.formatted(armyName)); }
     public static MovementServiceException noActiveMovementChar(String charName) { return new MovementServiceException(NO_ACTIVE_MOVEMENT_CHAR.formatted(charName)); }
 
@@ -24,6 +27,9 @@ public class MovementServiceException extends LogicException {
     //Create rp char move
     public static MovementServiceException cannotMoveCharIsHealing(String charName) { return new MovementServiceException(CANNOT_MOVE_CHAR_IS_HEALING.formatted(charName)); }
 
+    //Calculate reachable regions
+    public static MovementServiceException negativeMaxHours(int maxHours) { return new MovementServiceException(NEGATIVE_MAX_HOURS.formatted(maxHours)); }
+
     protected MovementServiceException(String message, Throwable rootCause) {
         super(message, rootCause);
     }
@@ -5,6 +5,8 @@ import com.ardaslegends.service.exceptions.logic.LogicException;
 import com.ardaslegends.service.utils.ServiceUtils;
 import lombok.val;
 
+import java.time.Clock;
+
 public class BattleServiceException extends LogicException {
     private static final String FACTIONS_NOT_AT_WAR = "Cannot declare a battle because %s and %s are not at war with each other!";
     private static final String BATTLE_NOT_ABLE_DUE_HOURS = "Region can not be reached within 24 hours";
@@ -25,8 +27,8 @@ public class BattleServiceException extends LogicException {
     public static BattleServiceException factionsNotAtWar(String factionName1, String factionName2) { return new BattleServiceException(FACTIONS_NOT_AT_WAR.formatted(factionName1, factionName2)); }
 
     public static BattleServiceException battleNotAbleDueHours (){ return  new BattleServiceException(BATTLE_NOT_ABLE_DUE_HOURS.formatted());}
-    public static BattleServiceException defendingArmyIsMovingAway (Army armyMovingAway){
-        val durationUntilNextRegion = armyMovingAway.getActiveMovement().orElseThrow(() -> new IllegalArgumentException("Army %s has no movement! PLEASE CONTACT DEVS".formatted(armyMovingAway.getName()))).getDurationUntilNextRegion();
+    public static BattleServiceException defendingArmyIsMovingAway (Army armyMovingAway, Clock gameClock){
+        val durationUntilNextRegion = armyMovingAway.getActiveMovement().orElseThrow(() -> new IllegalArgumentException("Army %s has no movement! PLEASE CONTACT DEVS".formatted(armyMovingAway.getName()))).getDurationUntilNextRegion(gameClock);
         return new BattleServiceException(DEFENDING_ARMY_IS_MOVING_AWAY.formatted(ServiceUtils.formatDuration(durationUntilNextRegion)));}
     public static BattleServiceException attackingArmyHasAnotherMovement(){return new BattleServiceException(ATTACKING_ARMY_HAS_ANOTHER_MOVEMENT.formatted());}
     public static BattleServiceException notEnoughHealth(){ return new BattleServiceException(NOT_ENOUGH_HEALTH.formatted());}
@@ -0,0 +1,185 @@
+package com.ardaslegends.service.healing;
+
+import com.ardaslegends.domain.Army;
+import com.ardaslegends.domain.ClaimBuildType;
+import com.ardaslegends.domain.Unit;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Computes how the units of a healing army replenish, without walking the replenish cycles one by one.
+ * <p>
+ * Every cycle (24 hours, 12 when stationed at a stronghold) gives {@value #TOKENS_PER_CYCLE} tokens.
+ * They heal the units with dead soldiers in ascending cost order: a unit that can be healed completely is, and the rest of the
+ * tokens go to the next unit. The first unit that cannot be healed completely gets as many soldiers as the tokens pay for,
+ * the remaining tokens of that cycle are lost.
+ * <p>
+ * Consecutive cycles that are spent on the same unit are computed at once, so the cost is linear in the amount of units,
+ * no matter how many cycles have passed.
+ */
+public final class ArmyHealingCalculator {
+
+    public static final double TOKENS_PER_CYCLE = 6.0;
+    public static final int HOURS_PER_CYCLE = 24;
+    public static final int HOURS_PER_CYCLE_IN_STRONGHOLD = 12;
+
+    private ArmyHealingCalculator() {
+    }
+
+    public static int hoursPerCycle(ClaimBuildType stationedAt) {
+        return ClaimBuildType.STRONGHOLD.equals(stationedAt) ? HOURS_PER_CYCLE_IN_STRONGHOLD : HOURS_PER_CYCLE;
+    }
+
+    /**
+     * @param hoursHealed the hours the army had healed at the last replenish
+     * @param hoursHealedSinceLastTime the hours healed since then
+     * @return the amount of replenish cycles completed in hoursHealedSinceLastTime
+     */
+    public static int completedCycles(int hoursHealed, int hoursHealedSinceLastTime, int hoursPerCycle) {
+        return Math.max(0, (hoursHealed % hoursPerCycle + hoursHealedSinceLastTime) / hoursPerCycle);
+    }
+
+    /**
+     * The scheduler counts the hours left as the started hours until healEnd, so a healing army completes
+     * its next replenish cycle once less than hoursHealed + hoursLeftHealing - nextCycleHour hours are left.
+     *
+     * @return the time the next replenish cycle of the army completes, or a second after healEnd if the healing ends before
+     */
+    public static OffsetDateTime nextReplenishAt(Army army) {
+        int hoursPerCycle = hoursPerCycle(army.getStationedAt().getType());
+        int totalHours = army.getHoursHealed() + army.getHoursLeftHealing();
+        int nextCycleHour = (army.getHoursHealed() / hoursPerCycle + 1) * hoursPerCycle;
+        int hoursLeftAtNextCycle = totalHours - nextCycleHour;
+
+        OffsetDateTime healEnd = army.getHealEnd();
+        return (hoursLeftAtNextCycle > 0 ? healEnd.minusHours(hoursLeftAtNextCycle) : healEnd).plusSeconds(1);
+    }
+
+    /**
+     * Computes the alive soldiers of each unit after the given amount of replenish cycles. Does not modify the units.
+     */
+    public static Result replenish(List<Unit> units, int cycles) {
+        int size = units.size();
+        int[] counts = new int[size];
+        int[] alive = new int[size];
+        double[] costs = new double[size];
+        for(int i = 0; i < size; i++) {
+            Unit unit = units.get(i);
+            counts[i] = unit.getCount();
+            alive[i] = unit.getAmountAlive();
+            costs[i] = unit.getCost();
+        }
+        int[] order = sortByCost(costs);
+
+        int position = nextWounded(order, counts, alive, 0);
+        long cyclesUsed = 0;
+        double tokens = 0;
+        boolean isFreshCycle = false;
+
+        while(position < size && (tokens > 0 || cyclesUsed < cycles)) {
+            if(tokens <= 0) {
+                tokens = TOKENS_PER_CYCLE;
+                isFreshCycle = true;
+                cyclesUsed++;
+            }
+
+            int unit = order[position];
+            int dead = counts[unit] - alive[unit];
+            double cost = costs[unit];
+            double tokensToHeal = dead * cost;
+
+            if(tokensToHeal < tokens) {
+                alive[unit] = counts[unit];
+                tokens -= tokensToHeal;
+                isFreshCycle = false;
+                position = nextWounded(order, counts, alive, position + 1);
+                continue;
+            }
+
+            if(!isFreshCycle) {
+                alive[unit] += (int) (tokens / cost);
+                tokens = 0;
+                position = nextWounded(order, counts, alive, position);
+                continue;
+            }
+
+            // Every cycle from now on is spent on this unit alone, until it needs less than a whole cycle
+            int healedPerCycle = (int) (TOKENS_PER_CYCLE / cost);
+            if(healedPerCycle == 0) {
+                cyclesUsed = Math.max(cyclesUsed, cycles);
+                break;
+            }
+            long cyclesAvailable = (long) cycles - cyclesUsed + 1;
+            long cyclesOnUnit = Math.min(wholeCyclesOnUnit(dead, cost, healedPerCycle), cyclesAvailable);
+            alive[unit] += (int) (cyclesOnUnit * healedPerCycle);
+            cyclesUsed += cyclesOnUnit - 1;
+            tokens = 0;
+            position = nextWounded(order, counts, alive, position);
+        }
+
+        return new Result(alive, (int) Math.min(cyclesUsed, Integer.MAX_VALUE), position >= size);
+    }
+
+    /**
+     * @return the cycles needed until every unit is alive, -1 if a unit can never be healed
+     */
+    public static int cyclesUntilHealed(List<Unit> units) {
+        Result result = replenish(units, Integer.MAX_VALUE);
+        return result.isFullyHealed() ? result.cyclesUsed() : -1;
+    }
+
+    /**
+     * The amount of consecutive fresh cycles in which healing the unit costs at least a whole cycle of tokens.
+     */
+    private static long wholeCyclesOnUnit(int dead, double cost, int healedPerCycle) {
+        long cycles = Math.max(0, (long) Math.ceil((dead - TOKENS_PER_CYCLE / cost) / healedPerCycle));
+        // The estimate can be off by one due to rounding, the check has to match the one of a single cycle exactly
+        while(cycles > 0 && !needsWholeCycle(dead, cost, healedPerCycle, cycles - 1))
+            cycles--;
+        while(needsWholeCycle(dead, cost, healedPerCycle, cycles))
+            cycles++;
+        return cycles;
+    }
+
+    private static boolean needsWholeCycle(int dead, double cost, int healedPerCycle, long cyclesBefore) {
+        return (dead - cyclesBefore * healedPerCycle) * cost >= TOKENS_PER_CYCLE;
+    }
+
+    private static int nextWounded(int[] order, int[] counts, int[] alive, int position) {
+        while(position < order.length && alive[order[position]] >= counts[order[position]])
+            position++;
+        return position;
+    }
+
+    /**
+     * Stable insertion sort of the unit indices by cost, armies only have a handful of units.
+     */
+    private static int[] sortByCost(double[] costs) {
+        int[] order = new int[costs.length];
+        for(int i = 0; i < order.length; i++) {
+            int index = i;
+            int j = i - 1;
+            while(j >= 0 && costs[order[j]] > costs[index]) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = index;
+        }
+        return order;
+    }
+
+    /**
+     * @param amountAlive the alive soldiers of each unit, in the order of the units passed to {@link #replenish(List, int)}
+     * @param cyclesUsed the cycles that healed at least one soldier
+     * @param isFullyHealed true if every unit is alive
+     */
+    public record Result(int[] amountAlive, int cyclesUsed, boolean isFullyHealed) {
+
+        public void applyTo(List<Unit> units) {
+            for(int i = 0; i < units.size(); i++) {
+                units.get(i).setAmountAlive(amountAlive[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ardaslegends.service.live;
+
+import com.ardaslegends.domain.war.battle.Battle;
+
+public record BattleLiveEvent(
+        String type,
+        Long battleId,
+        String name,
+        String region,
+        String initialAttacker,
+        String initialDefender
+) implements LiveEvent {
+
+    public static BattleLiveEvent declared(Battle battle) {
+        return of("declared", battle);
+    }
+
+    public static BattleLiveEvent concluded(Battle battle) {
+        return of("concluded", battle);
+    }
+
+    private static BattleLiveEvent of(String type, Battle battle) {
+        return new BattleLiveEvent(type, battle.getId(), battle.getName(), battle.getBattleLocation().getRegion().getId(),
+                battle.getInitialAttacker().getName(), battle.getInitialDefender().getName());
+    }
+
+    @Override
+    public LiveEventTopic topic() {
+        return LiveEventTopic.BATTLES;
+    }
+}
@@ -0,0 +1,27 @@
+package com.ardaslegends.service.live;
+
+import com.ardaslegends.domain.ClaimBuild;
+import com.ardaslegends.domain.Faction;
+
+public record ClaimbuildOwnerChangedLiveEvent(
+        String claimbuild,
+        String region,
+        String previousOwner,
+        String newOwner
+) implements LiveEvent {
+
+    public static ClaimbuildOwnerChangedLiveEvent of(ClaimBuild claimBuild, Faction previousOwner) {
+        return new ClaimbuildOwnerChangedLiveEvent(claimBuild.getName(), claimBuild.getRegion().getId(),
+                previousOwner == null ? null : previousOwner.getName(), claimBuild.getOwnedBy().getName());
+    }
+
+    @Override
+    public LiveEventTopic topic() {
+        return LiveEventTopic.CLAIMBUILDS;
+    }
+
+    @Override
+    public String type() {
+        return "owner-changed";
+    }
+}
@@ -0,0 +1,17 @@
+package com.ardaslegends.service.live;
+
+/**
+ * A state change that is streamed to the clients subscribed to its topic.
+ * <p>
+ * Live events are published inside the transaction that made the change and only streamed after it committed.
+ * They must only hold plain values, since they are serialised on another thread after the entities got detached.
+ */
+public interface LiveEvent {
+
+    LiveEventTopic topic();
+
+    /**
+     * @return what happened, e.g. declared or concluded, sent as part of the event name
+     */
+    String type();
+}
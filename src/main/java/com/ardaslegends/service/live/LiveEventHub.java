@@ -0,0 +1,182 @@
+package com.ardaslegends.service.live;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Streams the {@link LiveEvent}s to the clients as Server-Sent Events, so the map site does not have to poll.
+ * <p>
+ * Every client subscribes to a set of topics and gets its own bounded buffer, which a virtual thread drains into the
+ * stream. A client that falls {@link #CLIENT_BUFFER_SIZE} events behind is disconnected instead of slowing down the others.
+ * The last {@link #HISTORY_SIZE} events are kept, so a client that reconnects with the Last-Event-ID it got last
+ * receives the events it missed. If these are not known anymore, it receives a reset event and has to reload its state.
+ * Event ids start at the current time in millis, so an id from before a restart always leads to a reset.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class LiveEventHub {
+
+    static final int HISTORY_SIZE = 1000;
+    static final int CLIENT_BUFFER_SIZE = 256;
+    static final String RESET_EVENT = "reset";
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(30);
+    private static final Duration STREAM_TIMEOUT = Duration.ofMinutes(30);
+
+    private final ExecutorService virtualExecutorService;
+    private final Clock clock;
+
+    // Guarded by this, like the last event id, so events are added to the history and the buffers in the same order
+    private final Deque<PublishedEvent> history = new ArrayDeque<>(HISTORY_SIZE);
+    private long lastEventId;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        lastEventId = clock.millis();
+        log.debug("Live event ids start after [{}]", lastEventId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        log.info("Closing [{}] live event streams", subscriptions.size());
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLiveEvent(LiveEvent event) {
+        publish(event);
+    }
+
+    synchronized PublishedEvent publish(LiveEvent event) {
+        val published = new PublishedEvent(++lastEventId, event);
+        log.debug("Publishing live event [{}] to [{}] subscribers", published, subscriptions.size());
+
+        if(history.size() >= HISTORY_SIZE)
+            history.pollFirst();
+        history.addLast(published);
+
+        subscriptions.forEach(subscription -> subscription.offer(published));
+        return published;
+    }
+
+    /**
+     * @param lastEventId the id of the last event the client received before it reconnected, null for a new client
+     */
+    public SseEmitter subscribe(Set<LiveEventTopic> topics, Long lastEventId) {
+        Objects.requireNonNull(topics, "Topics must not be null");
+        log.debug("New live event subscription to topics [{}], last event id [{}]", topics, lastEventId);
+
+        val subscription = new Subscription(new SseEmitter(STREAM_TIMEOUT.toMillis()), Set.copyOf(topics));
+        synchronized (this) {
+            if(lastEventId != null) {
+                eventsSince(lastEventId, topics).ifPresentOrElse(
+                        missed -> missed.forEach(subscription::offer),
+                        () -> subscription.offer(new PublishedEvent(this.lastEventId, null)));
+            }
+            subscriptions.add(subscription);
+        }
+
+        subscription.emitter.onCompletion(() -> unsubscribe(subscription));
+        subscription.emitter.onTimeout(() -> unsubscribe(subscription));
+        subscription.emitter.onError(e -> unsubscribe(subscription));
+        subscription.sender = virtualExecutorService.submit(() -> send(subscription));
+        return subscription.emitter;
+    }
+
+    /**
+     * @return the events of the topics after the given id, empty if they are not known or too many to catch up with
+     */
+    synchronized Optional<List<PublishedEvent>> eventsSince(long eventId, Set<LiveEventTopic> topics) {
+        long oldestKnownId = history.isEmpty() ? lastEventId : history.peekFirst().id() - 1;
+        if(eventId < oldestKnownId || eventId > lastEventId) {
+            log.debug("Events since [{}] are not known, known are the events since [{}]", eventId, oldestKnownId);
+            return Optional.empty();
+        }
+
+        val missed = history.stream()
+                .filter(published -> published.id() > eventId && topics.contains(published.event().topic()))
+                .toList();
+        return missed.size() > CLIENT_BUFFER_SIZE ? Optional.empty() : Optional.of(missed);
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        if(subscriptions.remove(subscription)) {
+            log.debug("Live event subscription to topics [{}] ended", subscription.topics);
+            if(subscription.sender != null)
+                subscription.sender.cancel(true);
+        }
+    }
+
+    private void send(Subscription subscription) {
+        try {
+            while(!subscription.isOverflowed) {
+                val published = subscription.buffer.poll(HEARTBEAT_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if(published == null) {
+                    // Keeps proxies from closing the idle stream and detects clients that are gone
+                    subscription.emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+                else if(published.event() == null) {
+                    subscription.emitter.send(SseEmitter.event().id(String.valueOf(published.id())).name(RESET_EVENT).data(""));
+                }
+                else {
+                    subscription.emitter.send(SseEmitter.event()
+                            .id(String.valueOf(published.id()))
+                            .name(published.name())
+                            .data(published.event(), MediaType.APPLICATION_JSON));
+                }
+            }
+
+            log.warn("Live event subscriber to topics [{}] fell [{}] events behind, disconnecting it", subscription.topics, CLIENT_BUFFER_SIZE);
+            subscription.emitter.complete();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Live event subscriber to topics [{}] is gone: {}", subscription.topics, e.toString());
+            unsubscribe(subscription);
+        }
+    }
+
+    /**
+     * @param event null for the reset event, which tells the client to reload its state
+     */
+    record PublishedEvent(long id, LiveEvent event) {
+
+        String name() {
+            return event.topic().getName() + "." + event.type();
+        }
+    }
+
+    private static final class Subscription {
+        private final SseEmitter emitter;
+        private final Set<LiveEventTopic> topics;
+        private final BlockingQueue<PublishedEvent> buffer = new ArrayBlockingQueue<>(CLIENT_BUFFER_SIZE);
+        private volatile boolean isOverflowed;
+        private volatile Future<?> sender;
+
+        private Subscription(SseEmitter emitter, Set<LiveEventTopic> topics) {
+            this.emitter = emitter;
+            this.topics = topics;
+        }
+
+        void offer(PublishedEvent published) {
+            if(published.event() != null && !topics.contains(published.event().topic()))
+                return;
+            if(!buffer.offer(published))
+                isOverflowed = true;
+        }
+    }
+}
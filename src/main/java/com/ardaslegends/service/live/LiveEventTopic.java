@@ -0,0 +1,31 @@
+package com.ardaslegends.service.live;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * The topics clients can subscribe to in the live event stream.
+ */
+public enum LiveEventTopic {
+
+    MOVEMENTS("movements"),
+    BATTLES("battles"),
+    CLAIMBUILDS("claimbuilds"),
+    WARS("wars");
+
+    @Getter
+    private final String name;
+
+    LiveEventTopic(String name) {
+        this.name = name;
+    }
+
+    public static LiveEventTopic fromName(String name) {
+        return Arrays.stream(values())
+                .filter(topic -> topic.name.equalsIgnoreCase(name.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No live event topic '%s', available topics are %s".formatted(name,
+                        Arrays.stream(values()).map(LiveEventTopic::getName).toList())));
+    }
+}
@@ -0,0 +1,38 @@
+package com.ardaslegends.service.live;
+
+import com.ardaslegends.domain.Movement;
+import com.ardaslegends.service.time.GameClock;
+
+import java.time.OffsetDateTime;
+
+/**
+ * @param reachesNextRegionAt the wall time the next region is reached at, null once the movement ended
+ */
+public record MovementLiveEvent(
+        String type,
+        Long movementId,
+        String movingEntity,
+        String movingEntityName,
+        String currentRegion,
+        String destinationRegion,
+        OffsetDateTime reachesNextRegionAt
+) implements LiveEvent {
+
+    public static MovementLiveEvent advanced(Movement movement, GameClock gameClock) {
+        return of("advanced", movement, gameClock.toWallTime(movement.getReachesNextRegionAt()));
+    }
+
+    public static MovementLiveEvent ended(Movement movement) {
+        return of("ended", movement, null);
+    }
+
+    private static MovementLiveEvent of(String type, Movement movement, OffsetDateTime reachesNextRegionAt) {
+        return new MovementLiveEvent(type, movement.getId(), movement.getMovingEntity(), movement.getMovingEntityName(),
+                movement.getCurrentRegion().getId(), movement.getDestinationRegionId(), reachesNextRegionAt);
+    }
+
+    @Override
+    public LiveEventTopic topic() {
+        return LiveEventTopic.MOVEMENTS;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ardaslegends.service.live;
+
+import com.ardaslegends.domain.war.War;
+
+public record WarLiveEvent(
+        String type,
+        Long warId,
+        String name,
+        String initialAttacker,
+        String initialDefender
+) implements LiveEvent {
+
+    public static WarLiveEvent declared(War war) {
+        return of("declared", war);
+    }
+
+    public static WarLiveEvent ended(War war) {
+        return of("ended", war);
+    }
+
+    private static WarLiveEvent of(String type, War war) {
+        return new WarLiveEvent(type, war.getId(), war.getName(),
+                war.getInitialAttacker().getWarParticipant().getName(), war.getInitialDefender().getWarParticipant().getName());
+    }
+
+    @Override
+    public LiveEventTopic topic() {
+        return LiveEventTopic.WARS;
+    }
+}
@@ -0,0 +1,193 @@
+package com.ardaslegends.service.metrics;
+
+import com.ardaslegends.domain.applications.ApplicationState;
+import com.ardaslegends.repository.ArmyRepository;
+import com.ardaslegends.repository.MovementRepository;
+import com.ardaslegends.repository.applications.RoleplayApplicationRepository;
+import com.ardaslegends.repository.applications.claimbuildapp.ClaimbuildApplicationRepository;
+import com.ardaslegends.service.time.GameClock;
+import com.ardaslegends.service.time.PartitionedSweepExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The metrics of the game engine, exported through the Prometheus endpoint of the actuator.
+ * <p>
+ * Path searches, scheduler sweeps and Discord commands record themselves here when they finish.
+ * The gauges of the game state are counted every {@link #GAUGE_REFRESH_INTERVAL_MILLIS} instead of on every scrape,
+ * so scraping never touches the database.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class GameMetrics {
+
+    static final long GAUGE_REFRESH_INTERVAL_MILLIS = 30_000;
+
+    private final MeterRegistry meterRegistry;
+    private final MovementRepository movementRepository;
+    private final ArmyRepository armyRepository;
+    private final RoleplayApplicationRepository roleplayApplicationRepository;
+    private final ClaimbuildApplicationRepository claimbuildApplicationRepository;
+    private final GameClock gameClock;
+    private final Clock clock;
+
+    private final AtomicLong activeMovements = new AtomicLong();
+    private final AtomicLong healingArmies = new AtomicLong();
+    private final AtomicLong openRoleplayApplications = new AtomicLong();
+    private final AtomicLong openClaimbuildApplications = new AtomicLong();
+
+    @PostConstruct
+    void registerGauges() {
+        log.debug("Registering game state gauges");
+        Gauge.builder("arda.movements.active", activeMovements, AtomicLong::get)
+                .description("Movements of characters and armies that are currently active")
+                .register(meterRegistry);
+        Gauge.builder("arda.armies.healing", healingArmies, AtomicLong::get)
+                .description("Armies that are currently healing")
+                .register(meterRegistry);
+        Gauge.builder("arda.applications.open", openRoleplayApplications, AtomicLong::get)
+                .description("Applications that are waiting for votes")
+                .tag("type", "roleplay")
+                .register(meterRegistry);
+        Gauge.builder("arda.applications.open", openClaimbuildApplications, AtomicLong::get)
+                .description("Applications that are waiting for votes")
+                .tag("type", "claimbuild")
+                .register(meterRegistry);
+        Gauge.builder("arda.time.frozen", gameClock, frozenClock -> frozenClock.isFrozen() ? 1 : 0)
+                .description("1 while the game time is frozen")
+                .register(meterRegistry);
+        Gauge.builder("arda.time.frozen.duration", this, GameMetrics::currentFreezeSeconds)
+                .description("How long the current freeze of the game time lasts, 0 if it is not frozen")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelay = GAUGE_REFRESH_INTERVAL_MILLIS)
+    public void refreshGauges() {
+        log.trace("Counting game state for the gauges");
+        try {
+            activeMovements.set(movementRepository.countByIsCurrentlyActiveTrue());
+            healingArmies.set(armyRepository.countByIsHealingTrue());
+            openRoleplayApplications.set(roleplayApplicationRepository.countByState(ApplicationState.OPEN));
+            openClaimbuildApplications.set(claimbuildApplicationRepository.countByState(ApplicationState.OPEN));
+        } catch (Exception e) {
+            // The gauges keep their last values, the next refresh tries again
+            log.warn("Failed to count game state for the gauges: {}", e.toString());
+        }
+    }
+
+    private double currentFreezeSeconds() {
+        var frozenSince = gameClock.getFrozenSince();
+        if(frozenSince == null)
+            return 0;
+        return Duration.between(frozenSince.toInstant(), clock.instant()).toMillis() / 1000.0;
+    }
+
+    /**
+     * @param expandedRegions the regions the search took out of its queue
+     * @param pathLength the regions of the found path, null if no path was found
+     */
+    public void recordPathSearch(boolean isCharacterMove, Duration duration, int expandedRegions, Integer pathLength) {
+        Tags tags = Tags.of("move", isCharacterMove ? "character" : "army");
+        Timer.builder("arda.pathfinder.searches")
+                .description("Shortest path searches of movements")
+                .tags(tags)
+                .tag("outcome", pathLength == null ? "no_path" : "found")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(duration);
+        DistributionSummary.builder("arda.pathfinder.expanded.regions")
+                .description("Regions expanded per shortest path search")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(expandedRegions);
+        if(pathLength != null) {
+            DistributionSummary.builder("arda.pathfinder.path.length")
+                    .description("Regions of the found shortest paths")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(pathLength);
+        }
+    }
+
+    public void recordSweep(PartitionedSweepExecutor.SweepReport report) {
+        Tags tags = Tags.of("sweep", report.sweepName());
+        Timer.builder("arda.scheduler.sweeps")
+                .description("Duration of the scheduler sweeps")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(report.duration());
+        DistributionSummary.builder("arda.scheduler.sweep.rows")
+                .description("Rows swept per scheduler sweep")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(report.total());
+        DistributionSummary.builder("arda.scheduler.sweep.changed.rows")
+                .description("Rows changed per scheduler sweep")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(report.changed());
+        Counter.builder("arda.scheduler.sweep.failed.partitions")
+                .description("Partitions of the scheduler sweeps that failed and were rolled back")
+                .tags(tags)
+                .register(meterRegistry)
+                .increment(report.failedPartitions().size());
+    }
+
+    /**
+     * @param failure the exception the command failed with, null if it succeeded
+     */
+    public void recordCommand(String command, Duration duration, CommandOutcome outcome, Exception failure) {
+        Timer.builder("arda.discord.commands")
+                .description("Latency of the Discord commands from their start to the response")
+                .tag("command", command)
+                .tag("outcome", outcome.getName())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(duration);
+        if(failure != null) {
+            Counter.builder("arda.discord.command.errors")
+                    .description("Discord commands that failed")
+                    .tag("command", command)
+                    .tag("outcome", outcome.getName())
+                    .tag("exception", failure.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    public void recordCommandRejected(String command, String reason) {
+        Counter.builder("arda.discord.commands.rejected")
+                .description("Discord commands rejected by the dispatcher before they ran")
+                .tag("command", command)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public enum CommandOutcome {
+        SUCCESS,
+        // The command was refused with a message to the user, e.g. because an army does not exist
+        FAILED,
+        // The command broke with an unexpected exception
+        ERROR;
+
+        public String getName() {
+            return name().toLowerCase();
+        }
+    }
+}
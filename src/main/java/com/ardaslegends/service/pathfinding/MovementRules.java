@@ -0,0 +1,55 @@
+package com.ardaslegends.service.pathfinding;
+
+import java.util.function.IntPredicate;
+
+/**
+ * The parts of the movement cost that depend on the current state of the world (claims, harbours, wars).
+ * Regions are passed as indices of the {@link RegionGraph} that is being searched.
+ */
+public interface MovementRules {
+
+    /**
+     * Rules for roleplay character movements: characters can go everywhere,
+     * they only need a harbour to embark.
+     */
+    static MovementRules characterRules(IntPredicate hasHarbour) {
+        return new MovementRules() {
+            @Override
+            public boolean canEmbarkFrom(int landRegion) {
+                return hasHarbour.test(landRegion);
+            }
+
+            @Override
+            public boolean canEnter(int region) {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Rules for army movements: armies need a harbour to embark and can only move through passable regions.
+     */
+    static MovementRules armyRules(IntPredicate hasHarbour, PassableRegions passableRegions) {
+        return new MovementRules() {
+            @Override
+            public boolean canEmbarkFrom(int landRegion) {
+                return hasHarbour.test(landRegion);
+            }
+
+            @Override
+            public boolean canEnter(int region) {
+                return passableRegions.isPassable(region);
+            }
+        };
+    }
+
+    /**
+     * @return true if a harbour in the land region allows embarking onto a neighbouring sea region
+     */
+    boolean canEmbarkFrom(int landRegion);
+
+    /**
+     * @return true if the moving entity is allowed to move through the region
+     */
+    boolean canEnter(int region);
+}
@@ -0,0 +1,77 @@
+package com.ardaslegends.service.pathfinding;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Regions an army of a faction is allowed to move through, as a bitset over the indices of a {@link RegionGraph}.
+ * <p>
+ * A region is passable if it is unclaimed, claimed by the faction itself or one of its allies,
+ * or claimed by a faction it is at war with.
+ * The bitset is only valid for the snapshot version, allies and enemies it was computed from.
+ */
+@Slf4j
+public final class PassableRegions {
+
+    private final String faction;
+    private final long snapshotVersion;
+    private final Set<String> allies;
+    private final Set<String> enemies;
+    private final BitSet passable;
+
+    private PassableRegions(String faction, long snapshotVersion, Set<String> allies, Set<String> enemies, BitSet passable) {
+        this.faction = faction;
+        this.snapshotVersion = snapshotVersion;
+        this.allies = allies;
+        this.enemies = enemies;
+        this.passable = passable;
+    }
+
+    public static PassableRegions compute(WorldGraphSnapshot snapshot, String faction, Set<String> allies, Set<String> enemies) {
+        Objects.requireNonNull(snapshot, "Snapshot must not be null");
+        Objects.requireNonNull(faction, "Faction must not be null");
+        log.debug("Computing passable regions of faction [{}] on snapshot version [{}] - allies: {}, enemies: {}",
+                faction, snapshot.version(), allies, enemies);
+
+        Set<String> factionAndAllies = new HashSet<>(allies);
+        factionAndAllies.add(faction);
+
+        int size = snapshot.graph().size();
+        BitSet passable = new BitSet(size);
+        for (int region = 0; region < size; region++) {
+            boolean isPassable = snapshot.isUnclaimed(region)
+                    || snapshot.isClaimedByAny(region, factionAndAllies)
+                    || snapshot.isClaimedByAny(region, enemies);
+            if (isPassable)
+                passable.set(region);
+            else
+                log.trace("Army of faction [{}] cannot move through region [{}]", faction, snapshot.graph().id(region));
+        }
+
+        log.debug("Faction [{}] can move armies through [{}] of [{}] regions", faction, passable.cardinality(), size);
+        return new PassableRegions(faction, snapshot.version(), Set.copyOf(allies), Set.copyOf(enemies), passable);
+    }
+
+    /**
+     * @return true if this bitset has been computed from exactly this state and can be reused
+     */
+    public boolean isValidFor(WorldGraphSnapshot snapshot, Set<String> allies, Set<String> enemies) {
+        return snapshotVersion == snapshot.version() && this.allies.equals(allies) && this.enemies.equals(enemies);
+    }
+
+    public boolean isPassable(int region) {
+        return passable.get(region);
+    }
+
+    public String faction() {
+        return faction;
+    }
+
+    public long snapshotVersion() {
+        return snapshotVersion;
+    }
+}
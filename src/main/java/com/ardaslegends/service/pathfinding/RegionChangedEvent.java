@@ -0,0 +1,55 @@
+package com.ardaslegends.service.pathfinding;
+
+import com.ardaslegends.domain.ClaimBuild;
+import com.ardaslegends.domain.Faction;
+import com.ardaslegends.domain.Region;
+import com.ardaslegends.domain.SpecialBuilding;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Published when the claims or claimbuilds of a region change.
+ * Carries the new state of the region so the {@link WorldGraphService} and the claim map can patch their snapshots
+ * without querying the database.
+ *
+ * @param regionId id of the changed region
+ * @param claimedBy names of the factions that claim the region
+ * @param claimbuilds names of the claimbuilds in the region
+ * @param hasHarbour true if a claimbuild in the region has a {@link SpecialBuilding#HARBOUR}
+ */
+public record RegionChangedEvent(String regionId, Set<String> claimedBy, Set<String> claimbuilds, boolean hasHarbour) {
+
+    public RegionChangedEvent {
+        Objects.requireNonNull(regionId, "RegionId must not be null");
+        claimedBy = Set.copyOf(claimedBy);
+        claimbuilds = Set.copyOf(claimbuilds);
+    }
+
+    /**
+     * Captures the current state of the region.
+     * @param changedClaimBuilds claimbuilds that were just created or moved into the region
+     *                           and are therefore not yet part of {@link Region#getClaimBuilds()}
+     */
+    public static RegionChangedEvent of(Region region, ClaimBuild... changedClaimBuilds) {
+        Objects.requireNonNull(region, "Region must not be null");
+
+        Set<String> claimedBy = region.getClaimedBy().stream()
+                .map(Faction::getName)
+                .collect(Collectors.toSet());
+
+        List<ClaimBuild> claimBuilds = Stream.concat(region.getClaimBuilds().stream(), Stream.of(changedClaimBuilds))
+                .filter(claimBuild -> claimBuild.getRegion() != null && region.getId().equals(claimBuild.getRegion().getId()))
+                .toList();
+        Set<String> claimbuildNames = claimBuilds.stream()
+                .map(ClaimBuild::getName)
+                .collect(Collectors.toSet());
+        boolean hasHarbour = claimBuilds.stream()
+                .anyMatch(claimBuild -> claimBuild.getSpecialBuildings().contains(SpecialBuilding.HARBOUR));
+
+        return new RegionChangedEvent(region.getId(), claimedBy, claimbuildNames, hasHarbour);
+    }
+}
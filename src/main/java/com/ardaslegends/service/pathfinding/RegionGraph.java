@@ -0,0 +1,186 @@
+package com.ardaslegends.service.pathfinding;
+
+import com.ardaslegends.domain.Region;
+import com.ardaslegends.domain.RegionType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+
+/**
+ * Immutable, int-indexed copy of the region map.
+ * <p>
+ * Every region gets a dense index, the neighbours are stored in compressed sparse row layout
+ * ({@code neighbours[offsets[i]] .. neighbours[offsets[i+1]-1]} are the neighbours of region {@code i}).
+ * Only the static parts of the map (ids, region types, neighbours, centroids) are stored here, so a compiled graph never
+ * has to touch Hibernate again.
+ * <p>
+ * If every region has a centroid the graph also offers a lower bound of the cost between two regions
+ * ({@link #estimateCost(int, int)}), which turns the {@link RouteSearch} into A*.
+ */
+@Slf4j
+public final class RegionGraph {
+
+    private final String[] ids;
+    private final RegionType[] types;
+    private final int[] offsets;
+    private final int[] neighbours;
+    private final Map<String, Integer> indexById;
+    private final double[] centroidX;
+    private final double[] centroidY;
+    /** cost per map unit that never overestimates, 0 if not every region has a centroid */
+    private final double costPerDistance;
+
+    private RegionGraph(String[] ids, RegionType[] types, int[] offsets, int[] neighbours, Map<String, Integer> indexById,
+                        double[] centroidX, double[] centroidY) {
+        this.ids = ids;
+        this.types = types;
+        this.offsets = offsets;
+        this.neighbours = neighbours;
+        this.indexById = indexById;
+        this.centroidX = centroidX;
+        this.centroidY = centroidY;
+        this.costPerDistance = calculateCostPerDistance();
+    }
+
+    /**
+     * Compiles the given regions into a RegionGraph.
+     * Neighbours that are not part of the passed collection are ignored.
+     * @param regions all regions of the map
+     * @return the compiled graph
+     */
+    public static RegionGraph compile(Collection<Region> regions) {
+        Objects.requireNonNull(regions, "Regions must not be null");
+        log.debug("Compiling region graph of [{}] regions", regions.size());
+
+        int size = regions.size();
+        String[] ids = new String[size];
+        RegionType[] types = new RegionType[size];
+        Map<String, Integer> indexById = HashMap.newHashMap(size);
+        double[] centroidX = new double[size];
+        double[] centroidY = new double[size];
+
+        int index = 0;
+        for (Region region : regions) {
+            ids[index] = region.getId();
+            types[index] = region.getRegionType();
+            indexById.put(region.getId(), index);
+            centroidX[index] = region.getCentroidX() == null ? Double.NaN : region.getCentroidX();
+            centroidY[index] = region.getCentroidY() == null ? Double.NaN : region.getCentroidY();
+            index++;
+        }
+
+        int[] offsets = new int[size + 1];
+        int[][] adjacency = new int[size][];
+        index = 0;
+        for (Region region : regions) {
+            adjacency[index] = region.getNeighboringRegions().stream()
+                    .map(Region::getId)
+                    .filter(indexById::containsKey)
+                    .mapToInt(indexById::get)
+                    .sorted()
+                    .toArray();
+            offsets[index + 1] = offsets[index] + adjacency[index].length;
+            index++;
+        }
+
+        int[] neighbours = new int[offsets[size]];
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(adjacency[i], 0, neighbours, offsets[i], adjacency[i].length);
+        }
+
+        log.info("Compiled region graph with [{}] regions and [{}] edges", size, neighbours.length);
+        return new RegionGraph(ids, types, offsets, neighbours, Collections.unmodifiableMap(indexById), centroidX, centroidY);
+    }
+
+    /**
+     * Every move enters a region, which costs at least the cheapest region type, and covers at most the longest
+     * distance between two neighbouring centroids. Dividing the two gives a cost per map unit that never overestimates.
+     */
+    private double calculateCostPerDistance() {
+        for (int region = 0; region < size(); region++) {
+            if (Double.isNaN(centroidX[region]) || Double.isNaN(centroidY[region])) {
+                log.debug("Region [{}] has no centroid - cost estimation is disabled", ids[region]);
+                return 0;
+            }
+        }
+
+        double longestEdge = 0;
+        int cheapestCost = Integer.MAX_VALUE;
+        for (int region = 0; region < size(); region++) {
+            cheapestCost = Math.min(cheapestCost, cost(region));
+            for (int position = offsets[region]; position < offsets[region + 1]; position++) {
+                longestEdge = Math.max(longestEdge, distance(region, neighbours[position]));
+            }
+        }
+
+        if (longestEdge == 0) {
+            return 0;
+        }
+        double costPerDistance = cheapestCost / longestEdge;
+        log.debug("Cost estimation enabled with [{}] cost per map unit (cheapest cost: {}, longest edge: {})", costPerDistance, cheapestCost, longestEdge);
+        return costPerDistance;
+    }
+
+    private double distance(int from, int to) {
+        return Math.hypot(centroidX[from] - centroidX[to], centroidY[from] - centroidY[to]);
+    }
+
+    /**
+     * @return true if {@link #estimateCost(int, int)} returns useful estimates
+     */
+    public boolean canEstimateCosts() {
+        return costPerDistance > 0;
+    }
+
+    /**
+     * @return a lower bound of the cost to move from one region to the other, 0 if costs cannot be estimated
+     */
+    public int estimateCost(int from, int to) {
+        if (costPerDistance == 0)
+            return 0;
+        return (int) (distance(from, to) * costPerDistance);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * @return the index of the region, -1 if the region is not part of the graph
+     */
+    public int indexOf(String regionId) {
+        return indexById.getOrDefault(regionId, -1);
+    }
+
+    public String id(int region) {
+        return ids[region];
+    }
+
+    public RegionType type(int region) {
+        return types[region];
+    }
+
+    public int cost(int region) {
+        return types[region].getCost();
+    }
+
+    public boolean isSea(int region) {
+        return types[region] == RegionType.SEA;
+    }
+
+    public int neighboursStart(int region) {
+        return offsets[region];
+    }
+
+    public int neighboursEnd(int region) {
+        return offsets[region + 1];
+    }
+
+    public int neighbour(int position) {
+        return neighbours[position];
+    }
+
+    public int edgeCount() {
+        return neighbours.length;
+    }
+}
@@ -0,0 +1,94 @@
+package com.ardaslegends.service.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Indexed binary min-heap over region indices with decrease-key support.
+ * Priorities are plain ints, so no boxing happens while searching.
+ */
+final class RegionHeap {
+
+    private final int[] heap;
+    private final int[] positions;
+    private final int[] priorities;
+    private int size;
+
+    RegionHeap(int capacity) {
+        heap = new int[capacity];
+        positions = new int[capacity];
+        priorities = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int region) {
+        return positions[region] >= 0;
+    }
+
+    /**
+     * Inserts the region or lowers its priority if it is already queued with a higher one.
+     */
+    void insertOrDecrease(int region, int priority) {
+        if (contains(region)) {
+            if (priority < priorities[region]) {
+                priorities[region] = priority;
+                siftUp(positions[region]);
+            }
+            return;
+        }
+        priorities[region] = priority;
+        heap[size] = region;
+        positions[region] = size;
+        siftUp(size++);
+    }
+
+    int poll() {
+        int min = heap[0];
+        positions[min] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    private void siftUp(int position) {
+        int region = heap[position];
+        int priority = priorities[region];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            int parentRegion = heap[parent];
+            if (priorities[parentRegion] <= priority)
+                break;
+            heap[position] = parentRegion;
+            positions[parentRegion] = position;
+            position = parent;
+        }
+        heap[position] = region;
+        positions[region] = position;
+    }
+
+    private void siftDown(int position) {
+        int region = heap[position];
+        int priority = priorities[region];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && priorities[heap[right]] < priorities[heap[child]])
+                child = right;
+            if (priority <= priorities[heap[child]])
+                break;
+            heap[position] = heap[child];
+            positions[heap[child]] = position;
+            position = child;
+        }
+        heap[position] = region;
+        positions[region] = position;
+    }
+}
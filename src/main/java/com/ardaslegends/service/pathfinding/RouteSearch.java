@@ -0,0 +1,149 @@
+package com.ardaslegends.service.pathfinding;
+
+import com.ardaslegends.service.Pathfinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Dijkstra search over a {@link RegionGraph} using a binary heap.
+ * Optionally the search is guided towards the target with the centroid based estimate of the graph (A*).
+ * <p>
+ * Costs are the same as they always were in the {@link Pathfinder}:
+ * <ul>
+ *     <li>Entering a region costs the {@link com.ardaslegends.domain.RegionType} cost of that region</li>
+ *     <li>Embarking (land to sea) costs 1 extra hour and is only possible from a region with a harbour</li>
+ *     <li>Disembarking (sea to land) costs 1 extra hour</li>
+ *     <li>Moving into a region the entity is not allowed to enter costs {@link Pathfinder#UNREACHABLE_COST}</li>
+ * </ul>
+ * Unreachable edges are not skipped but saturate the distance at {@link Pathfinder#UNREACHABLE_COST},
+ * so a target that can only be reached through forbidden regions still ends up with a distance >= UNREACHABLE_COST.
+ */
+@Slf4j
+public final class RouteSearch {
+
+    public static final int UNDISCOVERED = Integer.MAX_VALUE;
+    public static final int NO_TARGET = -1;
+    static final int BLOCKED = -1;
+
+    private RouteSearch() {}
+
+    /**
+     * Runs the search from the source region.
+     * @param target index of the target region, the search stops as soon as it is settled.
+     *               Pass {@link #NO_TARGET} to compute the distances to every region.
+     */
+    public static Result search(RegionGraph graph, int source, int target, MovementRules rules) {
+        return search(graph, source, target, rules, false);
+    }
+
+    /**
+     * Runs the search from the source region.
+     * @param useEstimates if true and the graph {@link RegionGraph#canEstimateCosts() can estimate costs},
+     *                     regions closer to the target are expanded first (A*). The estimate never overestimates,
+     *                     so the found path is still the cheapest one. Ignored without a target.
+     */
+    public static Result search(RegionGraph graph, int source, int target, MovementRules rules, boolean useEstimates) {
+        Objects.requireNonNull(graph, "Graph must not be null");
+        Objects.requireNonNull(rules, "MovementRules must not be null");
+
+        boolean isAStar = useEstimates && target != NO_TARGET && graph.canEstimateCosts();
+        log.trace("Searching from [{}] with A*: {}", graph.id(source), isAStar);
+
+        int size = graph.size();
+        int[] distances = new int[size];
+        int[] previous = new int[size];
+        boolean[] settled = new boolean[size];
+        Arrays.fill(distances, UNDISCOVERED);
+        Arrays.fill(previous, -1);
+
+        RegionHeap heap = new RegionHeap(size);
+        distances[source] = 0;
+        heap.insertOrDecrease(source, 0);
+
+        int expanded = 0;
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            settled[current] = true;
+            expanded++;
+
+            if (current == target)
+                break;
+
+            int dist = distances[current];
+            boolean currentIsSea = graph.isSea(current);
+
+            for (int position = graph.neighboursStart(current); position < graph.neighboursEnd(current); position++) {
+                int neighbour = graph.neighbour(position);
+                if (settled[neighbour])
+                    continue;
+
+                int cost = edgeCost(graph, current, currentIsSea, neighbour, rules);
+                int candidate = cost == BLOCKED ? Math.max(dist, Pathfinder.UNREACHABLE_COST) : dist + cost;
+                if (candidate < distances[neighbour]) {
+                    distances[neighbour] = candidate;
+                    previous[neighbour] = current;
+                    heap.insertOrDecrease(neighbour, isAStar ? candidate + graph.estimateCost(neighbour, target) : candidate);
+                }
+            }
+        }
+
+        log.trace("Route search from [{}] expanded [{}] regions", graph.id(source), expanded);
+        return new Result(source, distances, previous, expanded);
+    }
+
+    /**
+     * @return the cost of moving from current into neighbour, {@link #BLOCKED} if the move is forbidden
+     */
+    static int edgeCost(RegionGraph graph, int current, boolean currentIsSea, int neighbour, MovementRules rules) {
+        boolean neighbourIsSea = graph.isSea(neighbour);
+        int cost = graph.cost(neighbour);
+
+        if (!currentIsSea && neighbourIsSea) {
+            if (!rules.canEmbarkFrom(current))
+                return BLOCKED;
+            cost += 1;
+        }
+        else if (currentIsSea && !neighbourIsSea) {
+            cost += 1;
+        }
+
+        if (!rules.canEnter(neighbour))
+            return BLOCKED;
+
+        return cost;
+    }
+
+    /**
+     * Distances and predecessors of a finished search.
+     * Regions that were never discovered have the distance {@link #UNDISCOVERED}.
+     */
+    public record Result(int source, int[] distances, int[] previous, int expandedRegions) {
+
+        public boolean isDiscovered(int region) {
+            return distances[region] != UNDISCOVERED;
+        }
+
+        public boolean isReachable(int region) {
+            return distances[region] < Pathfinder.UNREACHABLE_COST;
+        }
+
+        /**
+         * @return the region indices from the source to the region (both inclusive)
+         */
+        public int[] pathTo(int region) {
+            int length = 1;
+            for (int current = region; current != source; current = previous[current])
+                length++;
+
+            int[] path = new int[length];
+            int current = region;
+            for (int i = length - 1; i >= 0; i--) {
+                path[i] = current;
+                current = previous[current];
+            }
+            return path;
+        }
+    }
+}
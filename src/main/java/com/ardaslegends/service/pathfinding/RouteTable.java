@@ -0,0 +1,98 @@
+package com.ardaslegends.service.pathfinding;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+
+/**
+ * Travel hours from one source region to every region of the map, computed with a single search.
+ * <p>
+ * Hours are summed up exactly like the path of a movement:
+ * the cost of every region entered after the source, halved per region for character moves.
+ * Regions that cannot be reached are not part of the table.
+ */
+@Slf4j
+public final class RouteTable {
+
+    private static final int UNREACHABLE = -1;
+
+    private final long snapshotVersion;
+    private final RegionGraph graph;
+    private final int source;
+    private final int[] hours;
+
+    private RouteTable(long snapshotVersion, RegionGraph graph, int source, int[] hours) {
+        this.snapshotVersion = snapshotVersion;
+        this.graph = graph;
+        this.source = source;
+        this.hours = hours;
+    }
+
+    public static RouteTable compute(WorldGraphSnapshot snapshot, int source, MovementRules rules, boolean isCharacterMove) {
+        RegionGraph graph = snapshot.graph();
+        log.debug("Computing route table from region [{}] on snapshot version [{}] - character move: {}", graph.id(source), snapshot.version(), isCharacterMove);
+
+        RouteSearch.Result result = RouteSearch.search(graph, source, RouteSearch.NO_TARGET, rules);
+
+        int[] hours = new int[graph.size()];
+        Arrays.fill(hours, UNREACHABLE);
+        hours[source] = 0;
+
+        // Every reachable region inherits the hours of its predecessor, so walk up to the first known one and fill back down
+        int[] stack = new int[graph.size()];
+        for (int region = 0; region < graph.size(); region++) {
+            if (hours[region] != UNREACHABLE || !result.isReachable(region))
+                continue;
+
+            int depth = 0;
+            for (int current = region; hours[current] == UNREACHABLE; current = result.previous()[current])
+                stack[depth++] = current;
+
+            while (depth > 0) {
+                int current = stack[--depth];
+                int cost = isCharacterMove ? (int) (graph.cost(current) / 2.0) : graph.cost(current);
+                hours[current] = hours[result.previous()[current]] + cost;
+            }
+        }
+
+        log.debug("Route table from region [{}] reaches [{}] of [{}] regions", graph.id(source),
+                Arrays.stream(hours).filter(hour -> hour != UNREACHABLE).count(), graph.size());
+        return new RouteTable(snapshot.version(), graph, source, hours);
+    }
+
+    public long snapshotVersion() {
+        return snapshotVersion;
+    }
+
+    public String source() {
+        return graph.id(source);
+    }
+
+    /**
+     * @return the hours needed to reach the region, empty if it cannot be reached
+     */
+    public OptionalInt hoursTo(String regionId) {
+        int region = graph.indexOf(regionId);
+        if (region < 0 || hours[region] == UNREACHABLE)
+            return OptionalInt.empty();
+        return OptionalInt.of(hours[region]);
+    }
+
+    /**
+     * @return region ids mapped to their travel hours, ordered by hours ascending, including the source itself
+     */
+    public Map<String, Integer> reachableWithin(int maxHours) {
+        Map<String, Integer> reachable = new LinkedHashMap<>();
+        IntStream.range(0, hours.length)
+                .filter(region -> hours[region] != UNREACHABLE && hours[region] <= maxHours)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingInt(region -> hours[region]).thenComparing(graph::id))
+                .forEach(region -> reachable.put(graph.id(region), hours[region]));
+        return reachable;
+    }
+}
@@ -0,0 +1,95 @@
+package com.ardaslegends.service.pathfinding;
+
+import com.ardaslegends.repository.region.RegionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link WorldGraphSnapshot}.
+ * <p>
+ * The snapshot is built once from the database and afterwards patched with every {@link RegionChangedEvent}
+ * after the transaction that published it committed, so pathfinding never has to lazy load claims or claimbuilds.
+ */
+@RequiredArgsConstructor
+@Slf4j
+
+@Service
+public class WorldGraphService {
+
+    private final RegionRepository regionRepository;
+
+    private final AtomicReference<WorldGraphSnapshot> snapshot = new AtomicReference<>();
+    private final Map<String, PassableRegions> passableRegionsByFaction = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        log.debug("Initializing world graph snapshot on startup");
+        rebuild();
+    }
+
+    /**
+     * @return the current snapshot, builds it if it has not been built yet
+     */
+    public WorldGraphSnapshot getSnapshot() {
+        WorldGraphSnapshot current = snapshot.get();
+        if (current == null) {
+            current = rebuild();
+        }
+        return current;
+    }
+
+    /**
+     * Builds a fresh snapshot from the database, e.g. when regions have been added.
+     * A region change that is patched in while the regions are read would be lost by replacing the snapshot,
+     * so the snapshot is only replaced if it did not change in the meantime, otherwise the regions are read again.
+     */
+    public WorldGraphSnapshot rebuild() {
+        while (true) {
+            log.debug("Rebuilding world graph snapshot from the database");
+            WorldGraphSnapshot previous = snapshot.get();
+            var regions = regionRepository.queryAll();
+
+            long version = previous == null ? 1 : previous.version() + 1;
+            WorldGraphSnapshot rebuilt = WorldGraphSnapshot.build(version, regions);
+            if (snapshot.compareAndSet(previous, rebuilt)) {
+                return rebuilt;
+            }
+            log.debug("World graph snapshot changed while rebuilding it, reading the regions again");
+        }
+    }
+
+    /**
+     * Returns the regions the armies of the faction can move through on the given snapshot.
+     * The result is cached per faction and recomputed whenever the snapshot version, the allies or the enemies differ
+     * from the ones it was computed with, so claim changes, alliances and declared or ended wars invalidate it.
+     */
+    public PassableRegions getPassableRegions(WorldGraphSnapshot snapshot, String faction, Set<String> allies, Set<String> enemies) {
+        PassableRegions cached = passableRegionsByFaction.get(faction);
+        if (cached != null && cached.isValidFor(snapshot, allies, enemies)) {
+            log.trace("Using cached passable regions of faction [{}] (snapshot version [{}])", faction, cached.snapshotVersion());
+            return cached;
+        }
+
+        PassableRegions computed = PassableRegions.compute(snapshot, faction, allies, enemies);
+        passableRegionsByFaction.put(faction, computed);
+        return computed;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRegionChanged(RegionChangedEvent event) {
+        log.debug("Received region change [{}]", event);
+        WorldGraphSnapshot patched = snapshot.updateAndGet(current -> current == null ? null : current.apply(event));
+        log.trace("World graph snapshot is now at version [{}]", patched == null ? "not built" : patched.version());
+    }
+}
@@ -0,0 +1,119 @@
+package com.ardaslegends.service.pathfinding;
+
+import com.ardaslegends.domain.ClaimBuild;
+import com.ardaslegends.domain.Faction;
+import com.ardaslegends.domain.Region;
+import com.ardaslegends.domain.SpecialBuilding;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+
+/**
+ * Immutable, versioned view of the world as needed for pathfinding:
+ * the static {@link RegionGraph} plus the claims and harbours of every region.
+ * <p>
+ * Snapshots are never modified, changes create a new snapshot with a higher version that shares
+ * everything that did not change with its predecessor. This way readers never need a lock.
+ */
+@Slf4j
+public final class WorldGraphSnapshot {
+
+    private static final String[] UNCLAIMED = new String[0];
+
+    private final long version;
+    private final RegionGraph graph;
+    private final String[][] claimedBy;
+    private final BitSet harbours;
+
+    private WorldGraphSnapshot(long version, RegionGraph graph, String[][] claimedBy, BitSet harbours) {
+        this.version = version;
+        this.graph = graph;
+        this.claimedBy = claimedBy;
+        this.harbours = harbours;
+    }
+
+    public static WorldGraphSnapshot build(long version, Collection<Region> regions) {
+        Objects.requireNonNull(regions, "Regions must not be null");
+        log.debug("Building world graph snapshot version [{}] from [{}] regions", version, regions.size());
+
+        RegionGraph graph = RegionGraph.compile(regions);
+        String[][] claimedBy = new String[graph.size()][];
+        BitSet harbours = new BitSet(graph.size());
+
+        for (Region region : regions) {
+            int index = graph.indexOf(region.getId());
+            claimedBy[index] = toClaims(region.getClaimedBy().stream().map(Faction::getName).toList());
+            boolean hasHarbour = region.getClaimBuilds().stream()
+                    .map(ClaimBuild::getSpecialBuildings)
+                    .anyMatch(specialBuildings -> specialBuildings.contains(SpecialBuilding.HARBOUR));
+            harbours.set(index, hasHarbour);
+        }
+
+        log.info("Built world graph snapshot version [{}] with [{}] harbours", version, harbours.cardinality());
+        return new WorldGraphSnapshot(version, graph, claimedBy, harbours);
+    }
+
+    /**
+     * @return a new snapshot with the changes of the event applied, this snapshot if the region is unknown
+     */
+    public WorldGraphSnapshot apply(RegionChangedEvent event) {
+        Objects.requireNonNull(event, "Event must not be null");
+
+        int index = graph.indexOf(event.regionId());
+        if (index < 0) {
+            log.warn("Region [{}] is not part of world graph snapshot version [{}], ignoring change", event.regionId(), version);
+            return this;
+        }
+
+        String[][] newClaims = claimedBy.clone();
+        newClaims[index] = toClaims(event.claimedBy());
+
+        BitSet newHarbours = harbours;
+        if (harbours.get(index) != event.hasHarbour()) {
+            newHarbours = (BitSet) harbours.clone();
+            newHarbours.set(index, event.hasHarbour());
+        }
+
+        log.debug("Patched region [{}] in world graph snapshot [version: {} -> {}, claimedBy: {}, harbour: {}]",
+                event.regionId(), version, version + 1, event.claimedBy(), event.hasHarbour());
+        return new WorldGraphSnapshot(version + 1, graph, newClaims, newHarbours);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public RegionGraph graph() {
+        return graph;
+    }
+
+    public boolean hasHarbour(int region) {
+        return harbours.get(region);
+    }
+
+    public boolean isUnclaimed(int region) {
+        return claimedBy[region].length == 0;
+    }
+
+    /**
+     * @return the names of the factions claiming the region
+     */
+    public List<String> claimedBy(int region) {
+        return List.of(claimedBy[region]);
+    }
+
+    /**
+     * @return true if at least one of the factions claims the region
+     */
+    public boolean isClaimedByAny(int region, Set<String> factions) {
+        for (String faction : claimedBy[region]) {
+            if (factions.contains(faction))
+                return true;
+        }
+        return false;
+    }
+
+    private static String[] toClaims(Collection<String> factions) {
+        return factions.isEmpty() ? UNCLAIMED : factions.toArray(String[]::new);
+    }
+}
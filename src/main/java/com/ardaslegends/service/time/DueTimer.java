@@ -0,0 +1,142 @@
+package com.ardaslegends.service.time;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timer engine the time based engines share.
+ * Every key has at most one timer in a {@link DelayQueue}, which a single worker thread takes from and hands to the handler.
+ * Rescheduling a key replaces its timer, the replaced timers stay queued but are skipped once they are due.
+ * A handler that fails is retried after {@link #RETRY_DELAY}.
+ * The delays are measured against the given clock, so the engines follow the same clock as the rest of the application.
+ *
+ * @param <K> the key of the timers, e.g. the id of a movement
+ */
+@Slf4j
+class DueTimer<K> {
+
+    static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+    // While game time is frozen nothing becomes due, waking up for timers that are almost due would only spin
+    static final Duration FROZEN_RECHECK_DELAY = Duration.ofMinutes(1);
+
+    private final String name;
+    private final ExecutorService virtualExecutorService;
+    private final Clock clock;
+    private final Handler<K> handler;
+
+    private final DelayQueue<Entry<K>> timers = new DelayQueue<>();
+    // The current timer of each key, queued timers that are not in here anymore are stale and get skipped
+    private final Map<K, Entry<K>> scheduledTimers = new ConcurrentHashMap<>();
+    private volatile Future<?> worker;
+
+    /**
+     * @param name what the timers are for, only used for logging
+     */
+    DueTimer(String name, ExecutorService virtualExecutorService, Clock clock, Handler<K> handler) {
+        this.name = name;
+        this.virtualExecutorService = virtualExecutorService;
+        this.clock = clock;
+        this.handler = handler;
+    }
+
+    void start() {
+        worker = virtualExecutorService.submit(this::run);
+    }
+
+    void stop() {
+        if(worker != null)
+            worker.cancel(true);
+    }
+
+    void schedule(K key, OffsetDateTime dueAt) {
+        Entry<K> timer = new Entry<>(key, dueAt.toInstant(), clock);
+        if(timer.equals(scheduledTimers.put(key, timer))) {
+            log.trace("Timer of {} [{}] at [{}] is already scheduled", name, key, dueAt);
+            return;
+        }
+        log.trace("Scheduling {} [{}] at [{}]", name, key, dueAt);
+        timers.add(timer);
+    }
+
+    void unschedule(K key) {
+        log.trace("Unscheduling {} [{}]", name, key);
+        scheduledTimers.remove(key);
+    }
+
+    int getScheduledCount() {
+        return scheduledTimers.size();
+    }
+
+    Optional<OffsetDateTime> getScheduledTime(K key) {
+        return Optional.ofNullable(scheduledTimers.get(key))
+                .map(timer -> OffsetDateTime.ofInstant(timer.dueAt(), clock.getZone()));
+    }
+
+    private void run() {
+        log.debug("Timers of {} running on thread [{}]", name, Thread.currentThread());
+        try {
+            while(!Thread.currentThread().isInterrupted()) {
+                fire(timers.take());
+            }
+        } catch (InterruptedException e) {
+            log.debug("Timer thread of {} [{}] got interrupted", name, Thread.currentThread());
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Hands a due timer to the handler and schedules the next time the key is due.
+     */
+    void fire(Entry<K> timer) {
+        K key = timer.key();
+        if(!scheduledTimers.remove(key, timer)) {
+            log.trace("Skipping stale timer of {} [{}]", name, key);
+            return;
+        }
+
+        try {
+            handler.handle(key).ifPresent(dueAt -> schedule(key, dueAt));
+        } catch (Exception e) {
+            log.error("Failed to handle {} [{}], retrying in [{}]", name, key, RETRY_DELAY, e);
+            schedule(key, OffsetDateTime.now(clock).plus(RETRY_DELAY));
+        }
+    }
+
+    @FunctionalInterface
+    interface Handler<K> {
+        /**
+         * @return the next time the key is due, empty if it is done
+         */
+        Optional<OffsetDateTime> handle(K key);
+    }
+
+    record Entry<K>(K key, Instant dueAt, Clock clock) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            Duration delay = Duration.between(clock.instant(), dueAt);
+            if(clock instanceof GameClock gameClock && gameClock.isFrozen() && delay.compareTo(FROZEN_RECHECK_DELAY) < 0)
+                delay = FROZEN_RECHECK_DELAY;
+            return unit.convert(delay);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if(other instanceof Entry<?> otherTimer)
+                return dueAt.compareTo(otherTimer.dueAt);
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.ardaslegends.service.time;
+
+import com.ardaslegends.domain.TimeFreeze;
+import com.ardaslegends.repository.TimeFreezeRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The clock the game runs on. Game time passes like wall time, except while time is frozen (e.g. during a battle), then it stands still.
+ * Game time is the wall time minus the duration of every freeze before it.
+ * <p>
+ * Deadlines of movements and healings are stored in game time, so freezing and unfreezing only records an interval
+ * in time_freezes instead of shifting every deadline, and everything waiting on this clock pauses on its own.
+ * Use {@link #toWallTime(OffsetDateTime)} to show a game time deadline to players.
+ * <p>
+ * The state is an immutable snapshot behind an {@link AtomicReference}, reading the time never locks.
+ * Freezing and unfreezing inside a transaction only swaps the state once the transaction committed,
+ * so the clock never runs ahead of the time_freezes that are visible to everyone.
+ */
+@Slf4j
+@Component
+public class GameClock extends Clock {
+
+    private final Clock wallClock;
+    private final TimeFreezeRepository timeFreezeRepository;
+    private final AtomicReference<State> state;
+    // The state a freeze or unfreeze of a transaction that did not complete yet will switch to, guarded by this
+    private State pendingState;
+
+    @Autowired
+    public GameClock(Clock clock, TimeFreezeRepository timeFreezeRepository) {
+        this(clock, timeFreezeRepository, new AtomicReference<>(State.NEVER_FROZEN));
+    }
+
+    private GameClock(Clock wallClock, TimeFreezeRepository timeFreezeRepository, AtomicReference<State> state) {
+        this.wallClock = wallClock;
+        this.timeFreezeRepository = timeFreezeRepository;
+        this.state = state;
+    }
+
+    @PostConstruct
+    void load() {
+        log.debug("Loading time freezes");
+        List<TimeFreeze> freezes = timeFreezeRepository.findAllByOrderByFrozenAt();
+
+        List<Freeze> closedFreezes = new ArrayList<>(freezes.size());
+        Instant frozenSince = null;
+        for(TimeFreeze freeze : freezes) {
+            if(freeze.isOngoing())
+                frozenSince = freeze.getFrozenAt().toInstant();
+            else
+                closedFreezes.add(new Freeze(freeze.getFrozenAt().toInstant(), freeze.getUnfrozenAt().toInstant()));
+        }
+        state.set(new State(closedFreezes, frozenSince));
+        log.info("Loaded [{}] time freezes - game time is [{}] behind wall time, frozen since: [{}]",
+                freezes.size(), state.get().frozenBefore(), frozenSince);
+    }
+
+    /**
+     * Stops game time, does nothing if it is already frozen.
+     * @return true if time got frozen by this call
+     */
+    public synchronized boolean freeze() {
+        State currentState = pendingState != null ? pendingState : state.get();
+        if(currentState.isFrozen()) {
+            log.debug("Time is already frozen since [{}]", currentState.frozenSince());
+            return false;
+        }
+
+        OffsetDateTime now = OffsetDateTime.now(wallClock);
+        log.info("Freezing game time at [{}]", now);
+        timeFreezeRepository.save(new TimeFreeze(now));
+        applyAfterCommit(new State(currentState.freezes(), now.toInstant()));
+        return true;
+    }
+
+    /**
+     * Lets game time pass again, does nothing if it is not frozen.
+     * @return true if time got unfrozen by this call
+     */
+    public synchronized boolean unfreeze() {
+        State currentState = pendingState != null ? pendingState : state.get();
+        if(!currentState.isFrozen()) {
+            log.debug("Time is not frozen");
+            return false;
+        }
+
+        OffsetDateTime now = OffsetDateTime.now(wallClock);
+        log.info("Unfreezing game time at [{}], it was frozen since [{}]", now, currentState.frozenSince());
+        timeFreezeRepository.findFirstByUnfrozenAtIsNullOrderByFrozenAtDesc().ifPresentOrElse(freeze -> {
+            freeze.unfreeze(now);
+            timeFreezeRepository.save(freeze);
+        }, () -> log.warn("Found no ongoing time freeze to end at [{}]", now));
+
+        List<Freeze> freezes = new ArrayList<>(currentState.freezes());
+        freezes.add(new Freeze(currentState.frozenSince(), now.toInstant()));
+        applyAfterCommit(new State(freezes, null));
+        return true;
+    }
+
+    /**
+     * Swaps the state once the current transaction committed, the state stays untouched if it is rolled back.
+     * Without a transaction the state is swapped right away.
+     */
+    private void applyAfterCommit(State newState) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            state.set(newState);
+            return;
+        }
+
+        pendingState = newState;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (GameClock.this) {
+                    if(status == STATUS_COMMITTED)
+                        state.set(newState);
+                    else
+                        log.warn("Time freeze change was rolled back, game time stays {}", state.get().isFrozen() ? "frozen" : "running");
+                    if(pendingState == newState)
+                        pendingState = null;
+                }
+            }
+        });
+    }
+
+    public boolean isFrozen() {
+        return state.get().isFrozen();
+    }
+
+    /**
+     * @return the wall time the current freeze started, null if time is not frozen
+     */
+    public OffsetDateTime getFrozenSince() {
+        Instant frozenSince = state.get().frozenSince();
+        return frozenSince == null ? null : OffsetDateTime.ofInstant(frozenSince, getZone());
+    }
+
+    /**
+     * @return the wall time at which the given game time is (or was) reached. While time is frozen the freeze is assumed
+     * to end now, so deadlines that are not reached yet move further into the future until it actually ends.
+     */
+    public OffsetDateTime toWallTime(OffsetDateTime gameTime) {
+        if(gameTime == null)
+            return null;
+        Instant wallTime = state.get().toWallTime(gameTime.toInstant(), wallClock.instant());
+        return OffsetDateTime.ofInstant(wallTime, gameTime.getOffset());
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return wallClock.getZone();
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(getZone()) ? this : new GameClock(wallClock.withZone(zone), timeFreezeRepository, state);
+    }
+
+    @Override
+    public Instant instant() {
+        return state.get().toGameTime(wallClock.instant());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GameClock gameClock)) return false;
+        return wallClock.equals(gameClock.wallClock) && state == gameClock.state;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(wallClock, state);
+    }
+
+    @Override
+    public String toString() {
+        return "GameClock[" + wallClock + ", " + state.get() + "]";
+    }
+
+    private record Freeze(Instant frozenAt, Instant unfrozenAt) {
+
+        Duration duration() {
+            return Duration.between(frozenAt, unfrozenAt);
+        }
+    }
+
+    /**
+     * @param freezes the freezes that already ended, in chronological order
+     * @param frozenSince the start of the ongoing freeze, null if time is not frozen
+     */
+    private record State(List<Freeze> freezes, Instant frozenSince, Duration frozenBefore) {
+
+        static final State NEVER_FROZEN = new State(List.of(), null);
+
+        State(List<Freeze> freezes, Instant frozenSince) {
+            this(List.copyOf(freezes), frozenSince, freezes.stream().map(Freeze::duration).reduce(Duration.ZERO, Duration::plus));
+        }
+
+        boolean isFrozen() {
+            return frozenSince != null;
+        }
+
+        Instant toGameTime(Instant wallTime) {
+            if(frozenSince != null && !wallTime.isBefore(frozenSince))
+                return frozenSince.minus(frozenBefore);
+            if(freezes.isEmpty() || !wallTime.isBefore(freezes.get(freezes.size() - 1).unfrozenAt()))
+                return wallTime.minus(frozenBefore);
+
+            // Only happens for wall times before the last freeze ended
+            Duration frozen = Duration.ZERO;
+            for(Freeze freeze : freezes) {
+                if(!wallTime.isAfter(freeze.frozenAt()))
+                    break;
+                if(wallTime.isBefore(freeze.unfrozenAt()))
+                    return freeze.frozenAt().minus(frozen);
+                frozen = frozen.plus(freeze.duration());
+            }
+            return wallTime.minus(frozen);
+        }
+
+        Instant toWallTime(Instant gameTime, Instant now) {
+            Instant wallTime = gameTime;
+            for(Freeze freeze : freezes) {
+                if(!wallTime.isAfter(freeze.frozenAt()))
+                    return wallTime;
+                wallTime = wallTime.plus(freeze.duration());
+            }
+            if(frozenSince != null && wallTime.isAfter(frozenSince) && now.isAfter(frozenSince))
+                wallTime = wallTime.plus(Duration.between(frozenSince, now));
+            return wallTime;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ardaslegends.service.time;
+
+import com.ardaslegends.domain.Army;
+import com.ardaslegends.domain.RPChar;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Published whenever an army or character starts or stops healing, so the {@link HealingEngine} can (un)schedule it.
+ */
+public record HealingChangedEvent(HealingTarget target, Long id, boolean isHealing, OffsetDateTime dueAt) {
+
+    public static HealingChangedEvent of(Army army) {
+        boolean isHealing = Boolean.TRUE.equals(army.getIsHealing());
+        return new HealingChangedEvent(HealingTarget.ARMY, army.getId(), isHealing, isHealing ? HealingEngine.nextDueAt(army) : null);
+    }
+
+    public static HealingChangedEvent of(RPChar rpChar) {
+        boolean isHealing = Boolean.TRUE.equals(rpChar.getIsHealing());
+        return new HealingChangedEvent(HealingTarget.RP_CHAR, rpChar.getId(), isHealing, isHealing ? HealingEngine.nextDueAt(rpChar) : null);
+    }
+}
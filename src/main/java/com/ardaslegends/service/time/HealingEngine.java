@@ -0,0 +1,127 @@
+package com.ardaslegends.service.time;
+
+import com.ardaslegends.domain.Army;
+import com.ardaslegends.domain.Player;
+import com.ardaslegends.domain.RPChar;
+import com.ardaslegends.repository.ArmyRepository;
+import com.ardaslegends.repository.player.PlayerRepository;
+import com.ardaslegends.service.healing.ArmyHealingCalculator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Fires the replenish cycles of healing armies and the healing completion of characters at the time they are due.
+ * Every healing army and character has exactly one {@link DueTimer} keyed on its next replenish boundary
+ * or healEnd, which is handed to the {@link ScheduleService} when it is due.
+ * Only the entity that is due is loaded and persisted. The queue is rebuilt from the database on startup.
+ * The timers wait on the {@link GameClock}, so they stand still while time is frozen.
+ */
+@Slf4j
+@Service
+public class HealingEngine {
+
+    private final ArmyRepository armyRepository;
+    private final PlayerRepository playerRepository;
+    private final ScheduleService scheduleService;
+    final DueTimer<Key> timers;
+
+    public HealingEngine(ArmyRepository armyRepository, PlayerRepository playerRepository, ScheduleService scheduleService,
+                         ExecutorService virtualExecutorService, GameClock gameClock) {
+        this.armyRepository = armyRepository;
+        this.playerRepository = playerRepository;
+        this.scheduleService = scheduleService;
+        this.timers = new DueTimer<>("healing", virtualExecutorService, gameClock, this::handle);
+    }
+
+    /**
+     * @return the time the army completes its next replenish cycle or finishes healing
+     */
+    public static OffsetDateTime nextDueAt(Army army) {
+        return ArmyHealingCalculator.nextReplenishAt(army);
+    }
+
+    /**
+     * The scheduler only completes a healing once the current time is after healEnds.
+     * @return the time the character finishes healing
+     */
+    public static OffsetDateTime nextDueAt(RPChar rpChar) {
+        return rpChar.getHealEnds().plusSeconds(1);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void start() {
+        log.debug("Getting all healing armies to schedule");
+        List<Army> healingArmies = armyRepository.findArmyByIsHealingTrue();
+        healingArmies.forEach(army -> schedule(HealingTarget.ARMY, army.getId(), nextDueAt(army)));
+
+        log.debug("Getting all healing characters to schedule");
+        List<RPChar> healingRpChars = playerRepository.queryPlayersWithHealingRpchars().stream()
+                .map(Player::getActiveCharacter)
+                .flatMap(Optional::stream)
+                .filter(rpChar -> Boolean.TRUE.equals(rpChar.getIsHealing()))
+                .toList();
+        healingRpChars.forEach(rpChar -> schedule(HealingTarget.RP_CHAR, rpChar.getId(), nextDueAt(rpChar)));
+
+        timers.start();
+        log.info("Started healing engine with [{}] healing armies and [{}] healing characters", healingArmies.size(), healingRpChars.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        log.info("Stopping healing engine");
+        timers.stop();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHealingChanged(HealingChangedEvent event) {
+        log.debug("Received healing changed event [{}]", event);
+        if(event.isHealing())
+            schedule(event.target(), event.id(), event.dueAt());
+        else
+            unschedule(event.target(), event.id());
+    }
+
+    public void schedule(HealingTarget target, Long id, OffsetDateTime dueAt) {
+        if(id == null || dueAt == null) {
+            log.warn("Cannot schedule healing {} [{}] due at [{}]", target, id, dueAt);
+            return;
+        }
+        timers.schedule(new Key(target, id), dueAt);
+    }
+
+    public void unschedule(HealingTarget target, Long id) {
+        timers.unschedule(new Key(target, id));
+    }
+
+    public int getScheduledCount() {
+        return timers.getScheduledCount();
+    }
+
+    public Optional<OffsetDateTime> getScheduledTime(HealingTarget target, Long id) {
+        return timers.getScheduledTime(new Key(target, id));
+    }
+
+    /**
+     * @return the next time the entity is due, empty once it finished healing
+     */
+    private Optional<OffsetDateTime> handle(Key key) {
+        return switch (key.target()) {
+            case ARMY -> scheduleService.handleHealingArmy(key.id());
+            case RP_CHAR -> scheduleService.handleHealingRpChar(key.id());
+        };
+    }
+
+    record Key(HealingTarget target, Long id) {
+    }
+}
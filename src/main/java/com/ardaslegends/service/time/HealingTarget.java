@@ -0,0 +1,9 @@
+package com.ardaslegends.service.time;
+
+/**
+ * The kinds of entities the {@link HealingEngine} schedules.
+ */
+public enum HealingTarget {
+    ARMY,
+    RP_CHAR
+}
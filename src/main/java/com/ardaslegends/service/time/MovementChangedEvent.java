@@ -0,0 +1,15 @@
+package com.ardaslegends.service.time;
+
+import com.ardaslegends.domain.Movement;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Published whenever a movement is started or cancelled, so the {@link MovementEngine} can (un)schedule it.
+ */
+public record MovementChangedEvent(Long movementId, boolean isActive, OffsetDateTime reachesNextRegionAt) {
+
+    public static MovementChangedEvent of(Movement movement) {
+        return new MovementChangedEvent(movement.getId(), Boolean.TRUE.equals(movement.getIsCurrentlyActive()), movement.getReachesNextRegionAt());
+    }
+}
@@ -0,0 +1,82 @@
+package com.ardaslegends.service.time;
+
+import com.ardaslegends.domain.Movement;
+import com.ardaslegends.repository.MovementRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Fires the region transitions of active movements at the time they reach their next region.
+ * Every active movement has exactly one {@link DueTimer} keyed on {@link Movement#getReachesNextRegionAt()},
+ * which is handed to {@link ScheduleService#handleMovement(Long)} when it is due.
+ * Only the movement that advanced is loaded and persisted. The queue is rebuilt from the database on startup.
+ * The timers wait on the {@link GameClock}, so they stand still while time is frozen.
+ */
+@Slf4j
+@Service
+public class MovementEngine {
+
+    private final MovementRepository movementRepository;
+    final DueTimer<Long> timers;
+
+    public MovementEngine(MovementRepository movementRepository, ScheduleService scheduleService, ExecutorService virtualExecutorService, GameClock gameClock) {
+        this.movementRepository = movementRepository;
+        this.timers = new DueTimer<>("movement", virtualExecutorService, gameClock, scheduleService::handleMovement);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void start() {
+        log.debug("Getting all active movements to schedule");
+        List<Movement> activeMovements = movementRepository.findMovementsByIsCurrentlyActive(true);
+        activeMovements.forEach(movement -> schedule(movement.getId(), movement.getReachesNextRegionAt()));
+
+        timers.start();
+        log.info("Started movement engine with [{}] active movements", activeMovements.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        log.info("Stopping movement engine");
+        timers.stop();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovementChanged(MovementChangedEvent event) {
+        log.debug("Received movement changed event [{}]", event);
+        if(event.isActive())
+            schedule(event.movementId(), event.reachesNextRegionAt());
+        else
+            unschedule(event.movementId());
+    }
+
+    public void schedule(Long movementId, OffsetDateTime reachesNextRegionAt) {
+        if(movementId == null || reachesNextRegionAt == null) {
+            log.warn("Cannot schedule movement [{}] reaching its next region at [{}]", movementId, reachesNextRegionAt);
+            return;
+        }
+        timers.schedule(movementId, reachesNextRegionAt);
+    }
+
+    public void unschedule(Long movementId) {
+        timers.unschedule(movementId);
+    }
+
+    public int getScheduledCount() {
+        return timers.getScheduledCount();
+    }
+
+    public Optional<OffsetDateTime> getScheduledTime(Long movementId) {
+        return timers.getScheduledTime(movementId);
+    }
+}
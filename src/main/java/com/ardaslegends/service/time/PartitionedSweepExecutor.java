@@ -0,0 +1,114 @@
+package com.ardaslegends.service.time;
+
+import com.ardaslegends.service.metrics.GameMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.ToIntFunction;
+
+/**
+ * Runs the scheduler sweeps in partitions of consecutive ids, concurrently on the virtual thread executor.
+ * Every partition loads, handles and saves its entities in its own short transaction, so a failing row only rolls back
+ * its partition and locks on the swept tables are held for one partition instead of the whole sweep.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class PartitionedSweepExecutor {
+
+    public static final int PARTITION_SIZE = 250;
+
+    private final ExecutorService virtualExecutorService;
+    private final PlatformTransactionManager transactionManager;
+    private final GameMetrics gameMetrics;
+
+    /**
+     * @param sweepName the name used in the report and logs
+     * @param ids the ids of the entities to sweep, ordered ascending
+     * @param handler handles the entities of one partition and returns how many of them changed
+     * @return the timings and failures of every partition
+     */
+    public SweepReport run(String sweepName, List<Long> ids, ToIntFunction<List<Long>> handler) {
+        long startNanos = System.nanoTime();
+        log.debug("Sweeping [{}] {} in partitions of [{}]", ids.size(), sweepName, PARTITION_SIZE);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Callable<PartitionReport>> partitions = new ArrayList<>();
+        for(int from = 0, index = 0; from < ids.size(); from += PARTITION_SIZE, index++) {
+            List<Long> partitionIds = ids.subList(from, Math.min(from + PARTITION_SIZE, ids.size()));
+            int partitionIndex = index;
+            partitions.add(() -> runPartition(sweepName, partitionIndex, partitionIds, handler, transactionTemplate));
+        }
+
+        List<PartitionReport> reports = new ArrayList<>(partitions.size());
+        try {
+            for(Future<PartitionReport> future : virtualExecutorService.invokeAll(partitions)) {
+                reports.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            log.warn("Sweeping {} got interrupted after [{}/{}] partitions", sweepName, reports.size(), partitions.size());
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // runPartition catches every failure of its partition, so this cannot happen
+            throw new IllegalStateException(e.getCause());
+        }
+
+        SweepReport report = new SweepReport(sweepName, ids.size(), reports, Duration.ofNanos(System.nanoTime() - startNanos));
+        report.failedPartitions().forEach(partition ->
+                log.warn("Partition [{}] of {} with ids [{}-{}] failed: {}", partition.index(), sweepName, partition.firstId(), partition.lastId(), partition.failure()));
+        gameMetrics.recordSweep(report);
+        return report;
+    }
+
+    private PartitionReport runPartition(String sweepName, int index, List<Long> ids, ToIntFunction<List<Long>> handler,
+                                         TransactionTemplate transactionTemplate) {
+        long startNanos = System.nanoTime();
+        Long firstId = ids.get(0);
+        Long lastId = ids.get(ids.size() - 1);
+        try {
+            Integer changed = transactionTemplate.execute(status -> handler.applyAsInt(ids));
+            Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+            log.debug("Partition [{}] of {} with ids [{}-{}] changed [{}/{}] in [{}ms]", index, sweepName, firstId, lastId,
+                    changed, ids.size(), duration.toMillis());
+            return new PartitionReport(index, firstId, lastId, ids.size(), changed == null ? 0 : changed, duration, null);
+        } catch (Exception e) {
+            log.error("Failed to sweep partition [{}] of {} with ids [{}-{}]", index, sweepName, firstId, lastId, e);
+            return new PartitionReport(index, firstId, lastId, ids.size(), 0, Duration.ofNanos(System.nanoTime() - startNanos), e.toString());
+        }
+    }
+
+    /**
+     * @param failure the exception the partition failed with, null if it succeeded
+     */
+    public record PartitionReport(int index, Long firstId, Long lastId, int size, int changed, Duration duration, String failure) {
+
+        public boolean isFailed() {
+            return failure != null;
+        }
+    }
+
+    public record SweepReport(String sweepName, int total, List<PartitionReport> partitions, Duration duration) {
+
+        public int changed() {
+            return partitions.stream().mapToInt(PartitionReport::changed).sum();
+        }
+
+        public List<PartitionReport> failedPartitions() {
+            return partitions.stream().filter(PartitionReport::isFailed).toList();
+        }
+
+        public Duration slowestPartition() {
+            return partitions.stream().map(PartitionReport::duration).max(Duration::compareTo).orElse(Duration.ZERO);
+        }
+    }
+}
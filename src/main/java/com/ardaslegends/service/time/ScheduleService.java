@@ -3,30 +3,28 @@ package com.ardaslegends.service.time;
 import com.ardaslegends.domain.*;
 import com.ardaslegends.repository.ArmyRepository;
 import com.ardaslegends.repository.MovementRepository;
-import com.ardaslegends.repository.player.PlayerRepository;
+import com.ardaslegends.repository.rpchar.RpcharRepository;
 import com.ardaslegends.service.ArmyService;
 import com.ardaslegends.service.MovementService;
 import com.ardaslegends.service.PlayerService;
-import com.ardaslegends.service.exceptions.logic.player.PlayerServiceException;
+import com.ardaslegends.service.healing.ArmyHealingCalculator;
+import com.ardaslegends.service.live.MovementLiveEvent;
 import com.ardaslegends.service.utils.ServiceUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.time.DurationFormatUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.Clock;
-import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 import static java.time.temporal.ChronoUnit.HOURS;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
-import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 @RequiredArgsConstructor
 
@@ -36,90 +34,216 @@ public class ScheduleService {
 
     private final MovementRepository movementRepository;
     private final ArmyRepository armyRepository;
-    private final PlayerRepository playerRepository;
+    private final RpcharRepository rpcharRepository;
     private final MovementService movementService;
     private final ArmyService armyService;
     private final PlayerService playerService;
-    private final TimeFreezeService timeFreezeService;
-    private final Clock clock;
-
-    @Scheduled(cron = "0 */15 * ? * *")
+    private final PartitionedSweepExecutor sweepExecutor;
+    private final GameClock gameClock;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Advances a single movement to the region it is in at the current time and persists only that movement.
+     * @param movementId the id of the movement
+     * @return the time the movement reaches its next region, empty if the movement does not exist or is no longer active
+     */
     @Transactional(readOnly = false)
+    public Optional<OffsetDateTime> handleMovement(Long movementId) {
+        OffsetDateTime now = OffsetDateTime.now(gameClock);
+        log.debug("Handling movement with id [{}] - Game time: [{}]", movementId, now);
+
+        Optional<Movement> fetchedMovement = movementRepository.findById(movementId);
+        if(fetchedMovement.isEmpty() || !fetchedMovement.get().getIsCurrentlyActive()) {
+            log.debug("Movement with id [{}] does not exist or is no longer active", movementId);
+            return Optional.empty();
+        }
+        Movement movement = fetchedMovement.get();
+
+        if(now.isBefore(movement.getReachesNextRegionAt())) {
+            log.debug("Movement with id [{}] reaches its next region at [{}] - nothing to do yet", movementId, movement.getReachesNextRegionAt());
+            return Optional.of(movement.getReachesNextRegionAt());
+        }
+
+        handleSingleMovement(movement, now);
+
+        log.debug("Saving movement with id [{}]", movementId);
+        movement = movementService.saveMovement(movement);
+        publishMovementAdvanced(movement);
+
+        return movement.getIsCurrentlyActive() ? Optional.of(movement.getReachesNextRegionAt()) : Optional.empty();
+    }
+
+    /**
+     * Region transitions are fired by the {@link MovementEngine} at the exact time they are due.
+     * This sweep only catches up on movements the engine missed, e.g. because handling them failed repeatedly,
+     * so it normally does not change a single row.
+     */
+    @Scheduled(cron = "0 0 * ? * *")
     public void handleMovements() {
-        OffsetDateTime startDateTime = OffsetDateTime.now(clock);
-        long startNanos = System.nanoTime();
-        log.info("Starting scheduled handling of movement - System time: [{}]", startDateTime);
+        OffsetDateTime startDateTime = OffsetDateTime.now(gameClock);
+        log.info("Starting scheduled handling of movement - Game time: [{}]", startDateTime);
 
-        log.debug("Getting all active movements");
-        List<Movement> allActiveMoves = movementRepository.findMovementsByIsCurrentlyActive(true);
-        log.debug("Found [{}] active movements - continuing with handling", allActiveMoves.size());
+        log.debug("Getting the ids of all active movements");
+        List<Long> movementIds = movementRepository.findIdsOfActiveMovements();
+        log.debug("Found [{}] active movements - continuing with handling", movementIds.size());
+
+        val report = sweepExecutor.run("movements", movementIds, ids -> handleMovementPartition(ids, startDateTime));
+        logSweepReport(report);
+    }
 
-        log.debug("Calling parallelStream handleSingleMovement");
-        allActiveMoves.stream().forEach(movement -> handleSingleMovement(movement, startDateTime));
+    private int handleMovementPartition(List<Long> ids, OffsetDateTime now) {
+        List<Movement> movements = movementRepository.findAllById(ids);
 
-        log.debug("Saving all movements");
-        allActiveMoves = movementService.saveMovements(allActiveMoves);
+        log.debug("Calling handleSingleMovement");
+        List<Movement> changedMoves = movements.stream()
+                .filter(movement -> handleSingleMovement(movement, now))
+                .toList();
 
-        long endNanos = System.nanoTime();
-        BigDecimal neededTime = BigDecimal.valueOf((double) MILLISECONDS.convert(endNanos - startNanos, NANOSECONDS) / 1000);
-        log.debug("Needed time in nanos: [{}]", endNanos - startNanos);
-        log.info("Finished handling movements. Updated movements: [{}] - finished in {} seconds", allActiveMoves.size(), neededTime.toPlainString());
+        log.debug("Saving [{}] changed movements", changedMoves.size());
+        movementService.saveMovements(changedMoves);
+        changedMoves.forEach(this::publishMovementAdvanced);
+        return changedMoves.size();
     }
 
-    @Scheduled(cron = "0 */15 * ? * *")
+    private void publishMovementAdvanced(Movement movement) {
+        eventPublisher.publishEvent(movement.getIsCurrentlyActive() ? MovementLiveEvent.advanced(movement, gameClock) : MovementLiveEvent.ended(movement));
+    }
+
+    /**
+     * Replenishes a single healing army and persists only that army.
+     * @param armyId the id of the army
+     * @return the time the army completes its next replenish cycle, empty if the army does not exist or is no longer healing
+     */
     @Transactional(readOnly = false)
+    public Optional<OffsetDateTime> handleHealingArmy(Long armyId) {
+        OffsetDateTime now = OffsetDateTime.now(gameClock);
+        log.debug("Handling healing army with id [{}] - Game time: [{}]", armyId, now);
+
+        Optional<Army> fetchedArmy = armyRepository.findById(armyId);
+        if(fetchedArmy.isEmpty() || !Boolean.TRUE.equals(fetchedArmy.get().getIsHealing())) {
+            log.debug("Army with id [{}] does not exist or is no longer healing", armyId);
+            return Optional.empty();
+        }
+        Army army = fetchedArmy.get();
+
+        OffsetDateTime dueAt = HealingEngine.nextDueAt(army);
+        if(now.isBefore(dueAt)) {
+            log.debug("Army with id [{}] completes its next replenish cycle at [{}] - nothing to do yet", armyId, dueAt);
+            return Optional.of(dueAt);
+        }
+
+        if(handleHealingArmy(army, now)) {
+            log.debug("Saving army with id [{}]", armyId);
+            armyService.saveArmies(List.of(army));
+        }
+
+        return army.getIsHealing() ? Optional.of(HealingEngine.nextDueAt(army)) : Optional.empty();
+    }
+
+    /**
+     * Completes the healing of a single character once it is due and persists only its player.
+     * @param rpCharId the id of the character
+     * @return the time the character finishes healing, empty if the character does not exist or is no longer healing
+     */
+    @Transactional(readOnly = false)
+    public Optional<OffsetDateTime> handleHealingRpChar(Long rpCharId) {
+        OffsetDateTime now = OffsetDateTime.now(gameClock);
+        log.debug("Handling healing character with id [{}] - Game time: [{}]", rpCharId, now);
+
+        Optional<RPChar> fetchedRpChar = rpcharRepository.findById(rpCharId);
+        if(fetchedRpChar.isEmpty() || !Boolean.TRUE.equals(fetchedRpChar.get().getIsHealing())) {
+            log.debug("Character with id [{}] does not exist or is no longer healing", rpCharId);
+            return Optional.empty();
+        }
+        RPChar rpChar = fetchedRpChar.get();
+
+        OffsetDateTime dueAt = HealingEngine.nextDueAt(rpChar);
+        if(now.isBefore(dueAt)) {
+            log.debug("Character with id [{}] finishes healing at [{}] - nothing to do yet", rpCharId, dueAt);
+            return Optional.of(dueAt);
+        }
+
+        if(handleHealingRpChar(rpChar, now)) {
+            log.debug("Saving player of character with id [{}]", rpCharId);
+            playerService.savePlayers(List.of(rpChar.getOwner()));
+        }
+
+        return rpChar.getIsHealing() ? Optional.of(HealingEngine.nextDueAt(rpChar)) : Optional.empty();
+    }
+
+    /**
+     * Replenish cycles and healing completions are fired by the {@link HealingEngine} at the time they are due.
+     * Like {@link #handleMovements()} this sweep only catches up on what the engine missed.
+     */
+    @Scheduled(cron = "0 0 * ? * *")
     public void handleHealings() {
-        OffsetDateTime startDateTime = OffsetDateTime.now(clock);
-        long startNanos = System.nanoTime();
-        log.info("Starting scheduled handling of healings - System time: [{}]", startDateTime);
+        OffsetDateTime startDateTime = OffsetDateTime.now(gameClock);
+        log.info("Starting scheduled handling of healings - Game time: [{}]", startDateTime);
+
+        log.debug("Getting the ids of all armies that are healing");
+        List<Long> armyIds = armyRepository.findIdsOfHealingArmies();
+        log.debug("Found [{}] healing armies - continuing with handling", armyIds.size());
+        logSweepReport(sweepExecutor.run("healing armies", armyIds, ids -> handleHealingArmyPartition(ids, startDateTime)));
+
+        log.debug("Getting the ids of all characters that are healing");
+        List<Long> rpCharIds = rpcharRepository.findIdsOfHealingRpChars();
+        log.debug("Found [{}] healing chars - continuing with handling", rpCharIds.size());
+        logSweepReport(sweepExecutor.run("healing chars", rpCharIds, ids -> handleHealingRpCharPartition(ids, startDateTime)));
+    }
 
-        log.debug("Getting all armies that are healing");
-        List<Army> healingArmies = armyRepository.findArmyByIsHealingTrue();
-        log.debug("Found [{}] healing armies - continuing with handling", healingArmies.size());
+    private int handleHealingArmyPartition(List<Long> ids, OffsetDateTime now) {
+        List<Army> healingArmies = armyRepository.findAllById(ids);
 
-        log.debug("Getting all characters that are healing");
-        List<Player> healingPlayers = playerRepository.queryPlayersWithHealingRpchars();
-        log.debug("Found [{}] healing chars - continuing with handling", healingPlayers.size());
+        log.debug("Calling handleHealingArmy");
+        List<Army> changedArmies = healingArmies.stream()
+                .filter(army -> handleHealingArmy(army, now))
+                .toList();
 
-        log.debug("Calling parallelStream handleHealingArmy");
-        healingArmies.stream().forEach(army -> handleHealingArmy(army, startDateTime));
+        // Unchanged entities are left untouched, so the flush only writes (batched) updates for the changed ones
+        log.trace("Persisting [{}] changed armies", changedArmies.size());
+        armyService.saveArmies(changedArmies);
+        return changedArmies.size();
+    }
+
+    private int handleHealingRpCharPartition(List<Long> ids, OffsetDateTime now) {
+        List<RPChar> healingRpChars = rpcharRepository.findAllById(ids);
 
-        log.debug("Calling parallelStream handleHealingPlayer");
-        healingPlayers.stream().forEach(player -> handleHealingPlayer(player, startDateTime));
+        log.debug("Calling handleHealingRpChar");
+        List<Player> changedPlayers = healingRpChars.stream()
+                .filter(rpChar -> handleHealingRpChar(rpChar, now))
+                .map(RPChar::getOwner)
+                .toList();
 
-        log.trace("Persisting data");
-        healingArmies = armyService.saveArmies(healingArmies);
-        healingPlayers = playerService.savePlayers(healingPlayers);
+        log.trace("Persisting [{}] changed players", changedPlayers.size());
+        playerService.savePlayers(changedPlayers);
+        return changedPlayers.size();
+    }
 
-        long endNanos = System.nanoTime();
-        BigDecimal neededTime = BigDecimal.valueOf((double) MILLISECONDS.convert(endNanos - startNanos, NANOSECONDS) / 1000);
-        log.debug("Needed time in nanos: [{}]", endNanos - startNanos);
-        log.info("Finished handling healing. Updated armies: [{}], updated chars: [{}] - finished in {} seconds", healingArmies.size(), healingPlayers.size(), neededTime.toPlainString());
+    private static void logSweepReport(PartitionedSweepExecutor.SweepReport report) {
+        BigDecimal neededTime = BigDecimal.valueOf((double) report.duration().toMillis() / 1000);
+        log.debug("Needed time in nanos: [{}]", report.duration().toNanos());
+        log.info("Finished handling {}. Updated: [{}/{}] in [{}] partitions, failed partitions: [{}], slowest partition: [{}ms] - finished in {} seconds",
+                report.sweepName(), report.changed(), report.total(), report.partitions().size(), report.failedPartitions().size(),
+                report.slowestPartition().toMillis(), neededTime.toPlainString());
     }
 
-    private void handleSingleMovement(Movement movement, OffsetDateTime now) {
+    /**
+     * @return true if the movement changed and has to be persisted
+     */
+    private boolean handleSingleMovement(Movement movement, OffsetDateTime now) {
         log.debug("Handling movement of {} {} with path {}", movement.getMovingEntity(), movement.getMovingEntityName(),
-                ServiceUtils.buildPathStringWithCurrentRegion(movement.getPath(), movement.getCurrentRegion()));
+                ServiceUtils.buildPathStringWithCurrentRegion(movement.getPath(), movement.getCurrentPathIndex()));
         log.debug("Movement data: {}", movement);
 
-        if(timeFreezeService.isTimeFrozen()) {
-            log.debug("Time is frozen - delaying movement");
-            val timeSinceLastUpdate = Duration.between(movement.getLastUpdatedAt(), now);
-            log.trace("Duration since last movement update: [{}]", ServiceUtils.formatDuration(timeSinceLastUpdate));
-            log.debug("Delaying movement by [{}]", ServiceUtils.formatDuration(timeSinceLastUpdate));
-            log.debug("Old ReachesNextRegionAt: [{}]", movement.getReachesNextRegionAt());
-            movement.setReachesNextRegionAt(movement.getReachesNextRegionAt().plus(timeSinceLastUpdate));
-            log.debug("New ReachesNextRegionAt: [{}]", movement.getReachesNextRegionAt());
-            log.debug("Old EndsAt: [{}]", movement.getEndTime());
-            movement.setEndTime(movement.getEndTime().plus(timeSinceLastUpdate));
-            log.debug("New EndsAt: [{}]", movement.getEndTime());
-        }
+        // Deadlines are game time, which does not pass while time is frozen, so frozen movements simply are not due
+        boolean hasChanged = false;
 
-        log.trace("Entering loop while now [{}] is after reachesNextRegionAt [{}]", now, movement.getReachesNextRegionAt());
-        while(now.isAfter(movement.getReachesNextRegionAt())) {
+        log.trace("Entering loop while now [{}] is not before reachesNextRegionAt [{}]", now, movement.getReachesNextRegionAt());
+        while(!now.isBefore(movement.getReachesNextRegionAt())) {
             log.trace("Now [{}] is after reachesNextRegionAt [{}]", now, movement.getReachesNextRegionAt());
             log.trace("Updating current region from [{}] to [{}]", movement.getCurrentRegion(), movement.getNextRegion());
-            movement.setCurrentRegion(movement.getNextRegion());
+            movement.advanceToNextRegion();
+            hasChanged = true;
 
             log.trace("Checking if current region is destination");
             if(movement.getNextPathElement() == null) {
@@ -137,30 +261,23 @@ public class ScheduleService {
         }
         log.trace("Exited while loop");
 
-        log.trace("Setting movement lastUpdatedAt to now [{}]", now);
-        movement.setLastUpdatedAt(now);
+        if(hasChanged) {
+            log.trace("Setting movement lastUpdatedAt to now [{}]", now);
+            movement.setLastUpdatedAt(now);
+        }
 
         log.debug("Finished handling movement of {} {} with path {}", movement.getMovingEntity(), movement.getMovingEntityName(),
-                ServiceUtils.buildPathStringWithCurrentRegion(movement.getPath(), movement.getCurrentRegion()));
+                ServiceUtils.buildPathStringWithCurrentRegion(movement.getPath(), movement.getCurrentPathIndex()));
+        return hasChanged;
     }
 
-    private void handleHealingArmy(Army army, OffsetDateTime now) {
+    /**
+     * @return true if the army changed and has to be persisted
+     */
+    private boolean handleHealingArmy(Army army, OffsetDateTime now) {
         log.debug("Handling healing army [{}]", army);
         OffsetDateTime endTime = army.getHealEnd();
 
-        if(timeFreezeService.isTimeFrozen()) {
-            log.debug("Time is frozen - delaying army healing");
-            val timeSinceLastUpdate = Duration.between(army.getHealLastUpdatedAt(), now);
-            log.trace("Duration since last army healing update: [{}]", ServiceUtils.formatDuration(timeSinceLastUpdate));
-            log.debug("Delaying army healing by [{}]", ServiceUtils.formatDuration(timeSinceLastUpdate));
-            log.debug("Old HealEnd: [{}]", army.getHealEnd());
-            army.setHealEnd(army.getHealEnd().plus(timeSinceLastUpdate));
-            log.debug("New HealEnd: [{}]", army.getHealEnd());
-        }
-
-        log.debug("Setting HealingLastUpdatedAt to now [{}]", now);
-        army.setHealLastUpdatedAt(now);
-
         log.debug("Getting the hours between end date [{}] and current time [{}]", endTime, now);
 
         /*
@@ -183,6 +300,7 @@ public class ScheduleService {
             army.getUnits().stream().forEach(unit -> unit.setAmountAlive(unit.getCount()));
             log.info("Army [{}] has finished its healing process!", army.getName());
             army.resetHealingStats();
+            return true;
         }
 
         /*
@@ -197,123 +315,50 @@ public class ScheduleService {
 
         if(hoursHealedSinceLastTime == 0 && hoursLeft != 0) {
             log.debug("No hour has passed for this healing - exiting function");
-            return;
+            return false;
         }
 
         /*
-        Sets the divisor to 24
-        If stationed at a stronghold, set it to half the amount (x2 heal speed)
-        This is explained in the later comment
+        Every 24 hours (12 when stationed at a stronghold) the army gets 6 replenish tokens
+        which heal its units in ascending cost order, see ArmyHealingCalculator
          */
 
-        int divisor = 24;
-        log.trace("Setting divisor to [{}]", divisor);
-        if(army.getStationedAt().getType().equals(ClaimBuildType.STRONGHOLD)) {
-            divisor /= 2;
-            log.trace("Army is stationed at Stronghold, setting divisor to [{}]", divisor);
-        }
-
-        //The amount of hours the army has healed after the last replenish (excluding hoursHealedSinceLastTime)
-        int hoursSinceLastReplenishWithoutCurrent = army.getHoursHealed() % divisor;
-        //The amount of hours the army has healed after the last replenish (including hoursHealedSinceLastTime)
-        int hoursHealedSinceLastReplenish = hoursSinceLastReplenishWithoutCurrent + hoursHealedSinceLastTime;
+        int hoursPerCycle = ArmyHealingCalculator.hoursPerCycle(army.getStationedAt().getType());
+        log.trace("Army replenishes every [{}] hours", hoursPerCycle);
+        int cycles = ArmyHealingCalculator.completedCycles(army.getHoursHealed(), hoursHealedSinceLastTime, hoursPerCycle);
+        log.debug("Replenish cycles completed since last time: [{}]", cycles);
 
-        /*
-        We enter a loop that lasts as long as we hoursHealedSinceLastReplenish > divisor
-        We replenish the troops in every iteration and subtract hoursHealedSinceLastReplenish - divisor
-        For example 48 - 24 = 24 - 24 = 0 -> replenish alive units 2 times
-        When army stationed claimbuild is a STRONGHOLD, then subtract by 12 (replenish every 12h)
-         */
+        if(cycles == 0) {
+            log.debug("No replenish cycle completed since last time - exiting function");
+            return false;
+        }
 
-        log.trace("Entering loop");
-        while(hoursHealedSinceLastReplenish >= divisor) {
-            log.trace("hoursHealedSinceLastReplenish: [{}]", hoursHealedSinceLastReplenish);
-            log.trace("Subtracting divisor [{}] from hoursHealedSinceLastReplenish [{}]", divisor, hoursHealedSinceLastReplenish);
-            hoursHealedSinceLastReplenish -= divisor;
-            log.trace("New hoursHealedSinceLastReplenish: [{}]", hoursHealedSinceLastReplenish);
-
-            //only get units that are not fully replenished sorted by token cost ascending
-            List<Unit> units = army.getUnits().stream()
-                    .filter(unit -> unit.getAmountAlive() < unit.getCount())
-                    .sorted(Comparator.comparing(Unit::getCost))
-                    .toList();
-
-            double replenishTokens = 6.0;
-            int currentUnitIndex = 0;
-            Unit currentUnit = units.get(currentUnitIndex);
-
-            while(replenishTokens > 0) {
-                log.trace("Starting to replenish unit: [{}]", currentUnit);
-                log.trace("Unit [{}] has currently {}/{} alive units", currentUnit.getUnitType(), currentUnit.getAmountAlive(), currentUnit.getCount());
-                log.trace("Replenish tokens left: [{}]", replenishTokens);
-
-                int deadUnits = currentUnit.getCount() - currentUnit.getAmountAlive();
-                log.trace("Dead units: [{}]", deadUnits);
-                double tokensToHeal = deadUnits * currentUnit.getCost();
-                log.trace("Tokens to heal: [{}]", tokensToHeal);
-                if(tokensToHeal >= replenishTokens) {
-                    log.trace("More tokens to heal than replenish tokens available - using all replenish tokens on unit [{}]", currentUnit);
-                    int canHealUnits = (int) (replenishTokens / currentUnit.getCost());
-                    log.trace("Unit has cost [{}] - can heal [{}] with [{}] refresh tokens", currentUnit.getCost(), canHealUnits, replenishTokens);
-                    currentUnit.setAmountAlive(currentUnit.getAmountAlive() + canHealUnits);
-                    log.trace("Unit now has {}/{} units", currentUnit.getAmountAlive(), currentUnit.getCount());
-                    replenishTokens = 0;
-                    log.trace("Set replenish tokens to [{}]", replenishTokens);
-                }
-                else {
-                    log.trace("Less units to heal than replenish tokens available - healing unit [{}] to full", currentUnit.getUnitType());
-                    currentUnit.setAmountAlive(currentUnit.getCount());
-                    log.trace("Unit now has {}/{} units", currentUnit.getAmountAlive(), currentUnit.getCount());
-                    replenishTokens -= tokensToHeal;
-                    log.trace("Set replenish tokens to [{}]", replenishTokens);
-
-                    log.trace("Setting the next unit");
-                    if(currentUnitIndex == units.size()-1) {
-                        log.trace("current unit was last in list, not setting new current unit");
-                        log.info("Army [{}] has finished its healing process!", army.getName());
-                        army.resetHealingStats();
-                        replenishTokens = 0;
-                    }
-                    else {
-                        currentUnitIndex++;
-                        currentUnit = units.get(currentUnitIndex);
-                        log.trace("Set new current unit to [{}]", currentUnit);
-                    }
-                }
-            }
-            log.trace("Exited loop");
-
-            if(!army.allUnitsAlive()) {
-                log.trace("Army not fully healed - updating parameters");
-                log.trace("Setting the new amount of hours healed to [{}]", army.getHoursHealed() + hoursHealedSinceLastTime);
-                army.setHoursHealed(army.getHoursHealed() + hoursHealedSinceLastTime);
-                log.trace("Setting new hours left to [{}]", hoursLeft);
-                army.setHoursLeftHealing(hoursLeft);
-            }
+        val result = ArmyHealingCalculator.replenish(army.getUnits(), cycles);
+        result.applyTo(army.getUnits());
+        log.trace("Replenished units of army [{}] in [{}] cycles", army.getName(), result.cyclesUsed());
 
-            log.debug("Finished army [{}]", army);
+        if(result.isFullyHealed()) {
+            log.info("Army [{}] has finished its healing process!", army.getName());
+            army.resetHealingStats();
+        }
+        else {
+            log.trace("Army not fully healed - updating parameters");
+            log.trace("Setting the new amount of hours healed to [{}]", army.getHoursHealed() + hoursHealedSinceLastTime);
+            army.setHoursHealed(army.getHoursHealed() + hoursHealedSinceLastTime);
+            log.trace("Setting new hours left to [{}]", hoursLeft);
+            army.setHoursLeftHealing(hoursLeft);
         }
+
+        log.debug("Finished army [{}]", army);
+        return true;
     }
 
-    private void handleHealingPlayer(Player player, OffsetDateTime now) {
-        log.debug("Handling healing player [{}]", player);
-        RPChar rpChar = player.getActiveCharacter().orElseThrow(PlayerServiceException::noRpChar);
-        log.trace("Got player's rpchar [{}]", rpChar);
+    /**
+     * @return true if the character changed and has to be persisted
+     */
+    private boolean handleHealingRpChar(RPChar rpChar, OffsetDateTime now) {
         OffsetDateTime endTime = rpChar.getHealEnds();
 
-        if(timeFreezeService.isTimeFrozen()) {
-            log.debug("Time is frozen - delaying army healing");
-            val timeSinceLastUpdate = Duration.between(rpChar.getHealLastUpdatedAt(), now);
-            log.trace("Duration since last rpChar healing update: [{}]", ServiceUtils.formatDuration(timeSinceLastUpdate));
-            log.debug("Delaying rpChar healing by [{}]", ServiceUtils.formatDuration(timeSinceLastUpdate));
-            log.debug("Old HealEnd: [{}]", rpChar.getHealEnds());
-            rpChar.setHealEnds(rpChar.getHealEnds().plus(timeSinceLastUpdate));
-            log.debug("New HealEnd: [{}]", rpChar.getHealEnds());
-        }
-
-        log.debug("Setting HealingLastUpdatedAt to now [{}]", now);
-        rpChar.setHealLastUpdatedAt(now);
-
         log.debug("Getting the hours between end date [{}] and current time [{}]", endTime, now);
 
         /*
@@ -331,13 +376,14 @@ public class ScheduleService {
         log.debug("Hours left: [{}]", hoursLeft);
 
         if(hoursLeft <= 0) {
-            log.info("Character [{}] of player [{}] finished healing - setting isInjured and isHealing to false", rpChar, player);
+            log.info("Character [{}] of player [{}] finished healing - setting isInjured and isHealing to false", rpChar, rpChar.getOwner());
             rpChar.setInjured(false);
             rpChar.setIsHealing(false);
             log.trace("Exiting function");
-            return;
+            return true;
         }
-        log.debug("Character [{}] of player [{}] still has [{}] hours left for healing and therefore has not finished yet!", rpChar, player, hoursLeft);
+        log.debug("Character [{}] of player [{}] still has [{}] hours left for healing and therefore has not finished yet!", rpChar, rpChar.getOwner(), hoursLeft);
+        return false;
 
     }
 
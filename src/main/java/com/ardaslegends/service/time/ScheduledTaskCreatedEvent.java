@@ -0,0 +1,6 @@
+package com.ardaslegends.service.time;
+
+import java.time.OffsetDateTime;
+
+public record ScheduledTaskCreatedEvent(Long taskId, OffsetDateTime dueAt) {
+}
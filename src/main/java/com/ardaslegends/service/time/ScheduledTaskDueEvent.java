@@ -0,0 +1,10 @@
+package com.ardaslegends.service.time;
+
+import com.ardaslegends.domain.ScheduledTaskType;
+
+/**
+ * Published inside the transaction that claimed a due {@link com.ardaslegends.domain.ScheduledTask}.
+ * Listeners that throw roll the claim back, so the task is retried.
+ */
+public record ScheduledTaskDueEvent(ScheduledTaskType type, Long referenceId) {
+}
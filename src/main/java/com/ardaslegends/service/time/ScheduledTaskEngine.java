@@ -0,0 +1,81 @@
+package com.ardaslegends.service.time;
+
+import com.ardaslegends.domain.ScheduledTask;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Runs {@link ScheduledTask}s at their due time without keeping a thread per task.
+ * Tasks due within the next {@link #POLL_LOOKAHEAD} are armed as {@link DueTimer}s.
+ * The table is polled regularly, so tasks survive restarts and tasks scheduled by other nodes are picked up as well.
+ * Which node actually runs a task is decided by {@link ScheduledTaskService#runTask(Long)}.
+ */
+@Slf4j
+@Service
+public class ScheduledTaskEngine {
+
+    private static final Duration POLL_LOOKAHEAD = Duration.ofMinutes(5);
+
+    private final ScheduledTaskService scheduledTaskService;
+    private final Clock clock;
+    final DueTimer<Long> timers;
+
+    public ScheduledTaskEngine(ScheduledTaskService scheduledTaskService, ExecutorService virtualExecutorService, Clock clock) {
+        this.scheduledTaskService = scheduledTaskService;
+        this.clock = clock;
+        this.timers = new DueTimer<>("scheduled task", virtualExecutorService, clock, this::runTask);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        pollDueTasks();
+        timers.start();
+        log.info("Started scheduled task engine with [{}] armed tasks", getArmedCount());
+    }
+
+    @PreDestroy
+    public void stop() {
+        log.info("Stopping scheduled task engine");
+        timers.stop();
+    }
+
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void pollDueTasks() {
+        OffsetDateTime dueBefore = OffsetDateTime.now(clock).plus(POLL_LOOKAHEAD);
+        log.trace("Polling scheduled tasks due before [{}]", dueBefore);
+        List<ScheduledTask> dueTasks = scheduledTaskService.getPendingTasksDueBefore(dueBefore);
+        dueTasks.forEach(task -> arm(task.getId(), task.getDueAt()));
+        log.debug("Polled [{}] scheduled tasks due before [{}]", dueTasks.size(), dueBefore);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduledTaskCreated(ScheduledTaskCreatedEvent event) {
+        log.debug("Received scheduled task created event [{}]", event);
+        arm(event.taskId(), event.dueAt());
+    }
+
+    public int getArmedCount() {
+        return timers.getScheduledCount();
+    }
+
+    void arm(Long taskId, OffsetDateTime dueAt) {
+        timers.schedule(taskId, dueAt);
+    }
+
+    private Optional<OffsetDateTime> runTask(Long taskId) {
+        scheduledTaskService.runTask(taskId);
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,86 @@
+package com.ardaslegends.service.time;
+
+import com.ardaslegends.domain.ScheduledTask;
+import com.ardaslegends.domain.ScheduledTaskType;
+import com.ardaslegends.repository.ScheduledTaskRepository;
+import com.ardaslegends.service.AbstractService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Persists timed callbacks and runs them once they are due.
+ * Running a task means claiming it in the database and publishing a {@link ScheduledTaskDueEvent},
+ * the services owning the referenced entities listen for the event of their task type.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ScheduledTaskService extends AbstractService<ScheduledTask, ScheduledTaskRepository> {
+
+    private final ScheduledTaskRepository scheduledTaskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    @Transactional(readOnly = false)
+    public ScheduledTask schedule(ScheduledTaskType type, Long referenceId, OffsetDateTime dueAt) {
+        log.debug("Scheduling task [{}] for [{}] at [{}]", type, referenceId, dueAt);
+        Objects.requireNonNull(type, "Type of scheduled task must not be null");
+        Objects.requireNonNull(referenceId, "ReferenceId of scheduled task must not be null");
+        Objects.requireNonNull(dueAt, "DueAt of scheduled task must not be null");
+
+        ScheduledTask task = secureSave(new ScheduledTask(type, referenceId, dueAt, OffsetDateTime.now(clock)), scheduledTaskRepository);
+        eventPublisher.publishEvent(new ScheduledTaskCreatedEvent(task.getId(), task.getDueAt()));
+
+        log.info("Scheduled task [{}] for [{}] at [{}]", type, referenceId, dueAt);
+        return task;
+    }
+
+    public List<ScheduledTask> getPendingTasksDueBefore(OffsetDateTime dueBefore) {
+        log.debug("Getting pending tasks due before [{}]", dueBefore);
+        return secureFind(dueBefore, scheduledTaskRepository::findByCompletedAtIsNullAndDueAtBeforeOrderByDueAt);
+    }
+
+    /**
+     * Claims the task and publishes its {@link ScheduledTaskDueEvent}.
+     * Tasks that are already completed, e.g. by another node, or that are not due yet are not run.
+     * @return true if the task was run by this call
+     */
+    @Transactional(readOnly = false)
+    public boolean runTask(Long taskId) {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        log.debug("Trying to run scheduled task [{}] at [{}]", taskId, now);
+
+        Optional<ScheduledTask> fetchedTask = secureFind(taskId, scheduledTaskRepository::findById);
+        if(fetchedTask.isEmpty() || fetchedTask.get().isCompleted()) {
+            log.debug("Scheduled task [{}] does not exist or is already completed", taskId);
+            return false;
+        }
+        ScheduledTask task = fetchedTask.get();
+
+        if(now.isBefore(task.getDueAt())) {
+            log.debug("Scheduled task [{}] is not due until [{}]", taskId, task.getDueAt());
+            return false;
+        }
+
+        if(scheduledTaskRepository.markCompleted(taskId, now) == 0) {
+            log.debug("Scheduled task [{}] got claimed by someone else", taskId);
+            return false;
+        }
+
+        log.debug("Publishing due event of task [{}]", task);
+        eventPublisher.publishEvent(new ScheduledTaskDueEvent(task.getType(), task.getReferenceId()));
+
+        log.info("Ran scheduled task [{}] for [{}], due at [{}]", task.getType(), task.getReferenceId(), task.getDueAt());
+        return true;
+    }
+}
@@ -2,6 +2,7 @@ package com.ardaslegends.service.utils;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -12,7 +13,11 @@ import java.time.Clock;
 @EnableAsync
 public class ScheduleConfig {
 
+    /**
+     * The wall clock, the game runs on the {@link com.ardaslegends.service.time.GameClock} which is a clock too
+     */
     @Bean
+    @Primary
     public Clock clock() {
         return Clock.systemDefaultZone();
     }
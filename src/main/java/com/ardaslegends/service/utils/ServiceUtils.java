@@ -185,4 +185,16 @@ public class ServiceUtils {
         return buildPathString(path).replace(current.getId(), current.getId() + " (current)");
     }
 
+    public static String buildPathStringWithCurrentRegion(List<PathElement> path, int currentIndex) {
+        StringBuilder pathString = new StringBuilder();
+        for(int i = 0; i < path.size(); i++) {
+            if(i > 0)
+                pathString.append(" -> ");
+            pathString.append(path.get(i).getRegion().getId());
+            if(i == currentIndex)
+                pathString.append(" (current)");
+        }
+        return pathString.toString();
+    }
+
 }
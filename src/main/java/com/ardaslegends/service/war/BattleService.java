@@ -10,17 +10,22 @@ import com.ardaslegends.service.dto.war.battle.ConcludeBattleDto;
 import com.ardaslegends.service.dto.war.battle.RpCharCasualtyDto;
 import com.ardaslegends.service.dto.war.battle.SurvivingUnitsDto;
 import com.ardaslegends.service.dto.war.battle.CreateBattleDto;
-import com.ardaslegends.service.discord.DiscordService;
-import com.ardaslegends.service.discord.messages.war.BattleMessages;
+import com.ardaslegends.service.discord.outbox.DiscordOutboxService;
 import com.ardaslegends.service.exceptions.logic.rpchar.RpCharServiceException;
 import com.ardaslegends.service.exceptions.logic.war.BattleServiceException;
 import com.ardaslegends.service.exceptions.logic.army.ArmyServiceException;
+import com.ardaslegends.service.live.BattleLiveEvent;
+import com.ardaslegends.service.time.GameClock;
+import com.ardaslegends.service.time.ScheduledTaskDueEvent;
+import com.ardaslegends.service.time.ScheduledTaskService;
 import com.ardaslegends.service.time.TimeFreezeService;
 import com.ardaslegends.service.utils.ServiceUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,7 +46,10 @@ public class BattleService extends AbstractService<Battle, BattleRepository> {
     private final Pathfinder pathfinder;
     private final FactionService factionService;
     private final TimeFreezeService timeFreezeService;
-    private final DiscordService discordService;
+    private final DiscordOutboxService discordOutboxService;
+    private final ScheduledTaskService scheduledTaskService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GameClock gameClock;
 
     @Transactional(readOnly = false)
     public Battle createBattle(CreateBattleDto createBattleDto) {
@@ -118,12 +126,12 @@ public class BattleService extends AbstractService<Battle, BattleRepository> {
             if(defendingArmy.getActiveMovement().isPresent()) {
                 var activeMovement = defendingArmy.getActiveMovement().get();
                 log.debug("Defending army [{}] is moving [{}]", defendingArmy, activeMovement);
-                log.debug("Next region: [{}] - Duration until next region: [{}]", activeMovement.getNextRegion(), ServiceUtils.formatDuration(activeMovement.getDurationUntilNextRegion()));
+                log.debug("Next region: [{}] - Duration until next region: [{}]", activeMovement.getNextRegion(), ServiceUtils.formatDuration(activeMovement.getDurationUntilNextRegion(gameClock)));
 
-                if(activeMovement.getDurationUntilNextRegion().minusHours(24).isNegative()) {
+                if(activeMovement.getDurationUntilNextRegion(gameClock).minusHours(24).isNegative()) {
                     log.debug("Next region is reached in <= 24h");
-                    log.warn("Cannot declare battle - defending army cannot be reached because it is moving away in [{}]!", ServiceUtils.formatDuration(activeMovement.getDurationUntilNextRegion()));
-                    throw BattleServiceException.defendingArmyIsMovingAway(defendingArmy);
+                    log.warn("Cannot declare battle - defending army cannot be reached because it is moving away in [{}]!", ServiceUtils.formatDuration(activeMovement.getDurationUntilNextRegion(gameClock)));
+                    throw BattleServiceException.defendingArmyIsMovingAway(defendingArmy, gameClock);
                 }
                 log.debug("Defending army is moving but is still in the region for the next 24h");
 
@@ -197,28 +205,39 @@ public class BattleService extends AbstractService<Battle, BattleRepository> {
                 null,
                 battleLocation);
 
-        log.debug("Calling start24hTimer()");
-        val timer = timeFreezeService.start24hTimer(() -> startBattle(createdBattle));
-        log.debug("Setting battle.timeFrozenFrom to end date of 24h timer");
-        createdBattle.setTimeFrozenFrom(timer.finishesAt());
+        log.debug("Setting battle.timeFrozenFrom to 24 hours after the declaration");
+        createdBattle.setTimeFrozenFrom(createdBattle.getDeclaredDate().plusHours(24));
 
-        Battle battle;
         log.debug("Trying to persist the battle object");
-        try {
-            battle = secureSave(createdBattle, battleRepository);
-        }
-        catch (Exception e) {
-            log.warn("Cancelling 24h timer since there was an error while persisting battle [{}]", createdBattle);
-            timer.future().cancel(true);
-            throw e;
-        }
+        Battle battle = secureSave(createdBattle, battleRepository);
 
-        discordService.sendMessageToRpChannel(BattleMessages.declareBattle(battle, discordService));
+        log.debug("Scheduling the start of battle [{}] at [{}]", battle.getName(), battle.getTimeFrozenFrom());
+        scheduledTaskService.schedule(ScheduledTaskType.START_BATTLE, battle.getId(), battle.getTimeFrozenFrom());
+
+        discordOutboxService.enqueue(DiscordOutboxMessageType.BATTLE_DECLARED, battle.getId());
+        eventPublisher.publishEvent(BattleLiveEvent.declared(battle));
 
         log.info("Successfully created battle [{}]!", battle.getName());
         return battle;
     }
 
+    @EventListener
+    @Transactional(readOnly = false)
+    public void onScheduledTaskDue(ScheduledTaskDueEvent event) {
+        if(event.type() != ScheduledTaskType.START_BATTLE)
+            return;
+
+        log.debug("Start of battle [{}] is due", event.referenceId());
+        Optional<Battle> battle = secureFind(event.referenceId(), battleRepository::findById);
+        if(battle.isEmpty()) {
+            log.warn("Cannot start battle [{}], it does not exist anymore", event.referenceId());
+            return;
+        }
+
+        startBattle(battle.get());
+        log.info("Battle [{}] has started!", battle.get().getName());
+    }
+
     private Battle startBattle(Battle battle) {
         log.debug("Starting battle [{}]", battle);
 
@@ -354,7 +373,8 @@ public class BattleService extends AbstractService<Battle, BattleRepository> {
         log.debug("Saving battle");
         val savedBattle = secureSave(battle, battleRepository);
 
-        discordService.sendMessageToRpChannel(BattleMessages.concludeBattle(battle, discordService));
+        discordOutboxService.enqueue(DiscordOutboxMessageType.BATTLE_CONCLUDED, battle.getId());
+        eventPublisher.publishEvent(BattleLiveEvent.concluded(battle));
 
         log.debug("All entities saved - unfreezing time");
         timeFreezeService.unfreezeTime();
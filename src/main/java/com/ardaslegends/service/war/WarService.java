@@ -1,5 +1,6 @@
 package com.ardaslegends.service.war;
 
+import com.ardaslegends.domain.DiscordOutboxMessageType;
 import com.ardaslegends.domain.Faction;
 import com.ardaslegends.domain.war.War;
 import com.ardaslegends.repository.exceptions.NotFoundException;
@@ -7,17 +8,18 @@ import com.ardaslegends.repository.faction.FactionRepository;
 import com.ardaslegends.repository.war.WarRepository;
 import com.ardaslegends.service.AbstractService;
 import com.ardaslegends.service.PlayerService;
-import com.ardaslegends.service.discord.DiscordService;
-import com.ardaslegends.service.discord.messages.war.WarMessages;
+import com.ardaslegends.service.discord.outbox.DiscordOutboxService;
 import com.ardaslegends.service.dto.war.CreateWarDto;
 import com.ardaslegends.service.dto.war.EndWarDto;
 import com.ardaslegends.service.exceptions.logic.faction.FactionServiceException;
 import com.ardaslegends.service.exceptions.logic.war.WarServiceException;
 import com.ardaslegends.service.exceptions.permission.StaffPermissionException;
+import com.ardaslegends.service.live.WarLiveEvent;
 import com.ardaslegends.service.utils.ServiceUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -37,7 +39,8 @@ public class WarService extends AbstractService<War, WarRepository> {
     private final WarRepository warRepository;
     private final FactionRepository factionRepository;
     private final PlayerService playerService;
-    private final DiscordService discordService;
+    private final DiscordOutboxService discordOutboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<War> getWars(Pageable pageable) {
         Objects.requireNonNull(pageable, "Pageable getWarsBody must not be null");
@@ -100,7 +103,8 @@ public class WarService extends AbstractService<War, WarRepository> {
         log.debug("Saving War Entity");
         war = secureSave(war, warRepository);
 
-        discordService.sendMessageToRpChannel(WarMessages.declareWar(war, discordService));
+        discordOutboxService.enqueue(DiscordOutboxMessageType.WAR_DECLARED, war.getId());
+        eventPublisher.publishEvent(WarLiveEvent.declared(war));
 
         log.info("Successfully executed and saved new war {}", war.getName());
         return war;
@@ -141,7 +145,8 @@ public class WarService extends AbstractService<War, WarRepository> {
         log.debug("Ending war");
         war.end();
 
-        discordService.sendMessageToRpChannel(WarMessages.forceEndWar(war, player, discordService));
+        discordOutboxService.enqueue(DiscordOutboxMessageType.WAR_FORCE_ENDED, war.getId(), player.getDiscordID());
+        eventPublisher.publishEvent(WarLiveEvent.ended(war));
 
         log.info("War [{}] between attacker [{}] and defender [{}] has succesfully been ended by staff member [{}]", war.getName(), war.getInitialAttacker().getName(), war.getInitialDefender().getName(), player.getIgn());
         return war;
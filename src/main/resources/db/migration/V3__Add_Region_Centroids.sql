@@ -0,0 +1,5 @@
+ALTER TABLE regions
+    ADD centroid_x DOUBLE PRECISION;
+
+ALTER TABLE regions
+    ADD centroid_y DOUBLE PRECISION;
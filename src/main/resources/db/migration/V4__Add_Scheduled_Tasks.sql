@@ -0,0 +1,19 @@
+CREATE TABLE scheduled_tasks
+(
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    type         VARCHAR(255)                NOT NULL,
+    reference_id BIGINT                      NOT NULL,
+    due_at       TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    created_at   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    completed_at TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT scheduled_tasks_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX ix_scheduled_tasks_pending_due_at ON scheduled_tasks (due_at) WHERE completed_at IS NULL;
+
+-- Battles declared before this migration only had an in memory timer, which does not survive the deployment
+INSERT INTO scheduled_tasks (type, reference_id, due_at, created_at)
+SELECT 'START_BATTLE', id, time_frozen_from, NOW()
+FROM battles
+WHERE time_frozen_from IS NOT NULL
+  AND time_frozen_from > NOW();
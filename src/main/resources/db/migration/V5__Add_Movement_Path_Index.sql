@@ -0,0 +1,30 @@
+ALTER TABLE movement_path
+    ADD path_index INTEGER;
+
+-- The path had no explicit order until now and was read back in insertion order
+UPDATE movement_path mp
+SET path_index = ordered.path_index
+FROM (SELECT ctid, ROW_NUMBER() OVER (PARTITION BY movement_id ORDER BY ctid) - 1 AS path_index
+      FROM movement_path) ordered
+WHERE mp.ctid = ordered.ctid;
+
+ALTER TABLE movement_path
+    ALTER COLUMN path_index SET NOT NULL;
+
+ALTER TABLE movement_path
+    ADD CONSTRAINT movement_path_pkey PRIMARY KEY (movement_id, path_index);
+
+ALTER TABLE movements
+    ADD current_path_index INTEGER;
+
+-- Inactive movements keep null, their index is only resolved from the current region if it is ever needed
+UPDATE movements m
+SET current_path_index = (SELECT MIN(mp.path_index)
+                          FROM movement_path mp
+                          WHERE mp.movement_id = m.id
+                            AND mp.region_id = CASE
+                                                   WHEN m.is_char_movement
+                                                       THEN (SELECT r.current_region FROM rpchars r WHERE r.id = m.rpchar_id)
+                                                   ELSE (SELECT a.current_region FROM armies a WHERE a.id = m.army_name)
+                              END)
+WHERE m.is_currently_active;
@@ -0,0 +1,10 @@
+CREATE TABLE time_freezes
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    frozen_at   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    unfrozen_at TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT time_freezes_pkey PRIMARY KEY (id)
+);
+
+-- Deadlines of movements and healings are game time from now on. Without any recorded freeze game time equals wall time,
+-- so the deadlines already stored (which got shifted by the old freeze handling) stay valid as they are.
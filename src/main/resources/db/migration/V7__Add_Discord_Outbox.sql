@@ -0,0 +1,15 @@
+CREATE TABLE discord_outbox
+(
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    type             VARCHAR(255)                NOT NULL,
+    reference_id     BIGINT                      NOT NULL,
+    actor_discord_id VARCHAR(255),
+    created_at       TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    attempts         INTEGER                     NOT NULL,
+    next_attempt_at  TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    last_error       VARCHAR(1000),
+    sent_at          TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT discord_outbox_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX ix_discord_outbox_pending_id ON discord_outbox (id) WHERE sent_at IS NULL;
@@ -0,0 +1,3 @@
+-- Application updates are debounced by postponing the pending updates of the same application
+CREATE INDEX ix_discord_outbox_pending_reference ON discord_outbox (type, reference_id) WHERE sent_at IS NULL;
+CREATE INDEX ix_discord_outbox_pending_next_attempt_at ON discord_outbox (next_attempt_at) WHERE sent_at IS NULL;
@@ -0,0 +1,2 @@
+-- Replaced by the versioned claim map changes of /api/region/changes
+ALTER TABLE regions DROP COLUMN has_ownership_changed_since_last_claimmap_update;
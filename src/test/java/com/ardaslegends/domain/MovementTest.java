@@ -0,0 +1,76 @@
+package com.ardaslegends.domain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Slf4j
+public class MovementTest {
+
+    Region region1;
+    Region region2;
+    Region region3;
+    Army army;
+    List<PathElement> path;
+    Movement movement;
+
+    @BeforeEach
+    void setup() {
+        region1 = Region.builder().id("1").regionType(RegionType.LAND).build();
+        region2 = Region.builder().id("2").regionType(RegionType.HILL).build();
+        region3 = Region.builder().id("3").regionType(RegionType.LAND).build();
+        army = Army.builder().name("Knights of Gondor").currentRegion(region1).build();
+        path = new ArrayList<>(List.of(
+                PathElement.builder().region(region1).actualCost(0).baseCost(0).build(),
+                PathElement.builder().region(region2).actualCost(region2.getCost()).baseCost(region2.getCost()).build(),
+                PathElement.builder().region(region3).actualCost(region3.getCost()).baseCost(region3.getCost()).build()));
+        movement = new Movement(null, army, false, path, null, null, true, null);
+    }
+
+    @Test
+    void ensureAdvanceToNextRegionMovesAlongThePath() {
+        log.debug("Testing if advanceToNextRegion walks the path by index");
+
+        assertThat(movement.getCurrentPathIndex()).isZero();
+        assertThat(movement.advanceToNextRegion()).isEqualTo(region2);
+        assertThat(movement.getCurrentPathIndex()).isEqualTo(1);
+        assertThat(army.getCurrentRegion()).isEqualTo(region2);
+        assertThat(movement.getNextRegion()).isEqualTo(region3);
+
+        assertThat(movement.advanceToNextRegion()).isEqualTo(region3);
+        assertThat(movement.getNextPathElement()).isNull();
+        assertThat(movement.advanceToNextRegion()).isNull();
+        assertThat(movement.getCurrentPathIndex()).isEqualTo(2);
+        log.info("Test passed: advanceToNextRegion walks the path by index");
+    }
+
+    @Test
+    void ensureMissingIndexIsResolvedFromCurrentRegion() {
+        log.debug("Testing if movements without an index resolve it from the current region");
+
+        army.setCurrentRegion(region2);
+        movement = Movement.builder().isCharMovement(false).army(army).path(path).build();
+
+        assertThat(movement.getCurrentPathIndex()).isEqualTo(1);
+        assertThat(movement.getCurrentPathElement().getRegion()).isEqualTo(region2);
+
+        army.setCurrentRegion(Region.builder().id("4").build());
+        Movement movementOffPath = Movement.builder().isCharMovement(false).army(army).path(path).build();
+        assertThrows(IllegalStateException.class, movementOffPath::getCurrentPathIndex);
+        log.info("Test passed: movements without an index resolve it from the current region");
+    }
+
+    @Test
+    void ensurePathCannotBeModified() {
+        log.debug("Testing if the path of a movement is read only");
+
+        assertThrows(UnsupportedOperationException.class, () -> movement.getPath().add(path.get(0)));
+        log.info("Test passed: the path of a movement is read only");
+    }
+}
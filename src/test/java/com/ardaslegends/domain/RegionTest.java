@@ -52,7 +52,6 @@ public class RegionTest {
         region.removeFactionFromClaimedBy(factionWithNoCbInClaimedBy);
 
         assertThat(region.getClaimedBy().contains(factionWithNoCbInClaimedBy)).isFalse();
-        assertThat(region.isHasOwnershipChanged()).isTrue();
         assertThat(factionWithNoCbInClaimedBy.getRegions().contains(region)).isFalse();
 
     }
@@ -66,7 +65,6 @@ public class RegionTest {
 
         assertThat(region.getClaimedBy().contains(faction)).isTrue();
         assertThat(faction.getRegions().contains(region)).isTrue();
-        assertThat(region.isHasOwnershipChanged()).isTrue();
 
     }
 
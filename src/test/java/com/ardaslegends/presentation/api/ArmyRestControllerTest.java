@@ -2,8 +2,10 @@ package com.ardaslegends.presentation.api;
 
 import com.ardaslegends.domain.*;
 import com.ardaslegends.presentation.api.response.army.ArmyResponse;
+import com.ardaslegends.repository.TimeFreezeRepository;
 import com.ardaslegends.service.ArmyService;
 import com.ardaslegends.service.dto.army.*;
+import com.ardaslegends.service.time.GameClock;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -17,6 +19,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -32,6 +35,7 @@ public class ArmyRestControllerTest {
     MockMvc mockMvc;
     private ArmyService mockArmyService;
     private ArmyRestController armyRestController;
+    private GameClock gameClock;
 
     private Army army;
 
@@ -44,7 +48,8 @@ public class ArmyRestControllerTest {
                 new ArrayList<Unit>(), new ArrayList<String>(), null, 0.0, false, null, null, 0, 0, null,
                 originalClaimbuild, OffsetDateTime.now(), new ArrayList<Movement>(), true);
         mockArmyService = mock(ArmyService.class);
-        armyRestController = new ArmyRestController(mockArmyService);
+        gameClock = new GameClock(Clock.systemUTC(), mock(TimeFreezeRepository.class));
+        armyRestController = new ArmyRestController(mockArmyService, gameClock);
         mockMvc = MockMvcBuilders.standaloneSetup(armyRestController).build();
     }
 
@@ -156,7 +161,7 @@ public class ArmyRestControllerTest {
 
         when(mockArmyService.disbandFromDto(eq(dto), anyBoolean())).thenReturn(army);
 
-        String expectedResponse = ow.writeValueAsString(new ArmyResponse(army));
+        String expectedResponse = ow.writeValueAsString(new ArmyResponse(army, gameClock));
 
         mockMvc.perform(MockMvcRequestBuilders
                         .delete("http://localhost:8080/api/army/delete")
@@ -190,6 +195,24 @@ public class ArmyRestControllerTest {
         log.info("Test passed: heal start requests get handled properly");
     }
 
+    @Test
+    void ensureHealProjectionRequestWorksProperly() throws Exception {
+        log.debug("Testing if ArmyRestController healProjection works properly with correct values");
+
+        // Assign
+        OffsetDateTime healEnd = OffsetDateTime.now().plusHours(48);
+        HealingProjectionDto projection = new HealingProjectionDto("Knights of Gondor", 24, 1, healEnd.minusHours(24), healEnd);
+
+        when(mockArmyService.getHealingProjection("Knights of Gondor")).thenReturn(projection);
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .get("http://localhost:8080/api/army/heal-projection")
+                        .param("army", "Knights of Gondor"))
+                .andExpect(status().isOk());
+        verify(mockArmyService).getHealingProjection("Knights of Gondor");
+        log.info("Test passed: heal projection requests get handled properly");
+    }
+
     @Test
     void ensureHealStopRequestWorksProperly() throws Exception{
         log.debug("Testing if ArmyRestController healStop works properly with correct values");
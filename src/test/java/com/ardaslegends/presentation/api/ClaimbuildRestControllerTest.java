@@ -2,10 +2,12 @@ package com.ardaslegends.presentation.api;
 
 import com.ardaslegends.domain.*;
 import com.ardaslegends.presentation.api.response.claimbuild.ClaimbuildResponse;
+import com.ardaslegends.repository.TimeFreezeRepository;
 import com.ardaslegends.service.ClaimBuildService;
 import com.ardaslegends.service.dto.claimbuild.CreateClaimBuildDto;
 import com.ardaslegends.service.dto.claimbuilds.DeleteClaimbuildDto;
 import com.ardaslegends.service.dto.claimbuilds.UpdateClaimbuildOwnerDto;
+import com.ardaslegends.service.time.GameClock;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -17,6 +19,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -32,6 +35,7 @@ public class ClaimbuildRestControllerTest {
     MockMvc mockMvc;
     private ClaimBuildService mockClaimbuildService;
     private ClaimbuildRestController claimbuildRestController;
+    private GameClock gameClock;
     private Faction faction;
     private Region region1;
     private Region region2;
@@ -50,7 +54,8 @@ public class ClaimbuildRestControllerTest {
     @BeforeEach
     void setup() {
         mockClaimbuildService = mock(ClaimBuildService.class);
-        claimbuildRestController = new ClaimbuildRestController(mockClaimbuildService);
+        gameClock = new GameClock(Clock.systemUTC(), mock(TimeFreezeRepository.class));
+        claimbuildRestController = new ClaimbuildRestController(mockClaimbuildService, gameClock);
         mockMvc = MockMvcBuilders.standaloneSetup(claimbuildRestController).build();
 
         region1 = Region.builder().id("90").regionType(RegionType.LAND).build();
@@ -5,11 +5,13 @@ import com.ardaslegends.domain.PathElement;
 import com.ardaslegends.domain.Region;
 import com.ardaslegends.domain.RegionType;
 import com.ardaslegends.presentation.abstraction.ControllerUnitTest;
+import com.ardaslegends.repository.TimeFreezeRepository;
 import com.ardaslegends.service.MovementService;
 import com.ardaslegends.service.dto.army.MoveArmyDto;
 import com.ardaslegends.service.dto.player.DiscordIdDto;
 import com.ardaslegends.service.dto.player.rpchar.MoveRpCharDto;
 import com.ardaslegends.service.utils.ServiceUtils;
+import com.ardaslegends.service.time.GameClock;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -23,6 +25,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Set;
@@ -40,6 +43,8 @@ public class MovementRestControllerTest {
 
     MovementRestController movementRestController;
 
+    GameClock gameClock;
+
     private Region region;
     private Region region2;
     private PathElement pathElement;
@@ -50,7 +55,8 @@ public class MovementRestControllerTest {
     @BeforeEach
     void setup() {
         mockMovementService = mock(MovementService.class);
-        movementRestController = new MovementRestController(mockMovementService);
+        gameClock = new GameClock(Clock.systemUTC(), mock(TimeFreezeRepository.class));
+        movementRestController = new MovementRestController(mockMovementService, gameClock);
         mockMvc = MockMvcBuilders.standaloneSetup(movementRestController).build();
 
         region = Region.builder().id("91").neighboringRegions(Set.of()).regionType(RegionType.LAND).build();
@@ -12,6 +12,7 @@ import com.ardaslegends.service.dto.player.*;
 import com.ardaslegends.service.dto.player.rpchar.CreateRPCharDto;
 import com.ardaslegends.service.dto.player.rpchar.UpdateRpCharDto;
 import com.ardaslegends.util.DeprecatedTestDataFactory;
+import com.ardaslegends.service.time.GameClock;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +29,8 @@ public class PlayerRestControllerTest extends AbstractIntegrationTest {
 
     @Autowired
     PlayerRestController playerRestController;
+    @Autowired
+    GameClock gameClock;
 
     Player player;
     Player player2;
@@ -56,8 +59,8 @@ public class PlayerRestControllerTest extends AbstractIntegrationTest {
         player3 = DeprecatedTestDataFactory.playerHabKeinTeammate(gondor);
 
         expectedPlayerResponse = new PlayerResponse(player);
-        expectedPlayerRpCharResponse = new PlayerRpCharResponse(player);
-        expectedRpCharResponse = new RpCharResponse(rpChar);
+        expectedPlayerRpCharResponse = new PlayerRpCharResponse(player, gameClock);
+        expectedRpCharResponse = new RpCharResponse(rpChar, gameClock);
         discordIdDto = new DiscordIdDto(player.getDiscordID());
 
     }
@@ -81,7 +84,7 @@ public class PlayerRestControllerTest extends AbstractIntegrationTest {
     @Test
     void ensureCreateRpCharWorksProperly() throws Exception {
         val newRpChar = new RPChar(player3, "Canathir", "Master of Coin", "Gondor gear", true, "someLink");
-        expectedRpCharResponse = new RpCharResponse(newRpChar);
+        expectedRpCharResponse = new RpCharResponse(newRpChar, gameClock);
         createRPCharDto = new CreateRPCharDto(newRpChar.getOwner().getDiscordID(), newRpChar.getName(), newRpChar.getTitle(), newRpChar.getGear(), newRpChar.getPvp());
 
         var result = post(PlayerRestController.PATH_RPCHAR, createRPCharDto);
@@ -176,7 +179,7 @@ public class PlayerRestControllerTest extends AbstractIntegrationTest {
         UpdateRpCharDto dto = new UpdateRpCharDto(player.getDiscordID(), "New name", null, null, null, null, null);
 
         rpChar.setName(dto.charName());
-        expectedRpCharResponse = new RpCharResponse(rpChar);
+        expectedRpCharResponse = new RpCharResponse(rpChar, gameClock);
 
         // Act
         var result = patch(PlayerRestController.PATH_RPCHAR_NAME, dto);
@@ -193,7 +196,7 @@ public class PlayerRestControllerTest extends AbstractIntegrationTest {
         UpdateRpCharDto dto = new UpdateRpCharDto(player.getDiscordID(), null,"New Title", null, null, null, null);
 
         rpChar.setTitle(dto.title());
-        expectedRpCharResponse = new RpCharResponse(rpChar);
+        expectedRpCharResponse = new RpCharResponse(rpChar, gameClock);
 
         // Act
         var result = patch(PlayerRestController.PATH_RPCHAR_TITLE, dto);
@@ -210,7 +213,7 @@ public class PlayerRestControllerTest extends AbstractIntegrationTest {
         UpdateRpCharDto dto = new UpdateRpCharDto(player.getDiscordID(), null,null, null, null, "New Gear", null);
 
         rpChar.setGear(dto.gear());
-        expectedRpCharResponse = new RpCharResponse(rpChar);
+        expectedRpCharResponse = new RpCharResponse(rpChar, gameClock);
 
         // Act
         var result = patch(PlayerRestController.PATH_RPCHAR_GEAR, dto);
@@ -227,7 +230,7 @@ public class PlayerRestControllerTest extends AbstractIntegrationTest {
         UpdateRpCharDto dto = new UpdateRpCharDto(player.getDiscordID(), null,null, null, null, null, false);
 
         rpChar.setPvp(dto.pvp());
-        expectedRpCharResponse = new RpCharResponse(rpChar);
+        expectedRpCharResponse = new RpCharResponse(rpChar, gameClock);
 
         // Act
         var result = patch(PlayerRestController.PATH_RPCHAR_PVP, dto);
@@ -264,7 +267,7 @@ public class PlayerRestControllerTest extends AbstractIntegrationTest {
 
         // Assign
         rpChar.setInjured(true);
-        expectedRpCharResponse = new RpCharResponse(rpChar);
+        expectedRpCharResponse = new RpCharResponse(rpChar, gameClock);
 
         // Act
         var result = patch(PlayerRestController.PATH_INJURE, discordIdDto);
@@ -293,7 +296,7 @@ public class PlayerRestControllerTest extends AbstractIntegrationTest {
         log.debug("Testing if stopHeal works properly with correct values");
 
         rpChar.setInjured(true);
-        expectedRpCharResponse = new RpCharResponse(rpChar);
+        expectedRpCharResponse = new RpCharResponse(rpChar, gameClock);
 
         // Act
         //First injure character
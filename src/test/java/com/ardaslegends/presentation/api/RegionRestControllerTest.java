@@ -1,15 +1,23 @@
 package com.ardaslegends.presentation.api;
 
 import com.ardaslegends.service.RegionService;
+import com.ardaslegends.service.claimmap.ClaimMap;
+import com.ardaslegends.service.claimmap.ClaimMapProjection;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Slf4j
@@ -17,24 +25,36 @@ public class RegionRestControllerTest {
     MockMvc mockMvc;
 
     private RegionService mockRegionService;
+    private ClaimMapProjection mockClaimMapProjection;
     private RegionController regionRestController;
 
     @BeforeEach
     void setup() {
         mockRegionService = mock(RegionService.class);
-        regionRestController = new RegionController(mockRegionService);
+        mockClaimMapProjection = mock(ClaimMapProjection.class);
+        regionRestController = new RegionController(mockRegionService, mockClaimMapProjection);
 
         mockMvc = MockMvcBuilders.standaloneSetup(regionRestController).build();
     }
 
     @Test
-    void ensureResetOwnershipRestEndpointWorksProperly() throws Exception {
+    void ensureClaimMapIsOnlySentWhenItChanged() throws Exception {
+        log.debug("Testing if the claim map is sent with its entity tag and answered with 304 if the client has it");
+
+        ClaimMap claimMap = new ClaimMap(42, Map.of(), "[]".getBytes(StandardCharsets.UTF_8));
+        when(mockClaimMapProjection.getClaimMap()).thenReturn(claimMap);
 
-        var result= mockMvc.perform((MockMvcRequestBuilders.patch("http://localhost:8080/api/region/reset-ownership")))
+        var result = mockMvc.perform(MockMvcRequestBuilders.get("http://localhost:8080/api/region/claimmap"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"42\""))
                 .andReturn();
+        assertThat(result.getResponse().getContentAsString()).isEqualTo("[]");
 
-        assertThat(result.getResponse().getStatus()).isEqualTo(200);
-
+        result = mockMvc.perform(MockMvcRequestBuilders.get("http://localhost:8080/api/region/claimmap")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"42\""))
+                .andExpect(status().isNotModified())
+                .andReturn();
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+        log.info("Test passed: the claim map is only sent when it changed");
     }
 }
@@ -0,0 +1,97 @@
+package com.ardaslegends.presentation.discord.commands;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+public class CommandDispatcherTest {
+
+    private CommandDispatcher dispatcher;
+
+    @BeforeEach
+    void setup() {
+        dispatcher = new CommandDispatcher(Executors.newVirtualThreadPerTaskExecutor(), 4, 4, 2);
+    }
+
+    @Test
+    void ensureCommandsOfOneUserRunInOrderAndOthersAreNotBlocked() throws InterruptedException {
+        log.debug("Testing if the commands of one user run one after another without blocking other users");
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherUserDone = new CountDownLatch(1);
+        CountDownLatch allDone = new CountDownLatch(3);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        dispatcher.dispatch(1L, 10L, "first", () -> {
+            await(release);
+            order.add("first");
+            allDone.countDown();
+        });
+        dispatcher.dispatch(1L, 10L, "second", () -> {
+            order.add("second");
+            allDone.countDown();
+        });
+        dispatcher.dispatch(1L, 20L, "other", () -> {
+            order.add("other");
+            otherUserDone.countDown();
+            allDone.countDown();
+        });
+
+        assertThat(otherUserDone.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+        assertThat(allDone.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(order).containsExactly("other", "first", "second");
+        log.info("Test passed: the commands of one user run one after another without blocking other users");
+    }
+
+    @Test
+    void ensureCommandsAreRejectedOnceTheQueuesAreFull() throws InterruptedException {
+        log.debug("Testing if commands are rejected once the queue of the user or the bot is full");
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch runningInOtherServer = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            running.countDown();
+            await(release);
+        };
+
+        assertThat(dispatcher.dispatch(1L, 10L, "blocking", blocking)).isEqualTo(CommandDispatcher.Admission.ACCEPTED);
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        // The running command does not count towards the queue of the user
+        assertThat(dispatcher.dispatch(1L, 10L, "queued", () -> {})).isEqualTo(CommandDispatcher.Admission.ACCEPTED);
+        assertThat(dispatcher.dispatch(1L, 10L, "queued", () -> {})).isEqualTo(CommandDispatcher.Admission.ACCEPTED);
+        assertThat(dispatcher.dispatch(1L, 10L, "queued", () -> {})).isEqualTo(CommandDispatcher.Admission.USER_BUSY);
+        // The same user in another server has its own queue
+        assertThat(dispatcher.dispatch(2L, 10L, "blocking", () -> {
+            runningInOtherServer.countDown();
+            await(release);
+        })).isEqualTo(CommandDispatcher.Admission.ACCEPTED);
+        assertThat(runningInOtherServer.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatcher.dispatch(2L, 10L, "queued", () -> {})).isEqualTo(CommandDispatcher.Admission.ACCEPTED);
+        assertThat(dispatcher.dispatch(2L, 10L, "queued", () -> {})).isEqualTo(CommandDispatcher.Admission.ACCEPTED);
+        assertThat(dispatcher.dispatch(1L, 30L, "queued", () -> {})).isEqualTo(CommandDispatcher.Admission.BOT_BUSY);
+
+        assertThat(dispatcher.getStats().rejected()).isEqualTo(2);
+        release.countDown();
+        log.info("Test passed: commands are rejected once the queue of the user or the bot is full");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.ardaslegends.presentation.discord.commands;
+
+import com.ardaslegends.presentation.discord.exception.BotException;
+import com.ardaslegends.presentation.discord.utils.DiscordUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.javacord.api.interaction.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+public class CommandRouterTest {
+
+    private ALCommandExecutor healArmy;
+    private ALCommandExecutor healRpchar;
+    private CommandRouter router;
+
+    @BeforeEach
+    void setup() {
+        healArmy = mock(ALCommandExecutor.class);
+        healRpchar = mock(ALCommandExecutor.class);
+
+        SlashCommandOption armyOption = definition("army", SlashCommandOptionType.STRING, true, List.of());
+        SlashCommandOption reasonOption = definition("reason", SlashCommandOptionType.STRING, false, List.of());
+        List<SlashCommandOption> subcommands = List.of(
+                definition("rpchar", SlashCommandOptionType.SUB_COMMAND, false, List.of()),
+                definition("army", SlashCommandOptionType.SUB_COMMAND, false, List.of(armyOption, reasonOption)));
+        SlashCommand heal = mock(SlashCommand.class);
+        when(heal.getName()).thenReturn("heal");
+        when(heal.getOptions()).thenReturn(subcommands);
+
+        router = CommandRouter.compile(List.of(heal), Map.of("heal army", healArmy, "heal rpchar", healRpchar));
+    }
+
+    @Test
+    void ensureInteractionsAreRoutedToTheExecutorOfTheirSubcommand() {
+        log.debug("Testing if interactions are routed by their subcommands and options are found by name");
+
+        SlashCommandInteractionOption army = value("army", "Knights of Gondor");
+        SlashCommandInteractionOption armySubcommand = subcommand("army", List.of(army));
+        SlashCommandInteraction interaction = interaction("heal", List.of(armySubcommand));
+
+        var routedCommand = router.route(interaction);
+
+        assertThat(routedCommand.route().fullName()).isEqualTo("heal army");
+        assertThat(routedCommand.route().executor()).isSameAs(healArmy);
+        assertThat(routedCommand.options()).containsExactly(army);
+        assertThat(routedCommand.options().find("army")).isSameAs(army);
+        assertThat(routedCommand.options().find("reason")).isNull();
+
+        DiscordUtils utils = new DiscordUtils() {};
+        assertThat(utils.getStringOption("army", routedCommand.options())).isEqualTo("Knights of Gondor");
+        assertThat(utils.getOptionalStringOption("reason", routedCommand.options())).isEmpty();
+
+        SlashCommandInteractionOption rpcharSubcommand = subcommand("rpchar", List.of());
+        SlashCommandInteraction rpcharInteraction = interaction("heal", List.of(rpcharSubcommand));
+        assertThat(router.route(rpcharInteraction).route().executor()).isSameAs(healRpchar);
+        SlashCommandInteraction unknownInteraction = interaction("injure", List.of());
+        assertThat(router.route(unknownInteraction)).isNull();
+        log.info("Test passed: interactions are routed by their subcommands");
+    }
+
+    @Test
+    void ensureMissingRequiredOptionsAreRejectedBeforeExecuting() {
+        log.debug("Testing if a missing required option is rejected before the executor runs");
+
+        SlashCommandInteractionOption reason = value("reason", "Lost a battle");
+        SlashCommandInteractionOption armySubcommand = subcommand("army", List.of(reason));
+        SlashCommandInteraction interaction = interaction("heal", List.of(armySubcommand));
+
+        var exception = assertThrows(BotException.class, () -> router.route(interaction));
+
+        assertThat(exception.getMessage()).contains("army");
+        verifyNoInteractions(healArmy);
+        log.info("Test passed: a missing required option is rejected before the executor runs");
+    }
+
+    private static SlashCommandOption definition(String name, SlashCommandOptionType type, boolean isRequired, List<SlashCommandOption> options) {
+        SlashCommandOption option = mock(SlashCommandOption.class);
+        when(option.getName()).thenReturn(name);
+        when(option.getType()).thenReturn(type);
+        when(option.isRequired()).thenReturn(isRequired);
+        when(option.isSubcommandOrGroup()).thenReturn(type == SlashCommandOptionType.SUB_COMMAND || type == SlashCommandOptionType.SUB_COMMAND_GROUP);
+        when(option.getOptions()).thenReturn(options);
+        return option;
+    }
+
+    private static SlashCommandInteraction interaction(String name, List<SlashCommandInteractionOption> options) {
+        SlashCommandInteraction interaction = mock(SlashCommandInteraction.class);
+        when(interaction.getCommandName()).thenReturn(name);
+        when(interaction.getFullCommandName()).thenReturn(name);
+        when(interaction.getOptions()).thenReturn(options);
+        return interaction;
+    }
+
+    private static SlashCommandInteractionOption subcommand(String name, List<SlashCommandInteractionOption> options) {
+        SlashCommandInteractionOption option = mock(SlashCommandInteractionOption.class);
+        when(option.getName()).thenReturn(name);
+        when(option.isSubcommandOrGroup()).thenReturn(true);
+        when(option.getOptions()).thenReturn(options);
+        return option;
+    }
+
+    private static SlashCommandInteractionOption value(String name, String value) {
+        SlashCommandInteractionOption option = mock(SlashCommandInteractionOption.class);
+        when(option.getName()).thenReturn(name);
+        when(option.getStringValue()).thenReturn(Optional.of(value));
+        return option;
+    }
+}
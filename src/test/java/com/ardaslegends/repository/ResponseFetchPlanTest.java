@@ -0,0 +1,202 @@
+package com.ardaslegends.repository;
+
+import com.ardaslegends.domain.*;
+import com.ardaslegends.domain.war.War;
+import com.ardaslegends.domain.war.battle.Battle;
+import com.ardaslegends.domain.war.battle.BattleLocation;
+import com.ardaslegends.presentation.api.response.army.ArmyResponse;
+import com.ardaslegends.presentation.api.response.claimbuild.ClaimbuildResponse;
+import com.ardaslegends.presentation.api.response.faction.PaginatedFactionResponse;
+import com.ardaslegends.presentation.api.response.region.RegionResponseDetailed;
+import com.ardaslegends.presentation.api.response.war.BattleResponse;
+import com.ardaslegends.repository.claimbuild.ClaimbuildRepository;
+import com.ardaslegends.repository.faction.FactionRepository;
+import com.ardaslegends.repository.region.RegionRepository;
+import com.ardaslegends.repository.war.battle.BattleRepository;
+import com.ardaslegends.repository.TimeFreezeRepository;
+import com.ardaslegends.service.time.GameClock;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Builds the responses of the paginated endpoints from a page of entities and asserts that the number of statements
+ * does not grow with the number of rows on the page.
+ * The statistics are shared by the whole session factory, so the tests of this class must not run concurrently.
+ */
+@Slf4j
+@DataJpaTest(properties = {"spring.sql.init.mode=never", "spring.jpa.properties.hibernate.generate_statistics=true"})
+@ActiveProfiles("test")
+@Execution(ExecutionMode.SAME_THREAD)
+public class ResponseFetchPlanTest {
+
+    private static final int ROWS = 20;
+    private static final int MAX_STATEMENTS_PER_PAGE = 10;
+    // More than a few batches of hibernate.default_batch_fetch_size, so batch loading alone would exceed the statements
+    private static final int DETAILED_REGIONS = 320;
+
+    @Autowired
+    ArmyRepository armyRepository;
+    @Autowired
+    ClaimbuildRepository claimbuildRepository;
+    @Autowired
+    FactionRepository factionRepository;
+    @Autowired
+    RegionRepository regionRepository;
+    @Autowired
+    BattleRepository battleRepository;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private GameClock gameClock;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        gameClock = new GameClock(Clock.systemUTC(), mock(TimeFreezeRepository.class));
+        val unitType = new UnitType("Gondor Soldier", 1.0);
+        List<Faction> factions = new ArrayList<>();
+        Region previousRegion = null;
+        for(int i = 0; i < ROWS; i++) {
+            val region = Region.builder().name("").id(String.valueOf(i)).regionType(RegionType.DESERT)
+                    .claimedBy(new HashSet<>()).claimBuilds(new HashSet<>()).neighboringRegions(new HashSet<>()).charsInRegion(new HashSet<>()).build();
+            val faction = Faction.builder().name("Faction " + i).homeRegion(region).build();
+            region.getClaimedBy().add(faction);
+            faction.setRegions(new HashSet<>(Set.of(region)));
+            if(previousRegion != null) {
+                region.addNeighbour(previousRegion);
+                previousRegion.addNeighbour(region);
+            }
+            previousRegion = region;
+            val claimbuild = ClaimBuild.builder().name("Claimbuild " + i).coordinates(new Coordinate(0, 0, 0)).ownedBy(faction)
+                    .region(region).type(ClaimBuildType.CASTLE).build();
+            val army = new Army("Army " + i, ArmyType.ARMY, faction, region, null, new ArrayList<>(),
+                    new ArrayList<>(), claimbuild, 0.0, false, null, null, 0, 0, claimbuild,
+                    OffsetDateTime.now(), true);
+            army.getUnits().add(new Unit(null, unitType, army, 10, 10, false));
+
+            faction.setClaimBuilds(new ArrayList<>(List.of(claimbuild)));
+            faction.setArmies(new ArrayList<>(List.of(army)));
+            claimbuild.setStationedArmies(new ArrayList<>(List.of(army)));
+            claimbuild.setCreatedArmies(new ArrayList<>(List.of(army)));
+            factions.add(faction);
+        }
+        factionRepository.saveAll(factions);
+        factions.forEach(faction -> armyRepository.saveAll(faction.getArmies()));
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void ensurePaginatedArmyResponsesAreBuiltWithConstantStatements() {
+        log.debug("Testing if a page of army responses is built with a constant number of statements");
+
+        val responses = armyRepository.findAll(PageRequest.of(0, ROWS)).map(army -> new ArmyResponse(army, gameClock));
+
+        assertThat(responses.getContent()).hasSize(ROWS);
+        log.debug("Army page took [{}] statements", statistics.getPrepareStatementCount());
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        log.info("Test passed: a page of army responses is built with a constant number of statements");
+    }
+
+    @Test
+    void ensurePaginatedClaimbuildResponsesAreBuiltWithConstantStatements() {
+        log.debug("Testing if a page of claimbuild responses is built with a constant number of statements");
+
+        val responses = claimbuildRepository.findAll(PageRequest.of(0, ROWS)).map(claimBuild -> new ClaimbuildResponse(claimBuild, gameClock));
+
+        assertThat(responses.getContent()).hasSize(ROWS);
+        log.debug("Claimbuild page took [{}] statements", statistics.getPrepareStatementCount());
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        log.info("Test passed: a page of claimbuild responses is built with a constant number of statements");
+    }
+
+    @Test
+    void ensurePaginatedFactionResponsesAreBuiltWithConstantStatements() {
+        log.debug("Testing if a page of faction responses is built with a constant number of statements");
+
+        val responses = factionRepository.findAll(PageRequest.of(0, ROWS)).map(PaginatedFactionResponse::new);
+
+        assertThat(responses.getContent()).hasSize(ROWS);
+        log.debug("Faction page took [{}] statements", statistics.getPrepareStatementCount());
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        log.info("Test passed: a page of faction responses is built with a constant number of statements");
+    }
+
+    @Test
+    void ensureDetailedRegionResponsesAreBuiltWithConstantStatements() {
+        log.debug("Testing if the detailed responses of all regions are built with a constant number of statements");
+
+        val firstRegion = regionRepository.findById("0").orElseThrow();
+        List<Region> regions = new ArrayList<>();
+        for(int i = ROWS; i < DETAILED_REGIONS; i++) {
+            regions.add(Region.builder().name("").id(String.valueOf(i)).regionType(RegionType.LAND)
+                    .claimedBy(new HashSet<>()).claimBuilds(new HashSet<>()).neighboringRegions(new HashSet<>(Set.of(firstRegion))).charsInRegion(new HashSet<>()).build());
+        }
+        regionRepository.saveAll(regions);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        val responses = regionRepository.queryAllDetailed().stream().map(RegionResponseDetailed::new).toList();
+
+        assertThat(responses).hasSize(DETAILED_REGIONS);
+        assertThat(responses.subList(0, ROWS)).allSatisfy(response -> {
+            assertThat(response.claimedBy()).hasSize(1);
+            assertThat(response.claimbuilds()).hasSize(1);
+        });
+        assertThat(responses.get(DETAILED_REGIONS - 1).neighbours()).containsExactly("0");
+        log.debug("Detailed regions took [{}] statements", statistics.getPrepareStatementCount());
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        log.info("Test passed: the detailed responses of all regions are built with a constant number of statements");
+    }
+
+    @Test
+    void ensureBattleResponsesAreBuiltWithConstantStatements() {
+        log.debug("Testing if a battle response is built with a constant number of statements");
+
+        val armies = armyRepository.findAll();
+        val war = new War("War of the Ring", armies.get(0).getFaction(), armies.get(1).getFaction());
+        val battle = new Battle(Set.of(war), "Battle of the Pelennor Fields", Set.copyOf(armies.subList(0, ROWS / 2)),
+                Set.copyOf(armies.subList(ROWS / 2, ROWS)), OffsetDateTime.now(), null, null, null,
+                new BattleLocation(armies.get(0).getCurrentRegion(), true, null));
+        battleRepository.save(battle);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        val response = new BattleResponse(battleRepository.queryByIdOrElseThrow(battle.getId()));
+
+        assertThat(response.attackingArmies()).hasSize(ROWS / 2);
+        assertThat(response.defendingArmies()).hasSize(ROWS / 2);
+        log.debug("Battle took [{}] statements", statistics.getPrepareStatementCount());
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        log.info("Test passed: a battle response is built with a constant number of statements");
+    }
+}
@@ -5,8 +5,6 @@ import com.ardaslegends.presentation.discord.config.BotProperties;
 import com.ardaslegends.repository.player.PlayerRepository;
 import com.ardaslegends.service.exceptions.ServiceException;
 import lombok.extern.slf4j.Slf4j;
-import org.javacord.api.DiscordApi;
-import org.javacord.api.entity.channel.TextChannel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -28,18 +26,15 @@ public class AbstractServiceTest {
 
     PlayerService service;
     PlayerRepository mockRepository;
-    private DiscordApi mockDiscordApi;
     private BotProperties mockProperties;
 
     @BeforeEach
     void setup() {
         mockRepository = mock(PlayerRepository.class);
         mockProperties = mock(BotProperties.class);
-        when(mockProperties.getErrorChannel()).thenReturn(mock(TextChannel.class));
-        mockDiscordApi = mock(DiscordApi.class);
-        service = Mockito.spy(new PlayerService(mockRepository, null, null, mockDiscordApi, mockProperties));
+        service = Mockito.spy(new PlayerService(mockRepository, null, null, mockProperties, null, null));
 
-        Mockito.doNothing().when(service).recordMessageInErrorChannel(any());
+        Mockito.doNothing().when(service).reportError(any());
     }
 
     @Test
@@ -5,15 +5,19 @@ import com.ardaslegends.repository.ArmyRepository;
 import com.ardaslegends.repository.claimbuild.ClaimbuildRepository;
 import com.ardaslegends.repository.faction.FactionRepository;
 import com.ardaslegends.repository.MovementRepository;
+import com.ardaslegends.repository.TimeFreezeRepository;
 import com.ardaslegends.service.dto.army.*;
 import com.ardaslegends.service.dto.unit.UnitTypeDto;
 import com.ardaslegends.service.exceptions.logic.faction.FactionServiceException;
 import com.ardaslegends.service.exceptions.logic.army.ArmyServiceException;
 import com.ardaslegends.service.exceptions.logic.claimbuild.ClaimBuildServiceException;
+import com.ardaslegends.service.time.GameClock;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
@@ -56,7 +60,7 @@ public class ArmyServiceTest {
         mockPlayerService = mock(PlayerService.class);
         mockUnitTypeService = mock(UnitTypeService.class);
         mockClaimbuildRepository = mock(ClaimbuildRepository.class);
-        armyService = new ArmyService(mockArmyRepository, mockMovementRepository,mockPlayerService, mockFactionRepository, mockUnitTypeService, mockClaimbuildRepository);
+        armyService = new ArmyService(mockArmyRepository, mockMovementRepository,mockPlayerService, mockFactionRepository, mockUnitTypeService, mockClaimbuildRepository, mock(ApplicationEventPublisher.class), new GameClock(Clock.systemUTC(), mock(TimeFreezeRepository.class)));
 
         region1 = Region.builder().id("90").build();
         region2 = Region.builder().id("91").build();
@@ -352,6 +356,45 @@ public class ArmyServiceTest {
         log.info("Test passed: SE when army is not in same faction as player");
     }
 
+    // Healing projection tests
+
+    @Test
+    void ensureHealingProjectionEndsAfterTheNeededReplenishCycles() {
+        log.debug("Testing if the healing projection completes once the needed replenish cycles are done");
+
+        log.trace("Initializing data");
+        // 4 dead archers cost exactly the 6 tokens of one cycle, healEnd is a whole cycle later than needed
+        unit.setAmountAlive(6);
+        OffsetDateTime now = OffsetDateTime.now();
+        army.setIsHealing(true);
+        army.setHealStart(now);
+        army.setHealEnd(now.plusHours(army.getAmountOfHealHours()));
+        army.setHoursHealed(0);
+        army.setHoursLeftHealing(army.getAmountOfHealHours());
+
+        log.debug("Calling getHealingProjection");
+        var result = armyService.getHealingProjection(army.getName());
+
+        assertThat(result.hoursPerCycle()).isEqualTo(24);
+        assertThat(result.cyclesUntilHealed()).isEqualTo(1);
+        assertThat(result.projectedCompletion()).isBetween(now.plusHours(23), now.plusHours(25));
+        assertThat(result.projectedCompletion()).isBefore(result.healEnd());
+        log.info("Test passed: healing projection ends after the needed replenish cycles");
+    }
+
+    @Test
+    void ensureHealingProjectionThrowsSeIfArmyIsNotHealing() {
+        log.debug("Testing if the healing projection correctly throws SE when army is not healing");
+
+        army.setIsHealing(false);
+
+        log.debug("Calling getHealingProjection");
+        var result = assertThrows(ArmyServiceException.class, () -> armyService.getHealingProjection(army.getName()));
+
+        assertThat(result.getMessage()).contains("is not healing");
+        log.info("Test passed: SE when army is not healing");
+    }
+
     // Station Tests
 
     @Test
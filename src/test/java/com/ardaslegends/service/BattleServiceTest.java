@@ -3,40 +3,46 @@ package com.ardaslegends.service;
 import com.ardaslegends.domain.*;
 import com.ardaslegends.domain.war.battle.Battle;
 import com.ardaslegends.domain.war.battle.BattleLocation;
+import com.ardaslegends.domain.war.battle.BattlePhase;
 import com.ardaslegends.domain.war.War;
 import com.ardaslegends.domain.war.WarParticipant;
 import com.ardaslegends.repository.war.battle.BattleRepository;
 import com.ardaslegends.repository.war.WarRepository;
+import com.ardaslegends.repository.TimeFreezeRepository;
 import com.ardaslegends.service.dto.war.battle.CreateBattleDto;
-import com.ardaslegends.service.discord.DiscordService;
+import com.ardaslegends.service.discord.outbox.DiscordOutboxService;
 import com.ardaslegends.service.exceptions.logic.army.ArmyServiceException;
 import com.ardaslegends.service.exceptions.logic.war.BattleServiceException;
 import com.ardaslegends.service.time.TimeFreezeService;
-import com.ardaslegends.service.time.Timer;
+import com.ardaslegends.service.time.ScheduledTaskDueEvent;
+import com.ardaslegends.service.time.ScheduledTaskService;
 import com.ardaslegends.service.war.BattleService;
+import com.ardaslegends.service.time.GameClock;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.javacord.api.entity.permission.Role;
-import org.javacord.api.entity.user.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
-import java.util.concurrent.Callable;
-import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @Slf4j
 public class BattleServiceTest {
     private WarRepository mockWarRepository;
+    private BattleRepository mockBattleRepository;
+    private TimeFreezeService mockTimeFreezeService;
+    private ScheduledTaskService mockScheduledTaskService;
+    private DiscordOutboxService mockDiscordOutboxService;
     private BattleService battleService;
+    private GameClock gameClock;
 
     private Faction faction1;
     private Faction faction2;
@@ -52,6 +58,7 @@ public class BattleServiceTest {
     private  WarParticipant warParticipant2;
 
     private BattleLocation battleLocation;
+    private Battle battle;
 
     private Region region1;
     private Region region2;
@@ -64,20 +71,19 @@ public class BattleServiceTest {
     CreateBattleDto createBattleDto;
     @BeforeEach
     void setup(){
-        BattleRepository mockBattleRepository = mock(BattleRepository.class);
+        mockBattleRepository = mock(BattleRepository.class);
         mockWarRepository = mock(WarRepository.class);
         Pathfinder pathfinder = mock(Pathfinder.class);
         ArmyService mockArmyService = mock(ArmyService.class);
         PlayerService mockPlayerService = mock(PlayerService.class);
         ClaimBuildService mockClaimBuildService = mock(ClaimBuildService.class);
         RpCharService mockRpCharService = mock(RpCharService.class);
-        TimeFreezeService mockTimeFreezeService = mock(TimeFreezeService.class);
-        DiscordService mockDiscordService = mock(DiscordService.class);
+        mockTimeFreezeService = mock(TimeFreezeService.class);
+        mockScheduledTaskService = mock(ScheduledTaskService.class);
+        mockDiscordOutboxService = mock(DiscordOutboxService.class);
         FactionService mockFactionService = mock(FactionService.class);
-        User mockUser1 = mock(User.class);
-        User mockUser2 = mock(User.class);
-        Role mockRole = mock(Role.class);
-        battleService = new BattleService(mockBattleRepository, mockArmyService, mockPlayerService, mockRpCharService, mockClaimBuildService,mockWarRepository, pathfinder, mockFactionService, mockTimeFreezeService, mockDiscordService);
+        gameClock = new GameClock(Clock.systemUTC(), mock(TimeFreezeRepository.class));
+        battleService = new BattleService(mockBattleRepository, mockArmyService, mockPlayerService, mockRpCharService, mockClaimBuildService,mockWarRepository, pathfinder, mockFactionService, mockTimeFreezeService, mockDiscordOutboxService, mockScheduledTaskService, mock(ApplicationEventPublisher.class), gameClock);
 
         region1 = Region.builder().id("90").neighboringRegions(new HashSet<>()).regionType(RegionType.LAND).build();
         region2 = Region.builder().id("91").neighboringRegions(new HashSet<>()).regionType(RegionType.HILL).build();
@@ -136,7 +142,7 @@ public class BattleServiceTest {
 
         battleLocation = new BattleLocation(region2,true, null);
 
-        Battle battle = new Battle(new HashSet<>(Set.of(war)), "Battle of Gondor", attackingArmies, defendingArmies, OffsetDateTime.now(), OffsetDateTime.of(2023, 9, 20, 0, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2023, 9, 30, 0, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2023, 9, 20, 0, 0, 0, 0, ZoneOffset.UTC), battleLocation);
+        battle = new Battle(new HashSet<>(Set.of(war)), "Battle of Gondor", attackingArmies, defendingArmies, OffsetDateTime.now(), OffsetDateTime.of(2023, 9, 20, 0, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2023, 9, 30, 0, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2023, 9, 20, 0, 0, 0, 0, ZoneOffset.UTC), battleLocation);
 
         PathElement pathElement1 = PathElement.builder().region(region1).baseCost(region1.getCost()).actualCost(0).build();
         PathElement pathElement2 = PathElement.builder().region(region2).baseCost(region2.getCost()).actualCost(region2.getCost()).build();
@@ -153,12 +159,6 @@ public class BattleServiceTest {
         when(mockArmyService.getArmyByName(any())).thenReturn(army1);
         when(mockPlayerService.getPlayerByDiscordId(player1.getDiscordID())).thenReturn(player1);
         when(mockPlayerService.getPlayerByDiscordId(player2.getDiscordID())).thenReturn(player2);
-        when(mockDiscordService.getUserById(player1.getDiscordID())).thenReturn(mockUser1);
-        when(mockDiscordService.getUserById(player2.getDiscordID())).thenReturn(mockUser2);
-        when(mockDiscordService.getRoleByIdOrElseThrow(anyLong())).thenReturn(mockRole);
-        when(mockUser1.getMentionTag()).thenReturn(player1.getIgn());
-        when(mockUser2.getMentionTag()).thenReturn(player2.getIgn());
-        when(mockRole.getMentionTag()).thenReturn("RoleMentionTag");
         when(pathfinder.findShortestWay(army1.getCurrentRegion(), region2,player1,false)).thenReturn(movement.getPath());
         when(mockClaimBuildService.getClaimBuildByName(claimBuild1.getName())).thenReturn(claimBuild1);
         when(mockClaimBuildService.getClaimBuildByName(claimBuild2.getName())).thenReturn(claimBuild2);
@@ -168,7 +168,6 @@ public class BattleServiceTest {
         when(mockBattleRepository.save(any())).thenAnswer(i -> i.getArguments()[0]);
         when(mockArmyService.getArmyByName("Knights of Gondor")).thenReturn(army1);
         when(mockArmyService.getArmyByName("Knights of Isengard")).thenReturn(army2);
-        when(mockTimeFreezeService.start24hTimer(any(Callable.class))).thenReturn(new Timer<>(CompletableFuture.completedFuture(battle), OffsetDateTime.now().plusHours(24)));
     }
 
     @Test
@@ -189,6 +188,32 @@ public class BattleServiceTest {
         assertThat(newBattle.getBattleLocation()).isEqualTo(battleLocation);
     }
 
+    @Test
+    void ensureCreateBattleSchedulesStartOfBattle(){
+        log.debug("Testing if createBattle schedules the start of the battle 24 hours after the declaration!");
+
+        CreateBattleDto createBattleDto = new CreateBattleDto("1234","Battle of Gondor","Knights of Gondor","Knights of Isengard",true, null);
+
+        Battle newBattle = battleService.createBattle(createBattleDto);
+
+        assertThat(newBattle.getTimeFrozenFrom()).isEqualTo(newBattle.getDeclaredDate().plusHours(24));
+        verify(mockScheduledTaskService).schedule(ScheduledTaskType.START_BATTLE, newBattle.getId(), newBattle.getTimeFrozenFrom());
+        verify(mockTimeFreezeService, never()).freezeTime();
+        verify(mockDiscordOutboxService).enqueue(DiscordOutboxMessageType.BATTLE_DECLARED, newBattle.getId());
+    }
+
+    @Test
+    void ensureDueBattleStartSetsBattleOngoingAndFreezesTime(){
+        log.debug("Testing if a due battle start sets the battle to ongoing and freezes time!");
+
+        when(mockBattleRepository.findById(battle.getId())).thenReturn(Optional.of(battle));
+
+        battleService.onScheduledTaskDue(new ScheduledTaskDueEvent(ScheduledTaskType.START_BATTLE, battle.getId()));
+
+        assertThat(battle.getBattlePhase()).isEqualTo(BattlePhase.ONGOING);
+        verify(mockTimeFreezeService).freezeTime();
+    }
+
     @Test
     void ensureCreateBattleWorksWithClaimBuildBattle(){
         log.debug("Testing if createBattle works when player is not leader but bound to the army!");
@@ -273,7 +298,7 @@ public class BattleServiceTest {
 
         var exception = assertThrows(BattleServiceException.class, ()-> battleService.createBattle(createBattleDto));
 
-        assertThat(exception.getMessage()).isEqualTo(BattleServiceException.defendingArmyIsMovingAway(army2).getMessage());
+        assertThat(exception.getMessage()).isEqualTo(BattleServiceException.defendingArmyIsMovingAway(army2, gameClock).getMessage());
     }
 
     @Test
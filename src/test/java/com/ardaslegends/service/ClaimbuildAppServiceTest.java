@@ -9,6 +9,7 @@ import com.ardaslegends.repository.faction.FactionRepository;
 import com.ardaslegends.repository.player.PlayerRepository;
 import com.ardaslegends.repository.region.RegionRepository;
 import com.ardaslegends.service.applications.ClaimbuildApplicationService;
+import com.ardaslegends.service.discord.outbox.DiscordOutboxService;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 
@@ -43,6 +44,6 @@ public class ClaimbuildAppServiceTest {
         mockClock = mock(Clock.class);
 
         cbAppService = new ClaimbuildApplicationService(cbAppRepository, mockClaimBuildRepository, mockPlayerRepository,
-                mockFactionRepository, mockRegionRepository, mockProductionSiteRepository, mockBotProperties, mockClock);
+                mockFactionRepository, mockRegionRepository, mockProductionSiteRepository, mockBotProperties, mock(DiscordOutboxService.class), mockClock);
     }
 }
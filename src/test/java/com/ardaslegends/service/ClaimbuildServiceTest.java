@@ -12,6 +12,7 @@ import com.ardaslegends.service.exceptions.logic.claimbuild.ClaimBuildServiceExc
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
 
@@ -58,7 +59,7 @@ public class ClaimbuildServiceTest {
         mockProductionSiteRepository = mock(ProductionSiteRepository.class);
         mockPlayerService = mock(PlayerService.class);
 
-        claimBuildService = new ClaimBuildService(mockClaimbuildRepository, mockRegionRepository, mockProductionSiteRepository, mockFactionService, mockPlayerService);
+        claimBuildService = new ClaimBuildService(mockClaimbuildRepository, mockRegionRepository, mockProductionSiteRepository, mockFactionService, mockPlayerService, mock(ApplicationEventPublisher.class));
 
         claimbuildName= "Minas Tirith";
         var claimbuildId = 10L;
@@ -41,7 +41,7 @@ public class FactionServiceTest {
         mockFactionRepository = mock(FactionRepository.class);
         mockPlayerRepository = mock(PlayerRepository.class);
         factionService = Mockito.spy(new FactionService(mockFactionRepository, mockPlayerRepository));
-        Mockito.doNothing().when(factionService).recordMessageInErrorChannel(any());
+        Mockito.doNothing().when(factionService).reportError(any());
 
         faction = Faction.builder().name("Gondor").foodStockpile(10).build();
         player = Player.builder().discordID("1234").ign("mirak551").faction(faction).rpChars(new HashSet<>(Set.of(RPChar.builder().active(true).build()))).build();
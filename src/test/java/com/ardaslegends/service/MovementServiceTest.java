@@ -5,6 +5,7 @@ import com.ardaslegends.repository.ArmyRepository;
 import com.ardaslegends.repository.MovementRepository;
 import com.ardaslegends.repository.player.PlayerRepository;
 import com.ardaslegends.repository.region.RegionRepository;
+import com.ardaslegends.repository.TimeFreezeRepository;
 import com.ardaslegends.service.dto.army.MoveArmyDto;
 import com.ardaslegends.service.dto.player.DiscordIdDto;
 import com.ardaslegends.service.dto.player.rpchar.MoveRpCharDto;
@@ -13,10 +14,13 @@ import com.ardaslegends.service.exceptions.ServiceException;
 import com.ardaslegends.service.exceptions.logic.army.ArmyServiceException;
 import com.ardaslegends.service.exceptions.logic.movement.MovementServiceException;
 import com.ardaslegends.service.utils.ServiceUtils;
+import com.ardaslegends.service.time.GameClock;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
+import org.springframework.context.ApplicationEventPublisher;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.*;
@@ -66,7 +70,7 @@ public class MovementServiceTest {
         mockArmyService = mock(ArmyService.class);
         mockPathfinder = mock(Pathfinder.class);
         mockRpCharService = mock(RpCharService.class);
-        movementService = new MovementService(mockMovementRepository, mockRegionRepository, mockArmyRepository, mockArmyService, mockPlayerRepository, mockPlayerService, mockPathfinder, mockRpCharService);
+        movementService = new MovementService(mockMovementRepository, mockRegionRepository, mockArmyRepository, mockArmyService, mockPlayerRepository, mockPlayerService, mockPathfinder, mockRpCharService, mock(FactionService.class), mock(ApplicationEventPublisher.class), new GameClock(Clock.systemUTC(), mock(TimeFreezeRepository.class)));
 
         region1 = Region.builder().id("90").regionType(RegionType.LAND).build();
         region2 = Region.builder().id("91").regionType(RegionType.LAND).build();
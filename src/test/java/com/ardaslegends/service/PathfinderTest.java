@@ -1,8 +1,12 @@
 package com.ardaslegends.service;
 
 import com.ardaslegends.domain.*;
+import com.ardaslegends.domain.war.War;
 import com.ardaslegends.repository.region.RegionRepository;
 import com.ardaslegends.service.exceptions.logic.movement.PathfinderServiceException;
+import com.ardaslegends.service.metrics.GameMetrics;
+import com.ardaslegends.service.pathfinding.RegionChangedEvent;
+import com.ardaslegends.service.pathfinding.WorldGraphService;
 import com.ardaslegends.service.war.WarService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,16 +16,18 @@ import java.util.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 public class PathfinderTest {
 
     private RegionRepository mockRepository;
     private WarService mockWarRepository;
+    private WorldGraphService worldGraphService;
+    private GameMetrics mockGameMetrics;
     private Pathfinder pathfinder;
     private Player player;
 
+    Faction faction_good, faction_bad;
     Region r1, r2, r3, r4, r5, r6;
     Region rs1, rs2;
 
@@ -39,8 +45,8 @@ public class PathfinderTest {
         rs2 = new Region("2.S", "two_sea", RegionType.SEA, new HashSet<>(), new HashSet<>(), new HashSet<>());
 
         player = Player.builder().ign("VernonRoche").discordID("VernonRocheDiscord").build();
-        Faction faction_good = new Faction("Gondor", player, new ArrayList<>(), new ArrayList<>(), new HashSet<>(), new ArrayList<>(), new ArrayList<>(), "white", r1, "Double move in Gondor");
-        Faction faction_bad = new Faction("Mordor", null, new ArrayList<>(), new ArrayList<>(), new HashSet<>(), new ArrayList<>(), new ArrayList<>(), "black", r3, "Move in Mordor");
+        faction_good = new Faction("Gondor", player, new ArrayList<>(), new ArrayList<>(), new HashSet<>(), new ArrayList<>(), new ArrayList<>(), "white", r1, "Double move in Gondor");
+        faction_bad = new Faction("Mordor", null, new ArrayList<>(), new ArrayList<>(), new HashSet<>(), new ArrayList<>(), new ArrayList<>(), "black", r3, "Move in Mordor");
 
         Army army = Army.builder().name("Test army").armyType(ArmyType.ARMY).faction(faction_good).currentRegion(r1).boundTo(null). units(new ArrayList<>())
                 .sieges(new ArrayList<>()).stationedAt(null).freeTokens(15.0).isHealing(false).healStart(null).healEnd(null).hoursHealed(0).hoursLeftHealing(0)
@@ -101,8 +107,11 @@ public class PathfinderTest {
         for (Region region : regionList) {
             when(mockRepository.findById(region.getId())).thenReturn(Optional.of(region));
         }
+        when(mockRepository.queryAll()).thenReturn(regionList);
 
-        pathfinder = new Pathfinder(mockRepository, mockWarRepository);
+        worldGraphService = new WorldGraphService(mockRepository);
+        mockGameMetrics = mock(GameMetrics.class);
+        pathfinder = new Pathfinder(mockRepository, mockWarRepository, worldGraphService, mockGameMetrics);
     }
 
     @Test
@@ -120,6 +129,16 @@ public class PathfinderTest {
         assertThat(sumPathCost(path)).isEqualTo(RegionType.LAND.getCost() * 2 + RegionType.HILL.getCost());
     }
 
+    @Test
+    void ensureAStarFallsBackToDijkstraWithoutCentroids() {
+        pathfinder.setAStarEnabled(true);
+
+        List<PathElement> path = pathfinder.findShortestWay(r1, r6, player, false);
+        assertThat(path.size()).isEqualTo(4);
+        assertThat(sumPathCost(path)).isEqualTo(RegionType.LAND.getCost() * 2 + RegionType.HILL.getCost());
+        assertThat(worldGraphService.getSnapshot().graph().canEstimateCosts()).isFalse();
+    }
+
     @Test
     void ensureEmbarkingSucceeds() {
         rs1.addNeighbour(rs2);
@@ -160,6 +179,105 @@ public class PathfinderTest {
         var result = assertThrows(PathfinderServiceException.class,
                 () -> pathfinder.findShortestWay(r1, r3, player, false));
         assertEquals(result.getMessage(), PathfinderServiceException.noPathFound(r1.getId(), r3.getId()).getMessage());
+        verify(mockGameMetrics, times(1)).recordPathSearch(eq(false), any(), anyInt(), isNull());
+    }
+
+    @Test
+    void ensureRegionGraphIsOnlyCompiledOnce() {
+        pathfinder.findShortestWay(r1, r5, player, false);
+        pathfinder.findShortestWay(r1, r6, player, true);
+
+        verify(mockRepository, times(1)).queryAll();
+    }
+
+    @Test
+    void ensureRegionChangesArePatchedIntoSnapshot() {
+        r2.addNeighbour(rs1);
+        pathfinder.findShortestWay(r2, rs1, player, false);
+        long version = worldGraphService.getSnapshot().version();
+
+        worldGraphService.onRegionChanged(new RegionChangedEvent(r2.getId(), Set.of("Gondor"), Set.of(), false));
+
+        assertThat(worldGraphService.getSnapshot().version()).isEqualTo(version + 1);
+        var result = assertThrows(PathfinderServiceException.class,
+                () -> pathfinder.findShortestWay(r2, rs1, player, false));
+        assertEquals(result.getMessage(), PathfinderServiceException.noPathFound(r2.getId(), rs1.getId()).getMessage());
+        verify(mockRepository, times(1)).queryAll();
+    }
+
+    @Test
+    void ensureRegionChangesDuringRebuildAreNotLost() {
+        r2.addNeighbour(rs1);
+        pathfinder.findShortestWay(r2, rs1, player, false);
+        List<Region> regionList = List.of(r1, r2, r3, r4, r5, r6, rs1, rs2);
+        when(mockRepository.queryAll()).thenAnswer(invocation -> {
+            // The harbour is removed by a transaction that commits after these regions were read
+            worldGraphService.onRegionChanged(new RegionChangedEvent(r2.getId(), Set.of("Gondor"), Set.of(), false));
+            return regionList;
+        }).thenAnswer(invocation -> {
+            r2.getClaimBuilds().forEach(claimBuild -> claimBuild.getSpecialBuildings().remove(SpecialBuilding.HARBOUR));
+            return regionList;
+        });
+
+        worldGraphService.rebuild();
+
+        var result = assertThrows(PathfinderServiceException.class,
+                () -> pathfinder.findShortestWay(r2, rs1, player, false));
+        assertEquals(result.getMessage(), PathfinderServiceException.noPathFound(r2.getId(), rs1.getId()).getMessage());
+        verify(mockRepository, times(3)).queryAll();
+    }
+
+    @Test
+    void ensureCharacterMoveHalvesTheCostAndIgnoresClaims() {
+        List<PathElement> path = pathfinder.findShortestWay(r1, r5, player, true);
+
+        assertThat(path.size()).isEqualTo(3);
+        assertThat(path.get(1).getRegion()).isEqualTo(r3);
+        assertThat(sumPathCost(path)).isEqualTo(RegionType.LAND.getCost());
+        assertThat(path.get(0).getActualCost()).isZero();
+    }
+
+    @Test
+    void ensureMoveInEnemyRegionSucceedsWhenAtWar() {
+        r1.setNeighboringRegions(Set.of(r3));
+        r3.setNeighboringRegions(Set.of(r1));
+        when(mockWarRepository.getActiveWarsOfFaction(faction_good)).thenReturn(Set.of(new War("War of the Ring", faction_good, faction_bad)));
+
+        List<PathElement> path = pathfinder.findShortestWay(r1, r3, player, false);
+
+        assertThat(path.size()).isEqualTo(2);
+    }
+
+    @Test
+    void ensurePassableRegionsAreCachedUntilWarsChange() {
+        var snapshot = worldGraphService.getSnapshot();
+        var passable = worldGraphService.getPassableRegions(snapshot, "Gondor", Set.of(), Set.of());
+
+        assertThat(worldGraphService.getPassableRegions(snapshot, "Gondor", Set.of(), Set.of())).isSameAs(passable);
+        assertThat(passable.isPassable(snapshot.graph().indexOf(r3.getId()))).isFalse();
+
+        var atWar = worldGraphService.getPassableRegions(snapshot, "Gondor", Set.of(), Set.of("Mordor"));
+        assertThat(atWar).isNotSameAs(passable);
+        assertThat(atWar.isPassable(snapshot.graph().indexOf(r3.getId()))).isTrue();
+    }
+
+    @Test
+    void ensureRouteTableMatchesShortestPaths() {
+        var routeTable = pathfinder.getRouteTable(r1, faction_good, false);
+
+        assertThat(routeTable.hoursTo(r6.getId())).hasValue(sumPathCost(pathfinder.findShortestWay(r1, r6, player, false)));
+        assertThat(routeTable.hoursTo(r3.getId())).isEmpty();
+        assertThat(routeTable.reachableWithin(RegionType.MOUNTAIN.getCost())).containsKeys(r1.getId(), r2.getId(), r4.getId());
+        assertThat(pathfinder.getRouteTable(r1, faction_good, false)).isSameAs(routeTable);
+    }
+
+    @Test
+    void ensureCharacterRouteTableHalvesTheCost() {
+        var routeTable = pathfinder.getRouteTable(r1, null, true);
+
+        assertThat(routeTable.hoursTo(r1.getId())).hasValue(0);
+        assertThat(routeTable.hoursTo(r5.getId())).hasValue(sumPathCost(pathfinder.findShortestWay(r1, r5, player, true)));
+        assertThat(routeTable.reachableWithin(0)).containsOnlyKeys(r1.getId());
     }
 
     /*
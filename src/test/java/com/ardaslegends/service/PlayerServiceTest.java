@@ -3,17 +3,20 @@ package com.ardaslegends.service;
 import com.ardaslegends.domain.*;
 import com.ardaslegends.presentation.discord.config.BotProperties;
 import com.ardaslegends.repository.player.PlayerRepository;
+import com.ardaslegends.repository.TimeFreezeRepository;
 import com.ardaslegends.service.dto.player.*;
 import com.ardaslegends.service.dto.player.rpchar.CreateRPCharDto;
 import com.ardaslegends.service.dto.player.rpchar.UpdateRpCharDto;
 import com.ardaslegends.service.exceptions.logic.player.PlayerServiceException;
 import com.ardaslegends.service.exceptions.ServiceException;
 import com.ardaslegends.service.external.MojangApiService;
+import com.ardaslegends.service.time.GameClock;
 import lombok.extern.slf4j.Slf4j;
-import org.javacord.api.DiscordApi;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Clock;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -37,7 +40,6 @@ public class PlayerServiceTest {
     private Region region;
     private ClaimBuild claimBuild;
     private DiscordIdDto discordIdDto;
-    private DiscordApi mockDiscordApi;
     private BotProperties mockProperties;
 
     @BeforeEach
@@ -46,8 +48,7 @@ public class PlayerServiceTest {
         mockFactionService = mock(FactionService.class);
         mockMojangApiService = mock(MojangApiService.class);
         mockProperties = mock(BotProperties.class);
-        mockDiscordApi = mock(DiscordApi.class);
-        playerService = new PlayerService(mockPlayerRepository, mockFactionService ,mockMojangApiService, mockDiscordApi, mockProperties);
+        playerService = new PlayerService(mockPlayerRepository, mockFactionService ,mockMojangApiService, mockProperties, mock(ApplicationEventPublisher.class), new GameClock(Clock.systemUTC(), mock(TimeFreezeRepository.class)));
 
         faction = Faction.builder().name("Gondor").build();
         region = Region.builder().id("91").build();
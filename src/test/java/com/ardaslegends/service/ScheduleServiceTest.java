@@ -3,20 +3,30 @@ package com.ardaslegends.service;
 import com.ardaslegends.domain.*;
 import com.ardaslegends.repository.ArmyRepository;
 import com.ardaslegends.repository.MovementRepository;
-import com.ardaslegends.repository.player.PlayerRepository;
+import com.ardaslegends.repository.TimeFreezeRepository;
+import com.ardaslegends.repository.rpchar.RpcharRepository;
+import com.ardaslegends.service.live.MovementLiveEvent;
+import com.ardaslegends.service.metrics.GameMetrics;
+import com.ardaslegends.service.time.GameClock;
+import com.ardaslegends.service.time.PartitionedSweepExecutor;
 import com.ardaslegends.service.time.ScheduleService;
-import com.ardaslegends.service.time.TimeFreezeService;
 import com.ardaslegends.service.utils.ServiceUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.*;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @Slf4j
 public class ScheduleServiceTest {
@@ -24,12 +34,13 @@ public class ScheduleServiceTest {
     private ScheduleService scheduleService;
     private MovementRepository mockMovementRepository;
     private ArmyRepository mockArmyRepository;
-    private PlayerRepository mockPlayerRepository;
+    private RpcharRepository mockRpcharRepository;
     private MovementService mockMovementService;
     private ArmyService mockArmyService;
     private PlayerService mockPlayerService;
-    private TimeFreezeService mockTimeFreezeService;
+    private ApplicationEventPublisher mockEventPublisher;
     private Clock mockClock;
+    private GameClock gameClock;
     private Clock fixedClock;
 
     private Player player;
@@ -69,14 +80,18 @@ public class ScheduleServiceTest {
     void setup() {
         mockMovementRepository = mock(MovementRepository.class);
         mockArmyRepository = mock(ArmyRepository.class);
-        mockPlayerRepository = mock(PlayerRepository.class);
+        mockRpcharRepository = mock(RpcharRepository.class);
         mockMovementService = mock(MovementService.class);
         mockArmyService = mock(ArmyService.class);
         mockPlayerService = mock(PlayerService.class);
+        mockEventPublisher = mock(ApplicationEventPublisher.class);
         mockClock = mock(Clock.class);
-        mockTimeFreezeService = mock(TimeFreezeService.class);
+        TimeFreezeRepository mockTimeFreezeRepository = mock(TimeFreezeRepository.class);
+        when(mockTimeFreezeRepository.findFirstByUnfrozenAtIsNullOrderByFrozenAtDesc()).thenReturn(Optional.empty());
+        gameClock = new GameClock(mockClock, mockTimeFreezeRepository);
 
-        scheduleService = new ScheduleService(mockMovementRepository, mockArmyRepository, mockPlayerRepository, mockMovementService, mockArmyService, mockPlayerService, mockTimeFreezeService, mockClock);
+        scheduleService = new ScheduleService(mockMovementRepository, mockArmyRepository, mockRpcharRepository, mockMovementService, mockArmyService, mockPlayerService,
+                new PartitionedSweepExecutor(Executors.newVirtualThreadPerTaskExecutor(), mock(PlatformTransactionManager.class), mock(GameMetrics.class)), gameClock, mockEventPublisher);
 
         unitType = UnitType.builder().unitName("Gondor Soldier").tokenCost(1.0).build();
         unitType2 = UnitType.builder().unitName("Gondor Archer").tokenCost(1.5).build();
@@ -118,7 +133,7 @@ public class ScheduleServiceTest {
                 .build();
         claimBuild = ClaimBuild.builder().type(ClaimBuildType.CASTLE).specialBuildings(List.of(SpecialBuilding.HOUSE_OF_HEALING)).region(region).build();
 
-        when(mockMovementRepository.findMovementsByIsCurrentlyActive(true)).thenReturn(List.of(movement, movement2, movement3));
+        stubActiveMovements(List.of(movement, movement2, movement3));
         fixedClock = Clock.fixed(startTime.plusDays(1).plusSeconds(1).toInstant(), ZoneId.systemDefault());
         when(mockClock.instant()).thenReturn(fixedClock.instant());
         when(mockClock.getZone()).thenReturn(fixedClock.getZone());
@@ -133,7 +148,7 @@ public class ScheduleServiceTest {
         movement3.setEndTime(startTime.minusMonths(1).plusHours(ServiceUtils.getTotalPathCost(path3)));
 
         List<Movement> movements = List.of(movement, movement3);
-        when(mockMovementRepository.findMovementsByIsCurrentlyActive(true)).thenReturn(movements);
+        stubActiveMovements(movements);
         when(mockMovementService.saveMovements(movements)).thenReturn(movements);
 
         scheduleService.handleMovements();
@@ -158,7 +173,7 @@ public class ScheduleServiceTest {
         movement2.setReachesNextRegionAt(startTime.plusHours(pathElement3.getActualCost()));
 
         List<Movement> movements = List.of(movement2);
-        when(mockMovementRepository.findMovementsByIsCurrentlyActive(true)).thenReturn(movements);
+        stubActiveMovements(movements);
         when(mockMovementService.saveMovements(movements)).thenReturn(movements);
 
         scheduleService.handleMovements();
@@ -176,7 +191,7 @@ public class ScheduleServiceTest {
         when(mockClock.getZone()).thenReturn(fixedClock.getZone());
 
         List<Movement> movements = List.of(movement, movement3);
-        when(mockMovementRepository.findMovementsByIsCurrentlyActive(true)).thenReturn(movements);
+        stubActiveMovements(movements);
         when(mockMovementService.saveMovements(movements)).thenReturn(movements);
 
         scheduleService.handleMovements();
@@ -187,6 +202,92 @@ public class ScheduleServiceTest {
         log.info("Test passed: handleMovements works properly!");
     }
 
+    @Test
+    void ensureHandleMovementAdvancesAndSavesOnlyThatMovement() {
+        log.debug("Testing if handleMovement advances a single movement");
+
+        fixedClock = Clock.fixed(movement3.getReachesNextRegionAt().toInstant(), ZoneId.systemDefault());
+        when(mockClock.instant()).thenReturn(fixedClock.instant());
+        movement3.setId(3L);
+        when(mockMovementRepository.findById(3L)).thenReturn(Optional.of(movement3));
+        when(mockMovementService.saveMovement(movement3)).thenReturn(movement3);
+
+        var result = scheduleService.handleMovement(3L);
+
+        assertThat(army2.getCurrentRegion()).isEqualTo(region3);
+        assertThat(movement3.getIsCurrentlyActive()).isFalse();
+        assertThat(result).isEmpty();
+        verify(mockMovementService).saveMovement(movement3);
+        verify(mockMovementService, never()).saveMovements(any());
+        log.info("Test passed: handleMovement advances a single movement");
+    }
+
+    @Test
+    void ensureAdvancedMovementsArePublishedWithTheWallTimeOfTheNextRegion() {
+        log.debug("Testing if the live event of an advanced movement shows when the next region is reached in wall time");
+
+        when(mockClock.instant()).thenReturn(startTime.minusHours(2).toInstant());
+        gameClock.freeze();
+        when(mockClock.instant()).thenReturn(startTime.toInstant());
+        gameClock.unfreeze();
+        when(mockClock.instant()).thenReturn(movement.getReachesNextRegionAt().plusHours(2).toInstant());
+        movement.setId(1L);
+        when(mockMovementRepository.findById(1L)).thenReturn(Optional.of(movement));
+        when(mockMovementService.saveMovement(movement)).thenReturn(movement);
+
+        var result = scheduleService.handleMovement(1L);
+
+        var eventCaptor = ArgumentCaptor.forClass(MovementLiveEvent.class);
+        verify(mockEventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(result).contains(movement.getReachesNextRegionAt());
+        assertThat(eventCaptor.getValue().type()).isEqualTo("advanced");
+        assertThat(eventCaptor.getValue().reachesNextRegionAt()).isEqualTo(movement.getReachesNextRegionAt().plusHours(2));
+        log.info("Test passed: the live event of an advanced movement shows when the next region is reached in wall time");
+    }
+
+    @Test
+    void ensureHandleMovementDoesNotSaveWhenNotDue() {
+        log.debug("Testing if handleMovement does nothing before the movement is due");
+
+        fixedClock = Clock.fixed(startTime.plusMinutes(50).toInstant(), ZoneId.systemDefault());
+        when(mockClock.instant()).thenReturn(fixedClock.instant());
+        movement.setId(1L);
+        when(mockMovementRepository.findById(1L)).thenReturn(Optional.of(movement));
+
+        var result = scheduleService.handleMovement(1L);
+
+        assertThat(result).contains(movement.getReachesNextRegionAt());
+        assertThat(army.getCurrentRegion()).isEqualTo(region);
+        verify(mockMovementService, never()).saveMovement(any());
+        log.info("Test passed: handleMovement does nothing before the movement is due");
+    }
+
+    @Test
+    void ensureMovementsDoNotAdvanceOrChangeWhileTimeIsFrozen() {
+        log.debug("Testing if movements stand still without being rewritten while time is frozen");
+
+        when(mockClock.instant()).thenReturn(movement3.getReachesNextRegionAt().minusMinutes(10).toInstant());
+        gameClock.freeze();
+        OffsetDateTime reachesNextRegionAt = movement3.getReachesNextRegionAt();
+        Region currentRegion = movement3.getCurrentRegion();
+        stubActiveMovements(List.of(movement3));
+
+        when(mockClock.instant()).thenReturn(reachesNextRegionAt.plusDays(2).toInstant());
+        scheduleService.handleMovements();
+
+        assertThat(movement3.getCurrentRegion()).isEqualTo(currentRegion);
+        assertThat(movement3.getReachesNextRegionAt()).isEqualTo(reachesNextRegionAt);
+        verify(mockMovementService).saveMovements(List.of());
+
+        // After the freeze the 10 minutes that were left have to pass again
+        gameClock.unfreeze();
+        when(mockClock.instant()).thenReturn(reachesNextRegionAt.plusDays(2).plusMinutes(9).toInstant());
+        when(mockMovementRepository.findById(1L)).thenReturn(Optional.of(movement3));
+        assertThat(scheduleService.handleMovement(1L)).contains(reachesNextRegionAt);
+        verify(mockMovementService, never()).saveMovement(any());
+        log.info("Test passed: movements stand still without being rewritten while time is frozen");
+    }
+
     @Test
     void ensureHandleHealingWorksForChars() {
         log.debug("Testing if handleHealings works properly for rp chars!");
@@ -206,7 +307,7 @@ public class ScheduleServiceTest {
         log.info("Current time: [{}] - start time: [{}] - end time: [{}]", OffsetDateTime.now(mockClock), startTime.minusDays(1), startTime.plusDays(1));
 
         List<Player> players = List.of(player, player2);
-        when(mockPlayerRepository.queryPlayersWithHealingRpchars()).thenReturn(players);
+        stubHealingPlayers(players);
         when(mockPlayerService.savePlayers(players)).thenReturn(players);
 
         scheduleService.handleHealings();
@@ -231,7 +332,7 @@ public class ScheduleServiceTest {
         army.setHoursLeftHealing(army.getAmountOfHealHours());
 
         List<Army> armies = List.of(army);
-        when(mockArmyRepository.findArmyByIsHealingTrue()).thenReturn(armies);
+        stubHealingArmies(armies);
         when(mockArmyService.saveArmies(armies)).thenReturn(armies);
 
         scheduleService.handleHealings();
@@ -257,7 +358,7 @@ public class ScheduleServiceTest {
         log.info("Army needs to heal for [{}] hours", army.getAmountOfHealHours());
 
         List<Army> armies = List.of(army);
-        when(mockArmyRepository.findArmyByIsHealingTrue()).thenReturn(armies);
+        stubHealingArmies(armies);
         when(mockArmyService.saveArmies(armies)).thenReturn(armies);
 
         scheduleService.handleHealings();
@@ -290,7 +391,7 @@ public class ScheduleServiceTest {
         army.setHoursLeftHealing(army.getAmountOfHealHours());
 
         List<Army> armies = List.of(army);
-        when(mockArmyRepository.findArmyByIsHealingTrue()).thenReturn(armies);
+        stubHealingArmies(armies);
         when(mockArmyService.saveArmies(armies)).thenReturn(armies);
 
         scheduleService.handleHealings();
@@ -318,7 +419,7 @@ public class ScheduleServiceTest {
         army.setHoursLeftHealing(army.getAmountOfHealHours());
 
         List<Army> armies = List.of(army);
-        when(mockArmyRepository.findArmyByIsHealingTrue()).thenReturn(armies);
+        stubHealingArmies(armies);
         when(mockArmyService.saveArmies(armies)).thenReturn(armies);
         fixedClock = Clock.fixed(startTime.plusMinutes(50).toInstant(), ZoneId.systemDefault());
         when(mockClock.instant()).thenReturn(fixedClock.instant());
@@ -331,4 +432,156 @@ public class ScheduleServiceTest {
         log.info("Test passed: healing armies does nothing when no hour has passed");
     }
 
+    @Test
+    void ensureHealingsOnlySaveChangedEntities() {
+        log.debug("Testing if handleHealings only saves armies and characters that changed");
+
+        army.setUnits(List.of(unit3, unit2, unit));
+        army.setStationedAt(claimBuild);
+        army.setIsHealing(true);
+        army.setHealStart(startTime);
+        army.setHealEnd(startTime.plusHours(army.getAmountOfHealHours()));
+        army.setHoursHealed(0);
+        army.setHoursLeftHealing(army.getAmountOfHealHours());
+        army.setHealLastUpdatedAt(startTime);
+
+        rpChar.setInjured(true);
+        rpChar.setIsHealing(true);
+        rpChar.setStartedHeal(startTime);
+        rpChar.setHealEnds(startTime.plusMinutes(30));
+        rpChar2.setInjured(true);
+        rpChar2.setIsHealing(true);
+        rpChar2.setStartedHeal(startTime);
+        rpChar2.setHealEnds(startTime.plusDays(2));
+
+        stubHealingArmies(List.of(army));
+        stubHealingPlayers(List.of(player, player2));
+        fixedClock = Clock.fixed(startTime.plusMinutes(50).toInstant(), ZoneId.systemDefault());
+        when(mockClock.instant()).thenReturn(fixedClock.instant());
+
+        scheduleService.handleHealings();
+
+        verify(mockArmyService).saveArmies(List.of());
+        verify(mockPlayerService).savePlayers(List.of(player));
+        assertThat(army.getHealLastUpdatedAt()).isEqualTo(startTime);
+        assertThat(rpChar.getIsHealing()).isFalse();
+        assertThat(rpChar2.getIsHealing()).isTrue();
+        log.info("Test passed: handleHealings only saves armies and characters that changed");
+    }
+
+    @Test
+    void ensureHandleHealingArmyReplenishesOnceTheNextCycleIsDue() {
+        log.debug("Testing if handleHealingArmy replenishes a single army and returns its next due time");
+
+        army.setId(1L);
+        army.setUnits(List.of(unit3, unit2, unit));
+        army.setStationedAt(claimBuild);
+        army.setIsHealing(true);
+        army.setHealStart(startTime);
+        army.setHealEnd(startTime.plusHours(army.getAmountOfHealHours()));
+        army.setHoursHealed(0);
+        army.setHoursLeftHealing(army.getAmountOfHealHours());
+        when(mockArmyRepository.findById(1L)).thenReturn(Optional.of(army));
+
+        var result = scheduleService.handleHealingArmy(1L);
+
+        verify(mockArmyService).saveArmies(List.of(army));
+        assertThat(unit.getAmountAlive()).isEqualTo(unit.getCount());
+        assertThat(army.getHoursHealed()).isEqualTo(24);
+        assertThat(result).contains(army.getHealEnd().plusSeconds(1));
+        log.info("Test passed: handleHealingArmy replenishes a single army and returns its next due time");
+    }
+
+    @Test
+    void ensureHandleHealingArmyDoesNothingBeforeTheNextCycleIsDue() {
+        log.debug("Testing if handleHealingArmy leaves an army untouched before its next cycle is due");
+
+        army.setId(1L);
+        army.setUnits(List.of(unit3, unit2, unit));
+        army.setStationedAt(claimBuild);
+        army.setIsHealing(true);
+        army.setHealStart(startTime);
+        army.setHealEnd(startTime.plusHours(army.getAmountOfHealHours()));
+        army.setHoursHealed(0);
+        army.setHoursLeftHealing(army.getAmountOfHealHours());
+        when(mockArmyRepository.findById(1L)).thenReturn(Optional.of(army));
+        fixedClock = Clock.fixed(startTime.plusMinutes(50).toInstant(), ZoneId.systemDefault());
+        when(mockClock.instant()).thenReturn(fixedClock.instant());
+
+        var result = scheduleService.handleHealingArmy(1L);
+
+        verify(mockArmyService, never()).saveArmies(any());
+        assertThat(result).contains(startTime.plusHours(24).plusSeconds(1));
+        log.info("Test passed: handleHealingArmy leaves an army untouched before its next cycle is due");
+    }
+
+    @Test
+    void ensureHandleHealingRpCharCompletesTheHealing() {
+        log.debug("Testing if handleHealingRpChar completes the healing of a single character");
+
+        rpChar.setId(1L);
+        rpChar.setOwner(player);
+        rpChar.setInjured(true);
+        rpChar.setIsHealing(true);
+        rpChar.setStartedHeal(startTime);
+        rpChar.setHealEnds(startTime.plusHours(12));
+        when(mockRpcharRepository.findById(1L)).thenReturn(Optional.of(rpChar));
+
+        var result = scheduleService.handleHealingRpChar(1L);
+
+        verify(mockPlayerService).savePlayers(List.of(player));
+        assertThat(rpChar.getIsHealing()).isFalse();
+        assertThat(rpChar.getInjured()).isFalse();
+        assertThat(result).isEmpty();
+        log.info("Test passed: handleHealingRpChar completes the healing of a single character");
+    }
+
+    @Test
+    void ensureHealingOfRpCharIsDelayedByTimeFreezes() {
+        log.debug("Testing if the healing of a character is delayed by the time time was frozen");
+
+        rpChar.setId(1L);
+        rpChar.setOwner(player);
+        rpChar.setInjured(true);
+        rpChar.setIsHealing(true);
+        rpChar.setStartedHeal(startTime);
+        rpChar.setHealEnds(startTime.plusHours(12));
+        when(mockRpcharRepository.findById(1L)).thenReturn(Optional.of(rpChar));
+
+        when(mockClock.instant()).thenReturn(startTime.plusHours(1).toInstant());
+        gameClock.freeze();
+        when(mockClock.instant()).thenReturn(startTime.plusHours(13).toInstant());
+        gameClock.unfreeze();
+
+        when(mockClock.instant()).thenReturn(startTime.plusHours(24).toInstant());
+        assertThat(scheduleService.handleHealingRpChar(1L)).contains(startTime.plusHours(12).plusSeconds(1));
+        assertThat(rpChar.getIsHealing()).isTrue();
+        assertThat(gameClock.toWallTime(rpChar.getHealEnds())).isEqualTo(startTime.plusHours(24));
+
+        when(mockClock.instant()).thenReturn(startTime.plusHours(25).toInstant());
+        assertThat(scheduleService.handleHealingRpChar(1L)).isEmpty();
+        assertThat(rpChar.getIsHealing()).isFalse();
+        verify(mockPlayerService).savePlayers(List.of(player));
+        log.info("Test passed: the healing of a character is delayed by the time time was frozen");
+    }
+
+    private void stubActiveMovements(List<Movement> movements) {
+        LongStream.range(0, movements.size()).forEach(i -> movements.get((int) i).setId(i + 1));
+        when(mockMovementRepository.findIdsOfActiveMovements()).thenReturn(movements.stream().map(Movement::getId).toList());
+        when(mockMovementRepository.findAllById(any())).thenReturn(movements);
+    }
+
+    private void stubHealingArmies(List<Army> armies) {
+        LongStream.range(0, armies.size()).forEach(i -> armies.get((int) i).setId(i + 1));
+        when(mockArmyRepository.findIdsOfHealingArmies()).thenReturn(armies.stream().map(Army::getId).toList());
+        when(mockArmyRepository.findAllById(any())).thenReturn(armies);
+    }
+
+    private void stubHealingPlayers(List<Player> players) {
+        List<RPChar> rpChars = players.stream().map(player -> player.getActiveCharacter().orElseThrow()).toList();
+        LongStream.range(0, rpChars.size()).forEach(i -> rpChars.get((int) i).setId(i + 1));
+        players.forEach(player -> player.getActiveCharacter().orElseThrow().setOwner(player));
+        when(mockRpcharRepository.findIdsOfHealingRpChars()).thenReturn(rpChars.stream().map(RPChar::getId).toList());
+        when(mockRpcharRepository.findAllById(any())).thenReturn(rpChars);
+    }
 }
@@ -0,0 +1,91 @@
+package com.ardaslegends.service.claimmap;
+
+import com.ardaslegends.domain.Faction;
+import com.ardaslegends.domain.Region;
+import com.ardaslegends.domain.RegionType;
+import com.ardaslegends.repository.region.RegionRepository;
+import com.ardaslegends.service.pathfinding.RegionChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+public class ClaimMapProjectionTest {
+
+    private RegionRepository mockRegionRepository;
+    private ClaimMapProjection claimMapProjection;
+    private long initialVersion;
+
+    @BeforeEach
+    void setup() {
+        mockRegionRepository = mock(RegionRepository.class);
+        Faction gondor = Faction.builder().name("Gondor").build();
+        Region r1 = region("1");
+        Region r2 = region("2");
+        r1.getClaimedBy().add(gondor);
+        when(mockRegionRepository.queryAll()).thenReturn(List.of(r1, r2));
+
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(1_000_000), ZoneOffset.UTC);
+        claimMapProjection = new ClaimMapProjection(mockRegionRepository, new ObjectMapper(), clock);
+        claimMapProjection.initialize();
+        initialVersion = claimMapProjection.getClaimMap().version();
+    }
+
+    @Test
+    void ensureOnlyClaimChangesCreateANewVersion() {
+        log.debug("Testing if the claim map is patched and serialised again only when the claims of a region changed");
+
+        ClaimMap initial = claimMapProjection.getClaimMap();
+        assertThat(initialVersion).isEqualTo(1_000_000);
+
+        claimMapProjection.onRegionChanged(new RegionChangedEvent("1", Set.of("Gondor"), Set.of(), true));
+        assertThat(claimMapProjection.getClaimMap()).isSameAs(initial);
+
+        claimMapProjection.onRegionChanged(new RegionChangedEvent("2", Set.of("Mordor"), Set.of("Minas Morgul"), false));
+        ClaimMap changed = claimMapProjection.getClaimMap();
+        assertThat(changed.version()).isEqualTo(initialVersion + 1);
+        assertThat(changed.eTag()).isNotEqualTo(initial.eTag());
+        assertThat(new String(changed.json(), StandardCharsets.UTF_8)).contains("\"claimedBy\":[\"Mordor\"]", "\"claimbuilds\":[\"Minas Morgul\"]");
+        verify(mockRegionRepository, times(1)).queryAll();
+        log.info("Test passed: the claim map is patched and serialised again only when the claims of a region changed");
+    }
+
+    @Test
+    void ensureChangesSinceAVersionOnlyContainTheChangedRegions() {
+        log.debug("Testing if the changes since a known version contain only the changed regions and unknown versions reload everything");
+
+        claimMapProjection.onRegionChanged(new RegionChangedEvent("2", Set.of("Mordor"), Set.of(), false));
+        claimMapProjection.onRegionChanged(new RegionChangedEvent("1", Set.of(), Set.of(), false));
+        claimMapProjection.onRegionChanged(new RegionChangedEvent("2", Set.of("Mordor", "Harad"), Set.of(), false));
+
+        var changes = claimMapProjection.getChangesSince(initialVersion + 1);
+        assertThat(changes.isFullReload()).isFalse();
+        assertThat(changes.version()).isEqualTo(initialVersion + 3);
+        assertThat(changes.regions()).extracting(ClaimMapRegion::id).containsExactly("1", "2");
+        assertThat(changes.regions().get(1).claimedBy()).containsExactly("Harad", "Mordor");
+
+        assertThat(claimMapProjection.getChangesSince(initialVersion + 3).regions()).isEmpty();
+
+        // Version of a previous run
+        var reload = claimMapProjection.getChangesSince(42);
+        assertThat(reload.isFullReload()).isTrue();
+        assertThat(reload.regions()).hasSize(2);
+        log.info("Test passed: the changes since a known version contain only the changed regions");
+    }
+
+    private static Region region(String id) {
+        return new Region(id, "Region " + id, RegionType.LAND, new HashSet<>(), new HashSet<>(), new HashSet<>());
+    }
+}
@@ -0,0 +1,69 @@
+package com.ardaslegends.service.dbusage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+public class DatabaseUsageTrackerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DatabaseUsageTracker tracker;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new DatabaseUsageTracker(meterRegistry);
+        tracker.setSlowThreshold(Duration.ZERO);
+    }
+
+    @Test
+    void ensureUsageIsRecordedForTheInnermostScopeAndTaggedWithItsName() {
+        log.debug("Testing if the database usage of nested scopes is recorded separately");
+
+        DatabaseUsageHibernateListener listener = new DatabaseUsageHibernateListener();
+        try (var command = tracker.begin(DatabaseUsageTracker.KIND_COMMAND, "move char")) {
+            listener.inspect("select r1_0.id from region r1_0 where r1_0.id=?");
+            try (var endpoint = tracker.begin(DatabaseUsageTracker.KIND_ENDPOINT, "GET /api/region/claimmap")) {
+                listener.inspect("select r1_0.id from region r1_0");
+                listener.inspect("select r1_0.id from region r1_0");
+                listener.onPostLoad(null);
+            }
+            listener.onInitializeCollection(null);
+            assertThat(command.getUsage().getStatements()).isEqualTo(1);
+            assertThat(command.getUsage().getLazyLoads()).isEqualTo(1);
+        }
+        listener.inspect("select 1");
+
+        assertThat(DatabaseUsage.current()).isNull();
+        assertThat(meterRegistry.get("arda.db.statements").tags("kind", "command", "name", "move char").summary().totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("arda.db.statements").tags("kind", "endpoint", "name", "GET /api/region/claimmap").summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get("arda.db.entities.loaded").tags("name", "GET /api/region/claimmap").summary().totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("arda.db.lazy.loads").tags("name", "move char").summary().totalAmount()).isEqualTo(1);
+        log.info("Test passed: the database usage of nested scopes is recorded separately");
+    }
+
+    @Test
+    void ensureStatementsOfTheSameShapeShareTheirFingerprint() {
+        log.debug("Testing if batches and literals of the same statement share one fingerprint");
+
+        DatabaseUsageHibernateListener listener = new DatabaseUsageHibernateListener();
+        try (var scope = tracker.begin(DatabaseUsageTracker.KIND_ENDPOINT, "GET /api/army")) {
+            listener.inspect("select u1_0.army from unit u1_0 where u1_0.army in (?,?,?)");
+            listener.inspect("select u1_0.army from unit u1_0 where u1_0.army in (?, ?)");
+            listener.inspect("select a1_0.id from army a1_0 where a1_0.name='Army of ''Gondor''' fetch first 20 rows only");
+
+            assertThat(scope.getUsage().getStatementsByFingerprint()).isEqualTo(List.of(
+                    Map.entry("select u1_0.army from unit u1_0 where u1_0.army in (?...)", 2),
+                    Map.entry("select a1_0.id from army a1_0 where a1_0.name=? fetch first ? rows only", 1)));
+        }
+        log.info("Test passed: batches and literals of the same statement share one fingerprint");
+    }
+}
@@ -0,0 +1,148 @@
+package com.ardaslegends.service.discord.outbox;
+
+import com.ardaslegends.domain.DiscordOutboxMessage;
+import com.ardaslegends.domain.DiscordOutboxMessageType;
+import com.ardaslegends.service.discord.DiscordService;
+import com.ardaslegends.service.discord.messages.ALMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.message.Message;
+import org.javacord.api.entity.message.embed.EmbedBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+public class DiscordOutboxDispatcherTest {
+
+    private DiscordOutboxService mockOutboxService;
+    private DiscordOutboxRenderer mockRenderer;
+    private DiscordService mockDiscordService;
+    private TextChannel rpChannel;
+    private TextChannel appsChannel;
+    private OffsetDateTime now;
+    private DiscordOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setup() {
+        mockOutboxService = mock(DiscordOutboxService.class);
+        mockRenderer = mock(DiscordOutboxRenderer.class);
+        mockDiscordService = mock(DiscordService.class);
+        rpChannel = mock(TextChannel.class);
+        when(rpChannel.getId()).thenReturn(1L);
+        appsChannel = mock(TextChannel.class);
+        when(appsChannel.getId()).thenReturn(2L);
+        when(mockRenderer.channelOf(any())).thenAnswer(invocation -> switch ((DiscordOutboxMessageType) invocation.getArgument(0)) {
+            case WAR_DECLARED, WAR_FORCE_ENDED, BATTLE_DECLARED, BATTLE_CONCLUDED -> rpChannel;
+            default -> appsChannel;
+        });
+
+        now = OffsetDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        Clock clock = Clock.fixed(now.toInstant(), ZoneOffset.UTC);
+        dispatcher = new DiscordOutboxDispatcher(mockOutboxService, mockRenderer, mockDiscordService, Executors.newVirtualThreadPerTaskExecutor(), clock);
+    }
+
+    @Test
+    void ensurePendingUpdatesOfTheSameApplicationAreSentAsOneEdit() throws InterruptedException {
+        log.debug("Testing if pending updates of the same application are merged into one edit");
+
+        DiscordOutboxMessage firstVote = message(1L, DiscordOutboxMessageType.ROLEPLAY_APPLICATION_UPDATED, 10L);
+        DiscordOutboxMessage war = message(2L, DiscordOutboxMessageType.WAR_DECLARED, 20L);
+        DiscordOutboxMessage secondVote = message(3L, DiscordOutboxMessageType.ROLEPLAY_APPLICATION_UPDATED, 10L);
+        when(mockOutboxService.getPendingMessages()).thenReturn(List.of(firstVote, war, secondVote), List.of());
+
+        EmbedBuilder applicationEmbed = new EmbedBuilder();
+        ALMessage warMessage = new ALMessage(null, List.of(new EmbedBuilder()));
+        when(mockRenderer.render(firstVote)).thenReturn(Optional.of(new DiscordOutboxRenderer.RenderedMessage(appsChannel, new ALMessage(null, List.of(applicationEmbed)), 99L)));
+        when(mockRenderer.render(war)).thenReturn(Optional.of(DiscordOutboxRenderer.RenderedMessage.send(rpChannel, warMessage)));
+        when(mockDiscordService.editMessage(appsChannel, 99L, List.of(applicationEmbed))).thenReturn(mock(Message.class));
+        when(mockDiscordService.sendMessage(warMessage, rpChannel)).thenReturn(mock(Message.class));
+
+        int sent = dispatcher.dispatchPending();
+
+        assertThat(sent).isEqualTo(3);
+        verify(mockDiscordService, times(1)).editMessage(appsChannel, 99L, List.of(applicationEmbed));
+        verify(mockDiscordService).sendMessage(warMessage, rpChannel);
+        verify(mockRenderer, never()).render(secondVote);
+        verify(mockOutboxService).markSent(List.of(1L, 3L));
+        verify(mockOutboxService).markSent(List.of(2L));
+        log.info("Test passed: pending updates of the same application are merged into one edit");
+    }
+
+    @Test
+    void ensureFailedMessagesAreRetriedLaterWithoutBlockingOtherChannels() throws InterruptedException {
+        log.debug("Testing if failed messages are retried with backoff while other channels are still sent");
+
+        DiscordOutboxMessage war = message(1L, DiscordOutboxMessageType.WAR_DECLARED, 20L);
+        DiscordOutboxMessage application = message(2L, DiscordOutboxMessageType.CLAIMBUILD_APPLICATION_CREATED, 30L);
+        when(mockOutboxService.getPendingMessages()).thenReturn(List.of(war, application), List.of());
+
+        ALMessage warMessage = new ALMessage(null, List.of(new EmbedBuilder()));
+        ALMessage applicationMessage = new ALMessage(null, List.of(new EmbedBuilder()));
+        Message sentApplicationMessage = mock(Message.class);
+        when(mockRenderer.render(war)).thenReturn(Optional.of(DiscordOutboxRenderer.RenderedMessage.send(rpChannel, warMessage)));
+        when(mockRenderer.render(application)).thenReturn(Optional.of(DiscordOutboxRenderer.RenderedMessage.send(appsChannel, applicationMessage)));
+        when(mockDiscordService.sendMessage(warMessage, rpChannel)).thenThrow(new CompletionException(new IllegalStateException("Discord is down")));
+        when(mockDiscordService.sendMessage(applicationMessage, appsChannel)).thenReturn(sentApplicationMessage);
+
+        int sent = dispatcher.dispatchPending();
+
+        assertThat(sent).isEqualTo(1);
+        verify(mockOutboxService).markFailed(eq(List.of(1L)), eq(now.plus(DiscordOutboxDispatcher.retryDelay(0))), contains("Discord is down"));
+        verify(mockOutboxService, never()).markSent(List.of(1L));
+        verify(mockRenderer).recordSentMessage(application, sentApplicationMessage);
+        verify(mockOutboxService).markSent(List.of(2L));
+        assertThat(DiscordOutboxDispatcher.retryDelay(3)).isEqualTo(DiscordOutboxDispatcher.retryDelay(0).multipliedBy(8));
+        assertThat(DiscordOutboxDispatcher.retryDelay(100)).isEqualTo(Duration.ofMinutes(30));
+        log.info("Test passed: failed messages are retried with backoff while other channels are still sent");
+    }
+
+    @Test
+    void ensureFailedMessagesHoldBackTheLaterMessagesOfTheirChannel() throws InterruptedException {
+        log.debug("Testing if a failed message holds back the later messages of its channel until it got sent");
+
+        DiscordOutboxMessage battleDeclared = message(1L, DiscordOutboxMessageType.BATTLE_DECLARED, 20L);
+        DiscordOutboxMessage battleConcluded = message(2L, DiscordOutboxMessageType.BATTLE_CONCLUDED, 20L);
+        DiscordOutboxMessage application = message(3L, DiscordOutboxMessageType.CLAIMBUILD_APPLICATION_CREATED, 30L);
+        when(mockOutboxService.getPendingMessages()).thenReturn(List.of(battleDeclared, battleConcluded), List.of(battleConcluded, application), List.of());
+        when(mockOutboxService.getMessagesWaitingForRetry()).thenReturn(List.of(), List.of(battleDeclared));
+
+        ALMessage declaredMessage = new ALMessage(null, List.of(new EmbedBuilder()));
+        ALMessage applicationMessage = new ALMessage(null, List.of(new EmbedBuilder()));
+        when(mockRenderer.render(battleDeclared)).thenReturn(Optional.of(DiscordOutboxRenderer.RenderedMessage.send(rpChannel, declaredMessage)));
+        when(mockRenderer.render(application)).thenReturn(Optional.of(DiscordOutboxRenderer.RenderedMessage.send(appsChannel, applicationMessage)));
+        when(mockDiscordService.sendMessage(declaredMessage, rpChannel)).thenThrow(new CompletionException(new IllegalStateException("Discord is down")));
+        when(mockDiscordService.sendMessage(applicationMessage, appsChannel)).thenReturn(mock(Message.class));
+
+        int sentFirst = dispatcher.dispatchPending();
+        int sentLater = dispatcher.dispatchPending();
+
+        assertThat(sentFirst).isZero();
+        assertThat(sentLater).isEqualTo(1);
+        verify(mockOutboxService).markFailed(eq(List.of(1L)), any(), contains("Discord is down"));
+        verify(mockRenderer, never()).render(battleConcluded);
+        verify(mockOutboxService, never()).markFailed(eq(List.of(2L)), any(), any());
+        verify(mockOutboxService, never()).markSent(List.of(2L));
+        verify(mockOutboxService).markSent(List.of(3L));
+        log.info("Test passed: a failed message holds back the later messages of its channel");
+    }
+
+    private DiscordOutboxMessage message(Long id, DiscordOutboxMessageType type, Long referenceId) {
+        DiscordOutboxMessage message = new DiscordOutboxMessage(type, referenceId, null, now.minusMinutes(1), now.minusMinutes(1));
+        ReflectionTestUtils.setField(message, "id", id);
+        return message;
+    }
+}
@@ -0,0 +1,68 @@
+package com.ardaslegends.service.discord.outbox;
+
+import com.ardaslegends.domain.DiscordOutboxMessage;
+import com.ardaslegends.domain.DiscordOutboxMessageType;
+import com.ardaslegends.repository.DiscordOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+public class DiscordOutboxServiceTest {
+
+    private DiscordOutboxRepository mockOutboxRepository;
+    private ApplicationEventPublisher mockEventPublisher;
+    private OffsetDateTime now;
+    private DiscordOutboxService outboxService;
+
+    @BeforeEach
+    void setup() {
+        mockOutboxRepository = mock(DiscordOutboxRepository.class);
+        mockEventPublisher = mock(ApplicationEventPublisher.class);
+        when(mockOutboxRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        now = OffsetDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        outboxService = new DiscordOutboxService(mockOutboxRepository, mockEventPublisher, Clock.fixed(now.toInstant(), ZoneOffset.UTC));
+    }
+
+    @Test
+    void ensureApplicationUpdatesAreDebounced() {
+        log.debug("Testing if application updates postpone the pending updates of the same application");
+
+        outboxService.enqueue(DiscordOutboxMessageType.ROLEPLAY_APPLICATION_UPDATED, 10L);
+
+        OffsetDateTime sendAt = now.plus(DiscordOutboxService.STATE_UPDATE_DEBOUNCE);
+        // Only updates that can be postponed without exceeding the max delay are postponed
+        verify(mockOutboxRepository).postponePending(DiscordOutboxMessageType.ROLEPLAY_APPLICATION_UPDATED, 10L, sendAt,
+                sendAt.minus(DiscordOutboxService.MAX_STATE_UPDATE_DELAY));
+        var savedMessage = ArgumentCaptor.forClass(DiscordOutboxMessage.class);
+        verify(mockOutboxRepository).save(savedMessage.capture());
+        assertThat(savedMessage.getValue().getNextAttemptAt()).isEqualTo(sendAt);
+        verify(mockEventPublisher).publishEvent(new DiscordOutboxEnqueuedEvent(null, DiscordOutboxMessageType.ROLEPLAY_APPLICATION_UPDATED, sendAt));
+        log.info("Test passed: application updates postpone the pending updates of the same application");
+    }
+
+    @Test
+    void ensureAnnouncementsAreSentRightAway() {
+        log.debug("Testing if announcements are due right after they got committed");
+
+        outboxService.enqueue(DiscordOutboxMessageType.WAR_FORCE_ENDED, 20L, "1234");
+
+        verify(mockOutboxRepository, never()).postponePending(any(), any(), any(), any());
+        var savedMessage = ArgumentCaptor.forClass(DiscordOutboxMessage.class);
+        verify(mockOutboxRepository).save(savedMessage.capture());
+        assertThat(savedMessage.getValue().getNextAttemptAt()).isEqualTo(now);
+        assertThat(savedMessage.getValue().getActorDiscordId()).isEqualTo("1234");
+        log.info("Test passed: announcements are due right after they got committed");
+    }
+}
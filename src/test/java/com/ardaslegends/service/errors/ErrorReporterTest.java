@@ -0,0 +1,92 @@
+package com.ardaslegends.service.errors;
+
+import com.ardaslegends.presentation.discord.config.BotProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.message.Message;
+import org.javacord.api.entity.message.embed.EmbedBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+public class ErrorReporterTest {
+
+    private TextChannel mockErrorChannel;
+    private ErrorReporter errorReporter;
+
+    @BeforeEach
+    void setup() {
+        BotProperties mockProperties = mock(BotProperties.class);
+        mockErrorChannel = mock(TextChannel.class);
+        when(mockProperties.getErrorChannel()).thenReturn(mockErrorChannel);
+        when(mockErrorChannel.sendMessage(anyList())).thenReturn(CompletableFuture.completedFuture(mock(Message.class)));
+
+        OffsetDateTime now = OffsetDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        errorReporter = new ErrorReporter(mockProperties, Clock.fixed(now.toInstant(), ZoneOffset.UTC));
+    }
+
+    @Test
+    void ensureTheSameErrorIsAggregatedIntoOneDigestEmbed() {
+        log.debug("Testing if errors thrown from the same place are counted under one fingerprint and sent as one digest");
+
+        for(int i = 0; i < 50; i++)
+            errorReporter.report(failingQuery(i));
+        errorReporter.report(new IllegalStateException("Something else"));
+
+        verify(mockErrorChannel, never()).sendMessage(anyList());
+        errorReporter.sendDigest();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmbedBuilder>> embeds = ArgumentCaptor.forClass(List.class);
+        verify(mockErrorChannel, times(1)).sendMessage(embeds.capture());
+        assertThat(embeds.getValue()).hasSize(2);
+
+        // Nothing left for the next window
+        errorReporter.sendDigest();
+        verify(mockErrorChannel, times(1)).sendMessage(anyList());
+        log.info("Test passed: errors thrown from the same place are counted under one fingerprint and sent as one digest");
+    }
+
+    @Test
+    void ensureRecentErrorsAreCountedPerFingerprintAcrossWindows() {
+        log.debug("Testing if recent errors are counted per fingerprint across digest windows");
+
+        // Created in one place, so they share their fingerprint
+        List<RuntimeException> failures = IntStream.range(0, 51).mapToObj(ErrorReporterTest::failingQuery).toList();
+        failures.subList(0, 50).forEach(errorReporter::report);
+        errorReporter.report(new IllegalStateException("Something else"));
+
+        var recentErrors = errorReporter.getRecentErrors();
+        assertThat(recentErrors).hasSize(2);
+        assertThat(recentErrors.get(0).type()).isEqualTo(IllegalStateException.class.getName());
+        assertThat(recentErrors.get(1).count()).isEqualTo(50);
+
+        var aggregates = errorReporter.drainWindow();
+        assertThat(aggregates).hasSize(2);
+        assertThat(aggregates.get(0).count).isEqualTo(50);
+
+        // The count goes on in the next window and the error becomes the most recent one again
+        errorReporter.report(failures.get(50));
+        recentErrors = errorReporter.getRecentErrors();
+        assertThat(recentErrors).hasSize(2);
+        assertThat(recentErrors.get(0).count()).isEqualTo(51);
+        assertThat(recentErrors.get(0).fingerprint()).isEqualTo(aggregates.get(0).fingerprint);
+        log.info("Test passed: recent errors are counted per fingerprint across digest windows");
+    }
+
+    private static RuntimeException failingQuery(int attempt) {
+        return new RuntimeException("Connection refused " + attempt);
+    }
+}
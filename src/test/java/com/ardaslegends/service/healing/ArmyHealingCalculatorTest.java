@@ -0,0 +1,192 @@
+package com.ardaslegends.service.healing;
+
+import com.ardaslegends.domain.ClaimBuildType;
+import com.ardaslegends.domain.Unit;
+import com.ardaslegends.domain.UnitType;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+public class ArmyHealingCalculatorTest {
+
+    private static final int RANDOM_ARMIES = 300;
+    private static final double[] TOKEN_COSTS = {0.5, 0.75, 1.0, 1.25, 1.5, 2.0, 2.5, 3.0, 3.5, 4.0, 5.0, 6.0, 7.0};
+
+    @Test
+    void ensureReplenishIsEquivalentToCycleByCycleReplenishing() {
+        log.debug("Testing if replenish matches replenishing one cycle after another for random armies");
+
+        Random random = new Random(42);
+        for(int run = 0; run < RANDOM_ARMIES; run++) {
+            assertReplenishMatchesCycleByCycle(randomUnits(random), random.nextInt(40));
+        }
+        log.info("Test passed: replenish is equivalent to replenishing cycle by cycle");
+    }
+
+    @Test
+    void ensureCyclesUntilHealedMatchesCycleByCycleReplenishing() {
+        log.debug("Testing if cyclesUntilHealed matches the cycles needed when replenishing one cycle after another");
+
+        Random random = new Random(7);
+        for(int run = 0; run < RANDOM_ARMIES; run++) {
+            assertCyclesUntilHealedMatchesCycleByCycle(randomUnits(random));
+        }
+        log.info("Test passed: cyclesUntilHealed matches replenishing cycle by cycle");
+    }
+
+    @Test
+    void ensureBoundaryArmiesAreReplenishedLikeCycleByCycleReplenishing() {
+        log.debug("Testing if replenish and cyclesUntilHealed match replenishing cycle by cycle at the boundaries");
+
+        List<List<Unit>> armies = List.of(
+                // Nothing to heal
+                List.of(unit(1.0, 10, 10, false)),
+                // One dead unit that costs all tokens of a cycle
+                List.of(unit(6.0, 3, 2, false)),
+                // Mounting makes a unit cost exactly all tokens of a cycle
+                List.of(unit(5.0, 4, 0, true)),
+                // Too expensive to ever heal
+                List.of(unit(7.0, 2, 0, false), unit(1.0, 2, 0, false)),
+                // The tokens are used up exactly by the first unit
+                List.of(unit(2.0, 3, 0, false), unit(1.0, 4, 0, false)),
+                // Leftover tokens that are not enough for a single soldier of the next unit
+                List.of(unit(0.5, 11, 0, false), unit(1.0, 4, 0, false)),
+                // Tokens left over after every unit is healed
+                List.of(unit(0.5, 2, 1, false), unit(0.75, 1, 0, false)));
+
+        for(List<Unit> units : armies) {
+            for(int cycles : new int[] {0, 1, 2, 5}) {
+                assertReplenishMatchesCycleByCycle(units, cycles);
+            }
+            assertCyclesUntilHealedMatchesCycleByCycle(units);
+        }
+        log.info("Test passed: boundary armies are replenished like replenishing cycle by cycle");
+    }
+
+    @Test
+    void ensureReplenishDoesNotModifyTheUnits() {
+        log.debug("Testing if replenish leaves the units untouched until the result is applied");
+
+        List<Unit> units = new ArrayList<>(List.of(unit(2.0, 10, 2, false), unit(1.0, 5, 1, false)));
+
+        var result = ArmyHealingCalculator.replenish(units, 1);
+
+        assertThat(units).extracting(Unit::getAmountAlive).containsExactly(2, 1);
+        result.applyTo(units);
+        // Cheapest first: 4 tokens heal the second unit, the remaining 2 heal one soldier of the first
+        assertThat(units).extracting(Unit::getAmountAlive).containsExactly(3, 5);
+        log.info("Test passed: replenish does not modify the units");
+    }
+
+    @Test
+    void ensureCompletedCyclesRespectsStrongholds() {
+        log.debug("Testing if completedCycles replenishes twice as often in strongholds");
+
+        assertThat(ArmyHealingCalculator.hoursPerCycle(ClaimBuildType.TOWN)).isEqualTo(24);
+        assertThat(ArmyHealingCalculator.hoursPerCycle(ClaimBuildType.STRONGHOLD)).isEqualTo(12);
+        assertThat(ArmyHealingCalculator.completedCycles(20, 30, 24)).isEqualTo(2);
+        assertThat(ArmyHealingCalculator.completedCycles(20, 30, 12)).isEqualTo(3);
+        assertThat(ArmyHealingCalculator.completedCycles(24, 23, 24)).isZero();
+        log.info("Test passed: completedCycles respects strongholds");
+    }
+
+    private static void assertReplenishMatchesCycleByCycle(List<Unit> units, int cycles) {
+        String army = describe(units);
+
+        List<Unit> expected = copy(units);
+        int expectedCycles = replenishCycleByCycle(expected, cycles);
+
+        var result = ArmyHealingCalculator.replenish(units, cycles);
+
+        assertThat(result.amountAlive()).as("Alive units of %s after %d cycles", army, cycles)
+                .containsExactly(expected.stream().mapToInt(Unit::getAmountAlive).toArray());
+        assertThat(result.cyclesUsed()).as("Cycles used for %s", army).isEqualTo(expectedCycles);
+        assertThat(result.isFullyHealed()).as("Fully healed %s", army).isEqualTo(expected.stream().allMatch(unit -> unit.getAmountAlive().equals(unit.getCount())));
+    }
+
+    private static void assertCyclesUntilHealedMatchesCycleByCycle(List<Unit> units) {
+        boolean canHeal = units.stream().allMatch(unit -> unit.getAmountAlive().equals(unit.getCount()) || unit.getCost() <= ArmyHealingCalculator.TOKENS_PER_CYCLE);
+
+        List<Unit> expected = copy(units);
+        int expectedCycles = replenishCycleByCycle(expected, 10_000);
+
+        assertThat(ArmyHealingCalculator.cyclesUntilHealed(units)).as("Cycles until %s is healed", describe(units))
+                .isEqualTo(canHeal ? expectedCycles : -1);
+    }
+
+    /**
+     * The replenish loop ScheduleService ran before the calculator, stopping once there is nothing left to heal.
+     */
+    private static int replenishCycleByCycle(List<Unit> armyUnits, int cycles) {
+        int cyclesUsed = 0;
+        for(int cycle = 0; cycle < cycles; cycle++) {
+            List<Unit> units = armyUnits.stream()
+                    .filter(unit -> unit.getAmountAlive() < unit.getCount())
+                    .sorted(Comparator.comparing(Unit::getCost))
+                    .toList();
+            if(units.isEmpty())
+                break;
+            cyclesUsed++;
+
+            double replenishTokens = 6.0;
+            int currentUnitIndex = 0;
+            Unit currentUnit = units.get(currentUnitIndex);
+            while(replenishTokens > 0) {
+                int deadUnits = currentUnit.getCount() - currentUnit.getAmountAlive();
+                double tokensToHeal = deadUnits * currentUnit.getCost();
+                if(tokensToHeal >= replenishTokens) {
+                    int canHealUnits = (int) (replenishTokens / currentUnit.getCost());
+                    currentUnit.setAmountAlive(currentUnit.getAmountAlive() + canHealUnits);
+                    replenishTokens = 0;
+                }
+                else {
+                    currentUnit.setAmountAlive(currentUnit.getCount());
+                    replenishTokens -= tokensToHeal;
+                    if(currentUnitIndex == units.size() - 1) {
+                        replenishTokens = 0;
+                    }
+                    else {
+                        currentUnitIndex++;
+                        currentUnit = units.get(currentUnitIndex);
+                    }
+                }
+            }
+        }
+        return cyclesUsed;
+    }
+
+    private static List<Unit> randomUnits(Random random) {
+        int amount = 1 + random.nextInt(6);
+        List<Unit> units = new ArrayList<>(amount);
+        for(int i = 0; i < amount; i++) {
+            int count = 1 + random.nextInt(60);
+            int alive = random.nextInt(4) == 0 ? count : random.nextInt(count + 1);
+            units.add(unit(TOKEN_COSTS[random.nextInt(TOKEN_COSTS.length)], count, alive, random.nextInt(5) == 0));
+        }
+        return units;
+    }
+
+    private static List<Unit> copy(List<Unit> units) {
+        return units.stream()
+                .map(unit -> unit(unit.getUnitType().getTokenCost(), unit.getCount(), unit.getAmountAlive(), unit.getIsMounted()))
+                .toList();
+    }
+
+    private static String describe(List<Unit> units) {
+        return units.stream()
+                .map(unit -> "%d/%d@%s".formatted(unit.getAmountAlive(), unit.getCount(), unit.getCost()))
+                .toList().toString();
+    }
+
+    private static Unit unit(double tokenCost, int count, int alive, boolean isMounted) {
+        UnitType unitType = UnitType.builder().unitName("Unit " + tokenCost).tokenCost(tokenCost).build();
+        return Unit.builder().unitType(unitType).count(count).amountAlive(alive).isMounted(isMounted).build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.ardaslegends.service.live;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+public class LiveEventHubTest {
+
+    private LiveEventHub liveEventHub;
+
+    @BeforeEach
+    void setup() {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(1_000_000), ZoneOffset.UTC);
+        liveEventHub = new LiveEventHub(Executors.newVirtualThreadPerTaskExecutor(), clock);
+        liveEventHub.init();
+    }
+
+    @Test
+    void ensureReconnectingClientsOnlyGetTheMissedEventsOfTheirTopics() {
+        log.debug("Testing if a client reconnecting with its last event id gets the missed events of its topics");
+
+        var declared = liveEventHub.publish(war("declared"));
+        var movement = liveEventHub.publish(movement());
+        var ended = liveEventHub.publish(war("ended"));
+        assertThat(declared.id()).isEqualTo(1_000_001);
+        assertThat(declared.name()).isEqualTo("wars.declared");
+
+        var missed = liveEventHub.eventsSince(declared.id(), Set.of(LiveEventTopic.WARS));
+        assertThat(missed).hasValueSatisfying(events -> assertThat(events).containsExactly(ended));
+        assertThat(liveEventHub.eventsSince(declared.id() - 1, EnumSet.allOf(LiveEventTopic.class)))
+                .hasValueSatisfying(events -> assertThat(events).containsExactly(declared, movement, ended));
+        assertThat(liveEventHub.eventsSince(ended.id(), EnumSet.allOf(LiveEventTopic.class)))
+                .hasValueSatisfying(events -> assertThat(events).isEmpty());
+        log.info("Test passed: a client reconnecting with its last event id gets the missed events of its topics");
+    }
+
+    @Test
+    void ensureUnknownEventIdsRequireAReset() {
+        log.debug("Testing if clients whose missed events are not known anymore have to reset");
+
+        IntStream.range(0, LiveEventHub.HISTORY_SIZE + 10).forEach(i -> liveEventHub.publish(war("declared")));
+
+        // Dropped from the history
+        assertThat(liveEventHub.eventsSince(1_000_005, EnumSet.allOf(LiveEventTopic.class))).isEmpty();
+        // Id of a previous run
+        assertThat(liveEventHub.eventsSince(42, EnumSet.allOf(LiveEventTopic.class))).isEmpty();
+        // Too many to catch up with
+        assertThat(liveEventHub.eventsSince(1_000_500, EnumSet.allOf(LiveEventTopic.class))).isEmpty();
+        assertThat(liveEventHub.eventsSince(1_000_500, Set.of(LiveEventTopic.BATTLES))).hasValueSatisfying(events -> assertThat(events).isEmpty());
+        log.info("Test passed: clients whose missed events are not known anymore have to reset");
+    }
+
+    private static WarLiveEvent war(String type) {
+        return new WarLiveEvent(type, 1L, "War of the Ring", "Mordor", "Gondor");
+    }
+
+    private static MovementLiveEvent movement() {
+        return new MovementLiveEvent("advanced", 2L, "Army", "Knights of Dol Amroth", "90", "91", null);
+    }
+}
@@ -0,0 +1,92 @@
+package com.ardaslegends.service.metrics;
+
+import com.ardaslegends.domain.applications.ApplicationState;
+import com.ardaslegends.repository.ArmyRepository;
+import com.ardaslegends.repository.MovementRepository;
+import com.ardaslegends.repository.applications.RoleplayApplicationRepository;
+import com.ardaslegends.repository.applications.claimbuildapp.ClaimbuildApplicationRepository;
+import com.ardaslegends.service.time.GameClock;
+import com.ardaslegends.service.time.PartitionedSweepExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+public class GameMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MovementRepository mockMovementRepository;
+    private ArmyRepository mockArmyRepository;
+    private RoleplayApplicationRepository mockRoleplayApplicationRepository;
+    private ClaimbuildApplicationRepository mockClaimbuildApplicationRepository;
+    private GameClock mockGameClock;
+    private OffsetDateTime now;
+    private GameMetrics gameMetrics;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        mockMovementRepository = mock(MovementRepository.class);
+        mockArmyRepository = mock(ArmyRepository.class);
+        mockRoleplayApplicationRepository = mock(RoleplayApplicationRepository.class);
+        mockClaimbuildApplicationRepository = mock(ClaimbuildApplicationRepository.class);
+        mockGameClock = mock(GameClock.class);
+
+        now = OffsetDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        Clock clock = Clock.fixed(now.toInstant(), ZoneOffset.UTC);
+        gameMetrics = new GameMetrics(meterRegistry, mockMovementRepository, mockArmyRepository, mockRoleplayApplicationRepository,
+                mockClaimbuildApplicationRepository, mockGameClock, clock);
+        gameMetrics.registerGauges();
+    }
+
+    @Test
+    void ensureGaugesShowTheCountsOfTheLastRefreshAndTheFrozenTime() {
+        log.debug("Testing if the gauges show the game state of the last refresh");
+
+        when(mockMovementRepository.countByIsCurrentlyActiveTrue()).thenReturn(12L);
+        when(mockArmyRepository.countByIsHealingTrue()).thenReturn(3L);
+        when(mockRoleplayApplicationRepository.countByState(ApplicationState.OPEN)).thenReturn(2L);
+        when(mockClaimbuildApplicationRepository.countByState(ApplicationState.OPEN)).thenReturn(5L);
+        when(mockGameClock.isFrozen()).thenReturn(true);
+        when(mockGameClock.getFrozenSince()).thenReturn(now.minusMinutes(2));
+
+        gameMetrics.refreshGauges();
+        when(mockMovementRepository.countByIsCurrentlyActiveTrue()).thenThrow(new IllegalStateException("Database is down"));
+        gameMetrics.refreshGauges();
+
+        assertThat(meterRegistry.get("arda.movements.active").gauge().value()).isEqualTo(12);
+        assertThat(meterRegistry.get("arda.armies.healing").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("arda.applications.open").tag("type", "roleplay").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("arda.applications.open").tag("type", "claimbuild").gauge().value()).isEqualTo(5);
+        assertThat(meterRegistry.get("arda.time.frozen").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("arda.time.frozen.duration").gauge().value()).isEqualTo(120);
+        log.info("Test passed: the gauges show the game state of the last refresh");
+    }
+
+    @Test
+    void ensureSweepsAndCommandsAreRecordedWithTheirTags() {
+        log.debug("Testing if sweeps and commands are recorded with their tags");
+
+        var failedPartition = new PartitionedSweepExecutor.PartitionReport(1, 251L, 300L, 50, 0, Duration.ofMillis(20), "IllegalStateException");
+        var partition = new PartitionedSweepExecutor.PartitionReport(0, 1L, 250L, 250, 40, Duration.ofMillis(30), null);
+        gameMetrics.recordSweep(new PartitionedSweepExecutor.SweepReport("movements", 300, List.of(partition, failedPartition), Duration.ofMillis(35)));
+        gameMetrics.recordCommand("move char", Duration.ofMillis(80), GameMetrics.CommandOutcome.SUCCESS, null);
+        gameMetrics.recordCommand("move char", Duration.ofMillis(20), GameMetrics.CommandOutcome.FAILED, new IllegalArgumentException());
+
+        assertThat(meterRegistry.get("arda.scheduler.sweeps").tag("sweep", "movements").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("arda.scheduler.sweep.rows").tag("sweep", "movements").summary().totalAmount()).isEqualTo(300);
+        assertThat(meterRegistry.get("arda.scheduler.sweep.changed.rows").tag("sweep", "movements").summary().totalAmount()).isEqualTo(40);
+        assertThat(meterRegistry.get("arda.scheduler.sweep.failed.partitions").tag("sweep", "movements").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("arda.discord.commands").tags("command", "move char", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("arda.discord.command.errors").tags("command", "move char", "exception", "IllegalArgumentException").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("arda.discord.command.errors").tag("outcome", "success").counter()).isNull();
+        log.info("Test passed: sweeps and commands are recorded with their tags");
+    }
+}
@@ -0,0 +1,72 @@
+package com.ardaslegends.service.pathfinding;
+
+import com.ardaslegends.domain.Region;
+import com.ardaslegends.domain.RegionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RouteSearchTest {
+
+    private static final int WIDTH = 30;
+
+    private List<Region> regions;
+    private MovementRules rules;
+
+    @BeforeEach
+    void setUp() {
+        regions = new ArrayList<>();
+        for (int y = 0; y < WIDTH; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                RegionType type = (x + y) % 7 == 0 ? RegionType.HILL : RegionType.LAND;
+                Region region = new Region(String.valueOf(y * WIDTH + x), null, type, new HashSet<>(), new HashSet<>(), new HashSet<>());
+                region.setCentroidX((double) x * 10);
+                region.setCentroidY((double) y * 10);
+                regions.add(region);
+            }
+        }
+        for (int y = 0; y < WIDTH; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                Region region = regions.get(y * WIDTH + x);
+                if (x > 0) region.addNeighbour(regions.get(y * WIDTH + x - 1));
+                if (x < WIDTH - 1) region.addNeighbour(regions.get(y * WIDTH + x + 1));
+                if (y > 0) region.addNeighbour(regions.get((y - 1) * WIDTH + x));
+                if (y < WIDTH - 1) region.addNeighbour(regions.get((y + 1) * WIDTH + x));
+            }
+        }
+        rules = MovementRules.characterRules(region -> false);
+    }
+
+    @Test
+    void ensureAStarFindsSameDistanceWithFewerExpandedRegions() {
+        RegionGraph graph = RegionGraph.compile(regions);
+        int source = graph.indexOf("0");
+        int target = graph.indexOf(String.valueOf(WIDTH * WIDTH - 1));
+
+        var dijkstra = RouteSearch.search(graph, source, target, rules, false);
+        var aStar = RouteSearch.search(graph, source, target, rules, true);
+
+        assertThat(graph.canEstimateCosts()).isTrue();
+        assertThat(aStar.distances()[target]).isEqualTo(dijkstra.distances()[target]);
+        assertThat(aStar.expandedRegions()).isLessThan(dijkstra.expandedRegions());
+    }
+
+    @Test
+    void ensureEstimatesAreDisabledWhenACentroidIsMissing() {
+        regions.get(5).setCentroidX(null);
+        RegionGraph graph = RegionGraph.compile(regions);
+        int source = graph.indexOf("0");
+        int target = graph.indexOf(String.valueOf(WIDTH * WIDTH - 1));
+
+        var dijkstra = RouteSearch.search(graph, source, target, rules, false);
+        var aStar = RouteSearch.search(graph, source, target, rules, true);
+
+        assertThat(graph.canEstimateCosts()).isFalse();
+        assertThat(aStar.expandedRegions()).isEqualTo(dijkstra.expandedRegions());
+    }
+}
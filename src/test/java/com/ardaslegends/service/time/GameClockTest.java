@@ -0,0 +1,137 @@
+package com.ardaslegends.service.time;
+
+import com.ardaslegends.domain.TimeFreeze;
+import com.ardaslegends.repository.TimeFreezeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+public class GameClockTest {
+
+    private TimeFreezeRepository mockTimeFreezeRepository;
+    private Clock mockWallClock;
+    private GameClock gameClock;
+    private OffsetDateTime start;
+
+    @BeforeEach
+    void setup() {
+        mockTimeFreezeRepository = mock(TimeFreezeRepository.class);
+        mockWallClock = mock(Clock.class);
+        when(mockWallClock.getZone()).thenReturn(ZoneOffset.UTC);
+        start = OffsetDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+        gameClock = new GameClock(mockWallClock, mockTimeFreezeRepository);
+    }
+
+    @Test
+    void ensureGameTimeStandsStillWhileFrozen() {
+        log.debug("Testing if game time stands still while frozen and continues where it stopped afterwards");
+
+        TimeFreeze freeze = new TimeFreeze(start.plusHours(1));
+        when(mockTimeFreezeRepository.findFirstByUnfrozenAtIsNullOrderByFrozenAtDesc()).thenReturn(Optional.of(freeze));
+
+        setWallTime(start);
+        assertThat(OffsetDateTime.now(gameClock)).isEqualTo(start);
+
+        setWallTime(start.plusHours(1));
+        assertThat(gameClock.freeze()).isTrue();
+        assertThat(gameClock.freeze()).isFalse();
+        setWallTime(start.plusHours(5));
+        assertThat(gameClock.isFrozen()).isTrue();
+        assertThat(OffsetDateTime.now(gameClock)).isEqualTo(start.plusHours(1));
+
+        assertThat(gameClock.unfreeze()).isTrue();
+        setWallTime(start.plusHours(6));
+        assertThat(gameClock.isFrozen()).isFalse();
+        assertThat(OffsetDateTime.now(gameClock)).isEqualTo(start.plusHours(2));
+
+        verify(mockTimeFreezeRepository, times(2)).save(any());
+        assertThat(freeze.getUnfrozenAt()).isEqualTo(start.plusHours(5));
+        log.info("Test passed: game time stands still while frozen");
+    }
+
+    @Test
+    void ensureFreezesOnlyApplyOnceTheirTransactionCommitted() {
+        log.debug("Testing if freezing inside a transaction only stops game time once the transaction committed");
+
+        setWallTime(start);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(gameClock.freeze()).isTrue();
+            assertThat(gameClock.freeze()).isFalse();
+            assertThat(gameClock.isFrozen()).isFalse();
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+            assertThat(gameClock.isFrozen()).isFalse();
+
+            assertThat(gameClock.freeze()).isTrue();
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+            assertThat(gameClock.isFrozen()).isTrue();
+            assertThat(gameClock.getFrozenSince()).isEqualTo(start);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        log.info("Test passed: freezing inside a transaction only stops game time once the transaction committed");
+    }
+
+    @Test
+    void ensureToWallTimeAddsFreezesBeforeTheGameTime() {
+        log.debug("Testing if toWallTime adds the freezes that happened before the game time is reached");
+
+        TimeFreeze freeze = new TimeFreeze(start.plusHours(1));
+        freeze.unfreeze(start.plusHours(3));
+        when(mockTimeFreezeRepository.findAllByOrderByFrozenAt()).thenReturn(List.of(freeze, new TimeFreeze(start.plusHours(10))));
+        setWallTime(start.plusHours(12));
+
+        gameClock.load();
+
+        assertThat(gameClock.isFrozen()).isTrue();
+        assertThat(gameClock.getFrozenSince()).isEqualTo(start.plusHours(10));
+        assertThat(OffsetDateTime.now(gameClock)).isEqualTo(start.plusHours(8));
+        // Before the first freeze nothing changes
+        assertThat(gameClock.toWallTime(start.plusMinutes(30))).isEqualTo(start.plusMinutes(30));
+        assertThat(gameClock.toWallTime(start.plusHours(4))).isEqualTo(start.plusHours(6));
+        // Still frozen, so everything after the freeze is shown as if it ended now
+        assertThat(gameClock.toWallTime(start.plusHours(9))).isEqualTo(start.plusHours(13));
+        log.info("Test passed: toWallTime adds the freezes before the game time");
+    }
+
+    @Test
+    void ensureTimersDoNotSpinWhileFrozen() {
+        log.debug("Testing if due timers on the game clock are not due while time is frozen");
+
+        setWallTime(start);
+        DueTimer.Entry<Long> timer = new DueTimer.Entry<>(1L, start.plusSeconds(1).toInstant(), gameClock);
+        assertThat(timer.getDelay(TimeUnit.SECONDS)).isEqualTo(1);
+
+        gameClock.freeze();
+        setWallTime(start.plusHours(1));
+
+        assertThat(timer.getDelay(TimeUnit.MILLISECONDS)).isEqualTo(DueTimer.FROZEN_RECHECK_DELAY.toMillis());
+        log.info("Test passed: due timers on the game clock are not due while time is frozen");
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private void setWallTime(OffsetDateTime wallTime) {
+        when(mockWallClock.instant()).thenReturn(wallTime.toInstant());
+    }
+}
@@ -0,0 +1,120 @@
+package com.ardaslegends.service.time;
+
+import com.ardaslegends.domain.*;
+import com.ardaslegends.repository.ArmyRepository;
+import com.ardaslegends.repository.player.PlayerRepository;
+import com.ardaslegends.repository.TimeFreezeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+public class HealingEngineTest {
+
+    private HealingEngine healingEngine;
+    private ArmyRepository mockArmyRepository;
+    private PlayerRepository mockPlayerRepository;
+    private ScheduleService mockScheduleService;
+    private ExecutorService mockExecutorService;
+    private GameClock clock;
+    private OffsetDateTime now;
+
+    @BeforeEach
+    void setup() {
+        mockArmyRepository = mock(ArmyRepository.class);
+        mockPlayerRepository = mock(PlayerRepository.class);
+        mockScheduleService = mock(ScheduleService.class);
+        mockExecutorService = mock(ExecutorService.class);
+        now = OffsetDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        clock = new GameClock(Clock.fixed(now.toInstant(), ZoneOffset.UTC), mock(TimeFreezeRepository.class));
+
+        healingEngine = new HealingEngine(mockArmyRepository, mockPlayerRepository, mockScheduleService, mockExecutorService, clock);
+    }
+
+    @Test
+    void ensureStartSchedulesAllHealingArmiesAndCharacters() {
+        log.debug("Testing if start schedules every healing army and character");
+
+        ClaimBuild stronghold = ClaimBuild.builder().type(ClaimBuildType.STRONGHOLD).build();
+        Army army = Army.builder().name("Knights of Gondor").isHealing(true).stationedAt(stronghold)
+                .healStart(now).healEnd(now.plusHours(36)).hoursHealed(0).hoursLeftHealing(36).build();
+        army.setId(1L);
+        RPChar rpChar = RPChar.builder().name("Belegorn").isHealing(true).healEnds(now.plusDays(2)).build();
+        rpChar.setId(2L);
+        Player player = Player.builder().build();
+        player.addActiveRpChar(rpChar);
+        when(mockArmyRepository.findArmyByIsHealingTrue()).thenReturn(List.of(army));
+        when(mockPlayerRepository.queryPlayersWithHealingRpchars()).thenReturn(List.of(player));
+
+        healingEngine.start();
+
+        assertThat(healingEngine.getScheduledCount()).isEqualTo(2);
+        // The first of three replenish cycles in a stronghold completes after 12 hours
+        assertThat(healingEngine.getScheduledTime(HealingTarget.ARMY, 1L)).contains(now.plusHours(12).plusSeconds(1));
+        assertThat(healingEngine.getScheduledTime(HealingTarget.RP_CHAR, 2L)).contains(now.plusDays(2).plusSeconds(1));
+        verify(mockExecutorService).submit(any(Runnable.class));
+        log.info("Test passed: start schedules every healing army and character");
+    }
+
+    @Test
+    void ensureFireReschedulesAtNextDueTime() {
+        log.debug("Testing if firing a timer hands it to the scheduler and schedules the next due time");
+
+        healingEngine.schedule(HealingTarget.ARMY, 1L, now);
+        healingEngine.schedule(HealingTarget.RP_CHAR, 1L, now);
+        when(mockScheduleService.handleHealingArmy(1L)).thenReturn(Optional.of(now.plusHours(24)));
+        when(mockScheduleService.handleHealingRpChar(1L)).thenReturn(Optional.empty());
+
+        healingEngine.timers.fire(currentTimer(HealingTarget.ARMY, 1L));
+        healingEngine.timers.fire(currentTimer(HealingTarget.RP_CHAR, 1L));
+
+        verify(mockScheduleService).handleHealingArmy(1L);
+        verify(mockScheduleService).handleHealingRpChar(1L);
+        assertThat(healingEngine.getScheduledTime(HealingTarget.ARMY, 1L)).contains(now.plusHours(24));
+        assertThat(healingEngine.getScheduledTime(HealingTarget.RP_CHAR, 1L)).isEmpty();
+        log.info("Test passed: firing a timer hands it to the scheduler and schedules the next due time");
+    }
+
+    @Test
+    void ensureStaleTimersAreSkipped() {
+        log.debug("Testing if timers replaced by a newer schedule are skipped");
+
+        healingEngine.schedule(HealingTarget.ARMY, 1L, now);
+        var staleTimer = currentTimer(HealingTarget.ARMY, 1L);
+        healingEngine.onHealingChanged(new HealingChangedEvent(HealingTarget.ARMY, 1L, false, null));
+
+        healingEngine.timers.fire(staleTimer);
+
+        verify(mockScheduleService, never()).handleHealingArmy(any());
+        assertThat(healingEngine.getScheduledCount()).isZero();
+        log.info("Test passed: timers replaced by a newer schedule are skipped");
+    }
+
+    @Test
+    void ensureFailedHealingsAreRetried() {
+        log.debug("Testing if a failing healing is retried later");
+
+        healingEngine.schedule(HealingTarget.ARMY, 1L, now);
+        when(mockScheduleService.handleHealingArmy(1L)).thenThrow(new IllegalStateException("Test"));
+
+        healingEngine.timers.fire(currentTimer(HealingTarget.ARMY, 1L));
+
+        assertThat(healingEngine.getScheduledTime(HealingTarget.ARMY, 1L)).hasValueSatisfying(time -> assertThat(time).isAfter(now));
+        log.info("Test passed: a failing healing is retried later");
+    }
+
+    private DueTimer.Entry<HealingEngine.Key> currentTimer(HealingTarget target, Long id) {
+        return new DueTimer.Entry<>(new HealingEngine.Key(target, id), healingEngine.getScheduledTime(target, id).orElseThrow().toInstant(), clock);
+    }
+}
@@ -0,0 +1,118 @@
+package com.ardaslegends.service.time;
+
+import com.ardaslegends.domain.Movement;
+import com.ardaslegends.repository.MovementRepository;
+import com.ardaslegends.repository.TimeFreezeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+public class MovementEngineTest {
+
+    private MovementEngine movementEngine;
+    private MovementRepository mockMovementRepository;
+    private ScheduleService mockScheduleService;
+    private ExecutorService mockExecutorService;
+    private GameClock clock;
+    private OffsetDateTime now;
+
+    @BeforeEach
+    void setup() {
+        mockMovementRepository = mock(MovementRepository.class);
+        mockScheduleService = mock(ScheduleService.class);
+        mockExecutorService = mock(ExecutorService.class);
+        now = OffsetDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        clock = new GameClock(Clock.fixed(now.toInstant(), ZoneOffset.UTC), mock(TimeFreezeRepository.class));
+
+        movementEngine = new MovementEngine(mockMovementRepository, mockScheduleService, mockExecutorService, clock);
+    }
+
+    @Test
+    void ensureStartSchedulesAllActiveMovements() {
+        log.debug("Testing if start schedules every active movement");
+
+        Movement movement = Movement.builder().id(1L).isCurrentlyActive(true).reachesNextRegionAt(now.plusHours(2)).build();
+        Movement movement2 = Movement.builder().id(2L).isCurrentlyActive(true).reachesNextRegionAt(now.minusHours(1)).build();
+        when(mockMovementRepository.findMovementsByIsCurrentlyActive(true)).thenReturn(List.of(movement, movement2));
+
+        movementEngine.start();
+
+        assertThat(movementEngine.getScheduledCount()).isEqualTo(2);
+        assertThat(movementEngine.getScheduledTime(1L)).contains(now.plusHours(2));
+        verify(mockExecutorService).submit(any(Runnable.class));
+        log.info("Test passed: start schedules every active movement");
+    }
+
+    @Test
+    void ensureFireReschedulesAtNextRegion() {
+        log.debug("Testing if firing a timer schedules the next region transition");
+
+        movementEngine.schedule(1L, now);
+        when(mockScheduleService.handleMovement(1L)).thenReturn(Optional.of(now.plusHours(6)));
+
+        movementEngine.timers.fire(currentTimer(1L));
+
+        verify(mockScheduleService).handleMovement(1L);
+        assertThat(movementEngine.getScheduledTime(1L)).contains(now.plusHours(6));
+        log.info("Test passed: firing a timer schedules the next region transition");
+    }
+
+    @Test
+    void ensureStaleTimersAreSkipped() {
+        log.debug("Testing if timers replaced by a newer schedule are skipped");
+
+        movementEngine.schedule(1L, now);
+        var staleTimer = currentTimer(1L);
+        movementEngine.schedule(1L, now.plusHours(3));
+
+        movementEngine.timers.fire(staleTimer);
+
+        verify(mockScheduleService, never()).handleMovement(any());
+        assertThat(movementEngine.getScheduledTime(1L)).contains(now.plusHours(3));
+        log.info("Test passed: timers replaced by a newer schedule are skipped");
+    }
+
+    @Test
+    void ensureFinishedAndCancelledMovementsAreUnscheduled() {
+        log.debug("Testing if finished and cancelled movements are removed");
+
+        movementEngine.schedule(1L, now);
+        when(mockScheduleService.handleMovement(1L)).thenReturn(Optional.empty());
+        movementEngine.timers.fire(currentTimer(1L));
+
+        movementEngine.onMovementChanged(new MovementChangedEvent(2L, true, now.plusHours(1)));
+        movementEngine.onMovementChanged(new MovementChangedEvent(2L, false, null));
+
+        assertThat(movementEngine.getScheduledCount()).isZero();
+        log.info("Test passed: finished and cancelled movements are removed");
+    }
+
+    @Test
+    void ensureFailedMovementsAreRetried() {
+        log.debug("Testing if a failing movement is retried later");
+
+        movementEngine.schedule(1L, now);
+        when(mockScheduleService.handleMovement(1L)).thenThrow(new IllegalStateException("Test"));
+
+        movementEngine.timers.fire(currentTimer(1L));
+
+        assertThat(movementEngine.getScheduledTime(1L)).hasValueSatisfying(time -> assertThat(time).isAfter(now));
+        log.info("Test passed: a failing movement is retried later");
+    }
+
+    private DueTimer.Entry<Long> currentTimer(Long movementId) {
+        return new DueTimer.Entry<>(movementId, movementEngine.getScheduledTime(movementId).orElseThrow().toInstant(), clock);
+    }
+}
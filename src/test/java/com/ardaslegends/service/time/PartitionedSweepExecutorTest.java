@@ -0,0 +1,67 @@
+package com.ardaslegends.service.time;
+
+import com.ardaslegends.service.metrics.GameMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+public class PartitionedSweepExecutorTest {
+
+    private PartitionedSweepExecutor sweepExecutor;
+    private PlatformTransactionManager mockTransactionManager;
+
+    @BeforeEach
+    void setup() {
+        mockTransactionManager = mock(PlatformTransactionManager.class);
+        when(mockTransactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        sweepExecutor = new PartitionedSweepExecutor(Executors.newVirtualThreadPerTaskExecutor(), mockTransactionManager, mock(GameMetrics.class));
+    }
+
+    @Test
+    void ensureEveryPartitionRunsInItsOwnTransaction() {
+        log.debug("Testing if the ids are split into partitions that each get their own transaction");
+
+        List<Long> ids = LongStream.rangeClosed(1, 2 * PartitionedSweepExecutor.PARTITION_SIZE + 10).boxed().toList();
+
+        var report = sweepExecutor.run("test", ids, List::size);
+
+        assertThat(report.partitions()).hasSize(3);
+        assertThat(report.partitions()).extracting(PartitionedSweepExecutor.PartitionReport::firstId)
+                .containsExactly(1L, PartitionedSweepExecutor.PARTITION_SIZE + 1L, 2L * PartitionedSweepExecutor.PARTITION_SIZE + 1);
+        assertThat(report.changed()).isEqualTo(ids.size());
+        assertThat(report.total()).isEqualTo(ids.size());
+        verify(mockTransactionManager, times(3)).commit(any());
+        log.info("Test passed: every partition runs in its own transaction");
+    }
+
+    @Test
+    void ensureFailingPartitionsOnlyRollBackThemselves() {
+        log.debug("Testing if a failing partition is reported without affecting the others");
+
+        List<Long> ids = LongStream.rangeClosed(1, 2 * PartitionedSweepExecutor.PARTITION_SIZE).boxed().toList();
+
+        var report = sweepExecutor.run("test", ids, partition -> {
+            if(partition.contains(1L))
+                throw new IllegalStateException("Test");
+            return partition.size();
+        });
+
+        assertThat(report.failedPartitions()).hasSize(1);
+        assertThat(report.failedPartitions().get(0).failure()).contains("Test");
+        assertThat(report.changed()).isEqualTo(PartitionedSweepExecutor.PARTITION_SIZE);
+        verify(mockTransactionManager).rollback(any());
+        verify(mockTransactionManager).commit(any());
+        log.info("Test passed: failing partitions only roll back themselves");
+    }
+}
@@ -0,0 +1,90 @@
+package com.ardaslegends.service.time;
+
+import com.ardaslegends.domain.ScheduledTask;
+import com.ardaslegends.domain.ScheduledTaskType;
+import com.ardaslegends.repository.ScheduledTaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+public class ScheduledTaskServiceTest {
+
+    private ScheduledTaskService scheduledTaskService;
+    private ScheduledTaskRepository mockScheduledTaskRepository;
+    private ApplicationEventPublisher mockEventPublisher;
+    private OffsetDateTime now;
+    private ScheduledTask task;
+
+    @BeforeEach
+    void setup() {
+        mockScheduledTaskRepository = mock(ScheduledTaskRepository.class);
+        mockEventPublisher = mock(ApplicationEventPublisher.class);
+        now = OffsetDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+        scheduledTaskService = new ScheduledTaskService(mockScheduledTaskRepository, mockEventPublisher, Clock.fixed(now.toInstant(), ZoneOffset.UTC));
+
+        task = new ScheduledTask(ScheduledTaskType.START_BATTLE, 5L, now.minusMinutes(1), now.minusDays(1));
+        when(mockScheduledTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+    }
+
+    @Test
+    void ensureScheduleArmsTaskAfterSaving() {
+        log.debug("Testing if scheduling a task saves it and publishes a created event");
+        when(mockScheduledTaskRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var result = scheduledTaskService.schedule(ScheduledTaskType.START_BATTLE, 5L, now.plusHours(24));
+
+        assertThat(result.getDueAt()).isEqualTo(now.plusHours(24));
+        assertThat(result.getCreatedAt()).isEqualTo(now);
+        verify(mockEventPublisher).publishEvent(new ScheduledTaskCreatedEvent(null, now.plusHours(24)));
+        log.info("Test passed: scheduling a task saves it and publishes a created event");
+    }
+
+    @Test
+    void ensureRunTaskPublishesDueEventWhenClaimed() {
+        log.debug("Testing if a claimed due task publishes its due event");
+        when(mockScheduledTaskRepository.markCompleted(1L, now)).thenReturn(1);
+
+        var result = scheduledTaskService.runTask(1L);
+
+        assertThat(result).isTrue();
+        verify(mockEventPublisher).publishEvent(new ScheduledTaskDueEvent(ScheduledTaskType.START_BATTLE, 5L));
+        log.info("Test passed: a claimed due task publishes its due event");
+    }
+
+    @Test
+    void ensureRunTaskDoesNothingWhenClaimedByAnotherNode() {
+        log.debug("Testing if a task claimed by another node is not run again");
+        when(mockScheduledTaskRepository.markCompleted(1L, now)).thenReturn(0);
+
+        var result = scheduledTaskService.runTask(1L);
+
+        assertThat(result).isFalse();
+        verify(mockEventPublisher, never()).publishEvent(any());
+        log.info("Test passed: a task claimed by another node is not run again");
+    }
+
+    @Test
+    void ensureRunTaskDoesNothingBeforeTaskIsDue() {
+        log.debug("Testing if a task is not run before it is due");
+        task = new ScheduledTask(ScheduledTaskType.START_BATTLE, 5L, now.plusHours(1), now.minusDays(1));
+        when(mockScheduledTaskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+        var result = scheduledTaskService.runTask(1L);
+
+        assertThat(result).isFalse();
+        verify(mockScheduledTaskRepository, never()).markCompleted(any(), any());
+        log.info("Test passed: a task is not run before it is due");
+    }
+}
@@ -642,8 +642,6 @@ INSERT INTO regions (id, name, region_type) VALUES(''38.S'','''',''SEA'');
 INSERT INTO regions (id, name, region_type) VALUES(''39.S'','''',''SEA'');
 INSERT INTO regions (id, name, region_type) VALUES(''40.S'','''',''SEA'');
 
-UPDATE regions SET has_ownership_changed_since_last_claimmap_update = false;
-
 -- Neighbours
 
 INSERT INTO region_neighbours(region, neighbour) VALUES(''1'',''2.S'');
@@ -11,21 +11,24 @@ create table if not exists claimbuild_builders (claimbuild_id int8 not null, pla
 create table if not exists claimbuild_special_buildings (claimbuild_id int8 not null, special_buildings varchar(255));
 create table if not exists claimbuild_application_special_buildings (claimbuild_application_id int8 not null, special_buildings varchar(255));
 create table if not exists claimbuilds (id int8 generated by default as identity, version int4, x int4, y int4, z int4, free_armies_remaining int4 not null, free_trading_companies_remaining int4 not null, name varchar(255), number_of_houses varchar(255), siege varchar(255), traders varchar(255), type varchar(255) not null, owned_by int8 not null, region varchar(255) not null, primary key (id));
+create table if not exists discord_outbox (id int8 generated by default as identity, type varchar(255) not null, reference_id int8 not null, actor_discord_id varchar(255), created_at timestamp with time zone not null, attempts int4 not null, next_attempt_at timestamp with time zone not null, last_error varchar(1000), sent_at timestamp with time zone, primary key (id));
 create table if not exists faction_aliases (faction_id int8 not null, aliases varchar(255));
 create table if not exists faction_allies (faction int8 not null, ally_faction int8 not null);
 create table if not exists faction_claimed_regions (region varchar(255) not null, faction int8 not null, primary key (region, faction));
 create table if not exists factions (id int8 generated by default as identity, colorcode varchar(255), faction_buff_descr varchar(512), role_id int8, food_stockpile int4, initial_faction int4, name varchar(255), home_region_id varchar(255), leader_id int8, primary key (id));
-create table if not exists movement_path (movement_id int8 not null, actual_cost int4, base_cost int4, region_id varchar(255));
-create table if not exists movements (id int8 generated by default as identity, end_time timestamp with time zone, hours_moved int4, hours_until_complete int4, hours_until_next_region int4, is_char_movement boolean, is_currently_active boolean, start_time timestamp with time zone, army_name int8, rpchar_id int8, primary key (id));
+create table if not exists movement_path (movement_id int8 not null, actual_cost int4, base_cost int4, region_id varchar(255), path_index int4 not null, primary key (movement_id, path_index));
+create table if not exists movements (id int8 generated by default as identity, end_time timestamp with time zone, hours_moved int4, hours_until_complete int4, hours_until_next_region int4, is_char_movement boolean, is_currently_active boolean, start_time timestamp with time zone, current_path_index int4, army_name int8, rpchar_id int8, primary key (id));
 create table if not exists players (id int8 generated by default as identity, discord_id varchar(255) not null, ign varchar(255) not null, is_staff boolean, uuid varchar(255) not null, faction int8 not null, primary key (id));
 create table if not exists production_claimbuild (claimbuild_id int8 not null, production_site_id int8 not null, count int8, primary key (claimbuild_id, production_site_id));
 create table if not exists production_sites (id int8 generated by default as identity, amount_produced int4, type varchar(255), produced_resource varchar(255), primary key (id));
 create table if not exists region_neighbours (region varchar(255) not null, neighbour varchar(255) not null, primary key (region, neighbour));
-create table if not exists regions (id varchar(255) not null, has_ownership_changed_since_last_claimmap_update boolean, name varchar(255), region_type varchar(255), primary key (id));
+create table if not exists regions (id varchar(255) not null, name varchar(255), region_type varchar(255), centroid_x float8, centroid_y float8, primary key (id));
 create table if not exists resources (id int8 generated by default as identity, minecraft_item_id varchar(255), resource_name varchar(255), resource_type varchar(255), primary key (id));
 create table if not exists roleplay_apps (id int8 generated by default as identity, version int4, applied_at timestamp with time zone not null, discord_accepted_message_link varchar(255), discord_application_message_link varchar(255) not null, last_vote_at timestamp with time zone not null, resolved_at timestamp with time zone, state varchar(255) not null, vote_count int2 not null, character_name varchar(255), character_title varchar(255), gear varchar(255), link_to_lore varchar(255), pvp boolean not null, why_do_you_want_to_be_this_character varchar(255), player_id int8 not null, faction_id int8 not null, primary key (id));
 create table if not exists roleplay_apps_accepted_by (roleplay_application_id int8 not null, accepted_by_id int8 not null, primary key (roleplay_application_id, accepted_by_id));
 create table if not exists rpchars (id int8 generated by default as identity, version int4, active boolean, gear varchar(255), heal_ends timestamp with time zone, injured boolean, is_healing boolean, link_to_lore varchar(255), name varchar(255), pvp boolean, started_heal timestamp with time zone, heal_last_updated_at timestamp with time zone, title varchar(25), bound_to int8, current_region varchar(255) not null, owner_id int8, primary key (id));
+create table if not exists scheduled_tasks (id int8 generated by default as identity, type varchar(255) not null, reference_id int8 not null, due_at timestamp with time zone not null, created_at timestamp with time zone not null, completed_at timestamp with time zone, primary key (id));
+create table if not exists time_freezes (id int8 generated by default as identity, frozen_at timestamp with time zone not null, unfrozen_at timestamp with time zone, primary key (id));
 create table if not exists unit_types (unit_name varchar(255) not null, token_cost float8 not null, primary key (unit_name));
 create table if not exists units (id int8 generated by default as identity, amount_alive int4, count int4, is_mounted boolean, army int8, unit_type varchar(255), primary key (id));
 create table if not exists war_aggressors (war_id int8 not null, initial_party boolean, joining_date timestamp with time zone, participant_faction_id int8);